@@ -2,20 +2,31 @@ package com.musinsa.payment.point.api.point.controller;
 
 import com.musinsa.payment.point.api.point.dto.PointBalanceResponse;
 import com.musinsa.payment.point.api.point.dto.PointHistoryResponse;
+import com.musinsa.payment.point.api.point.dto.PointHistorySegmentResponse;
+import com.musinsa.payment.point.api.point.dto.PointLiabilitySnapshotResponse;
 import com.musinsa.payment.point.api.point.dto.PointStatisticsResponse;
 import com.musinsa.payment.point.application.point.service.PointAdminSearchService;
+import com.musinsa.payment.point.application.point.service.PointDailyStatService;
+import com.musinsa.payment.point.application.point.service.PointHistoryExportService;
 import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.enums.StatGranularity;
 import com.musinsa.payment.point.global.annotation.AdminOnly;
 import com.musinsa.payment.point.global.common.CommonResponse;
+import com.musinsa.payment.point.global.common.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -30,6 +41,8 @@ import java.util.List;
 public class PointAdminSearchController {
 
     private final PointAdminSearchService pointAdminSearchService;
+    private final PointHistoryExportService pointHistoryExportService;
+    private final PointDailyStatService pointDailyStatService;
 
     /**
      * [관리자] 포인트 이력 통합 조회
@@ -52,10 +65,92 @@ public class PointAdminSearchController {
         ));
     }
 
+    /**
+     * [관리자] 포인트 이력 통합 커서 조회
+     * - Method: GET /api/v1/points/admin/search/cursor
+     * - 특징: 전체 건수(COUNT)를 계산하지 않으므로 대량 기간도 페이지당 비용이 일정함. 커서 사용법은 사용자 커서 조회와 동일.
+     */
+    @AdminOnly // AdminAuthorizationInterceptor 헤더의 X-ADMIN-KEY 체크 하도록 설정하는 어노테이션
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CommonResponse<CursorResponse<PointHistoryResponse>>> searchHistoriesByCursor(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate, // 필수: 시작일
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,   // 필수: 종료일
+            @RequestParam(required = false) Long userId,     // [선택] 특정 사용자 ID 필터링
+            @RequestParam(required = false) String refId,    // [선택] 거래번호 필터링
+            @RequestParam(required = false) PointType type,  // [선택] 거래상태 필터링
+            @RequestParam(required = false) Long beforeId,   // [선택] 이 ID보다 오래된 이력
+            @RequestParam(required = false) Long afterId,    // [선택] 이 ID보다 최근 이력
+            @RequestParam(required = false) String cursor,   // [선택] 이전 응답의 nextCursor
+            @RequestParam(required = false) Integer limit    // [선택] 조회 건수 (기본 20)
+    ) {
+        return ResponseEntity.ok(CommonResponse.success(
+                pointAdminSearchService.getHistoriesByCursor(startDate, endDate, userId, refId, type, beforeId, afterId, cursor, limit)
+        ));
+    }
+
+    /**
+     * [관리자] 포인트 이력 내보내기 (재무/CS 대량 추출용)
+     * - Method: GET /api/v1/points/admin/search/export?format=ndjson|csv
+     * - 조건은 통합 이력 조회와 동일하며, 결과 전체를 ID 오름차순으로 응답 스트림에 바로 기록함. (COUNT/페이징 없음)
+     * - 응답: CommonResponse로 감싸지 않은 파일 스트림 (조건 오류는 스트리밍 시작 전에 일반 오류 응답으로 반환)
+     */
+    @AdminOnly // AdminAuthorizationInterceptor 헤더의 X-ADMIN-KEY 체크 하도록 설정하는 어노테이션
+    @GetMapping("/search/export")
+    public ResponseEntity<StreamingResponseBody> exportHistories(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate, // 필수: 시작일
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,   // 필수: 종료일
+            @RequestParam(required = false) Long userId,     // [선택] 특정 사용자 ID 필터링
+            @RequestParam(required = false) String refId,    // [선택] 거래번호 필터링
+            @RequestParam(required = false) PointType type,  // [선택] 거래상태 필터링
+            @RequestParam(required = false) String format    // [선택] ndjson(기본) / csv
+    ) {
+        PointHistoryExportService.Format exportFormat = PointHistoryExportService.Format.from(format);
+        pointHistoryExportService.validate(startDate, endDate);
+
+        StreamingResponseBody body = out ->
+                pointHistoryExportService.export(startDate, endDate, userId, refId, type, exportFormat, out);
+        String fileName = "point-history-" + startDate + "_" + endDate + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
+    /**
+     * [관리자] 세그먼트 파일 이력 조회 (오래된 CS 건)
+     * - Method: GET /api/v1/points/admin/search/segments
+     * - DB에서 세그먼트 파일로 옮겨진 이력을 상세 내역과 함께 최신순으로 조회함. (기본 100건, 최대 1000건)
+     */
+    @AdminOnly // AdminAuthorizationInterceptor 헤더의 X-ADMIN-KEY 체크 하도록 설정하는 어노테이션
+    @GetMapping("/search/segments")
+    public ResponseEntity<CommonResponse<List<PointHistorySegmentResponse>>> searchSegmentHistories(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate, // 필수: 시작일
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,   // 필수: 종료일
+            @RequestParam(required = false) Long userId,     // [선택] 특정 사용자 ID 필터링
+            @RequestParam(required = false) String refId,    // [선택] 거래번호 필터링
+            @RequestParam(required = false) PointType type,  // [선택] 거래상태 필터링
+            @RequestParam(required = false) Integer limit    // [선택] 조회 건수 (기본 100)
+    ) {
+        return ResponseEntity.ok(CommonResponse.success(
+                pointAdminSearchService.getSegmentHistories(startDate, endDate, userId, refId, type, limit)
+        ));
+    }
+
+    /**
+     * [관리자] 세그먼트 파일 인덱스 재적재
+     * - Method: POST /api/v1/points/admin/search/segments/reload
+     * - 세그먼트 파일을 복원/교체한 뒤 호출하며, 적재된 파일 수를 응답함. (요청을 받은 노드만 갱신)
+     */
+    @AdminOnly // AdminAuthorizationInterceptor 헤더의 X-ADMIN-KEY 체크 하도록 설정하는 어노테이션
+    @PostMapping("/search/segments/reload")
+    public ResponseEntity<CommonResponse<Integer>> reloadSegments() {
+        return ResponseEntity.ok(CommonResponse.success(pointAdminSearchService.reloadSegments()));
+    }
+
     /**
      * [관리자] 시스템 전체 잔여 포인트 조회
      * - Method: GET /api/v1/points/admin/remain/total
-     * - 현재 사용가능한 잔액 총액 조회
+     * - 현재 사용가능한 잔액 총액 조회 (잔여 포인트 카운터에서 응답)
      */
     @AdminOnly // AdminAuthorizationInterceptor 헤더의 X-ADMIN-KEY 체크 하도록 설정하는 어노테이션
     @GetMapping("/remain/total")
@@ -66,21 +161,43 @@ public class PointAdminSearchController {
     }
 
     /**
-     * [관리자] 기간별 통계 (적립/사용 합계)
-     * - Method: GET /api/v1/points/admin/statistics
-     * - 월별/일별 포인트 발행 및 회수 현황 지표 산출.
+     * [관리자] 시간별 잔여 포인트 추이 조회
+     * - Method: GET /api/v1/points/admin/remain/snapshots
+     * - 매 정시 기록된 시스템 전체 잔여 포인트 (재무 대시보드 추이 차트용, 최대 366일)
      */
     @AdminOnly // AdminAuthorizationInterceptor 헤더의 X-ADMIN-KEY 체크 하도록 설정하는 어노테이션
-    @GetMapping("/statistics")
-    public ResponseEntity<CommonResponse<List<PointStatisticsResponse>>> getStatistics(
+    @GetMapping("/remain/snapshots")
+    public ResponseEntity<CommonResponse<List<PointLiabilitySnapshotResponse>>> getRemainSnapshots(
             @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
             @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate
     ) {
         return ResponseEntity.ok(CommonResponse.success(
-                pointAdminSearchService.getStatistics(startDate, endDate)
+                pointAdminSearchService.getRemainSnapshots(startDate, endDate)
         ));
     }
 
+    /**
+     * [관리자] 기간별 통계 (적립/사용 합계)
+     * - Method: GET /api/v1/points/admin/statistics?granularity=TOTAL|DAY|MONTH
+     * - 월별/일별 포인트 발행 및 회수 현황 지표 산출. (일자별 거래 통계 테이블에서 응답)
+     * - 캐시: 조회 기간이 모두 마감된 일자이면 응답을 캐시할 수 있도록 Cache-Control을 내려줌.
+     */
+    @AdminOnly // AdminAuthorizationInterceptor 헤더의 X-ADMIN-KEY 체크 하도록 설정하는 어노테이션
+    @GetMapping("/statistics")
+    public ResponseEntity<CommonResponse<List<PointStatisticsResponse>>> getStatistics(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(defaultValue = "TOTAL") StatGranularity granularity // [선택] 집계 단위
+    ) {
+        List<PointStatisticsResponse> statistics = pointAdminSearchService.getStatistics(startDate, endDate, granularity);
+        CacheControl cacheControl = pointDailyStatService.isClosed(endDate)
+                ? CacheControl.maxAge(Duration.ofHours(1)).cachePrivate()
+                : CacheControl.noCache();
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .body(CommonResponse.success(statistics));
+    }
+
     /**
      * [관리자/CS] 특정 유저 잔액 조회
      * - Method: GET /api/v1/points/admin/users/{userId}/balance
@@ -1,9 +1,16 @@
 package com.musinsa.payment.point.api.point.controller;
 
+import com.musinsa.payment.point.api.point.dto.PointBulkEarnRequest;
+import com.musinsa.payment.point.api.point.dto.PointBulkEarnResponse;
 import com.musinsa.payment.point.api.point.dto.PointCancelEarnRequest;
 import com.musinsa.payment.point.api.point.dto.PointCancelUseRequest;
+import com.musinsa.payment.point.api.point.dto.PointCommandResponse;
 import com.musinsa.payment.point.api.point.dto.PointEarnRequest;
+import com.musinsa.payment.point.api.point.dto.PointHoldCommandRequest;
+import com.musinsa.payment.point.api.point.dto.PointHoldRequest;
+import com.musinsa.payment.point.api.point.dto.PointHoldResponse;
 import com.musinsa.payment.point.api.point.dto.PointUseRequest;
+import com.musinsa.payment.point.application.point.service.PointBulkEarnService;
 import com.musinsa.payment.point.application.point.service.PointService; // Facade 대신 Service import
 import com.musinsa.payment.point.global.common.CommonResponse;
 import jakarta.validation.Valid;
@@ -27,18 +34,32 @@ import org.springframework.web.bind.annotation.RestController;
 public class PointController {
 
     private final PointService pointService;
+    private final PointBulkEarnService pointBulkEarnService;
 
     /**
      * 포인트 적립 API (EARN)
      * - Method: POST /api/v1/points/earn
      * - 역할: 주문 완료, 이벤트 참여 등 적립 이벤트 발생 시 호출됨.
      * - 특징: 요청 DTO(@Valid)를 통해 userId, amount, isManual, refId(이벤트 적립번호) 유효성 검사 수행.
+     * - 멱등성: 같은 refId로 재시도하면 최초 처리 결과를 그대로 응답함. (replayed=true)
      */
     @PostMapping("/earn")
-    public ResponseEntity<CommonResponse<Void>> earn(@RequestBody @Valid PointEarnRequest request) {
+    public ResponseEntity<CommonResponse<PointCommandResponse>> earn(@RequestBody @Valid PointEarnRequest request) {
         log.info("PointController.earn request : {}", request);
-        pointService.earn(request.userId(),request.amount(), request.isManual(), request.refId());
-        return ResponseEntity.ok(CommonResponse.success());
+        return ResponseEntity.ok(CommonResponse.success(
+                pointService.earn(request.userId(), request.amount(), request.isManual(), request.refId())));
+    }
+
+    /**
+     * 포인트 일괄 적립 API (EARN, Bulk)
+     * - Method: POST /api/v1/points/earn/bulk
+     * - 역할: 캠페인/이벤트 보상 등 대량 지급 시 호출됨. (요청당 최대 10,000건)
+     * - 특징: 항목별로 성공/실패 결과를 반환하며, 일부 항목 실패 시에도 나머지는 정상 적립됨.
+     */
+    @PostMapping("/earn/bulk")
+    public ResponseEntity<CommonResponse<PointBulkEarnResponse>> earnBulk(@RequestBody @Valid PointBulkEarnRequest request) {
+        log.info("PointController.earnBulk request : size={}", request.entries().size());
+        return ResponseEntity.ok(CommonResponse.success(pointBulkEarnService.earnAll(request.entries())));
     }
 
     /**
@@ -58,13 +79,13 @@ public class PointController {
      * 포인트 사용 API (USE)
      * - Method: POST /api/v1/points/use
      * - 역할: 주문 시스템 등에서 포인트 사용 요청 시 호출됨.
-     * - 특징: orderId를 통해 "멱등성 검사"를 수행하여 중복 사용을 방지함.
+     * - 특징: orderId를 통해 "멱등성 검사"를 수행하여 중복 사용을 방지하며, 재시도 요청에는 최초 처리 결과를 그대로 응답함.
      */
     @PostMapping("/use")
-    public ResponseEntity<CommonResponse<Void>> use(@RequestBody @Valid PointUseRequest request) {
+    public ResponseEntity<CommonResponse<PointCommandResponse>> use(@RequestBody @Valid PointUseRequest request) {
         log.info("PointController.use request : {}", request);
-        pointService.use(request.userId(), request.amount(), request.orderId());
-        return ResponseEntity.ok(CommonResponse.success());
+        return ResponseEntity.ok(CommonResponse.success(
+                pointService.use(request.userId(), request.amount(), request.orderId())));
     }
 
     /**
@@ -79,4 +100,41 @@ public class PointController {
         pointService.cancelUse(request.userId(), request.orderId(), request.cancelAmount());
         return ResponseEntity.ok(CommonResponse.success());
     }
-}
\ No newline at end of file
+
+    /**
+     * 포인트 홀드 API (결제 1단계)
+     * - Method: POST /api/v1/points/use/hold
+     * - 역할: 결제 진행 전 포인트를 선점(선차감)함. 확정 기한 내에 확정/해제하지 않으면 자동 해제됨.
+     * - 특징: 같은 orderId로 재시도하면 기존 홀드를 그대로 응답함.
+     */
+    @PostMapping("/use/hold")
+    public ResponseEntity<CommonResponse<PointHoldResponse>> hold(@RequestBody @Valid PointHoldRequest request) {
+        log.info("PointController.hold request : {}", request);
+        return ResponseEntity.ok(CommonResponse.success(
+                pointService.hold(request.userId(), request.amount(), request.orderId())));
+    }
+
+    /**
+     * 포인트 홀드 확정 API (결제 2단계: 성공)
+     * - Method: POST /api/v1/points/use/capture
+     * - 역할: 결제 성공 시 홀드를 사용(USE)으로 확정함. 이후 환불은 사용 취소 API를 사용함.
+     */
+    @PostMapping("/use/capture")
+    public ResponseEntity<CommonResponse<PointHoldResponse>> capture(@RequestBody @Valid PointHoldCommandRequest request) {
+        log.info("PointController.capture request : {}", request);
+        return ResponseEntity.ok(CommonResponse.success(
+                pointService.capture(request.userId(), request.orderId())));
+    }
+
+    /**
+     * 포인트 홀드 해제 API (결제 2단계: 실패/이탈)
+     * - Method: POST /api/v1/points/use/release
+     * - 역할: 결제 실패 시 선점한 포인트를 원래 Item으로 되돌림. (취소 이력/재적립 없음)
+     */
+    @PostMapping("/use/release")
+    public ResponseEntity<CommonResponse<PointHoldResponse>> release(@RequestBody @Valid PointHoldCommandRequest request) {
+        log.info("PointController.release request : {}", request);
+        return ResponseEntity.ok(CommonResponse.success(
+                pointService.release(request.userId(), request.orderId())));
+    }
+}
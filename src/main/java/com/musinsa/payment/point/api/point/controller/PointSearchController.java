@@ -2,10 +2,12 @@ package com.musinsa.payment.point.api.point.controller;
 
 import com.musinsa.payment.point.api.point.dto.PointBalanceResponse;
 import com.musinsa.payment.point.api.point.dto.PointExpiringResponse;
+import com.musinsa.payment.point.api.point.dto.PointExpiringSummaryResponse;
 import com.musinsa.payment.point.api.point.dto.PointHistoryResponse;
 import com.musinsa.payment.point.application.point.service.PointSearchService;
 import com.musinsa.payment.point.domain.point.enums.PointType;
 import com.musinsa.payment.point.global.common.CommonResponse; // 공통 응답 패키지 경로 가정
+import com.musinsa.payment.point.global.common.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -50,6 +52,29 @@ public class PointSearchController {
         ));
     }
 
+    /**
+     * [사용자] 내 포인트 이력 커서 조회 (무한 스크롤용)
+     * - Method: GET /api/v1/points/search/cursor
+     * - 커서: 첫 요청은 생략, 이후에는 응답의 nextCursor를 cursor로 그대로 전달. (또는 beforeId/afterId로 직접 지정)
+     * - 제약: 조회 기간/필터 규칙은 /search와 동일하며, limit은 최대 1000건.
+     */
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CommonResponse<CursorResponse<PointHistoryResponse>>> searchMyHistoriesByCursor(
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate, // 필수: 시작일
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,   // 필수: 종료일
+            @RequestParam(required = false) String refId,    // [선택] 거래번호 필터링
+            @RequestParam(required = false) PointType type,  // [선택] 거래상태 필터링
+            @RequestParam(required = false) Long beforeId,   // [선택] 이 ID보다 오래된 이력
+            @RequestParam(required = false) Long afterId,    // [선택] 이 ID보다 최근 이력
+            @RequestParam(required = false) String cursor,   // [선택] 이전 응답의 nextCursor
+            @RequestParam(required = false) Integer limit    // [선택] 조회 건수 (기본 20)
+    ) {
+        return ResponseEntity.ok(CommonResponse.success(
+                pointSearchService.getMyHistoriesByCursor(userId, startDate, endDate, refId, type, beforeId, afterId, cursor, limit)
+        ));
+    }
+
     /**
      * [사용자] 잔액 조회
      * - Method: GET /api/v1/points/balance
@@ -78,4 +103,18 @@ public class PointSearchController {
         ));
     }
 
+    /**
+     * [사용자] 7/30/90일 내 소멸 예정 포인트 합계
+     * - Method: GET /api/v1/points/expiring/summary
+     * - 성능: 일자별 만료 버킷에서 몇 행만 읽어 응답.
+     */
+    @GetMapping("/expiring/summary")
+    public ResponseEntity<CommonResponse<PointExpiringSummaryResponse>> getExpiringSummary(
+            @RequestHeader("X-User-Id") Long userId
+    ) {
+        return ResponseEntity.ok(CommonResponse.success(
+                pointSearchService.getExpiringSummary(userId)
+        ));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.musinsa.payment.point.api.point.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 포인트 일괄 적립 요청 DTO (Request DTO)
+ * - 캠페인/이벤트 보상 등 대량 지급 시 사용. 한 번의 요청으로 최대 10,000건까지 처리함.
+ * - 각 항목은 단건 적립(PointEarnRequest)과 동일한 규칙(금액 범위, 보유 한도, refId 중복 방지)을 적용받음.
+ */
+public record PointBulkEarnRequest(
+        @NotEmpty(message = "적립 대상 목록은 필수입니다.")
+        @Size(max = 10_000, message = "일괄 적립은 한 번에 최대 10,000건까지 가능합니다.")
+        List<@Valid Entry> entries
+) {
+
+    /**
+     * 일괄 적립 개별 항목
+     */
+    public record Entry(
+            @NotNull Long userId,
+            @Min(1) long amount,
+
+            @NotBlank(message = "참조 ID(캠페인 지급번호 등)는 필수입니다.")
+            String refId // 중복 적립 방지를 위한 외부 식별자
+    ) {}
+}
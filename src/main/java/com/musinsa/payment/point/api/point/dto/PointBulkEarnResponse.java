@@ -0,0 +1,51 @@
+package com.musinsa.payment.point.api.point.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 포인트 일괄 적립 응답 DTO (Response DTO)
+ * - 요청 항목 순서 그대로 항목별 성공/실패 결과를 반환함. (부분 성공 허용)
+ */
+@Getter
+@Builder
+public class PointBulkEarnResponse {
+
+    private int totalCount;   // 요청 건수
+    private int successCount; // 적립 성공 건수
+    private int failCount;    // 적립 실패 건수
+    private List<Result> results;
+
+    public static PointBulkEarnResponse of(List<Result> results) {
+        int successCount = (int) results.stream().filter(Result::isSuccess).count();
+        return PointBulkEarnResponse.builder()
+                .totalCount(results.size())
+                .successCount(successCount)
+                .failCount(results.size() - successCount)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 항목별 처리 결과
+     */
+    @Getter
+    @Builder
+    public static class Result {
+        private Long userId;
+        private String refId;
+        private boolean success;
+        private Long pointItemId; // 성공 시 생성된 PointItem ID
+        private String message;   // 실패 사유
+
+        public static Result success(Long userId, String refId, Long pointItemId) {
+            return Result.builder().userId(userId).refId(refId).success(true).pointItemId(pointItemId).build();
+        }
+
+        public static Result fail(Long userId, String refId, String message) {
+            return Result.builder().userId(userId).refId(refId).success(false).message(message).build();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.musinsa.payment.point.api.point.dto;
+
+import com.musinsa.payment.point.domain.point.entity.PointIdempotencyKey;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 포인트 적립/사용 처리 결과 응답 DTO (Response DTO)
+ * - 최초 처리 결과는 멱등성 키(PointIdempotencyKey)에 함께 저장되며, 같은 refId로 재시도하면 동일한 결과가 재응답됨.
+ */
+@Getter
+@Builder
+public class PointCommandResponse {
+
+    private Long userId;       // 사용자 ID
+    private String refId;      // 적립 참조번호 / 주문번호
+    private Long historyId;    // 생성된 거래 이력 ID
+    private Long pointItemId;  // 적립 시 생성된 포인트 ID (사용은 null)
+    private long amount;       // 처리 금액
+    private Long balance;      // 처리 직후 잔액
+    private boolean replayed;  // 재시도 요청에 대한 재응답 여부
+
+    /**
+     * 팩토리 메서드: 저장된 멱등성 키로부터 재응답 DTO 생성
+     */
+    public static PointCommandResponse replayOf(PointIdempotencyKey key) {
+        return PointCommandResponse.builder()
+                .userId(key.getUserId())
+                .refId(key.getRefId())
+                .historyId(key.getHistoryId())
+                .pointItemId(key.getPointItemId())
+                .amount(key.getRequestAmount())
+                .balance(key.getBalance())
+                .replayed(true)
+                .build();
+    }
+}
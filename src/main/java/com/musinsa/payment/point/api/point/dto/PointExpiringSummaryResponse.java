@@ -0,0 +1,18 @@
+package com.musinsa.payment.point.api.point.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 소멸 예정 포인트 요약 응답 DTO (Response DTO)
+ * - 오늘부터 7/30/90일 이내에 소멸되는 포인트 합계를 제공함. (일자별 만료 버킷 기준)
+ * - 오늘 소멸분에는 오늘 중 이미 만료 시각이 지났지만 아직 만료 배치가 처리하지 않은 금액이 포함될 수 있음.
+ */
+@Getter
+@Builder
+public class PointExpiringSummaryResponse {
+    private Long userId;        // 사용자 ID
+    private long within7Days;   // 7일 이내 소멸 예정 금액
+    private long within30Days;  // 30일 이내 소멸 예정 금액
+    private long within90Days;  // 90일 이내 소멸 예정 금액
+}
@@ -2,6 +2,7 @@ package com.musinsa.payment.point.api.point.dto;
 
 import com.musinsa.payment.point.domain.point.entity.PointHistory;
 import com.musinsa.payment.point.domain.point.enums.PointType;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -11,9 +12,11 @@ import java.time.LocalDateTime;
  * 포인트 거래 내역 응답 DTO (Response DTO)
  * - 마이페이지나 관리자 페이지에서 사용자의 포인트 거래 이력을 보여주기 위함.
  * - Class + @Builder 사용: 엔티티 매핑 시 유연하고 가독성 높은 방식으로 DTO 생성 가능.
+ * - JPQL Select New 구문 사용: 이력 조회 쿼리가 필요한 컬럼만 골라 생성자를 직접 호출하므로 AllArgsConstructor가 필요함. (필드 순서 = 생성자 인자 순서)
  */
 @Getter
 @Builder
+@AllArgsConstructor
 public class PointHistoryResponse {
 
     private Long pointHistoryId;
@@ -0,0 +1,38 @@
+package com.musinsa.payment.point.api.point.dto;
+
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 세그먼트 파일 이력 응답 DTO (관리자 CS 조회용)
+ * - DB에서 파일로 옮겨진 이력을 상세 내역(어떤 PointItem에서 얼마가 사용/복구되었는지)과 함께 반환함.
+ * - 필드 이름은 PointHistoryResponse와 동일하게 맞춤.
+ */
+@Getter
+@Builder
+public class PointHistorySegmentResponse {
+
+    private Long pointHistoryId;
+    private Long userId;
+    private PointType type;
+    private long amount;
+    private String refId;
+    private long refundedAmount;    // 누적 환불 금액 (USE 이력)
+    private LocalDateTime createAt; // 거래 발생 일시
+    private List<Detail> details;
+
+    @Getter
+    @Builder
+    public static class Detail {
+
+        private Long pointHistoryDetailId;
+        private Long pointItemId;
+        private long amount;
+        private Long restoredFromItemId;
+        private long refundedAmount;
+    }
+}
@@ -0,0 +1,15 @@
+package com.musinsa.payment.point.api.point.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 포인트 홀드 확정/해제 요청 DTO (Request DTO)
+ * - 금액은 홀드 시점에 확정되므로 주문번호만 받음.
+ */
+public record PointHoldCommandRequest(
+        @NotNull Long userId,
+
+        @NotBlank(message = "주문 ID는 필수입니다.")
+        String orderId // 홀드 시 사용한 주문번호
+) {}
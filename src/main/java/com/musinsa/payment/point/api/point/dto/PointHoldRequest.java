@@ -0,0 +1,18 @@
+package com.musinsa.payment.point.api.point.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 포인트 홀드 요청 DTO (Request DTO)
+ * - 결제 전 포인트를 선점할 때 사용하며, orderId가 이후 확정/해제의 식별자가 됨.
+ */
+public record PointHoldRequest(
+        @NotNull Long userId,
+        @Min(value = 1, message = "홀드 금액은 1원 이상이어야 합니다.")
+        long amount,
+
+        @NotBlank(message = "주문 ID는 필수입니다.")
+        String orderId // 홀드 식별 및 멱등성 검증에 사용될 주문번호
+) {}
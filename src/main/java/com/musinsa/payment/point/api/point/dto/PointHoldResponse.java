@@ -0,0 +1,43 @@
+package com.musinsa.payment.point.api.point.dto;
+
+import com.musinsa.payment.point.domain.point.entity.PointHold;
+import com.musinsa.payment.point.domain.point.enums.PointHoldStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 홀드/확정/해제 처리 결과 응답 DTO (Response DTO)
+ */
+@Getter
+@Builder
+public class PointHoldResponse {
+
+    private Long holdId;             // 홀드 ID
+    private Long userId;             // 사용자 ID
+    private String orderId;          // 주문번호
+    private long amount;             // 홀드 금액
+    private PointHoldStatus status;  // HELD, CAPTURED, RELEASED
+    private LocalDateTime expireAt;  // 확정 가능 기한
+    private Long historyId;          // 확정 시 생성된 USE 이력 ID (확정 전 null)
+    private Long balance;            // 처리 직후 잔액 (재응답은 null)
+    private boolean replayed;        // 재시도 요청에 대한 재응답 여부
+
+    /**
+     * 팩토리 메서드: Entity -> DTO 변환
+     */
+    public static PointHoldResponse of(PointHold hold, Long balance, boolean replayed) {
+        return PointHoldResponse.builder()
+                .holdId(hold.getId())
+                .userId(hold.getUserId())
+                .orderId(hold.getRefId())
+                .amount(hold.getAmount())
+                .status(hold.getStatus())
+                .expireAt(hold.getExpireAt())
+                .historyId(hold.getHistoryId())
+                .balance(balance)
+                .replayed(replayed)
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.musinsa.payment.point.api.point.dto;
+
+import com.musinsa.payment.point.domain.point.entity.PointLiabilitySnapshot;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간별 잔여 포인트 응답 DTO (Response DTO)
+ * - 목적: 재무 대시보드의 잔여 포인트(미사용 부채) 추이 차트용.
+ */
+@Getter
+@Builder
+public class PointLiabilitySnapshotResponse {
+    private LocalDateTime snapshotAt; // 기록 시각 (정시)
+    private long totalRemain;         // 해당 시각의 시스템 전체 잔여 포인트
+
+    public static PointLiabilitySnapshotResponse from(PointLiabilitySnapshot snapshot) {
+        return PointLiabilitySnapshotResponse.builder()
+                .snapshotAt(snapshot.getSnapshotAt())
+                .totalRemain(snapshot.getAmount())
+                .build();
+    }
+}
@@ -16,6 +16,7 @@ public class PointStatisticsResponse {
 
     private PointType type;   // SAVE(적립), USE(사용) 등 상태
     private long totalAmount; // 해당 상태의 합계 금액
+    private String period;    // 집계 구간 (일별: 2025-01-31, 월별: 2025-01, 기간 전체: null)
 
     // JPQL의 SUM() 결과가 Long으로 반환될 수 있으므로, 방어를 위해 Long 타입을 받는 생성자 추가
     public PointStatisticsResponse(PointType type, Long totalAmount) {
@@ -0,0 +1,43 @@
+package com.musinsa.payment.point.application.point.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 잔액 캐시 노드 간 동기화 채널 (PointBalanceCache)
+ * - 역할: 한 노드에서 커밋된 지갑 잔액 변경을 다른 노드의 잔액 캐시에 전달함.
+ * - 특징: 변경에는 지갑 버전이 함께 실리므로, 전달 순서가 뒤바뀌거나 중복 전달되어도 캐시는 더 높은 버전만 반영함.
+ * - 구현: 기본은 DB 폴링(DbPollingBalanceInvalidationChannel)이며, 메시지 브로커(Redis Pub/Sub 등) 구현으로 교체할 수 있음.
+ */
+public interface BalanceInvalidationChannel {
+
+    /**
+     * 로컬 노드에서 커밋된 변경 전파 (커밋 후 호출)
+     */
+    void publish(List<BalanceChange> changes);
+
+    /**
+     * 다른 노드의 변경 수신 리스너 등록
+     */
+    void subscribe(Listener listener);
+
+    /**
+     * 변경 수신 리스너
+     */
+    interface Listener {
+
+        void onChanges(List<BalanceChange> changes);
+
+        /**
+         * 변경 일부를 전달하지 못한 경우 (폴링 누락, 브로커 재연결 등) => 수신 측은 캐시 전체를 비움
+         */
+        void onResync();
+    }
+
+    /**
+     * 지갑 잔액 변경 1건
+     * @param changedAt 변경 시각 (캐시 지연 지표 계산용)
+     */
+    record BalanceChange(Long userId, long balance, long version, LocalDateTime changedAt) {
+    }
+}
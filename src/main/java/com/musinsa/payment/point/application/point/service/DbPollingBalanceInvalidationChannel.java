@@ -0,0 +1,122 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DB 폴링 기반 잔액 캐시 동기화 채널 (기본 구현)
+ * - 역할: user_point_wallet의 updatedAt이 마지막 폴링 이후인 지갑을 주기적으로 조회하여, 다른 노드의 변경을 리스너에 전달함.
+ * - 특징: 커밋된 지갑 행 자체가 메시지이므로 publish()는 할 일이 없으며, 별도 브로커 없이 동작함.
+ *   updatedAt은 커밋 전(Flush 시점)에 기록되고 노드 간 시계 차이도 있으므로, 직전 폴링 시작 시각보다 overlap만큼 앞에서부터 다시 읽음.
+ * - 페이지: (updatedAt, userId) Keyset으로 poll-page-size건씩 끝까지 이어 읽으므로, 변경이 몰려도 일부를 건너뛰지 않음.
+ *   overlap 구간에서 다시 읽힌 행은 이미 전달한 (userId, version)이면 전달하지 않음. (변경 1건은 리스너에 한 번만 전달됨)
+ * - 누락 방지: 마지막으로 성공한 폴링이 max-lag-ms보다 오래되었다면(DB 장애, 폴링 지연 등) 그 사이 overlap을 넘겨 늦게 커밋된 변경을
+ *   놓쳤을 수 있으므로, 이때만 onResync()로 캐시 전체를 비움.
+ * - 선택: musinsa.point.balance-cache.channel=db-polling (기본값), none이면 노드 간 동기화 없이 expire-after-write로만 수렴함.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "musinsa.point.balance-cache", name = "channel", havingValue = "db-polling", matchIfMissing = true)
+public class DbPollingBalanceInvalidationChannel implements BalanceInvalidationChannel {
+
+    private final UserPointWalletRepository userPointWalletRepository;
+    private final Duration overlap;
+    private final int pageSize;
+    private final Duration maxLag;
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile LocalDateTime lastPolledAt = LocalDateTime.now();
+
+    // overlap 구간에서 이미 전달한 변경 (userId -> 변경), 폴링마다 overlap 이전 항목은 정리함
+    private final Map<Long, BalanceChange> delivered = new HashMap<>();
+    // 스케줄러와 직접 호출이 겹치지 않도록 직렬화 (DB 조회 중 Virtual Thread의 Carrier를 고정하지 않도록 synchronized 대신 사용)
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    public DbPollingBalanceInvalidationChannel(UserPointWalletRepository userPointWalletRepository,
+                                               @Value("${musinsa.point.balance-cache.poll-overlap-ms:2000}") long overlapMillis,
+                                               @Value("${musinsa.point.balance-cache.poll-page-size:1000}") int pageSize,
+                                               @Value("${musinsa.point.balance-cache.max-lag-ms:60000}") long maxLagMillis) {
+        this.userPointWalletRepository = userPointWalletRepository;
+        this.overlap = Duration.ofMillis(overlapMillis);
+        this.pageSize = Math.max(1, pageSize);
+        this.maxLag = Duration.ofMillis(maxLagMillis);
+    }
+
+    @Override
+    public void publish(List<BalanceChange> changes) {
+        // 커밋된 지갑 행을 다른 노드가 폴링하므로 별도 전파 불필요
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 변경 지갑 폴링 (기본 1초 간격)
+     */
+    @Scheduled(fixedDelayString = "${musinsa.point.balance-cache.poll-interval-ms:1000}")
+    public void poll() {
+        if (listeners.isEmpty()) return;
+        pollLock.lock();
+        try {
+            pollChanges();
+        } catch (Exception e) {
+            log.error(">>> 잔액 캐시 폴링 실패 (다음 실행에서 재시도)", e);
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private void pollChanges() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (Duration.between(lastPolledAt, startedAt).compareTo(maxLag) > 0) {
+            log.warn(">>> 잔액 캐시 폴링 지연 ({} 이후 성공한 폴링 없음), 캐시 전체 무효화", lastPolledAt);
+            listeners.forEach(Listener::onResync);
+            delivered.clear();
+            lastPolledAt = startedAt;
+            return;
+        }
+
+        LocalDateTime since = lastPolledAt.minus(overlap);
+        delivered.values().removeIf(change -> change.changedAt().isBefore(since));
+
+        LocalDateTime afterAt = since;
+        Long afterUserId = Long.MIN_VALUE;
+        List<Object[]> rows;
+        do {
+            rows = userPointWalletRepository.findChangedAfter(afterAt, afterUserId, PageRequest.of(0, pageSize));
+            List<BalanceChange> changes = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                BalanceChange change = new BalanceChange((Long) row[0], (Long) row[1], (Long) row[2], (LocalDateTime) row[3]);
+                BalanceChange previous = delivered.put(change.userId(), change);
+                if (previous == null || previous.version() != change.version()) {
+                    changes.add(change);
+                }
+            }
+            if (!changes.isEmpty()) {
+                listeners.forEach(listener -> listener.onChanges(changes));
+            }
+            if (!rows.isEmpty()) {
+                Object[] last = rows.get(rows.size() - 1);
+                afterAt = (LocalDateTime) last[3];
+                afterUserId = (Long) last[0];
+            }
+        } while (rows.size() == pageSize);
+        lastPolledAt = startedAt;
+    }
+}
@@ -0,0 +1,101 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointHistoryResponse;
+import com.musinsa.payment.point.global.common.CursorResponse;
+import com.musinsa.payment.point.global.error.BusinessException;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 이력 커서(Keyset) 조회 조건
+ * - 역할: 조회 기간과 커서(beforeId/afterId/cursor)를 하나의 ID 범위(lowerId < id < upperId)와 정렬 방향으로 변환함.
+ * - 특징: 이력 ID는 생성 시각 순 TSID이므로 기간 조건도 ID 범위로 바꿀 수 있어, 한 번의 인덱스 범위 스캔으로 조회됨.
+ * - 방향: beforeId(기본)는 더 오래된 이력을 ID 내림차순으로, afterId는 더 최근 이력을 오름차순으로 읽은 뒤 뒤집어 응답함.
+ *   응답은 방향과 무관하게 항상 ID 내림차순(최신순)이며, nextCursor는 같은 방향으로 이어서 읽을 위치를 담음.
+ */
+record HistoryCursor(long lowerId, long upperId, boolean ascending, int limit) {
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 1000;
+
+    private static final String BEFORE = "b";
+    private static final String AFTER = "a";
+
+    /**
+     * @param cursor 이전 응답의 nextCursor (있으면 beforeId/afterId보다 우선)
+     */
+    static HistoryCursor of(LocalDate startDate, LocalDate endDate, Long beforeId, Long afterId, String cursor, Integer limit) {
+        if (cursor != null && !cursor.isBlank()) {
+            String[] decoded = decode(cursor);
+            long id = Long.parseLong(decoded[1]);
+            beforeId = BEFORE.equals(decoded[0]) ? id : null;
+            afterId = AFTER.equals(decoded[0]) ? id : null;
+        }
+
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw BusinessException.invalid("조회 건수(limit)는 1 ~ " + MAX_LIMIT + " 사이여야 합니다.");
+        }
+
+        // 기간 -> ID 범위 (경계 포함을 위해 한 칸씩 바깥으로)
+        long lowerId = TsidUtil.minIdAt(startDate.atStartOfDay()) - 1;
+        long upperId = TsidUtil.maxIdAt(endDate.plusDays(1).atStartOfDay().minusNanos(1)) + 1;
+        if (beforeId != null) upperId = Math.min(upperId, beforeId);
+        if (afterId != null) lowerId = Math.max(lowerId, afterId);
+
+        return new HistoryCursor(lowerId, upperId, afterId != null && beforeId == null, size);
+    }
+
+    /**
+     * limit건 조회용 Pageable (Slice는 limit + 1건을 읽어 다음 존재 여부를 판단함)
+     */
+    Pageable pageable() {
+        return PageRequest.of(0, limit, ascending ? Sort.by("id").ascending() : Sort.by("id").descending());
+    }
+
+    CursorResponse<PointHistoryResponse> toResponse(Slice<PointHistoryResponse> slice) {
+        List<PointHistoryResponse> content = new ArrayList<>(slice.getContent());
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            PointHistoryResponse last = content.get(content.size() - 1);
+            nextCursor = encode(ascending ? AFTER : BEFORE, last.getPointHistoryId());
+        }
+        if (ascending) Collections.reverse(content); // 응답은 항상 최신순
+
+        return CursorResponse.<PointHistoryResponse>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static String encode(String direction, long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((direction + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(String cursor) {
+        try {
+            String[] decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (decoded.length != 2 || !(BEFORE.equals(decoded[0]) || AFTER.equals(decoded[0]))) {
+                throw BusinessException.invalid("유효하지 않은 커서입니다.");
+            }
+            Long.parseLong(decoded[1]);
+            return decoded;
+        } catch (IllegalArgumentException e) { // Base64 / 숫자 형식 오류
+            throw BusinessException.invalid("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -2,13 +2,14 @@ package com.musinsa.payment.point.application.point.service;
 
 import com.musinsa.payment.point.api.point.dto.PointBalanceResponse;
 import com.musinsa.payment.point.api.point.dto.PointHistoryResponse;
+import com.musinsa.payment.point.api.point.dto.PointHistorySegmentResponse;
+import com.musinsa.payment.point.api.point.dto.PointLiabilitySnapshotResponse;
 import com.musinsa.payment.point.api.point.dto.PointStatisticsResponse;
 import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
-import com.musinsa.payment.point.domain.point.enums.PointStatus;
 import com.musinsa.payment.point.domain.point.enums.PointType;
-import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
-import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.enums.StatGranularity;
 import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import com.musinsa.payment.point.global.common.CursorResponse;
 import com.musinsa.payment.point.global.error.BusinessException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -17,7 +18,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * 포인트 관리자 조회 Service (Admin Search)
@@ -29,9 +36,15 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class PointAdminSearchService {
 
-    private final PointHistoryRepository pointHistoryRepository;
-    private final PointItemRepository pointItemRepository;
+    private final PointHistoryTierRouter pointHistoryTierRouter; // Hot/보관 테이블 라우팅
     private final UserPointWalletRepository userPointWalletRepository;
+    private final StripedWalletService stripedWalletService;
+    private final PointDailyStatService pointDailyStatService;
+    private final PointLiabilityService pointLiabilityService;
+    private final PointHistorySegmentStore pointHistorySegmentStore;
+
+    // 세그먼트 파일 조회 1회 최대 건수
+    private static final int SEGMENT_MAX_LIMIT = 1000;
 
     /**
      * [관리자] 포인트 이력 통합 조회
@@ -51,25 +64,96 @@ public class PointAdminSearchService {
             throw BusinessException.invalid("조회 기간은 필수입니다.");
         }
 
-        return pointHistoryRepository.findAllByAdminCondition(
+        return pointHistoryTierRouter.findAllByAdminCondition(
                 startDate.atStartOfDay(),
                 endDate.atTime(23, 59, 59),
                 userId,
                 refId,
                 type,
                 pageable
-        ).map(PointHistoryResponse::from);
+        );
     }
 
 
+    /**
+     * [관리자] 포인트 이력 통합 커서 조회 (Keyset Pagination)
+     * - 규칙: 조회 기간은 필수. (기간이 ID 범위로 바뀌어 PK 또는 idx_user_id 범위 스캔이 됨)
+     * - 특징: COUNT 쿼리 없이 다음 목록 존재 여부와 커서만 반환하므로, 대량 기간 조회도 페이지당 비용이 일정함.
+     */
+    public CursorResponse<PointHistoryResponse> getHistoriesByCursor(
+            LocalDate startDate,
+            LocalDate endDate,
+            Long userId,
+            String refId,
+            PointType type,
+            Long beforeId,
+            Long afterId,
+            String cursor,
+            Integer limit
+    ) {
+        if (startDate == null || endDate == null) {
+            throw BusinessException.invalid("조회 기간은 필수입니다.");
+        }
+
+        HistoryCursor condition = HistoryCursor.of(startDate, endDate, beforeId, afterId, cursor, limit);
+        return condition.toResponse(pointHistoryTierRouter.findSliceByAdminCondition(
+                condition.lowerId(),
+                condition.upperId(),
+                userId,
+                refId,
+                type,
+                condition.pageable()
+        ));
+    }
+
+    /**
+     * [관리자] 세그먼트 파일 이력 조회 (오래된 CS 건 확인용)
+     * - DB에서 세그먼트 파일로 옮겨진 이력을 파일에서 직접 읽어 최신순으로 최대 limit건 반환함. (상세 내역 포함)
+     * - 조회 기간/userId 범위 밖의 파일은 열지 않으며, DB(Hot/보관 테이블)에 남은 이력은 포함하지 않음.
+     */
+    public List<PointHistorySegmentResponse> getSegmentHistories(
+            LocalDate startDate,
+            LocalDate endDate,
+            Long userId,
+            String refId,
+            PointType type,
+            Integer limit
+    ) {
+        if (startDate == null || endDate == null) {
+            throw BusinessException.invalid("조회 기간은 필수입니다.");
+        }
+        int size = limit == null ? 100 : limit;
+        if (size < 1 || size > SEGMENT_MAX_LIMIT) {
+            throw BusinessException.invalid("조회 건수(limit)는 1 ~ " + SEGMENT_MAX_LIMIT + " 사이여야 합니다.");
+        }
+        return pointHistorySegmentStore.search(startDate.atStartOfDay(),
+                endDate.plusDays(1).atStartOfDay().minusNanos(1), userId, refId, type, size);
+    }
+
+    /**
+     * [관리자] 세그먼트 파일 인덱스 재적재
+     * - 운영자가 dir의 세그먼트 파일을 복원/교체한 뒤 호출함. 인덱스는 노드 메모리에 있으므로 요청을 받은 노드만 갱신됨.
+     * @return 적재된 파일 수
+     */
+    public int reloadSegments() {
+        return pointHistorySegmentStore.reload();
+    }
+
     /**
      * [관리자] 시스템 전체 잔여 포인트 조회 
      * - 현재 사용가능한 잔액 총액 조회
-     * - 성능: PointItem 테이블에서 AVAILABLE 상태의 잔액만 SUM하여 계산 (인덱스 활용).
+     * - 성능: PointItem을 합산하지 않고, 쓰기 트랜잭션마다 갱신되는 잔여 포인트 카운터(stripe 합산)만 읽음.
      */
     public long getTotalRemain() {
-        // PointItem 상태가 AVAILABLE 인 것만 합산
-        return pointItemRepository.sumTotalRemainAmountByStatus(PointStatus.AVAILABLE);
+        return pointLiabilityService.getTotal();
+    }
+
+    /**
+     * [관리자] 시간별 잔여 포인트 추이 조회
+     * - 매 정시 기록된 스냅샷만 읽으므로 기간과 무관하게 point_item을 스캔하지 않음.
+     */
+    public List<PointLiabilitySnapshotResponse> getRemainSnapshots(LocalDate startDate, LocalDate endDate) {
+        return pointLiabilityService.getSnapshots(startDate, endDate);
     }
 
     /**
@@ -78,14 +162,41 @@ public class PointAdminSearchService {
      * - 규칙: 조회 기간은 필수 파라미터.
      */
     public List<PointStatisticsResponse> getStatistics(LocalDate startDate, LocalDate endDate) {
+        return getStatistics(startDate, endDate, StatGranularity.TOTAL);
+    }
+
+    /**
+     * [관리자] 기간별 포인트 통계 (일별/월별/기간 전체)
+     * - 성능: point_history를 집계하지 않고 일자별 거래 통계(point_daily_stat)만 읽으며, 마감된 일자는 캐시에서 응답함.
+     * - 결과: 집계 구간(period) 오름차순, 같은 구간 안에서는 거래 유형 순. 거래가 없는 구간/유형은 포함하지 않음.
+     */
+    public List<PointStatisticsResponse> getStatistics(LocalDate startDate, LocalDate endDate, StatGranularity granularity) {
         if (startDate == null || endDate == null) {
             throw new IllegalArgumentException("통계 조회 기간은 필수입니다.");
         }
+        if (startDate.isAfter(endDate)) {
+            throw BusinessException.invalid("종료일은 시작일보다 빠를 수 없습니다.");
+        }
 
-        return pointHistoryRepository.getStatisticsByType(
-                startDate.atStartOfDay(),
-                endDate.atTime(23, 59, 59)
-        );
+        // 구간(period)별 유형별 합계 (TOTAL은 구간 하나)
+        Map<String, Map<PointType, Long>> periods = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+        pointDailyStatService.getDailyAmounts(startDate, endDate).forEach((day, amounts) -> {
+            String period = switch (granularity == null ? StatGranularity.TOTAL : granularity) {
+                case TOTAL -> null;
+                case DAY -> day.toString();
+                case MONTH -> YearMonth.from(day).toString();
+            };
+            Map<PointType, Long> sums = periods.computeIfAbsent(period, key -> new EnumMap<>(PointType.class));
+            amounts.forEach((type, amount) -> sums.merge(type, amount, Long::sum));
+        });
+
+        List<PointStatisticsResponse> result = new ArrayList<>();
+        periods.forEach((period, sums) -> sums.forEach((type, amount) -> result.add(PointStatisticsResponse.builder()
+                .type(type)
+                .totalAmount(amount)
+                .period(period)
+                .build())));
+        return result;
     }
 
     /**
@@ -98,7 +209,7 @@ public class PointAdminSearchService {
 
         return PointBalanceResponse.builder()
                 .userId(userId)
-                .currentBalance(wallet.getBalance())
+                .currentBalance(stripedWalletService.totalBalance(wallet)) // 스트라이프 지갑은 슬롯 잔액 합산
                 .build();
     }
 }
\ No newline at end of file
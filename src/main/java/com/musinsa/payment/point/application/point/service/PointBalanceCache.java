@@ -0,0 +1,181 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.musinsa.payment.point.application.point.service.BalanceInvalidationChannel.BalanceChange;
+import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
+import com.musinsa.payment.point.global.concurrency.StripedWalletRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 잔액 캐시 (In-Memory, Caffeine W-TinyLFU)
+ * - 역할: 앱 홈 렌더링마다 호출되는 잔액 조회(GET /balance)가 매번 user_point_wallet을 읽지 않도록 잔액을 메모리에 보관함.
+ * - 버전: 항목마다 지갑 @Version을 함께 보관하고, 더 높은 버전만 반영함.
+ *   => 커밋 후 갱신과 조회 중 적재(Cache-aside)가 경합해도, 늦게 도착한 오래된 값이 최신 값을 덮어쓰지 않음.
+ * - 갱신: 쓰기 명령(PointService, 일괄 적립, 만료 배치)이 커밋된 후(afterCommit)에만 반영하므로, 롤백된 잔액이 캐시에 남지 않음.
+ * - 노드 간 동기화: BalanceInvalidationChannel로 다른 노드의 변경을 받아, 이미 캐시된 유저만 갱신함.
+ *   누락 가능성에 대비해 expire-after-write로 항목 수명의 상한을 둠.
+ * - 제외: 스트라이프 지갑은 슬롯 변경 시 지갑 버전이 바뀌지 않으므로 캐시하지 않음.
+ * - 지표: point.balance.cache.* (적중률, 항목 수, 원격 갱신 건수, 원격 갱신 시 관측된 최대 지연)
+ */
+@Slf4j
+@Component
+public class PointBalanceCache implements BalanceInvalidationChannel.Listener {
+
+    private final StripedWalletRouter stripedWalletRouter;
+    private final BalanceInvalidationChannel channel; // null이면 노드 간 동기화 없음 (channel=none)
+    private final boolean enabled;
+    private final Cache<Long, CachedBalance> cache;
+
+    private final Counter remoteUpdateCounter;
+    private final AtomicLong stalenessMillis = new AtomicLong();
+
+    public PointBalanceCache(StripedWalletRouter stripedWalletRouter,
+                             ObjectProvider<BalanceInvalidationChannel> channelProvider,
+                             MeterRegistry meterRegistry,
+                             @Value("${musinsa.point.balance-cache.enabled:true}") boolean enabled,
+                             @Value("${musinsa.point.balance-cache.max-users:200000}") long maxUsers,
+                             @Value("${musinsa.point.balance-cache.expire-after-write-seconds:300}") long expireSeconds) {
+        this.stripedWalletRouter = stripedWalletRouter;
+        this.channel = channelProvider.getIfAvailable();
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers) // 용량 초과 시 W-TinyLFU 방식 제거 (자주 조회되는 유저 우선 보존)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+
+        if (enabled && channel != null) {
+            channel.subscribe(this);
+        }
+
+        this.remoteUpdateCounter = meterRegistry.counter("point.balance.cache.remote_updates");
+        Gauge.builder("point.balance.cache.hit_ratio", cache, c -> c.stats().hitRate()).register(meterRegistry);
+        Gauge.builder("point.balance.cache.hits", cache, c -> c.stats().hitCount()).register(meterRegistry);
+        Gauge.builder("point.balance.cache.misses", cache, c -> c.stats().missCount()).register(meterRegistry);
+        Gauge.builder("point.balance.cache.size", cache, Cache::estimatedSize).register(meterRegistry);
+        Gauge.builder("point.balance.cache.staleness_seconds", stalenessMillis, v -> v.get() / 1000.0).register(meterRegistry);
+
+        log.info("PointBalanceCache initialized: enabled={}, maxUsers={}, channel={}",
+                enabled, maxUsers, channel != null ? channel.getClass().getSimpleName() : "none");
+    }
+
+    /**
+     * 캐시된 잔액 조회 (없으면 null => 호출자가 DB 조회 후 put)
+     */
+    public Long get(Long userId) {
+        if (!isCacheable(userId)) return null;
+        CachedBalance cached = cache.getIfPresent(userId);
+        return cached != null ? cached.balance() : null;
+    }
+
+    /**
+     * 조회 결과 적재 (Cache-aside)
+     * - 조회와 커밋 후 갱신이 경합하더라도 버전 비교로 최신 값만 남음.
+     */
+    public void put(UserPointWallet wallet) {
+        if (!isCacheable(wallet.getUserId())) return;
+        putIfNewer(wallet.getUserId(), new CachedBalance(wallet.getBalance(), wallet.getVersion()));
+    }
+
+    /**
+     * 커밋 후 변경된 잔액 반영
+     * - 반영 값은 커밋 시점의 지갑 잔액/버전(Flush 후 증가된 값)을 사용함.
+     */
+    public void updateAfterCommit(UserPointWallet wallet) {
+        updateAfterCommit(List.of(wallet));
+    }
+
+    /**
+     * 커밋 후 변경된 잔액 일괄 반영 (일괄 적립, 만료 배치, 만료 홀드 해제 등 여러 유저를 한 번에 변경하는 경로)
+     */
+    public void updateAfterCommit(Collection<UserPointWallet> wallets) {
+        if (!enabled || wallets.isEmpty()) return;
+        List<UserPointWallet> targets = List.copyOf(wallets);
+        afterCommit(() -> {
+            List<BalanceChange> changes = new ArrayList<>(targets.size());
+            for (UserPointWallet wallet : targets) {
+                Long userId = wallet.getUserId();
+                if (!isCacheable(userId)) continue;
+                putIfNewer(userId, new CachedBalance(wallet.getBalance(), wallet.getVersion()));
+                changes.add(new BalanceChange(userId, wallet.getBalance(), wallet.getVersion(), LocalDateTime.now()));
+            }
+            if (channel != null && !changes.isEmpty()) {
+                channel.publish(changes);
+            }
+        });
+    }
+
+    /**
+     * 다른 노드의 변경 반영
+     * - 이미 캐시된 유저만 갱신함. (캐시에 없는 유저는 다음 조회 시 DB에서 적재됨)
+     * - 캐시가 더 낮은 버전을 들고 있었다면, 변경 시각부터 지금까지가 이 노드가 오래된 잔액을 응답할 수 있었던 시간임.
+     */
+    @Override
+    public void onChanges(List<BalanceChange> changes) {
+        long maxStaleness = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (BalanceChange change : changes) {
+            CachedBalance candidate = new CachedBalance(change.balance(), change.version());
+            CachedBalance current = cache.asMap().get(change.userId()); // 적중률 통계에 포함하지 않음
+            if (current == null || current.version() >= change.version()) continue;
+
+            cache.asMap().computeIfPresent(change.userId(), (userId, cached) ->
+                    cached.version() >= candidate.version() ? cached : candidate);
+            remoteUpdateCounter.increment();
+            if (change.changedAt() != null) {
+                maxStaleness = Math.max(maxStaleness, Duration.between(change.changedAt(), now).toMillis());
+            }
+        }
+        stalenessMillis.set(maxStaleness);
+    }
+
+    @Override
+    public void onResync() {
+        cache.invalidateAll();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private boolean isCacheable(Long userId) {
+        return enabled && userId != null && !stripedWalletRouter.isStriped(userId);
+    }
+
+    private void putIfNewer(Long userId, CachedBalance candidate) {
+        // 같은 유저의 더 최신 잔액이 이미 반영되어 있다면 덮어쓰지 않음
+        cache.asMap().merge(userId, candidate, (current, next) -> current.version() >= next.version() ? current : next);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record CachedBalance(long balance, long version) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointBulkEarnRequest.Entry;
+import com.musinsa.payment.point.api.point.dto.PointBulkEarnResponse;
+import com.musinsa.payment.point.api.point.dto.PointBulkEarnResponse.Result;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 포인트 일괄 적립 Service (Campaign Payout)
+ * - 역할: 수천 건의 (userId, amount, refId) 적립 요청을 Chunk 단위로 나누어 PointBulkEarnWriter에 위임함.
+ * - 특징: 트랜잭션은 Chunk 단위로 커밋되므로, 한 Chunk의 DB 오류가 다른 Chunk의 적립 결과에 영향을 주지 않음.
+ * - 동시성: 지갑 Lock은 userId 오름차순으로 획득하며, 단건 API의 In-JVM 직렬화(@UserSerialized)는 거치지 않음. (DB Lock으로 보호)
+ */
+@Slf4j
+@Service
+public class PointBulkEarnService {
+
+    private final PointBulkEarnWriter pointBulkEarnWriter;
+    private final int chunkSize;
+
+    public PointBulkEarnService(PointBulkEarnWriter pointBulkEarnWriter,
+                                @Value("${musinsa.point.bulk-earn.chunk-size:500}") int chunkSize) {
+        this.pointBulkEarnWriter = pointBulkEarnWriter;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    public PointBulkEarnResponse earnAll(List<Entry> entries) {
+        Result[] results = new Result[entries.size()];
+
+        // 1. 요청 내 중복 (userId, refId) 제거: 첫 번째 항목만 처리하고 나머지는 실패 처리
+        Set<String> seen = new HashSet<>();
+        List<Integer> targets = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (!seen.add(PointBulkEarnWriter.keyOf(entry.userId(), entry.refId()))) {
+                results[i] = Result.fail(entry.userId(), entry.refId(), "요청 내 중복된 적립 요청입니다.");
+                continue;
+            }
+            targets.add(i);
+        }
+
+        // 2. userId 오름차순 정렬: Chunk 간에도 Lock 획득 순서를 일정하게 유지 (같은 유저는 요청 순서 유지)
+        targets.sort(Comparator.comparing((Integer i) -> entries.get(i).userId()).thenComparing(i -> i));
+
+        // 3. Chunk 단위 처리 (Chunk 하나 = 트랜잭션 하나)
+        for (int from = 0; from < targets.size(); from += chunkSize) {
+            List<Integer> chunkIndexes = targets.subList(from, Math.min(from + chunkSize, targets.size()));
+            List<Entry> chunk = chunkIndexes.stream().map(entries::get).toList();
+
+            List<Result> chunkResults;
+            try {
+                chunkResults = pointBulkEarnWriter.write(chunk);
+            } catch (Exception e) {
+                // Chunk 전체 롤백 (DB 장애 등): 해당 Chunk 항목만 실패로 응답하고 다음 Chunk는 계속 진행
+                log.error("Bulk earn chunk failed: from={}, size={}", from, chunk.size(), e);
+                chunkResults = chunk.stream()
+                        .map(entry -> Result.fail(entry.userId(), entry.refId(), "일시적인 오류로 적립에 실패했습니다."))
+                        .toList();
+            }
+
+            for (int i = 0; i < chunkIndexes.size(); i++) {
+                results[chunkIndexes.get(i)] = chunkResults.get(i);
+            }
+        }
+
+        PointBulkEarnResponse response = PointBulkEarnResponse.of(Arrays.asList(results));
+        log.info("Bulk earn finished: total={}, success={}, fail={}",
+                response.getTotalCount(), response.getSuccessCount(), response.getFailCount());
+        return response;
+    }
+}
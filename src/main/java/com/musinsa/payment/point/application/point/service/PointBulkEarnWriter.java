@@ -0,0 +1,139 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointBulkEarnRequest.Entry;
+import com.musinsa.payment.point.api.point.dto.PointBulkEarnResponse.Result;
+import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.DetailRow;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.HistoryRow;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.IdempotencyKeyRow;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.ItemRow;
+import com.musinsa.payment.point.global.error.BusinessException;
+import com.musinsa.payment.point.global.policy.PointPolicyManager;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 일괄 적립 Chunk Writer
+ * - 역할: 일괄 적립 요청을 Chunk 단위 트랜잭션으로 처리함. (Chunk 하나 = 트랜잭션 하나)
+ * - 특징: 중복 검사 3쿼리(멱등성 키 + Hot/보관 이력), 지갑 Lock 1쿼리, Item/History/Detail은 JDBC Batch로 저장하여 건당 쿼리 수를 최소화함.
+ * - 항목별 실패(중복, 금액 범위, 보유 한도 초과)는 해당 항목만 실패 처리하고 나머지는 정상 적립함.
+ * - 멱등성: 성공 항목은 단건 적립과 동일하게 멱등성 키를 남기므로, 이후 단건 API 재시도 시 원본 결과가 재응답됨.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointBulkEarnWriter {
+
+    private static final PointType TYPE = PointType.EARN;
+
+    private final StripedWalletService stripedWalletService;
+    private final PointHistoryTierRouter pointHistoryTierRouter;
+    private final PointJdbcRepository pointJdbcRepository;
+    private final PointPolicyManager policyManager;
+    private final PointIdempotencyKeyStore pointIdempotencyKeyStore;
+    private final PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+    private final PointRefIdFilter pointRefIdFilter;
+    private final PointDeductionQueueCache pointDeductionQueueCache;
+    private final PointBalanceCache pointBalanceCache;
+    private final PointExpiryBucketRecorder pointExpiryBucketRecorder;
+    private final PointDailyStatRecorder pointDailyStatRecorder;
+    private final PointLiabilityRecorder pointLiabilityRecorder;
+
+    /**
+     * Chunk 단위 적립 처리
+     * @param entries userId 오름차순으로 정렬된 적립 항목 (요청 내 중복은 호출자가 이미 제거함)
+     * @return 입력 순서와 동일한 순서의 항목별 결과
+     */
+    @Transactional
+    public List<Result> write(List<Entry> entries) {
+        Set<Long> userIds = entries.stream().map(Entry::userId).collect(Collectors.toCollection(TreeSet::new));
+
+        // 1. 중복 적립 체크 (노드 메모리의 Bloom Filter는 다른 노드의 처리를 모를 수 있으므로 사용하지 않음)
+        // - 멱등성 키(TTL 이내, 다른 노드/단건 API 처리분 포함)와 이력(TTL 이후, Hot + 보관 테이블)을 조회
+        Set<String> refIds = entries.stream().map(Entry::refId).collect(Collectors.toSet());
+        Set<String> processedKeys = new HashSet<>();
+        pointIdempotencyKeyRepository.findClaimedUserRefIds(TYPE, userIds, refIds)
+                .forEach(row -> processedKeys.add(keyOf((Long) row[0], (String) row[1])));
+        pointHistoryTierRouter.findProcessedUserRefIds(TYPE, userIds, refIds)
+                .forEach(row -> processedKeys.add(keyOf((Long) row[0], (String) row[1])));
+
+        // 2. 지갑 선 생성 후, userId 오름차순으로 일괄 Lock (데드락 방지, 스트라이프 지갑은 슬롯을 지갑으로 통합)
+        pointJdbcRepository.insertWalletsIfAbsent(userIds);
+        Map<Long, UserPointWallet> wallets = stripedWalletService.lockAllForWrite(userIds).stream()
+                .collect(Collectors.toMap(UserPointWallet::getUserId, Function.identity()));
+
+        long minEarnAmount = policyManager.getMinEarnAmount();
+        long maxEarnAmount = policyManager.getMaxEarnAmount();
+        long maxPossessionLimit = policyManager.getMaxPossessionLimit();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expireAt = now.plusDays(policyManager.getDefaultExpireDays());
+        LocalDateTime keyExpireAt = pointIdempotencyKeyStore.expireAtFrom(now);
+
+        List<ItemRow> items = new ArrayList<>();
+        List<HistoryRow> histories = new ArrayList<>();
+        List<DetailRow> details = new ArrayList<>();
+        List<IdempotencyKeyRow> keys = new ArrayList<>();
+        List<Result> results = new ArrayList<>(entries.size());
+
+        // 3. 항목별 정책 검증 및 지갑 잔액 반영
+        for (Entry entry : entries) {
+            if (processedKeys.contains(keyOf(entry.userId(), entry.refId()))) {
+                results.add(Result.fail(entry.userId(), entry.refId(), "이미 처리된 적립 요청입니다."));
+                continue;
+            }
+            if (entry.amount() < minEarnAmount || entry.amount() > maxEarnAmount) {
+                results.add(Result.fail(entry.userId(), entry.refId(), "적립 가능 금액 범위를 벗어났습니다."));
+                continue;
+            }
+
+            UserPointWallet wallet = wallets.get(entry.userId());
+            try {
+                // 지갑 잔액 증가 (내부에서 보유 한도 초과 체크, 실패 시 잔액은 변경되지 않음)
+                wallet.earn(entry.amount(), maxPossessionLimit);
+            } catch (BusinessException e) {
+                results.add(Result.fail(entry.userId(), entry.refId(), e.getMessage()));
+                continue;
+            }
+
+            long itemId = TsidUtil.nextId();
+            long historyId = TsidUtil.nextId();
+            items.add(new ItemRow(itemId, entry.userId(), entry.amount(), expireAt, false));
+            pointExpiryBucketRecorder.record(entry.userId(), expireAt.toLocalDate(), false, entry.amount()); // JDBC 저장분은 직접 기록
+            pointLiabilityRecorder.record(entry.userId(), entry.amount());
+            histories.add(new HistoryRow(historyId, entry.userId(), TYPE, entry.amount(), entry.refId()));
+            pointDailyStatRecorder.record(entry.userId(), now, TYPE, entry.amount());
+            details.add(new DetailRow(TsidUtil.nextId(), historyId, itemId, entry.amount(), null));
+            keys.add(new IdempotencyKeyRow(TsidUtil.nextId(), entry.userId(), entry.refId(), TYPE, entry.amount(),
+                    historyId, itemId, wallet.getBalance(), keyExpireAt));
+
+            pointRefIdFilter.putAfterCommit(entry.userId(), entry.refId(), TYPE);
+            results.add(Result.success(entry.userId(), entry.refId(), itemId));
+        }
+
+        // 4. JDBC Batch 저장 (Item -> History -> Detail 순서로 FK 충족)
+        if (!items.isEmpty()) {
+            pointJdbcRepository.batchInsertItems(items);
+            pointJdbcRepository.batchInsertHistories(histories);
+            pointJdbcRepository.batchInsertDetails(details);
+            pointJdbcRepository.batchInsertIdempotencyKeys(keys);
+        }
+
+        // 5. 지갑 잔액은 트랜잭션 커밋 시 Dirty Checking으로 반영되며, 차감 큐는 커밋 후 비워 다음 사용 시 재구성하고 잔액 캐시는 커밋된 잔액으로 갱신함
+        pointDeductionQueueCache.invalidateAfterCommit(userIds);
+        pointBalanceCache.updateAfterCommit(wallets.values());
+        return results;
+    }
+
+    static String keyOf(Long userId, String refId) {
+        return userId + ":" + refId;
+    }
+}
@@ -0,0 +1,91 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.listener.PointDailyStatSink;
+import com.musinsa.payment.point.domain.point.repository.PointDailyStatRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.DailyStatDelta;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일자별 거래 통계 증감 기록기 (point_daily_stat)
+ * - 역할: 트랜잭션 안에서 INSERT된 PointHistory를 (거래일, 유형, 슬롯)별 금액으로 모아 두었다가,
+ *   커밋 직전(beforeCommit)에 한 번의 JDBC Batch UPSERT로 반영함. (누적/반영: TransactionalDeltaBuffer)
+ * - 수집: JPA 경로는 PointDailyStatListener가, JDBC 경로(일괄 적립, 저널 반영)는 호출자가 직접 record()를 호출함.
+ * - 특징: 이력과 같은 트랜잭션으로 커밋되므로 롤백되면 통계도 함께 원복됨. 슬롯은 userId로 정하여 같은 (일자, 유형) 행의 Lock 경합을 나눔.
+ * - 백필: 기동 완료 시 통계가 비어 있으면 point_history로 한 번 재구축함.
+ * - 복구: 마감된 일자의 재집계는 재집계 배치(pointReconcileJob)의 pointDailyStatReconcileStep이 수행함.
+ */
+@Slf4j
+@Component
+public class PointDailyStatRecorder implements PointDailyStatSink {
+
+    private final PointJdbcRepository pointJdbcRepository;
+    private final PointDailyStatRepository pointDailyStatRepository;
+    private final TransactionalDeltaBuffer<StatKey, DailyStatDelta> buffer;
+    private final int slots;
+
+    public PointDailyStatRecorder(PointJdbcRepository pointJdbcRepository,
+                                  PointDailyStatRepository pointDailyStatRepository,
+                                  EntityManager entityManager,
+                                  @Value("${musinsa.point.daily-stat.slots:8}") int slots) {
+        this.pointJdbcRepository = pointJdbcRepository;
+        this.pointDailyStatRepository = pointDailyStatRepository;
+        this.buffer = new TransactionalDeltaBuffer<>(entityManager, StatKey::toDelta, pointJdbcRepository::upsertDailyStats);
+        this.slots = Math.max(1, slots);
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션에 반영 훅 등록 (PointHistory를 저장할 때 호출)
+     * - INSERT가 커밋 시점 Flush에서 실행되더라도 반영 훅이 먼저 등록되어 있도록 함.
+     */
+    @Override
+    public void track() {
+        buffer.track();
+    }
+
+    /**
+     * 이력 1건 기록
+     * - 쓰기 트랜잭션 밖에서 호출되면 즉시 반영함.
+     */
+    @Override
+    public void record(Long userId, LocalDateTime createdAt, PointType type, long amount) {
+        buffer.add(new StatKey(createdAt.toLocalDate(), type, (int) Math.floorMod(userId, (long) slots)), amount);
+    }
+
+    /**
+     * 기동 완료 시 백필 (통계가 비어 있을 때만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (pointDailyStatRepository.count() > 0) return;
+        int rows = pointJdbcRepository.rebuildAllDailyStats();
+        log.info(">>> 일자별 거래 통계 백필 완료: {}건", rows);
+    }
+
+    // 정렬: 반영 시 (일자, 유형, 슬롯) 순으로 Lock을 획득하여 데드락 예방
+    private record StatKey(LocalDate statDate, PointType type, int slot) implements Comparable<StatKey> {
+
+        @Override
+        public int compareTo(StatKey other) {
+            int result = statDate.compareTo(other.statDate);
+            if (result != 0) return result;
+            result = type.name().compareTo(other.type.name()); // DB PK 정렬(문자열)과 같은 순서
+            return result != 0 ? result : Integer.compare(slot, other.slot);
+        }
+
+        DailyStatDelta toDelta(long delta) {
+            return new DailyStatDelta(statDate, type, slot, delta);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.repository.PointDailyStatRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 일자별 거래 통계 조회 (point_daily_stat)
+ * - 역할: 기간 내 일자/유형별 거래 금액을 통계 테이블에서 읽어 반환함. (point_history는 읽지 않음)
+ * - 마감 일자 캐시: 마감된 일자는 재집계 외에는 바뀌지 않으므로 일자 단위로 메모리에 보관하고,
+ *   캐시에 없는 마감 일자들은 한 번의 범위 조회로 채움. 마감 전 일자는 매번 조회함.
+ * - 마감 기준: 자정 직후에도 전날 통계는 바뀔 수 있음. (자정 전에 시작해 자정 후 커밋된 명령, 저널 반영 지연분은 이력 생성 시각 기준으로 기록됨)
+ *   그래서 일자가 끝난 뒤 유예 시간(closed-day-grace-minutes)과 저널 반영 지연이 모두 지나야 마감으로 봄.
+ * - 재집계 후에는 해당 기간을 캐시에서 제거하며(evictAfterCommit), 다른 노드는 TTL 경과 후 반영됨.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PointDailyStatService {
+
+    private final PointDailyStatRepository pointDailyStatRepository;
+    private final PointHistoryJournal pointHistoryJournal;
+    private final Duration closedDayGrace;
+    private final Cache<LocalDate, Map<PointType, Long>> closedDays;
+
+    public PointDailyStatService(PointDailyStatRepository pointDailyStatRepository,
+                                 PointHistoryJournal pointHistoryJournal,
+                                 @Value("${musinsa.point.daily-stat.closed-day-grace-minutes:60}") long graceMinutes,
+                                 @Value("${musinsa.point.daily-stat.closed-day-cache-size:4000}") long cacheSize,
+                                 @Value("${musinsa.point.daily-stat.closed-day-cache-ttl-minutes:60}") long ttlMinutes) {
+        this.pointDailyStatRepository = pointDailyStatRepository;
+        this.pointHistoryJournal = pointHistoryJournal;
+        this.closedDayGrace = Duration.ofMinutes(graceMinutes);
+        this.closedDays = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    /**
+     * 마감 여부 (첫 미마감 일자 이전 일자)
+     */
+    public boolean isClosed(LocalDate day) {
+        return day.isBefore(firstOpenDay());
+    }
+
+    /**
+     * 첫 미마감 일자 (현재 시각에서 유예 시간과 저널 반영 지연을 뺀 시각이 속한 일자)
+     * - 저널 반영 지연은 Applier 실행 시점에 갱신된 값이므로, Applier가 멈추면 실제 지연보다 작을 수 있음. 유예 시간은 여유 있게 둠.
+     */
+    private LocalDate firstOpenDay() {
+        Duration journalLag = pointHistoryJournal.isEnabled() ? Duration.ofMillis(pointHistoryJournal.getLagMillis()) : Duration.ZERO;
+        return LocalDateTime.now().minus(closedDayGrace).minus(journalLag).toLocalDate();
+    }
+
+    /**
+     * 기간 [from, to]의 일자별 유형별 거래 금액 (거래가 없는 일자는 빈 Map)
+     */
+    public SortedMap<LocalDate, Map<PointType, Long>> getDailyAmounts(LocalDate from, LocalDate to) {
+        SortedMap<LocalDate, Map<PointType, Long>> result = new TreeMap<>();
+        LocalDate firstOpen = firstOpenDay();
+
+        // 1. 마감 일자: 캐시 -> 없는 일자만 한 번에 조회하여 적재
+        LocalDate closedEnd = to.isBefore(firstOpen) ? to : firstOpen.minusDays(1);
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        for (LocalDate day = from; !day.isAfter(closedEnd); day = day.plusDays(1)) {
+            Map<PointType, Long> cached = closedDays.getIfPresent(day);
+            if (cached != null) {
+                result.put(day, cached);
+                continue;
+            }
+            if (firstMissing == null) firstMissing = day;
+            lastMissing = day;
+        }
+        if (firstMissing != null) {
+            Map<LocalDate, Map<PointType, Long>> loaded = load(firstMissing, lastMissing);
+            for (LocalDate day = firstMissing; !day.isAfter(lastMissing); day = day.plusDays(1)) {
+                Map<PointType, Long> amounts = loaded.getOrDefault(day, Map.of());
+                closedDays.put(day, amounts);
+                result.put(day, amounts);
+            }
+        }
+
+        // 2. 미마감 일자: 매번 조회
+        LocalDate openStart = from.isAfter(firstOpen) ? from : firstOpen;
+        if (!openStart.isAfter(to)) {
+            Map<LocalDate, Map<PointType, Long>> loaded = load(openStart, to);
+            for (LocalDate day = openStart; !day.isAfter(to); day = day.plusDays(1)) {
+                result.put(day, loaded.getOrDefault(day, Map.of()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 마감 일자 캐시 제거 (재집계 트랜잭션 안에서 호출하면 커밋 후 제거)
+     * - 커밋 전에 제거하면 그사이 조회가 재집계 전 값을 다시 적재할 수 있음.
+     */
+    public void evictAfterCommit(LocalDate from, LocalDate to) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(from, to);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(from, to);
+            }
+        });
+    }
+
+    private void evict(LocalDate from, LocalDate to) {
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            closedDays.invalidate(day);
+        }
+    }
+
+    private Map<LocalDate, Map<PointType, Long>> load(LocalDate from, LocalDate to) {
+        Map<LocalDate, Map<PointType, Long>> loaded = new HashMap<>();
+        for (Object[] row : pointDailyStatRepository.findDailyAmounts(from, to)) {
+            loaded.computeIfAbsent((LocalDate) row[0], day -> new EnumMap<>(PointType.class))
+                    .put((PointType) row[1], ((Number) row[2]).longValue());
+        }
+        loaded.replaceAll((day, amounts) -> Map.copyOf(amounts)); // 캐시 값은 불변
+        return loaded;
+    }
+}
@@ -0,0 +1,208 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.domain.point.entity.PointItem;
+import com.musinsa.payment.point.domain.point.enums.PointStatus;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 유저별 포인트 차감 큐 (Immutable Snapshot)
+ * - 역할: 사용 가능한 PointItem을 차감 우선순위(isManual DESC, expireAt ASC, id ASC) 순으로 보관함.
+ * - 특징: 엔티티 대신 원시 타입 배열(long[], boolean[])만 보관하여 유저당 메모리 사용량을 최소화함.
+ * - 버전: 큐를 만든 시점의 지갑 버전(UserPointWallet.version)을 함께 보관하며, 지갑 버전이 다르면 사용하지 않음.
+ *   => 모든 쓰기 명령(다른 노드 포함)은 지갑을 변경하므로, 버전 비교만으로 다른 노드의 변경을 감지할 수 있음.
+ * - 변경: 기존 큐를 수정하지 않고 새 큐를 만들어 교체함. (Copy-on-Write, 여러 스레드가 동시에 읽어도 안전)
+ * - 부분 큐: 아이템이 많은 유저는 우선순위 상위 일부만 보관함. (complete=false)
+ *   어디까지 읽었는지(경계: isManual, expireAt, id)를 함께 기억하여, 모자라면 경계 이후부터 Keyset으로 이어 읽음(appended).
+ *   경계 이후에 해당하는 변경 아이템은 큐에 넣지 않음. (경계 이후의 DB 아이템보다 우선순위가 뒤일 수 있으므로, 이어 읽을 때 함께 읽힘)
+ */
+final class PointDeductionQueue {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final long walletVersion;
+    private final long[] itemIds;
+    private final long[] remainAmounts;
+    private final long[] expireAtMillis;
+    private final boolean[] manual;
+
+    // 부분 큐의 경계 (마지막으로 읽은 아이템의 우선순위 키), complete=true면 사용하지 않음
+    private final boolean complete;
+    private final Entry boundary;
+
+    private PointDeductionQueue(long walletVersion, long[] itemIds, long[] remainAmounts, long[] expireAtMillis, boolean[] manual,
+                                boolean complete, Entry boundary) {
+        this.walletVersion = walletVersion;
+        this.itemIds = itemIds;
+        this.remainAmounts = remainAmounts;
+        this.expireAtMillis = expireAtMillis;
+        this.manual = manual;
+        this.complete = complete;
+        this.boundary = boundary;
+    }
+
+    /**
+     * DB 조회 결과로 큐 생성
+     * @param rows (id, remainAmount, expireAt, isManual) - 차감 우선순위로 정렬된 상태여야 함
+     * @param complete 유저의 사용 가능한 아이템을 모두 읽었는지 여부 (마지막 페이지까지 읽었으면 true)
+     */
+    static PointDeductionQueue of(long walletVersion, List<Object[]> rows, boolean complete) {
+        List<Entry> entries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            entries.add(toEntry(row));
+        }
+        boolean done = complete || entries.isEmpty();
+        return build(walletVersion, entries, done, done ? null : entries.get(entries.size() - 1));
+    }
+
+    /**
+     * 경계 이후를 이어 읽은 결과를 덧붙인 새 큐 생성 (지갑 버전은 그대로)
+     * - 경계와 같은 밀리초의 아이템은 이미 큐에 있을 수 있으므로, 큐에 있는 아이템은 다시 넣지 않음.
+     */
+    PointDeductionQueue appended(List<Object[]> rows, boolean complete) {
+        Set<Long> present = new HashSet<>(itemIds.length * 2);
+        List<Entry> entries = entries();
+        entries.forEach(entry -> present.add(entry.itemId()));
+        Entry last = boundary;
+        for (Object[] row : rows) {
+            Entry entry = toEntry(row);
+            last = entry;
+            if (present.add(entry.itemId())) entries.add(entry);
+        }
+        entries.sort(PRIORITY);
+        return build(walletVersion, entries, complete, complete ? null : last);
+    }
+
+    long walletVersion() {
+        return walletVersion;
+    }
+
+    int size() {
+        return itemIds.length;
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * 이어 읽을 위치 (부분 큐의 경계)
+     */
+    boolean boundaryManual() {
+        return boundary.manual();
+    }
+
+    LocalDateTime boundaryExpireAt() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(boundary.expireAtMillis()), ZONE);
+    }
+
+    long boundaryItemId() {
+        return boundary.itemId();
+    }
+
+    /**
+     * 차감 계획 수립 (DB 접근 없음)
+     * - 만료된 항목은 건너뛰며, 우선순위대로 amount를 채울 때까지 항목을 할당함.
+     * @return 할당 목록, 유효 잔액이 부족하면 null
+     */
+    List<Allocation> allocate(long amount, LocalDateTime now) {
+        long nowMillis = toMillis(now);
+        List<Allocation> allocations = new ArrayList<>();
+        long remainToUse = amount;
+        for (int i = 0; i < itemIds.length && remainToUse > 0; i++) {
+            if (expireAtMillis[i] <= nowMillis) continue;
+            long useAmount = Math.min(remainAmounts[i], remainToUse);
+            allocations.add(new Allocation(itemIds[i], useAmount, remainAmounts[i]));
+            remainToUse -= useAmount;
+        }
+        return remainToUse > 0 ? null : allocations;
+    }
+
+    /**
+     * 변경된 아이템을 반영한 새 큐 생성
+     * - 사용 가능(AVAILABLE, 잔액 > 0)한 아이템은 우선순위 위치에 추가/갱신하고, 그 외 상태는 큐에서 제거함.
+     */
+    PointDeductionQueue withUpserted(long newWalletVersion, Collection<PointItem> changed) {
+        Map<Long, PointItem> changedById = new HashMap<>();
+        for (PointItem item : changed) {
+            changedById.put(item.getId(), item);
+        }
+
+        // 1. 기존 항목 중 변경되지 않은 항목 유지
+        List<Entry> entries = new ArrayList<>(itemIds.length + changedById.size());
+        for (int i = 0; i < itemIds.length; i++) {
+            if (!changedById.containsKey(itemIds[i])) {
+                entries.add(new Entry(itemIds[i], remainAmounts[i], expireAtMillis[i], manual[i]));
+            }
+        }
+
+        // 2. 변경된 항목 중 사용 가능한 항목만 추가 (부분 큐는 경계 이전의 항목만)
+        for (PointItem item : changedById.values()) {
+            if (item.getStatus() == PointStatus.AVAILABLE && item.getRemainAmount() > 0) {
+                Entry entry = new Entry(item.getId(), item.getRemainAmount(), toMillis(item.getExpireAt()), item.isManual());
+                if (complete || PRIORITY.compare(entry, boundary) <= 0) entries.add(entry);
+            }
+        }
+
+        entries.sort(PRIORITY);
+        return build(newWalletVersion, entries, complete, boundary);
+    }
+
+    /**
+     * 우선순위 상위 maxItems건만 남긴 큐 (초과분은 경계 이후로 돌려 다음에 이어 읽음)
+     */
+    PointDeductionQueue truncated(int maxItems) {
+        if (itemIds.length <= maxItems) return this;
+        List<Entry> entries = entries().subList(0, maxItems);
+        return build(walletVersion, entries, false, entries.get(maxItems - 1));
+    }
+
+    private List<Entry> entries() {
+        List<Entry> entries = new ArrayList<>(itemIds.length);
+        for (int i = 0; i < itemIds.length; i++) {
+            entries.add(new Entry(itemIds[i], remainAmounts[i], expireAtMillis[i], manual[i]));
+        }
+        return entries;
+    }
+
+    private static Entry toEntry(Object[] row) {
+        return new Entry((Long) row[0], (Long) row[1], toMillis((LocalDateTime) row[2]), (Boolean) row[3]);
+    }
+
+    private static PointDeductionQueue build(long walletVersion, List<Entry> entries, boolean complete, Entry boundary) {
+        int size = entries.size();
+        long[] ids = new long[size];
+        long[] remains = new long[size];
+        long[] expires = new long[size];
+        boolean[] manuals = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            Entry entry = entries.get(i);
+            ids[i] = entry.itemId();
+            remains[i] = entry.remainAmount();
+            expires[i] = entry.expireAtMillis();
+            manuals[i] = entry.manual();
+        }
+        return new PointDeductionQueue(walletVersion, ids, remains, expires, manuals, complete, boundary);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    // 차감 우선순위: 수기 지급 우선 -> 만료 임박 순 -> 먼저 생성된 순(TSID)
+    private static final Comparator<Entry> PRIORITY = Comparator
+            .comparing(Entry::manual, Comparator.reverseOrder())
+            .thenComparingLong(Entry::expireAtMillis)
+            .thenComparingLong(Entry::itemId);
+
+    private record Entry(long itemId, long remainAmount, long expireAtMillis, boolean manual) {}
+
+    /**
+     * 차감 할당 (어떤 아이템에서 얼마를 차감할지)
+     * @param expectedRemain 큐 기준 해당 아이템의 잔액 (DB 엔티티와 일치하는지 검증용)
+     */
+    record Allocation(long itemId, long amount, long expectedRemain) {}
+}
@@ -0,0 +1,142 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.musinsa.payment.point.domain.point.entity.PointItem;
+import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
+import com.musinsa.payment.point.domain.point.enums.PointStatus;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.global.concurrency.StripedWalletRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 유저별 차감 큐 캐시 (In-Memory, Caffeine)
+ * - 역할: use() 시 매번 유저의 AVAILABLE 아이템을 정렬 조회하지 않도록, 차감 우선순위 큐를 메모리에 보관함.
+ * - 유효성: 큐에 기록된 지갑 버전이 "Lock을 잡고 읽은 현재 지갑 버전"과 같을 때만 사용함.
+ *   => 다른 노드/배치가 지갑을 변경했다면 버전이 달라지므로 자동으로 무효화되며, 노드 간 별도 통지가 필요 없음.
+ * - 갱신: 쓰기 명령이 커밋된 후(afterCommit)에만 새 큐를 반영하므로, 롤백된 변경이 캐시에 남지 않음.
+ * - 크기: 유저당 최대 max-items건의 우선순위 상위 아이템만 보관하며(부분 큐), 모자라면 page-size건씩 이어 읽음.
+ * - 제외: 스트라이프 지갑 유저는 슬롯 경로가 지갑 버전을 바꾸지 않고 Item을 변경하므로 버전으로 유효성을 판단할 수 없어 캐시하지 않음.
+ */
+@Slf4j
+@Component
+public class PointDeductionQueueCache {
+
+    private final PointItemRepository pointItemRepository;
+    private final StripedWalletRouter stripedWalletRouter;
+    private final boolean enabled;
+    private final int pageSize;
+    private final int maxItems;
+    private final Cache<Long, PointDeductionQueue> cache;
+
+    public PointDeductionQueueCache(PointItemRepository pointItemRepository,
+                                    StripedWalletRouter stripedWalletRouter,
+                                    @Value("${musinsa.point.deduction-queue.enabled:true}") boolean enabled,
+                                    @Value("${musinsa.point.deduction-queue.max-users:100000}") long maxUsers,
+                                    @Value("${musinsa.point.deduction-queue.expire-after-access-minutes:10}") long expireMinutes,
+                                    @Value("${musinsa.point.deduction-queue.page-size:100}") int pageSize,
+                                    @Value("${musinsa.point.deduction-queue.max-items:500}") int maxItems) {
+        this.pointItemRepository = pointItemRepository;
+        this.stripedWalletRouter = stripedWalletRouter;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.maxItems = Math.max(maxItems, pageSize);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMinutes(expireMinutes))
+                .build();
+    }
+
+    /**
+     * 지갑 버전과 일치하는 캐시된 큐 조회 (없거나 버전이 다르면 null)
+     */
+    public PointDeductionQueue getIfValid(UserPointWallet wallet) {
+        if (!isCacheable(wallet.getUserId())) return null;
+        PointDeductionQueue queue = cache.getIfPresent(wallet.getUserId());
+        return queue != null && queue.walletVersion() == wallet.getVersion() ? queue : null;
+    }
+
+    /**
+     * 사용(use)을 위한 큐 조회: 캐시가 유효하지 않으면 DB에서 경량 조회(엔티티 미생성)로 다시 만듦
+     * - 전체 아이템 대신 우선순위 상위 page-size건씩 읽으며, amount를 채울 수 있을 때까지만 경계 이후를 이어 읽음.
+     *   캐시된 부분 큐가 모자란 경우도 같은 방식으로 이어 읽음. (보유 아이템 수가 아닌 실제 차감에 필요한 만큼만 조회)
+     */
+    public PointDeductionQueue load(UserPointWallet wallet, LocalDateTime now, long amount) {
+        if (!isCacheable(wallet.getUserId())) return null;
+        Long userId = wallet.getUserId();
+        Pageable page = PageRequest.of(0, pageSize);
+        PointDeductionQueue queue = getIfValid(wallet);
+        if (queue == null) {
+            List<Object[]> rows = pointItemRepository.findDeductionQueueRows(userId, PointStatus.AVAILABLE, now, page);
+            queue = PointDeductionQueue.of(wallet.getVersion(), rows, rows.size() < pageSize);
+        }
+
+        while (!queue.isComplete() && queue.allocate(amount, now) == null) {
+            List<Object[]> rows = pointItemRepository.findDeductionQueueRowsAfter(userId, PointStatus.AVAILABLE, now,
+                    queue.boundaryManual(), queue.boundaryExpireAt(), queue.boundaryItemId(), page);
+            queue = queue.appended(rows, rows.size() < pageSize);
+        }
+        return queue;
+    }
+
+    /**
+     * 커밋 후 변경된 아이템을 반영한 새 큐로 교체
+     * - 새 큐의 버전은 커밋 시점의 지갑 버전(Flush 후 증가된 값)을 사용함.
+     * @param base 이번 트랜잭션이 기준으로 삼은 유효한 큐 (null이면 캐시를 비워 다음 사용 시 재구성)
+     */
+    public void updateAfterCommit(UserPointWallet wallet, PointDeductionQueue base, Collection<PointItem> changed) {
+        if (!isCacheable(wallet.getUserId())) return;
+        Long userId = wallet.getUserId();
+        afterCommit(() -> {
+            if (base == null) {
+                cache.invalidate(userId);
+                return;
+            }
+            PointDeductionQueue next = base.withUpserted(wallet.getVersion(), changed).truncated(maxItems);
+            // 같은 유저의 더 최신 큐가 이미 반영되어 있다면 덮어쓰지 않음
+            cache.asMap().merge(userId, next, (current, candidate) ->
+                    current.walletVersion() > candidate.walletVersion() ? current : candidate);
+        });
+    }
+
+    /**
+     * 커밋 후 무효화 (일괄 적립, 만료 배치 등 여러 유저를 한 번에 변경하는 경로)
+     */
+    public void invalidateAfterCommit(Collection<Long> userIds) {
+        if (!enabled) return;
+        List<Long> targets = List.copyOf(userIds);
+        afterCommit(() -> cache.invalidateAll(targets));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private boolean isCacheable(Long userId) {
+        return enabled && userId != null && !stripedWalletRouter.isStriped(userId);
+    }
+}
@@ -0,0 +1,102 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.domain.point.listener.PointExpiryBucketSink;
+import com.musinsa.payment.point.domain.point.repository.PointExpiryBucketRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.ExpiryBucketDelta;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 만료 버킷 증감 기록기 (point_expiry_bucket)
+ * - 역할: 트랜잭션 안에서 발생한 PointItem 잔액/만료일 변경을 (userId, 만료일, 수기 지급 여부)별 증감으로 모아 두었다가,
+ *   커밋 직전(beforeCommit)에 한 번의 JDBC Batch UPSERT로 반영함. (누적/반영: TransactionalDeltaBuffer)
+ * - 수집: JPA 경로는 PointExpiryBucketListener가, JDBC 경로(일괄 적립 등)는 호출자가 직접 record()를 호출함.
+ * - 특징: 증감은 Item 변경과 같은 트랜잭션으로 커밋되므로, 롤백되면 버킷도 함께 원복됨.
+ * - 백필: 기동 완료 시 버킷이 비어 있으면 point_item으로 한 번 재구축함. (기존 데이터에 도입하는 경우)
+ */
+@Slf4j
+@Component
+public class PointExpiryBucketRecorder implements PointExpiryBucketSink {
+
+    private final PointJdbcRepository pointJdbcRepository;
+    private final PointExpiryBucketRepository pointExpiryBucketRepository;
+    private final TransactionalDeltaBuffer<BucketKey, ExpiryBucketDelta> buffer;
+    private final boolean enabled;
+
+    public PointExpiryBucketRecorder(PointJdbcRepository pointJdbcRepository,
+                                     PointExpiryBucketRepository pointExpiryBucketRepository,
+                                     EntityManager entityManager,
+                                     @Value("${musinsa.point.expiry-bucket.enabled:true}") boolean enabled) {
+        this.pointJdbcRepository = pointJdbcRepository;
+        this.pointExpiryBucketRepository = pointExpiryBucketRepository;
+        this.buffer = new TransactionalDeltaBuffer<>(entityManager, BucketKey::toDelta, pointJdbcRepository::upsertExpiryBuckets);
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션에 반영 훅 등록 (PointItem을 로딩/저장할 때 호출)
+     * - 커밋 시점 Flush에서야 발생하는 변경(Dirty Checking)도 수집되도록, 변경이 생기기 전에 미리 등록해 둠.
+     */
+    @Override
+    public void track() {
+        if (enabled) buffer.track();
+    }
+
+    /**
+     * 증감 기록
+     * - 쓰기 트랜잭션 밖에서 호출되면 즉시 반영함.
+     */
+    @Override
+    public void record(Long userId, LocalDate expireDate, boolean manual, long delta) {
+        if (!enabled) return;
+        buffer.add(new BucketKey(userId, expireDate, manual), delta);
+    }
+
+    /**
+     * 버킷 전체 재구축 (불일치 복구용, 트래픽이 적은 시간에 실행)
+     */
+    @Transactional
+    public int rebuild() {
+        int buckets = pointJdbcRepository.rebuildExpiryBuckets();
+        log.info(">>> 만료 버킷 재구축 완료: {}건", buckets);
+        return buckets;
+    }
+
+    /**
+     * 기동 완료 시 백필 (버킷이 비어 있을 때만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (!enabled || pointExpiryBucketRepository.count() > 0) return;
+        rebuild();
+    }
+
+    // 정렬: 반영 시 (userId, 만료일, 수기 여부) 순으로 Lock을 획득하여 데드락 예방
+    private record BucketKey(long userId, LocalDate expireDate, boolean manual) implements Comparable<BucketKey> {
+
+        @Override
+        public int compareTo(BucketKey other) {
+            int result = Long.compare(userId, other.userId);
+            if (result != 0) return result;
+            result = expireDate.compareTo(other.expireDate);
+            return result != 0 ? result : Boolean.compare(manual, other.manual);
+        }
+
+        ExpiryBucketDelta toDelta(long delta) {
+            return new ExpiryBucketDelta(userId, expireDate, manual, delta);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.global.error.BusinessException;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 포인트 이력 내보내기 Service (Admin Export)
+ * - 역할: 관리자 통합 이력 조회와 같은 조건의 이력 전체를 NDJSON 또는 CSV로 응답 스트림에 바로 기록함.
+ * - 방식: Forward-only Cursor(Projection)로 한 행씩 읽어 곧바로 출력하므로, 페이지/목록/엔티티를 만들지 않아
+ *   내보내는 건수와 무관하게 힙 사용량이 일정함. 한 줄은 재사용 버퍼에 조립하여 출력함.
+ * - 역압(Backpressure): 클라이언트가 느리면 응답 쓰기가 블로킹되고, 그동안 다음 행을 DB에서 읽지 않음.
+ * - 주의: 조건 검증(validate)은 응답 헤더가 나가기 전에 호출해야 함. 출력 도중 발생한 오류는 상태 코드로 전달할 수 없어 응답이 끊김.
+ */
+@Slf4j
+@Service
+public class PointHistoryExportService {
+
+    private final PointHistoryTierRouter pointHistoryTierRouter;
+    private final EntityManager entityManager;
+    private final int chunkRows;
+    private final int bufferBytes;
+
+    public PointHistoryExportService(PointHistoryTierRouter pointHistoryTierRouter,
+                                     EntityManager entityManager,
+                                     @Value("${musinsa.point.history-export.chunk-rows:1000}") int chunkRows,
+                                     @Value("${musinsa.point.history-export.buffer-bytes:65536}") int bufferBytes) {
+        this.pointHistoryTierRouter = pointHistoryTierRouter;
+        this.entityManager = entityManager;
+        this.chunkRows = chunkRows;
+        this.bufferBytes = bufferBytes;
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv;charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            if (value == null || value.isBlank()) return NDJSON;
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) return format;
+            }
+            throw BusinessException.invalid("지원하지 않는 내보내기 형식입니다. (ndjson, csv)");
+        }
+    }
+
+    /**
+     * 조건 검증 (스트리밍 시작 전, 요청 스레드에서 호출)
+     * - 관리자 통합 조회와 같이 기간은 필수이며, 최대 기간 제한은 없음.
+     */
+    public void validate(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw BusinessException.invalid("조회 기간은 필수입니다.");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw BusinessException.invalid("종료일은 시작일보다 빠를 수 없습니다.");
+        }
+    }
+
+    /**
+     * 이력 내보내기 (ID 오름차순)
+     * - chunkRows건마다 응답 버퍼를 내보내고 영속성 컨텍스트를 비워, 긴 트랜잭션 동안에도 메모리가 쌓이지 않게 함.
+     * @return 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(LocalDate startDate, LocalDate endDate, Long userId, String refId, PointType type,
+                       Format format, OutputStream out) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        long lowerId = TsidUtil.minIdAt(startDate.atStartOfDay()) - 1;
+        long upperId = TsidUtil.maxIdAt(endDate.plusDays(1).atStartOfDay().minusNanos(1)) + 1;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), bufferBytes);
+        RowWriter rowWriter = new RowWriter(writer, format);
+        long rows = 0;
+
+        rowWriter.writeHeader();
+        // 보관 테이블 -> Hot 테이블 순서로 하나씩 열어 읽음 (ID 오름차순 유지)
+        for (Supplier<Stream<Object[]>> source : pointHistoryTierRouter.streamsForExport(lowerId, upperId, userId, refId, type)) {
+            try (Stream<Object[]> stream = source.get()) {
+                Iterator<Object[]> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    rowWriter.writeRow(iterator.next());
+                    if (++rows % chunkRows == 0) {
+                        writer.flush();
+                        entityManager.clear();
+                    }
+                }
+            }
+        }
+        writer.flush();
+
+        log.info(">>> 이력 내보내기 완료: {}건, 형식={}, {}ms", rows, format, System.currentTimeMillis() - startedAt);
+        return rows;
+    }
+
+    /**
+     * 한 줄 조립/출력기 (StringBuilder, char[]를 행마다 재사용)
+     */
+    private static class RowWriter {
+
+        private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+        private final Writer writer;
+        private final Format format;
+        private final StringBuilder line = new StringBuilder(256);
+        private char[] chars = new char[256];
+
+        RowWriter(Writer writer, Format format) {
+            this.writer = writer;
+            this.format = format;
+        }
+
+        void writeHeader() throws IOException {
+            if (format == Format.CSV) {
+                writer.write("pointHistoryId,userId,type,amount,refId,createAt\n");
+            }
+        }
+
+        // row: [id, userId, type, amount, refId, createdAt]
+        void writeRow(Object[] row) throws IOException {
+            line.setLength(0);
+            if (format == Format.NDJSON) {
+                line.append("{\"pointHistoryId\":").append(((Number) row[0]).longValue())
+                        .append(",\"userId\":").append(((Number) row[1]).longValue())
+                        .append(",\"type\":\"").append(((PointType) row[2]).name())
+                        .append("\",\"amount\":").append(((Number) row[3]).longValue())
+                        .append(",\"refId\":");
+                appendJsonString((String) row[4]);
+                line.append(",\"createAt\":");
+                appendJsonDateTime((LocalDateTime) row[5]);
+                line.append("}\n");
+            } else {
+                line.append(((Number) row[0]).longValue()).append(',')
+                        .append(((Number) row[1]).longValue()).append(',')
+                        .append(((PointType) row[2]).name()).append(',')
+                        .append(((Number) row[3]).longValue()).append(',');
+                appendCsvField((String) row[4]);
+                line.append(',');
+                if (row[5] != null) DATE_TIME.formatTo((LocalDateTime) row[5], line);
+                line.append('\n');
+            }
+
+            int length = line.length();
+            if (chars.length < length) chars = new char[length * 2];
+            line.getChars(0, length, chars, 0);
+            writer.write(chars, 0, length);
+        }
+
+        private void appendJsonDateTime(LocalDateTime value) {
+            if (value == null) {
+                line.append("null");
+                return;
+            }
+            line.append('"');
+            DATE_TIME.formatTo(value, line);
+            line.append('"');
+        }
+
+        private void appendJsonString(String value) {
+            if (value == null) {
+                line.append("null");
+                return;
+            }
+            line.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> line.append("\\\"");
+                    case '\\' -> line.append("\\\\");
+                    case '\n' -> line.append("\\n");
+                    case '\r' -> line.append("\\r");
+                    case '\t' -> line.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            line.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+                        } else {
+                            line.append(c);
+                        }
+                    }
+                }
+            }
+            line.append('"');
+        }
+
+        // RFC 4180: 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 씀
+        private void appendCsvField(String value) {
+            if (value == null) return;
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                line.append(value);
+                return;
+            }
+            line.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') line.append('"');
+                line.append(c);
+            }
+            line.append('"');
+        }
+    }
+}
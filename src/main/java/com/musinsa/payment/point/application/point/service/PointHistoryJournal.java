@@ -0,0 +1,163 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.domain.point.entity.PointHistory;
+import com.musinsa.payment.point.domain.point.entity.PointHistoryJournalEntry;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryJournalRepository;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.DetailRow;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.HistoryRow;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.JournaledHistory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포인트 이력 Write-behind 저널
+ * - 역할: 저널 모드(musinsa.point.history-journal.enabled=true)에서 적립/사용의 PointHistory + Detail을 요청 트랜잭션 안에서
+ *   point_history_journal 1행으로 기록하고, Applier(HistoryJournalApplyScheduler)가 point_history에 일괄 반영함.
+ * - 특징: 저널은 지갑/Item 변경과 같은 트랜잭션으로 커밋되므로, 커밋된 거래의 이력은 유실되지 않음. (장애 후 재기동 시 남은 저널을 이어서 반영)
+ *   반영은 저널 ID(= History ID) 기준 INSERT IGNORE이므로 같은 저널을 여러 번 반영해도 중복 생성되지 않음.
+ * - 주의: 원본 이력을 읽어야 하는 명령(사용 취소)은 applyPending()으로 해당 유저의 저널을 먼저 반영해야 함.
+ *   조회 API의 이력은 반영 지연(point.history.journal.lag_seconds)만큼 늦게 보일 수 있음.
+ */
+@Slf4j
+@Component
+public class PointHistoryJournal {
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointHistoryJournalRepository pointHistoryJournalRepository;
+    private final PointJdbcRepository pointJdbcRepository;
+    private final PointDailyStatRecorder pointDailyStatRecorder;
+
+    private final boolean enabled;
+    private final int applyBatchSize;
+
+    // 모니터링 지표 (미반영 건수, 가장 오래된 미반영 저널의 지연 시간, 반영 건수)
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter appliedCounter;
+
+    public PointHistoryJournal(PointHistoryRepository pointHistoryRepository,
+                               PointHistoryJournalRepository pointHistoryJournalRepository,
+                               PointJdbcRepository pointJdbcRepository,
+                               PointDailyStatRecorder pointDailyStatRecorder,
+                               MeterRegistry meterRegistry,
+                               @Value("${musinsa.point.history-journal.enabled:false}") boolean enabled,
+                               @Value("${musinsa.point.history-journal.apply-batch-size:500}") int applyBatchSize) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointHistoryJournalRepository = pointHistoryJournalRepository;
+        this.pointJdbcRepository = pointJdbcRepository;
+        this.pointDailyStatRecorder = pointDailyStatRecorder;
+        this.enabled = enabled;
+        this.applyBatchSize = applyBatchSize;
+
+        this.appliedCounter = meterRegistry.counter("point.history.journal.applied");
+        Gauge.builder("point.history.journal.pending", pendingCount, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("point.history.journal.lag_seconds", lagMillis, v -> v.get() / 1000.0).register(meterRegistry);
+
+        log.info("PointHistoryJournal initialized: enabled={}, applyBatchSize={}", enabled, applyBatchSize);
+    }
+
+    /**
+     * 이력 기록 (호출자 트랜잭션 안에서 수행)
+     * - 저널 모드: ID를 선부여하고 저널 1행만 기록. (History/Detail INSERT는 Applier가 수행)
+     * - 기본 모드: 기존과 동일하게 History 저장. (Detail은 Cascade)
+     * @return 기록된 PointHistory ID
+     */
+    public long write(PointHistory history) {
+        if (!enabled) {
+            pointHistoryRepository.save(history);
+            return history.getId();
+        }
+        history.assignIds();
+        pointHistoryJournalRepository.save(PointHistoryJournalEntry.of(history));
+        return history.getId();
+    }
+
+    /**
+     * 특정 유저의 미반영 저널 즉시 반영 (호출자 트랜잭션 안에서 수행)
+     * - 원본 이력(USE 등)을 읽기 전에 호출하여, 아직 반영되지 않은 이력도 조회되도록 함.
+     */
+    public void applyPending(Long userId) {
+        if (!enabled) return;
+        apply(pointHistoryJournalRepository.findByUserIdForUpdate(userId));
+    }
+
+    /**
+     * 오래된 순으로 최대 applyBatchSize건 반영 (Applier 스케줄러에서 호출)
+     * - 저널 모드를 끈 뒤에도 남은 저널은 계속 반영함.
+     * @return 반영한 저널 건수
+     */
+    @Transactional
+    public int applyBatch() {
+        List<PointHistoryJournalEntry> entries = pointHistoryJournalRepository.findOldestForUpdate(PageRequest.of(0, applyBatchSize));
+        apply(entries);
+        refreshLag();
+        return entries.size();
+    }
+
+    private void apply(List<PointHistoryJournalEntry> entries) {
+        if (entries.isEmpty()) return;
+
+        List<JournaledHistory> rows = new ArrayList<>(entries.size());
+        for (PointHistoryJournalEntry entry : entries) {
+            rows.add(toRow(entry));
+        }
+
+        // 이력 반영과 저널 삭제는 같은 트랜잭션: 중간에 실패하면 저널이 남아 다음 실행에서 다시 반영됨
+        // 일자별 통계는 실제로 INSERT된 이력만 거래 시각 기준으로 기록함
+        for (JournaledHistory inserted : pointJdbcRepository.insertJournaledHistories(rows)) {
+            HistoryRow history = inserted.history();
+            pointDailyStatRecorder.record(history.userId(), inserted.createdAt(), history.type(), history.amount());
+        }
+        pointHistoryJournalRepository.deleteAllByIdInBatch(entries.stream().map(PointHistoryJournalEntry::getId).toList());
+        appliedCounter.increment(entries.size());
+    }
+
+    private void refreshLag() {
+        pendingCount.set(pointHistoryJournalRepository.count());
+        LocalDateTime oldest = pointHistoryJournalRepository.findOldestCreatedAt();
+        lagMillis.set(oldest != null ? Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()) : 0);
+    }
+
+    private JournaledHistory toRow(PointHistoryJournalEntry entry) {
+        HistoryRow history = new HistoryRow(entry.getId(), entry.getUserId(), entry.getType(), entry.getAmount(), entry.getRefId());
+
+        List<DetailRow> details = new ArrayList<>();
+        for (String token : entry.getDetails().split(",")) {
+            if (token.isEmpty()) continue;
+            String[] fields = token.split(":", -1); // detailId:itemId:amount:restoredFromItemId
+            details.add(new DetailRow(
+                    Long.parseLong(fields[0]),
+                    entry.getId(),
+                    Long.parseLong(fields[1]),
+                    Long.parseLong(fields[2]),
+                    fields[3].isEmpty() ? null : Long.parseLong(fields[3])));
+        }
+        return new JournaledHistory(history, details, entry.getCreatedAt());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getPendingCount() {
+        return pendingCount.get();
+    }
+
+    public long getLagMillis() {
+        return lagMillis.get();
+    }
+}
@@ -0,0 +1,409 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointHistorySegmentResponse;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.ArchivedDetailRow;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.ArchivedHistoryRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 이력 세그먼트 파일 형식 (월 1개 = 파일 1개, 읽기 전용)
+ * - 구조: [헤더][컬럼 블록 x 13][CRC32]
+ *   헤더: 대상 월, 이력/상세 건수, 이력 ID/userId 최소·최대(조회 시 파일 단위 건너뛰기용), 거래 유형 사전
+ *   컬럼 블록: 컬럼마다 따로 Deflate 압축한 바이트. 정수는 ZigZag Varint로, ID/일시는 직전 값과의 차이로 기록하여 압축률을 높임.
+ *   CRC32: 앞부분 전체의 체크섬. 읽을 때 먼저 검증하여 손상된 파일이 조회 결과에 섞이지 않도록 함.
+ * - 컬럼 단위로 압축되어 있으므로, ID/userId 컬럼만 먼저 풀어 일치하는 행이 없으면 나머지 컬럼은 풀지 않음.
+ */
+final class PointHistorySegmentFile {
+
+    static final String EXTENSION = ".seg";
+
+    private static final int MAGIC = 0x50485347; // "PHSG"
+    private static final int VERSION = 1;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    // 파일 내 컬럼 블록 순서 (H: 이력, D: 상세)
+    private enum Column {
+        H_ID, H_USER_ID, H_TYPE, H_AMOUNT, H_REF_ID, H_REFUNDED_AMOUNT, H_CREATED_AT,
+        D_ID, D_HISTORY_ID, D_ITEM_ID, D_AMOUNT, D_RESTORED_FROM_ITEM_ID, D_REFUNDED_AMOUNT
+    }
+
+    private PointHistorySegmentFile() {
+    }
+
+    /**
+     * 파일 헤더 (메모리 인덱스로 보관)
+     */
+    record Header(YearMonth month, int historyCount, int detailCount,
+                  long minId, long maxId, long minUserId, long maxUserId) {
+
+        /** ID 범위 (lowerId, upperId)와 겹치는지 */
+        boolean overlaps(long lowerId, long upperId) {
+            return historyCount > 0 && maxId > lowerId && minId < upperId;
+        }
+
+        /** userId 이력이 있을 수 있는지 (최소/최대 범위 밖이면 파일을 열지 않음) */
+        boolean mayContainUser(Long userId) {
+            return userId == null || (userId >= minUserId && userId <= maxUserId);
+        }
+    }
+
+    static String fileName(YearMonth month) {
+        return "point-history-" + month + EXTENSION;
+    }
+
+    /**
+     * 세그먼트 기록기
+     * - 이력(ID 오름차순) -> 상세(이력 ID 오름차순) 순으로 행을 받아 컬럼별 압축 버퍼에 바로 누적함. (행 목록을 메모리에 모으지 않음)
+     */
+    static final class Writer {
+
+        private final YearMonth month;
+        private final ColumnOutput[] columns = new ColumnOutput[Column.values().length];
+        private final PointType[] types = PointType.values();
+
+        private int historyCount;
+        private int detailCount;
+        private long minId = Long.MAX_VALUE;
+        private long maxId = Long.MIN_VALUE;
+        private long minUserId = Long.MAX_VALUE;
+        private long maxUserId = Long.MIN_VALUE;
+        private long lastHistoryId;
+        private long lastCreatedAt;
+        private long lastDetailId;
+        private long lastDetailHistoryId;
+
+        Writer(YearMonth month) {
+            this.month = month;
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = new ColumnOutput();
+            }
+        }
+
+        void addHistory(ArchivedHistoryRow row) throws IOException {
+            long createdAt = row.createdAt().atZone(ZONE).toInstant().toEpochMilli();
+            column(Column.H_ID).writeVarLong(row.id() - lastHistoryId);
+            column(Column.H_USER_ID).writeVarLong(row.userId());
+            column(Column.H_TYPE).writeVarLong(row.type().ordinal());
+            column(Column.H_AMOUNT).writeVarLong(row.amount());
+            column(Column.H_REF_ID).writeString(row.refId());
+            column(Column.H_REFUNDED_AMOUNT).writeVarLong(row.refundedAmount());
+            column(Column.H_CREATED_AT).writeVarLong(createdAt - lastCreatedAt);
+            lastHistoryId = row.id();
+            lastCreatedAt = createdAt;
+
+            historyCount++;
+            minId = Math.min(minId, row.id());
+            maxId = Math.max(maxId, row.id());
+            minUserId = Math.min(minUserId, row.userId());
+            maxUserId = Math.max(maxUserId, row.userId());
+        }
+
+        void addDetail(ArchivedDetailRow row) throws IOException {
+            column(Column.D_ID).writeVarLong(row.id() - lastDetailId);
+            column(Column.D_HISTORY_ID).writeVarLong(row.historyId() - lastDetailHistoryId);
+            column(Column.D_ITEM_ID).writeVarLong(row.itemId());
+            column(Column.D_AMOUNT).writeVarLong(row.amount());
+            column(Column.D_RESTORED_FROM_ITEM_ID).writeVarLong(row.restoredFromItemId() == null ? 0 : row.restoredFromItemId());
+            column(Column.D_REFUNDED_AMOUNT).writeVarLong(row.refundedAmount());
+            lastDetailId = row.id();
+            lastDetailHistoryId = row.historyId();
+            detailCount++;
+        }
+
+        /**
+         * 임시 파일에 기록한 뒤 대상 경로로 원자적으로 교체함. (기록 중 장애가 나도 불완전한 파일이 대상 경로에 남지 않음)
+         */
+        Header writeTo(Path target) throws IOException {
+            Header header = historyCount == 0
+                    ? new Header(month, 0, 0, 0, 0, 0, 0)
+                    : new Header(month, historyCount, detailCount, minId, maxId, minUserId, maxUserId);
+
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            CRC32 crc = new CRC32();
+            try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                DataOutputStream out = new DataOutputStream(new CheckedOutputStream(file, crc));
+                writeHeader(out, header);
+                out.writeInt(types.length);
+                for (PointType type : types) {
+                    out.writeUTF(type.name());
+                }
+                out.writeInt(columns.length);
+                for (ColumnOutput column : columns) {
+                    byte[] block = column.finish();
+                    out.writeInt(block.length);
+                    out.write(block);
+                }
+                out.flush();
+                new DataOutputStream(file).writeLong(crc.getValue()); // 체크섬 자체는 체크섬 계산에서 제외
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return header;
+        }
+
+        private ColumnOutput column(Column column) {
+            return columns[column.ordinal()];
+        }
+    }
+
+    /**
+     * 헤더만 읽음 (기동 시 인덱스 적재용, 체크섬은 파일 전체를 읽는 조회 시점에 검증)
+     */
+    static Header readHeader(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 64))) {
+            return readHeader(in, path);
+        }
+    }
+
+    /**
+     * 파일 전체를 순차로 읽고 체크섬을 검증한 뒤 세그먼트를 엶
+     */
+    static Segment open(Path path) throws IOException {
+        byte[] data = Files.readAllBytes(path);
+        if (data.length < Long.BYTES) throw new IOException("세그먼트 파일이 손상되었습니다: " + path);
+        int bodyLength = data.length - Long.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, bodyLength);
+        if (crc.getValue() != ByteBuffer.wrap(data, bodyLength, Long.BYTES).getLong()) {
+            throw new IOException("세그먼트 파일 체크섬이 일치하지 않습니다: " + path);
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, bodyLength));
+        Header header = readHeader(in, path);
+        PointType[] types = new PointType[in.readInt()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = PointType.valueOf(in.readUTF());
+        }
+        byte[][] blocks = new byte[in.readInt()][];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = new byte[in.readInt()];
+            in.readFully(blocks[i]);
+        }
+        return new Segment(header, types, blocks);
+    }
+
+    private static void writeHeader(DataOutputStream out, Header header) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(header.month().getYear() * 100 + header.month().getMonthValue());
+        out.writeInt(header.historyCount());
+        out.writeInt(header.detailCount());
+        out.writeLong(header.minId());
+        out.writeLong(header.maxId());
+        out.writeLong(header.minUserId());
+        out.writeLong(header.maxUserId());
+    }
+
+    private static Header readHeader(DataInputStream in, Path path) throws IOException {
+        if (in.readInt() != MAGIC) throw new IOException("세그먼트 파일 형식이 아닙니다: " + path);
+        int version = in.readInt();
+        if (version != VERSION) throw new IOException("지원하지 않는 세그먼트 파일 버전입니다: " + version + " (" + path + ")");
+        int month = in.readInt();
+        return new Header(YearMonth.of(month / 100, month % 100), in.readInt(), in.readInt(),
+                in.readLong(), in.readLong(), in.readLong(), in.readLong());
+    }
+
+    /**
+     * 검증이 끝난 세그먼트 (컬럼은 필요할 때만 압축 해제)
+     */
+    static final class Segment {
+
+        private final Header header;
+        private final PointType[] types;
+        private final byte[][] blocks;
+
+        private Segment(Header header, PointType[] types, byte[][] blocks) {
+            this.header = header;
+            this.types = types;
+            this.blocks = blocks;
+        }
+
+        /**
+         * 조건에 맞는 이력을 최신순으로 최대 limit건 반환
+         * @param lowerId 조회 범위 하한 (id > lowerId)
+         * @param upperId 조회 범위 상한 (id < upperId)
+         */
+        List<PointHistorySegmentResponse> find(long lowerId, long upperId, Long userId, String refId, PointType type, int limit)
+                throws IOException {
+            int count = header.historyCount();
+            long[] ids = readLongs(Column.H_ID, count, true);
+            long[] userIds = readLongs(Column.H_USER_ID, count, false);
+
+            // 1. ID 범위 + userId (두 컬럼만 풀어서 판단)
+            boolean[] matched = new boolean[count];
+            boolean any = false;
+            for (int i = 0; i < count; i++) {
+                matched[i] = ids[i] > lowerId && ids[i] < upperId && (userId == null || userIds[i] == userId);
+                any |= matched[i];
+            }
+            if (!any) return List.of();
+
+            // 2. 유형/거래번호 + 최신순 limit건
+            long[] typeCodes = readLongs(Column.H_TYPE, count, false);
+            String[] refIds = readStrings(Column.H_REF_ID, count);
+            long[] amounts = readLongs(Column.H_AMOUNT, count, false);
+            long[] refundedAmounts = readLongs(Column.H_REFUNDED_AMOUNT, count, false);
+            long[] createdAts = readLongs(Column.H_CREATED_AT, count, true);
+
+            List<PointHistorySegmentResponse> result = new ArrayList<>();
+            Map<Long, List<PointHistorySegmentResponse.Detail>> detailsByHistory = new HashMap<>();
+            for (int i = count - 1; i >= 0 && result.size() < limit; i--) {
+                if (!matched[i]) continue;
+                PointType rowType = types[(int) typeCodes[i]];
+                if (type != null && rowType != type) continue;
+                if (refId != null && !refId.equals(refIds[i])) continue;
+
+                List<PointHistorySegmentResponse.Detail> details = new ArrayList<>();
+                detailsByHistory.put(ids[i], details);
+                result.add(PointHistorySegmentResponse.builder()
+                        .pointHistoryId(ids[i])
+                        .userId(userIds[i])
+                        .type(rowType)
+                        .amount(amounts[i])
+                        .refId(refIds[i])
+                        .refundedAmount(refundedAmounts[i])
+                        .createAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAts[i]), ZONE))
+                        .details(details)
+                        .build());
+            }
+            if (!result.isEmpty()) attachDetails(detailsByHistory);
+            return result;
+        }
+
+        private void attachDetails(Map<Long, List<PointHistorySegmentResponse.Detail>> detailsByHistory) throws IOException {
+            int count = header.detailCount();
+            long[] historyIds = readLongs(Column.D_HISTORY_ID, count, true);
+            long[] ids = readLongs(Column.D_ID, count, true);
+            long[] itemIds = readLongs(Column.D_ITEM_ID, count, false);
+            long[] amounts = readLongs(Column.D_AMOUNT, count, false);
+            long[] restoredFromItemIds = readLongs(Column.D_RESTORED_FROM_ITEM_ID, count, false);
+            long[] refundedAmounts = readLongs(Column.D_REFUNDED_AMOUNT, count, false);
+            for (int i = 0; i < count; i++) {
+                List<PointHistorySegmentResponse.Detail> details = detailsByHistory.get(historyIds[i]);
+                if (details == null) continue;
+                details.add(PointHistorySegmentResponse.Detail.builder()
+                        .pointHistoryDetailId(ids[i])
+                        .pointItemId(itemIds[i])
+                        .amount(amounts[i])
+                        .restoredFromItemId(restoredFromItemIds[i] == 0 ? null : restoredFromItemIds[i])
+                        .refundedAmount(refundedAmounts[i])
+                        .build());
+            }
+        }
+
+        private long[] readLongs(Column column, int count, boolean delta) throws IOException {
+            long[] values = new long[count];
+            try (ColumnInput in = new ColumnInput(blocks[column.ordinal()])) {
+                long previous = 0;
+                for (int i = 0; i < count; i++) {
+                    values[i] = delta ? (previous += in.readVarLong()) : in.readVarLong();
+                }
+            }
+            return values;
+        }
+
+        private String[] readStrings(Column column, int count) throws IOException {
+            String[] values = new String[count];
+            try (ColumnInput in = new ColumnInput(blocks[column.ordinal()])) {
+                for (int i = 0; i < count; i++) {
+                    values[i] = in.readString();
+                }
+            }
+            return values;
+        }
+    }
+
+    /**
+     * 컬럼 1개의 압축 버퍼
+     */
+    private static final class ColumnOutput {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(bytes)));
+
+        // ZigZag: 음수 차이도 작은 양수로 바꿔 Varint 길이를 줄임
+        void writeVarLong(long value) throws IOException {
+            long zigzag = (value << 1) ^ (value >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                out.writeByte((int) ((zigzag & 0x7F) | 0x80));
+                zigzag >>>= 7;
+            }
+            out.writeByte((int) zigzag);
+        }
+
+        // 길이 + 1 (0 = null) 뒤에 UTF-8 바이트
+        void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(encoded.length + 1L);
+            out.write(encoded);
+        }
+
+        byte[] finish() throws IOException {
+            out.close();
+            return bytes.toByteArray();
+        }
+    }
+
+    private static final class ColumnInput implements AutoCloseable {
+
+        private final DataInputStream in;
+
+        ColumnInput(byte[] block) {
+            InputStream inflated = new InflaterInputStream(new ByteArrayInputStream(block));
+            this.in = new DataInputStream(new BufferedInputStream(inflated));
+        }
+
+        long readVarLong() throws IOException {
+            long zigzag = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = in.readUnsignedByte();
+                zigzag |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) break;
+            }
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        String readString() throws IOException {
+            int length = (int) readVarLong();
+            if (length == 0) return null;
+            byte[] encoded = new byte[length - 1];
+            in.readFully(encoded);
+            return new String(encoded, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointHistorySegmentResponse;
+import com.musinsa.payment.point.application.point.service.PointHistorySegmentFile.Header;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 이력 세그먼트 파일 저장소 (point_history_archive -> 로컬 파일)
+ * - 역할: 보관 테이블에서도 오래된 월(retain-months 이전)의 이력과 상세 내역을 월별 세그먼트 파일(PointHistorySegmentFile)로 기록하고,
+ *   관리자 CS 조회 시 읽기 전용으로 스캔함.
+ * - 인덱스: 파일별 헤더(월, ID/userId 최소·최대)를 메모리에 보관하여, 조회 기간/유저 범위 밖의 파일은 열지 않음.
+ * - 기록: pointHistoryArchiveJob의 pointHistorySegmentStep이 enabled=true일 때만 수행함. 파일은 노드 로컬 디스크에 있으므로
+ *   다중 노드에서는 공유 볼륨을 dir로 지정해야 함. 조회는 enabled와 무관하게 dir에 있는 파일을 대상으로 함.
+ */
+@Slf4j
+@Component
+public class PointHistorySegmentStore {
+
+    private final PointJdbcRepository pointJdbcRepository;
+    private final Path directory;
+    private final boolean enabled;
+
+    // 대상 월 -> 파일 헤더 (최신 월부터 스캔)
+    // - reload는 새 인덱스를 만든 뒤 참조만 교체하므로, 동시에 실행 중인 조회는 교체 전 인덱스를 끝까지 읽음. (빈/일부 인덱스를 보지 않음)
+    private volatile ConcurrentSkipListMap<YearMonth, Header> index = new ConcurrentSkipListMap<>();
+
+    public PointHistorySegmentStore(PointJdbcRepository pointJdbcRepository,
+                                    @Value("${musinsa.point.history-segment.dir:./data/history-segments}") String directory,
+                                    @Value("${musinsa.point.history-segment.enabled:false}") boolean enabled) {
+        this.pointJdbcRepository = pointJdbcRepository;
+        this.directory = Path.of(directory);
+        this.enabled = enabled;
+        reload();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean contains(YearMonth month) {
+        return index.containsKey(month);
+    }
+
+    /**
+     * 보관 테이블의 한 달치(ID 범위 [fromId, toId)) 이력을 세그먼트 파일로 기록
+     * - 같은 월의 파일이 있으면 교체함. (마감된 월이므로 내용은 같음)
+     * @return 기록된 이력 수
+     */
+    public int write(YearMonth month, long fromId, long toId) {
+        try {
+            Files.createDirectories(directory);
+            PointHistorySegmentFile.Writer writer = new PointHistorySegmentFile.Writer(month);
+            pointJdbcRepository.scanArchivedHistories(fromId, toId, row -> {
+                try {
+                    writer.addHistory(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            pointJdbcRepository.scanArchivedDetails(fromId, toId, row -> {
+                try {
+                    writer.addDetail(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            Header header = writer.writeTo(directory.resolve(PointHistorySegmentFile.fileName(month)));
+            index.put(month, header);
+            log.info(">>> 이력 세그먼트 기록: {} (이력 {}건, 상세 {}건)", month, header.historyCount(), header.detailCount());
+            return header.historyCount();
+        } catch (IOException e) {
+            throw new UncheckedIOException("이력 세그먼트 기록 실패: " + month, e);
+        }
+    }
+
+    /**
+     * 세그먼트 파일 조회 (최신순, 최대 limit건)
+     * - 조회 기간/userId 범위와 겹치는 파일만 최신 월부터 열며, limit건이 채워지면 멈춤.
+     * - 체크섬이 맞지 않는 파일이 있으면 예외로 중단함. (손상된 데이터를 응답하지 않음)
+     */
+    public List<PointHistorySegmentResponse> search(LocalDateTime startDt, LocalDateTime endDt, Long userId,
+                                                    String refId, PointType type, int limit) {
+        long lowerId = TsidUtil.minIdAt(startDt) - 1;
+        long upperId = TsidUtil.maxIdAt(endDt) + 1;
+
+        List<PointHistorySegmentResponse> result = new ArrayList<>();
+        for (Map.Entry<YearMonth, Header> entry : index.descendingMap().entrySet()) {
+            Header header = entry.getValue();
+            if (!header.overlaps(lowerId, upperId) || !header.mayContainUser(userId)) continue;
+
+            Path path = directory.resolve(PointHistorySegmentFile.fileName(entry.getKey()));
+            try {
+                result.addAll(PointHistorySegmentFile.open(path).find(lowerId, upperId, userId, refId, type, limit - result.size()));
+            } catch (IOException e) {
+                throw new UncheckedIOException("이력 세그먼트 조회 실패: " + path, e);
+            }
+            if (result.size() >= limit) break;
+        }
+        return result;
+    }
+
+    /**
+     * 디렉터리의 세그먼트 파일 헤더를 다시 읽어 인덱스를 교체
+     * - 기동 시, 그리고 운영자가 파일을 복원/교체한 뒤 관리자 API(POST /api/v1/points/admin/search/segments/reload)로 호출함.
+     * - 헤더를 읽을 수 없는 파일은 경고 후 제외하며, 디렉터리를 읽지 못하면 기존 인덱스를 그대로 둠.
+     * @return 적재된 파일 수
+     */
+    public int reload() {
+        ConcurrentSkipListMap<YearMonth, Header> fresh = new ConcurrentSkipListMap<>();
+        if (Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + PointHistorySegmentFile.EXTENSION)) {
+                for (Path file : files) {
+                    try {
+                        Header header = PointHistorySegmentFile.readHeader(file);
+                        fresh.put(header.month(), header);
+                    } catch (IOException e) {
+                        log.warn(">>> 이력 세그먼트 헤더를 읽을 수 없어 제외: {}", file, e);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("이력 세그먼트 디렉터리 조회 실패: " + directory, e);
+            }
+        }
+        index = fresh;
+        return fresh.size();
+    }
+}
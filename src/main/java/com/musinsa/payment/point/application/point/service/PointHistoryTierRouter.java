@@ -0,0 +1,231 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointHistoryResponse;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryArchiveRepository;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.global.error.BusinessException;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 이력 조회 라우터 (Hot / Cold)
+ * - 역할: 조회 범위에 따라 point_history(Hot)만 읽을지, point_history_archive(Cold)까지 읽을지 결정하고 결과를 하나로 합침.
+ * - 판단: 보관 테이블의 최대 ID(PK 끝 한 건)보다 조회 범위의 하한이 크면 Hot만 읽음. 최근 기간 조회는 보관 데이터가 아무리 많아도 Hot 인덱스만 사용함.
+ * - 병합: 보관 테이블의 ID는 모두 Hot보다 작으므로(ID 오름차순으로 이동), 최신순은 Hot -> Cold, 과거순은 Cold -> Hot으로 이어 붙이면 정렬이 유지됨.
+ *   따라서 두 테이블을 모두 읽는 페이지 조회는 시간순(id, createdAt) 정렬만 지원함.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointHistoryTierRouter {
+
+    private static final Set<String> TIME_ORDERED = Set.of("id", "createdAt");
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointHistoryArchiveRepository pointHistoryArchiveRepository;
+
+    /**
+     * [사용자] 기간 조회 (OFFSET 페이징)
+     */
+    public Page<PointHistoryResponse> findAllByUserAndDateRange(Long userId, LocalDateTime startDt, LocalDateTime endDt,
+                                                                String refId, PointType type, Pageable pageable) {
+        return findPage(TsidUtil.minIdAt(startDt) - 1, pageable,
+                page -> pointHistoryRepository.findAllByUserAndDateRange(userId, startDt, endDt, refId, type, page),
+                page -> pointHistoryArchiveRepository.findAllByUserAndDateRange(userId, startDt, endDt, refId, type, page));
+    }
+
+    /**
+     * [관리자] 기간 조회 (OFFSET 페이징)
+     */
+    public Page<PointHistoryResponse> findAllByAdminCondition(LocalDateTime startDt, LocalDateTime endDt, Long userId,
+                                                              String refId, PointType type, Pageable pageable) {
+        return findPage(TsidUtil.minIdAt(startDt) - 1, pageable,
+                page -> pointHistoryRepository.findAllByAdminCondition(startDt, endDt, userId, refId, type, page),
+                page -> pointHistoryArchiveRepository.findAllByAdminCondition(startDt, endDt, userId, refId, type, page));
+    }
+
+    /**
+     * [사용자] ID 범위 커서 조회
+     */
+    public Slice<PointHistoryResponse> findSliceByUserAndIdRange(Long userId, long lowerId, long upperId,
+                                                                 String refId, PointType type, Pageable pageable) {
+        return findSlice(lowerId, pageable,
+                page -> pointHistoryRepository.findSliceByUserAndIdRange(userId, lowerId, upperId, refId, type, page),
+                page -> pointHistoryArchiveRepository.findSliceByUserAndIdRange(userId, lowerId, upperId, refId, type, page));
+    }
+
+    /**
+     * [관리자] ID 범위 커서 조회
+     */
+    public Slice<PointHistoryResponse> findSliceByAdminCondition(long lowerId, long upperId, Long userId,
+                                                                 String refId, PointType type, Pageable pageable) {
+        return findSlice(lowerId, pageable,
+                page -> pointHistoryRepository.findSliceByAdminCondition(lowerId, upperId, userId, refId, type, page),
+                page -> pointHistoryArchiveRepository.findSliceByAdminCondition(lowerId, upperId, userId, refId, type, page));
+    }
+
+    /**
+     * [관리자] 내보내기용 스트림 목록 (ID 오름차순으로 이어 읽을 순서: Cold -> Hot)
+     * - 스트림은 앞의 것을 모두 읽고 닫은 뒤 다음 것을 열도록 Supplier로 반환함. (동시에 두 개의 커서를 열지 않음)
+     */
+    public List<Supplier<Stream<Object[]>>> streamsForExport(long lowerId, long upperId, Long userId, String refId, PointType type) {
+        List<Supplier<Stream<Object[]>>> sources = new ArrayList<>(2);
+        if (readsArchive(lowerId)) {
+            sources.add(() -> pointHistoryArchiveRepository.streamForExport(lowerId, upperId, userId, refId, type));
+        }
+        sources.add(() -> pointHistoryRepository.streamForExport(lowerId, upperId, userId, refId, type));
+        return sources;
+    }
+
+    /**
+     * refId 처리 여부 (Hot -> Cold 순으로 확인)
+     * - 멱등성 키 TTL이 지난 재요청의 중복 판별용. 처리 시점과 무관하므로 ID 범위로 보관 테이블을 건너뛸 수 없으며,
+     *   Hot에 없을 때만 보관 테이블을 (userId, refId) 인덱스로 한 번 더 확인함.
+     * - 세그먼트 파일로 옮겨진 월(history-segment.enabled=true일 때만)은 확인 대상이 아님.
+     */
+    public boolean existsByUserIdAndRefIdAndType(Long userId, String refId, PointType type) {
+        return pointHistoryRepository.existsByUserIdAndRefIdAndType(userId, refId, type)
+                || pointHistoryArchiveRepository.existsByUserIdAndRefIdAndType(userId, refId, type);
+    }
+
+    /**
+     * 이미 처리된 (userId, refId) 조합 일괄 조회 (Hot + Cold)
+     * - 반환: [userId, refId] 배열 목록. 두 테이블의 결과를 이어 붙이며, 중복 제거는 호출자가 (userId, refId) 쌍으로 수행함.
+     */
+    public List<Object[]> findProcessedUserRefIds(PointType type, Collection<Long> userIds, Collection<String> refIds) {
+        List<Object[]> processed = new ArrayList<>(pointHistoryRepository.findProcessedUserRefIds(type, userIds, refIds));
+        processed.addAll(pointHistoryArchiveRepository.findProcessedUserRefIds(type, userIds, refIds));
+        return processed;
+    }
+
+    /**
+     * 보관 테이블 조회 필요 여부
+     * @param lowerId 조회 범위 하한 (id > lowerId)
+     */
+    private boolean readsArchive(long lowerId) {
+        Long archivedMaxId = pointHistoryArchiveRepository.findMaxId();
+        return archivedMaxId != null && lowerId < archivedMaxId;
+    }
+
+    private Page<PointHistoryResponse> findPage(long lowerId, Pageable pageable,
+                                                Function<Pageable, Page<PointHistoryResponse>> hot,
+                                                Function<Pageable, Page<PointHistoryResponse>> archive) {
+        if (!readsArchive(lowerId)) return hot.apply(pageable);
+
+        boolean ascending = isAscending(pageable.getSort());
+        Function<Pageable, Page<PointHistoryResponse>> first = ascending ? archive : hot;
+        Function<Pageable, Page<PointHistoryResponse>> second = ascending ? hot : archive;
+
+        // 앞 테이블에서 채우고 모자란 만큼 뒤 테이블에서 이어 읽음 (뒤 테이블은 전체 건수 산출을 위해 항상 조회)
+        Page<PointHistoryResponse> firstPage = first.apply(pageable);
+        List<PointHistoryResponse> content = new ArrayList<>(firstPage.getContent());
+        int remaining = pageable.getPageSize() - content.size();
+        long secondOffset = Math.max(0, pageable.getOffset() - firstPage.getTotalElements());
+        Page<PointHistoryResponse> secondPage = second.apply(new OffsetPageable(secondOffset, Math.max(remaining, 1), pageable.getSort()));
+        if (remaining > 0) {
+            content.addAll(secondPage.getContent().subList(0, Math.min(remaining, secondPage.getNumberOfElements())));
+        }
+        return new PageImpl<>(content, pageable, firstPage.getTotalElements() + secondPage.getTotalElements());
+    }
+
+    private Slice<PointHistoryResponse> findSlice(long lowerId, Pageable pageable,
+                                                  Function<Pageable, Slice<PointHistoryResponse>> hot,
+                                                  Function<Pageable, Slice<PointHistoryResponse>> archive) {
+        if (!readsArchive(lowerId)) return hot.apply(pageable);
+
+        boolean ascending = isAscending(pageable.getSort());
+        Function<Pageable, Slice<PointHistoryResponse>> first = ascending ? archive : hot;
+        Function<Pageable, Slice<PointHistoryResponse>> second = ascending ? hot : archive;
+
+        Slice<PointHistoryResponse> firstSlice = first.apply(pageable);
+        if (firstSlice.hasNext()) return firstSlice;
+
+        // 앞 테이블이 끝났으면 남은 건수만큼 뒤 테이블에서 이어 읽음 (남은 건수가 0이면 다음 존재 여부만 확인)
+        int remaining = pageable.getPageSize() - firstSlice.getNumberOfElements();
+        Slice<PointHistoryResponse> secondSlice = second.apply(PageRequest.of(0, Math.max(remaining, 1), pageable.getSort()));
+        List<PointHistoryResponse> content = new ArrayList<>(firstSlice.getContent());
+        content.addAll(secondSlice.getContent().subList(0, Math.min(remaining, secondSlice.getNumberOfElements())));
+        boolean hasNext = secondSlice.getNumberOfElements() > remaining || secondSlice.hasNext();
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * 병합 방향 (정렬 미지정 시 최신순)
+     */
+    private static boolean isAscending(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!TIME_ORDERED.contains(order.getProperty())) {
+                throw BusinessException.invalid("보관 기간이 포함된 조회는 시간순(id, createdAt) 정렬만 지원합니다.");
+            }
+        }
+        return sort.stream().findFirst().map(Sort.Order::isAscending).orElse(false);
+    }
+
+    /**
+     * 페이지 경계와 무관한 OFFSET/LIMIT 요청 (뒤 테이블을 앞 테이블이 채우고 남은 위치부터 읽기 위함)
+     */
+    private record OffsetPageable(long offset, int size, Sort sort) implements Pageable {
+
+        @Override
+        public int getPageNumber() {
+            return (int) (offset / size);
+        }
+
+        @Override
+        public int getPageSize() {
+            return size;
+        }
+
+        @Override
+        public long getOffset() {
+            return offset;
+        }
+
+        @Override
+        public Sort getSort() {
+            return sort;
+        }
+
+        @Override
+        public Pageable next() {
+            return new OffsetPageable(offset + size, size, sort);
+        }
+
+        @Override
+        public Pageable previousOrFirst() {
+            return new OffsetPageable(Math.max(0, offset - size), size, sort);
+        }
+
+        @Override
+        public Pageable first() {
+            return new OffsetPageable(0, size, sort);
+        }
+
+        @Override
+        public Pageable withPage(int pageNumber) {
+            return new OffsetPageable((long) pageNumber * size, size, sort);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return offset > 0;
+        }
+    }
+}
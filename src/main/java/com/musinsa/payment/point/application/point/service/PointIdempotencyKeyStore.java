@@ -0,0 +1,101 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointCommandResponse;
+import com.musinsa.payment.point.domain.point.entity.PointIdempotencyKey;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.global.error.BusinessException;
+import com.musinsa.payment.point.global.error.ErrorCode;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 멱등성 키 저장소 (PointService 전용)
+ * - 역할: 쓰기 명령 시작 시 (userId, refId, type) 키를 선점하고, 완료 시 처리 결과를 기록함.
+ * - 특징: 명령과 같은 트랜잭션에서 동작하므로 별도 트랜잭션을 열지 않음. (호출하는 쪽의 @Transactional 필수)
+ * - TTL 이후: 키가 삭제된 뒤의 재시도는 이력(Hot -> 보관 테이블, PointHistoryTierRouter) 존재 여부로 거절함. (재응답할 결과가 없으므로 중복 오류)
+ *   이 조회는 PointRefIdFilter(Bloom Filter)가 "처음인 요청"이라고 판단하면 생략되므로, 대부분의 신규 요청은 추가 조회가 없음.
+ *   필터는 클러스터 피드로 다른 노드의 커밋까지 반영된 경우에만 "처음"이라고 판단하며, 그렇지 않으면 항상 이력을 조회함.
+ */
+@Slf4j
+@Component
+public class PointIdempotencyKeyStore {
+
+    private final PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+    private final PointHistoryTierRouter pointHistoryTierRouter;
+    private final PointRefIdFilter pointRefIdFilter;
+    private final Duration ttl;
+
+    public PointIdempotencyKeyStore(PointIdempotencyKeyRepository pointIdempotencyKeyRepository,
+                                    PointHistoryTierRouter pointHistoryTierRouter,
+                                    PointRefIdFilter pointRefIdFilter,
+                                    @Value("${musinsa.point.idempotency.ttl-hours:168}") long ttlHours) {
+        this.pointIdempotencyKeyRepository = pointIdempotencyKeyRepository;
+        this.pointHistoryTierRouter = pointHistoryTierRouter;
+        this.pointRefIdFilter = pointRefIdFilter;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * 멱등성 키 선점
+     * - 최초 요청: 키를 생성하고 empty 반환 (호출자는 명령을 수행한 뒤 complete 호출)
+     * - 재시도 요청: 저장된 처리 결과를 반환 (호출자는 그대로 재응답)
+     * - 동일 키로 처리 중인 요청이 있으면 해당 트랜잭션이 끝날 때까지 대기한 후 판단함.
+     */
+    public Optional<PointCommandResponse> claim(Long userId, String refId, PointType type, long amount) {
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = pointIdempotencyKeyRepository.insertIfAbsent(
+                TsidUtil.nextId(), userId, refId, type.name(), amount, expireAtFrom(now), now);
+        if (inserted == 1) {
+            checkNotProcessedBeforeTtl(userId, refId, type);
+            return Optional.empty();
+        }
+
+        PointIdempotencyKey key = pointIdempotencyKeyRepository.findByUserIdAndRefIdAndType(userId, refId, type)
+                .orElseThrow(() -> BusinessException.invalid("이미 처리된 요청입니다.")); // 조회 직전 TTL 삭제된 경우
+
+        // 같은 키로 금액이 다른 요청은 재시도가 아니므로 재응답하지 않음
+        if (key.getRequestAmount() != amount) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_MISMATCH);
+        }
+
+        log.info("Idempotent replay: userId={}, refId={}, type={}", userId, refId, type);
+        return Optional.of(PointCommandResponse.replayOf(key));
+    }
+
+    /**
+     * 키가 새로 생성되었더라도, TTL로 키만 삭제된 과거 요청일 수 있으므로 이력으로 한 번 더 확인
+     * - Bloom Filter가 "확실히 처음"이라고 판단하면 조회를 생략함. (클러스터 전체의 커밋이 반영된 필터일 때만)
+     */
+    private void checkNotProcessedBeforeTtl(Long userId, String refId, PointType type) {
+        if (!pointRefIdFilter.mightContain(userId, refId, type)) {
+            return;
+        }
+        if (pointHistoryTierRouter.existsByUserIdAndRefIdAndType(userId, refId, type)) {
+            throw BusinessException.invalid("이미 처리된 요청입니다.");
+        }
+        pointRefIdFilter.recordFalsePositive();
+    }
+
+    /**
+     * 지금 생성하는 키의 보관 만료 시각 (JDBC 일괄 저장용)
+     */
+    public LocalDateTime expireAtFrom(LocalDateTime now) {
+        return now.plus(ttl);
+    }
+
+    /**
+     * 처리 결과 기록 (claim으로 선점한 키에 대해서만 호출)
+     */
+    public void complete(PointType type, PointCommandResponse response) {
+        pointIdempotencyKeyRepository.complete(response.getUserId(), response.getRefId(), type,
+                response.getHistoryId(), response.getPointItemId(), response.getBalance());
+        pointRefIdFilter.putAfterCommit(response.getUserId(), response.getRefId(), type);
+    }
+}
@@ -0,0 +1,71 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.domain.point.listener.PointLiabilitySink;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.LiabilityDelta;
+import com.musinsa.payment.point.domain.point.repository.PointLiabilityCounterRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 잔여 포인트 카운터 증감 기록기 (point_liability_counter)
+ * - 역할: 트랜잭션 안에서 발생한 PointItem 잔액 변경을 stripe별 증감으로 모아 두었다가,
+ *   커밋 직전(beforeCommit)에 한 번의 JDBC Batch UPSERT로 반영함. (누적/반영: TransactionalDeltaBuffer)
+ * - 수집: JPA 경로는 PointLiabilityListener가, JDBC 경로(일괄 적립)는 호출자가 직접 record()를 호출함.
+ * - 특징: 잔액이 남은 Item은 항상 AVAILABLE 상태이므로(소진/만료/적립취소 시 잔액 0), 잔액 증감 합계가 곧 AVAILABLE 잔액 합계임.
+ *   Item 변경과 같은 트랜잭션으로 커밋되므로 롤백되면 카운터도 함께 원복됨.
+ * - 백필: 기동 완료 시 카운터가 비어 있으면 point_item으로 한 번 재구축함.
+ */
+@Slf4j
+@Component
+public class PointLiabilityRecorder implements PointLiabilitySink {
+
+    private final PointJdbcRepository pointJdbcRepository;
+    private final PointLiabilityCounterRepository pointLiabilityCounterRepository;
+    private final TransactionalDeltaBuffer<Integer, LiabilityDelta> buffer;
+    private final int stripes;
+
+    public PointLiabilityRecorder(PointJdbcRepository pointJdbcRepository,
+                                  PointLiabilityCounterRepository pointLiabilityCounterRepository,
+                                  EntityManager entityManager,
+                                  @Value("${musinsa.point.liability.stripes:16}") int stripes) {
+        this.pointJdbcRepository = pointJdbcRepository;
+        this.pointLiabilityCounterRepository = pointLiabilityCounterRepository;
+        this.buffer = new TransactionalDeltaBuffer<>(entityManager, LiabilityDelta::new, pointJdbcRepository::upsertLiability);
+        this.stripes = Math.max(1, stripes);
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션에 반영 훅 등록 (PointItem을 로딩/저장할 때 호출)
+     * - 커밋 시점 Flush에서야 발생하는 변경(Dirty Checking)도 수집되도록, 변경이 생기기 전에 미리 등록해 둠.
+     */
+    @Override
+    public void track() {
+        buffer.track();
+    }
+
+    /**
+     * 잔액 증감 기록
+     * - 쓰기 트랜잭션 밖에서 호출되면 즉시 반영함.
+     */
+    @Override
+    public void record(Long userId, long delta) {
+        buffer.add((int) Math.floorMod(userId, (long) stripes), delta); // stripe 순으로 반영되어 Lock 순서가 고정됨
+    }
+
+    /**
+     * 기동 완료 시 백필 (카운터가 비어 있을 때만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (pointLiabilityCounterRepository.count() > 0) return;
+        int rows = pointJdbcRepository.rebuildLiability(stripes);
+        log.info(">>> 잔여 포인트 카운터 백필 완료: {}건", rows);
+    }
+}
@@ -0,0 +1,95 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointLiabilitySnapshotResponse;
+import com.musinsa.payment.point.domain.point.enums.PointStatus;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.LiabilityDelta;
+import com.musinsa.payment.point.domain.point.repository.PointLiabilityCounterRepository;
+import com.musinsa.payment.point.domain.point.repository.PointLiabilitySnapshotRepository;
+import com.musinsa.payment.point.global.error.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 시스템 전체 잔여 포인트 (Liability) Service
+ * - 역할: 잔여 포인트 카운터 조회, 원본(point_item) 대비 재집계, 시간별 스냅샷 기록/조회.
+ * - 성능: 조회는 stripe 수만큼의 행만 읽으며, point_item 전체 합산은 재집계(재집계 배치(pointReconcileJob)의 pointLiabilityReconcileStep)에서만 수행함.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PointLiabilityService {
+
+    private static final long MAX_SNAPSHOT_DAYS = 366;
+
+    private final PointLiabilityCounterRepository pointLiabilityCounterRepository;
+    private final PointLiabilitySnapshotRepository pointLiabilitySnapshotRepository;
+    private final PointItemRepository pointItemRepository;
+    private final PointJdbcRepository pointJdbcRepository;
+
+    /**
+     * 현재 시스템 전체 잔여 포인트 (카운터 합산)
+     */
+    public long getTotal() {
+        return pointLiabilityCounterRepository.sumAmount();
+    }
+
+    /**
+     * 기간 내 시간별 스냅샷 (시각 오름차순)
+     * - 규칙: 조회 기간은 필수이며 최대 366일.
+     */
+    public List<PointLiabilitySnapshotResponse> getSnapshots(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw BusinessException.invalid("조회 기간은 필수입니다.");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw BusinessException.invalid("종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_SNAPSHOT_DAYS) {
+            throw BusinessException.invalid("스냅샷 조회 기간은 최대 " + MAX_SNAPSHOT_DAYS + "일입니다.");
+        }
+
+        return pointLiabilitySnapshotRepository.findBySnapshotAtBetweenOrderBySnapshotAtAsc(
+                        startDate.atStartOfDay(), endDate.atTime(23, 59, 59)).stream()
+                .map(PointLiabilitySnapshotResponse::from)
+                .toList();
+    }
+
+    /**
+     * 카운터 재집계 (불일치 복구)
+     * - 순서: 카운터 전체 Lock -> AVAILABLE 잔액 합산 -> 차이를 stripe 0에 보정.
+     *   Lock을 먼저 잡으므로, 합산 시점에 커밋된 Item 변경은 카운터에도 이미 커밋되어 있고
+     *   아직 커밋되지 않은 변경은 카운터 반영 단계에서 대기하다가 보정 이후에 더해짐.
+     * @return 보정 전 카운터 - 원본 합계 (0이면 일치)
+     */
+    @Transactional
+    public long reconcile() {
+        long counted = pointJdbcRepository.lockLiabilityCounters();
+        long actual = pointItemRepository.sumTotalRemainAmountByStatus(PointStatus.AVAILABLE);
+        long drift = counted - actual;
+        if (drift != 0) {
+            log.warn(">>> 잔여 포인트 카운터 불일치 보정: counter={}, actual={}, drift={}", counted, actual, drift);
+            pointJdbcRepository.upsertLiability(List.of(new LiabilityDelta(0, -drift)));
+        }
+        return drift;
+    }
+
+    /**
+     * 시간별 스냅샷 기록
+     * - 기록 시각은 정시로 절삭하며, 같은 시각의 스냅샷이 이미 있으면 기록하지 않음.
+     * @return 기록 여부
+     */
+    @Transactional
+    public boolean takeSnapshot(LocalDateTime at) {
+        return pointJdbcRepository.insertLiabilitySnapshot(at.truncatedTo(ChronoUnit.HOURS), getTotal());
+    }
+}
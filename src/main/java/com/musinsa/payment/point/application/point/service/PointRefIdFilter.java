@@ -0,0 +1,232 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.global.util.BloomFilter;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 처리된 (userId, refId, type) 조합의 In-Memory Bloom Filter
+ * - 역할: 중복 검사 시 "확실히 처음인 요청"을 DB 조회 없이 걸러내어, 대부분의 신규 요청에서 point_history 존재 여부 조회를 생략함.
+ * - 특징: False Negative가 없으므로 false면 DB 조회를 생략해도 안전하며, true(오탐 포함)일 때만 DB로 확인함.
+ * - 시딩: 기동 완료 시 point_history, point_history_archive, point_idempotency_key를 한 번 스캔하여 채우며, 시딩 전에는 항상 true를 반환하여 DB 조회로 대체함.
+ * - 클러스터 피드: 필터는 노드 메모리에 있으므로, 다른 노드가 커밋한 요청은 point_idempotency_key를 주기적으로 폴링하여 반영함.
+ *   키는 TTL 동안 남아 있으므로, TTL 이후의 재요청은 폴링으로 이미 필터에 들어와 있음.
+ *   피드가 꺼져 있거나 마지막 폴링 성공이 max-feed-lag보다 오래되면 "처음"이라고 판단하지 않고 항상 true를 반환함. (DB 조회로 대체)
+ * - 재구축: 저장 건수가 설계 용량을 넘어 오탐률이 올라가면, 2배 크기로 새로 만들어 교체함.
+ * - 지표: point.refid.filter.* (예상 오탐률, 실측 오탐률, 저장 건수)
+ */
+@Slf4j
+@Component
+public class PointRefIdFilter {
+
+    // 재응답 대상이 되는 명령 타입만 필터에 담음
+    private static final String SEED_SQL =
+            "SELECT user_id, ref_id, type FROM point_history WHERE ref_id IS NOT NULL AND type IN ('EARN', 'ADMIN_GRANT', 'USE')";
+    private static final String ARCHIVE_SEED_SQL =
+            "SELECT user_id, ref_id, type FROM point_history_archive WHERE ref_id IS NOT NULL AND type IN ('EARN', 'ADMIN_GRANT', 'USE')";
+    private static final String KEY_SEED_SQL =
+            "SELECT user_id, ref_id, type FROM point_idempotency_key WHERE type IN ('EARN', 'ADMIN_GRANT', 'USE')";
+    // 클러스터 피드: 커밋된 멱등성 키를 ID(TSID) 순으로 페이지 조회
+    private static final String FEED_SQL =
+            "SELECT point_idempotency_key_id, user_id, ref_id, type FROM point_idempotency_key " +
+                    "WHERE point_idempotency_key_id > ? AND type IN ('EARN', 'ADMIN_GRANT', 'USE') " +
+                    "ORDER BY point_idempotency_key_id LIMIT ?";
+    private static final int FEED_PAGE_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final double fpp;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building; // 재구축 중인 필터 (재구축 중 커밋된 건도 함께 반영)
+    private volatile boolean ready;
+
+    private final boolean clusterFeed;
+    private final Duration feedOverlap;
+    private final Duration maxFeedLag;
+    private volatile LocalDateTime feedFrom;   // 다음 폴링의 시작 시각 (직전 폴링 시작 - overlap)
+    private volatile LocalDateTime lastFedAt;  // 마지막 폴링 성공 시작 시각
+
+    private final Counter definitelyNewCounter;
+    private final Counter maybeCounter;
+    private final Counter falsePositiveCounter;
+
+    public PointRefIdFilter(JdbcTemplate jdbcTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${musinsa.point.refid-filter.enabled:true}") boolean enabled,
+                            @Value("${musinsa.point.refid-filter.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${musinsa.point.refid-filter.fpp:0.01}") double fpp,
+                            @Value("${musinsa.point.refid-filter.cluster-feed:true}") boolean clusterFeed,
+                            @Value("${musinsa.point.refid-filter.feed-overlap-ms:120000}") long feedOverlapMillis,
+                            @Value("${musinsa.point.refid-filter.max-feed-lag-ms:600000}") long maxFeedLagMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.fpp = fpp;
+        this.clusterFeed = clusterFeed;
+        this.feedOverlap = Duration.ofMillis(feedOverlapMillis);
+        this.maxFeedLag = Duration.ofMillis(maxFeedLagMillis);
+        this.filter = new BloomFilter(expectedInsertions, fpp);
+
+        this.definitelyNewCounter = meterRegistry.counter("point.refid.filter.lookups", "result", "definitely_new");
+        this.maybeCounter = meterRegistry.counter("point.refid.filter.lookups", "result", "maybe");
+        this.falsePositiveCounter = meterRegistry.counter("point.refid.filter.false_positives");
+        Gauge.builder("point.refid.filter.expected_fpp", this, f -> f.filter.expectedFpp()).register(meterRegistry);
+        Gauge.builder("point.refid.filter.observed_fpp", this, PointRefIdFilter::observedFpp).register(meterRegistry);
+        Gauge.builder("point.refid.filter.insertions", this, f -> f.filter.insertions()).register(meterRegistry);
+    }
+
+    /**
+     * 기동 완료 시 point_history / point_idempotency_key로 필터 시딩
+     * - 스캔 도중 다른 노드가 커밋한 요청은 첫 폴링이 스캔 시작 시각(- overlap)부터 읽어 반영함.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        if (!enabled) return;
+        long start = System.currentTimeMillis();
+        feedFrom = LocalDateTime.now().minus(feedOverlap);
+        scanInto(filter);
+        ready = true;
+        log.info("PointRefIdFilter seeded: insertions={}, bits={}, elapsed={}ms",
+                filter.insertions(), filter.bitSize(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 설계 용량 초과 시 재구축 (기본 1시간 간격 점검)
+     * - 새 필터를 채우는 동안 커밋된 건은 put()이 두 필터에 모두 기록하므로 누락되지 않음.
+     */
+    @Scheduled(fixedDelayString = "${musinsa.point.refid-filter.rebuild-check-interval-ms:3600000}")
+    public void rebuildIfSaturated() {
+        BloomFilter current = filter;
+        if (!ready || current.insertions() <= current.expectedInsertions()) return;
+
+        BloomFilter next = new BloomFilter(current.insertions() * 2, fpp);
+        building = next;
+        try {
+            scanInto(next);
+            filter = next;
+        } finally {
+            building = null;
+        }
+        log.info("PointRefIdFilter rebuilt: insertions={}, bits={}", next.insertions(), next.bitSize());
+    }
+
+    /**
+     * 클러스터 피드 폴링 (기본 1분 간격)
+     * - 직전 폴링 시작 시각보다 overlap만큼 앞에서부터 다시 읽음. (키 ID는 커밋 전에 부여되므로, 폴링 시점에 커밋되지 않았던 키를 놓치지 않도록)
+     * - 실패하면 시작 시각을 옮기지 않으므로 다음 폴링이 누락 구간을 이어서 읽음.
+     */
+    @Scheduled(fixedDelayString = "${musinsa.point.refid-filter.feed-interval-ms:60000}")
+    public void pollClusterFeed() {
+        if (!enabled || !clusterFeed || !ready) return;
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            long cursor = TsidUtil.minIdAt(feedFrom) - 1;
+            int fetched;
+            do {
+                long[] last = {cursor};
+                fetched = jdbcTemplate.query(FEED_SQL, rs -> {
+                    int rows = 0;
+                    while (rs.next()) {
+                        last[0] = rs.getLong(1);
+                        put(keyOf(rs.getLong(2), rs.getString(3), PointType.valueOf(rs.getString(4))));
+                        rows++;
+                    }
+                    return rows;
+                }, cursor, FEED_PAGE_SIZE);
+                cursor = last[0];
+            } while (fetched == FEED_PAGE_SIZE);
+
+            feedFrom = startedAt.minus(feedOverlap);
+            lastFedAt = startedAt;
+        } catch (Exception e) {
+            log.error(">>> PointRefIdFilter 클러스터 피드 폴링 실패 (다음 실행에서 재시도)", e);
+        }
+    }
+
+    /**
+     * @return false면 처리된 적이 없는 요청이 확실함 (DB 조회 생략 가능), true면 DB 확인 필요
+     * - 다른 노드의 커밋까지 반영된 필터(클러스터 피드가 최신)일 때만 false를 반환함.
+     */
+    public boolean mightContain(Long userId, String refId, PointType type) {
+        if (!ready || !isFedClusterWide()) return true;
+        if (filter.mightContain(keyOf(userId, refId, type))) {
+            maybeCounter.increment();
+            return true;
+        }
+        definitelyNewCounter.increment();
+        return false;
+    }
+
+    /**
+     * mightContain()이 true였지만 DB에 없었던 경우(오탐) 기록
+     */
+    public void recordFalsePositive() {
+        if (ready) falsePositiveCounter.increment();
+    }
+
+    /**
+     * 처리 완료된 요청 등록
+     * - 트랜잭션 안에서는 커밋 이후에 등록함. (롤백된 요청을 등록하지 않고, 재구축 스캔과의 경합에서도 누락되지 않도록)
+     */
+    public void putAfterCommit(Long userId, String refId, PointType type) {
+        if (!enabled) return;
+        String key = keyOf(userId, refId, type);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(key);
+                }
+            });
+        } else {
+            put(key);
+        }
+    }
+
+    private void put(String key) {
+        filter.put(key);
+        BloomFilter next = building;
+        if (next != null) next.put(key);
+    }
+
+    // 이력은 TTL 이전 요청, 멱등성 키는 이력 저널에 아직 반영되지 않은 요청까지 포함하기 위해 모두 스캔
+    // - 보관 배치가 동시에 이력을 옮겨도 누락되지 않도록 Hot -> 보관 테이블 순으로 스캔 (옮겨진 행은 뒤의 스캔에서 읽힘)
+    private void scanInto(BloomFilter target) {
+        RowCallbackHandler handler = rs -> target.put(keyOf(rs.getLong(1), rs.getString(2), PointType.valueOf(rs.getString(3))));
+        jdbcTemplate.query(SEED_SQL, handler);
+        jdbcTemplate.query(ARCHIVE_SEED_SQL, handler);
+        jdbcTemplate.query(KEY_SEED_SQL, handler);
+    }
+
+    private boolean isFedClusterWide() {
+        LocalDateTime fedAt = lastFedAt;
+        return clusterFeed && fedAt != null && fedAt.isAfter(LocalDateTime.now().minus(maxFeedLag));
+    }
+
+    // 실측 오탐률: 실제로 처음이었던 요청 중 필터가 true를 반환한 비율
+    private double observedFpp() {
+        double falsePositives = falsePositiveCounter.count();
+        double actualNew = definitelyNewCounter.count() + falsePositives;
+        return actualNew == 0 ? 0 : falsePositives / actualNew;
+    }
+
+    private static String keyOf(Long userId, String refId, PointType type) {
+        return userId + ":" + type.name() + ":" + refId;
+    }
+}
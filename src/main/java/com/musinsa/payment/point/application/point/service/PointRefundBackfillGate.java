@@ -0,0 +1,31 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.global.error.BusinessException;
+import com.musinsa.payment.point.global.error.ErrorCode;
+import org.springframework.stereotype.Component;
+
+/**
+ * 환불 누적 금액 백필 완료 여부 (사용 취소 차단용)
+ * - 역할: refunded_amount 도입 전에 부분 취소된 주문은 백필(pointRefundBackfillJob)이 끝나기 전까지 환불 누적이 0이므로,
+ *   그 사이의 사용 취소가 이미 환불된 금액을 다시 환불하지 않도록 백필 완료 전에는 취소를 거절함. (P008, 재시도 가능)
+ * - 특징: 인스턴스마다 기동 시 백필 Job을 실행(이미 완료된 Job이면 바로 완료)한 뒤 열림.
+ */
+@Component
+public class PointRefundBackfillGate {
+
+    private volatile boolean open;
+
+    public void open() {
+        this.open = true;
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    public void checkOpen() {
+        if (!open) {
+            throw new BusinessException(ErrorCode.REFUND_BACKFILL_PENDING);
+        }
+    }
+}
@@ -2,18 +2,21 @@ package com.musinsa.payment.point.application.point.service;
 
 import com.musinsa.payment.point.api.point.dto.PointBalanceResponse;
 import com.musinsa.payment.point.api.point.dto.PointExpiringResponse;
+import com.musinsa.payment.point.api.point.dto.PointExpiringSummaryResponse;
 import com.musinsa.payment.point.api.point.dto.PointHistoryResponse;
 import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
 import com.musinsa.payment.point.domain.point.enums.PointStatus;
 import com.musinsa.payment.point.domain.point.enums.PointType;
-import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointExpiryBucketRepository;
 import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
 import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import com.musinsa.payment.point.global.common.CursorResponse;
 import com.musinsa.payment.point.global.error.BusinessException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -31,15 +34,19 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class PointSearchService {
 
-    private final PointHistoryRepository historyRepository;
+    private final PointHistoryTierRouter historyRouter; // Hot/보관 테이블 라우팅
     private final PointItemRepository pointItemRepository; // 변경됨
+    private final PointExpiryBucketRepository pointExpiryBucketRepository;
     private final UserPointWalletRepository userPointWalletRepository;
+    private final StripedWalletService stripedWalletService;
+    private final PointBalanceCache pointBalanceCache;
 
     /**
      * [사용자] 포인트 사용내역 조회
      * - 규칙 1: 조회 기간은 최대 3개월로 제한됨 (validateDateRange).
      * - 규칙 2: userId는 필수 파라미터임.
      * - 성능: userId와 기간(createdAt) 인덱스를 활용하여 효율적인 페이징 조회.
+     *   응답에 필요한 컬럼만 DTO Projection으로 조회하므로, 엔티티를 영속성 컨텍스트에 올리지 않음.
      */
     public Page<PointHistoryResponse> getMyHistories(
             Long userId,
@@ -52,30 +59,72 @@ public class PointSearchService {
         validateUserId(userId);
         validateDateRange(startDate, endDate); // 3개울 제한 규칙 적용
 
-        return historyRepository.findAllByUserAndDateRange(
+        return historyRouter.findAllByUserAndDateRange(
                 userId,
                 startDate.atStartOfDay(),
                 endDate.atTime(23, 59, 59),
                 refId,
                 type,
                 pageable
-        ).map(PointHistoryResponse::from);
+        );
+    }
+
+    /**
+     * [사용자] 포인트 사용내역 커서 조회 (Keyset Pagination)
+     * - 규칙: 기간/필터는 getMyHistories와 동일 (최대 3개월).
+     * - 성능: 기간과 커서를 ID 범위로 바꿔 idx_user_id (userId, id)를 범위 스캔하고, COUNT 쿼리를 실행하지 않음.
+     *   OFFSET 방식과 달리 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회됨.
+     */
+    public CursorResponse<PointHistoryResponse> getMyHistoriesByCursor(
+            Long userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            String refId,
+            PointType type,
+            Long beforeId,
+            Long afterId,
+            String cursor,
+            Integer limit
+    ) {
+        validateUserId(userId);
+        validateDateRange(startDate, endDate);
+
+        HistoryCursor condition = HistoryCursor.of(startDate, endDate, beforeId, afterId, cursor, limit);
+        return condition.toResponse(historyRouter.findSliceByUserAndIdRange(
+                userId,
+                condition.lowerId(),
+                condition.upperId(),
+                refId,
+                type,
+                condition.pageable()
+        ));
     }
 
     /**
      * [사용자] 내 잔액 조회
-     * - 성능: UserPointWallet 테이블을 바로 조회하여 빠른 응답 제공 (Lock 불필요)
+     * - 성능: 잔액 캐시(PointBalanceCache)에 있으면 DB를 읽지 않고, 없을 때만 UserPointWallet을 조회하여 캐시에 적재함. (Lock 불필요)
+     * - 트랜잭션: 캐시 적중 시 커넥션을 점유하지 않도록 클래스 기본 트랜잭션에 참여하지 않음. (SUPPORTS)
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PointBalanceResponse getMyBalance(Long userId) {
         // 필수값 유저 ID 체크
         validateUserId(userId);
 
+        Long cached = pointBalanceCache.get(userId);
+        if (cached != null) {
+            return PointBalanceResponse.builder()
+                    .userId(userId)
+                    .currentBalance(cached)
+                    .build();
+        }
+
         UserPointWallet wallet = userPointWalletRepository.findByUserId(userId)
                 .orElseThrow(() -> BusinessException.invalid("존재하지 않는 사용자입니다."));
+        pointBalanceCache.put(wallet); // 스트라이프 지갑은 캐시하지 않음
 
         return PointBalanceResponse.builder()
                 .userId(userId)
-                .currentBalance(wallet.getBalance())
+                .currentBalance(stripedWalletService.totalBalance(wallet)) // 스트라이프 지갑은 슬롯 잔액 합산
                 .build();
     }
 
@@ -101,6 +150,34 @@ public class PointSearchService {
                 .toList();
     }
 
+    /**
+     * [사용자] 7/30/90일 이내 소멸 예정 포인트 합계를 조회한다.
+     * - 성능: PointItem 범위 조회 대신 일자별 만료 버킷(point_expiry_bucket)을 읽으므로, 유저의 Item 수와 무관하게 최대 수십 행만 조회함.
+     */
+    public PointExpiringSummaryResponse getExpiringSummary(Long userId) {
+        // 필수값 유저 ID 체크
+        validateUserId(userId);
+
+        LocalDate today = LocalDate.now();
+        long within7Days = 0;
+        long within30Days = 0;
+        long within90Days = 0;
+        for (Object[] row : pointExpiryBucketRepository.findExpiringAmounts(userId, today, today.plusDays(90))) {
+            LocalDate expireDate = (LocalDate) row[0];
+            long amount = ((Number) row[1]).longValue();
+            within90Days += amount;
+            if (!expireDate.isAfter(today.plusDays(30))) within30Days += amount;
+            if (!expireDate.isAfter(today.plusDays(7))) within7Days += amount;
+        }
+
+        return PointExpiringSummaryResponse.builder()
+                .userId(userId)
+                .within7Days(within7Days)
+                .within30Days(within30Days)
+                .within90Days(within90Days)
+                .build();
+    }
+
     /**
      * 날짜 유효성 체크
      * - 규칙: 1. 종료일 >= 시작일, 2. 최대 조회 기간 3개월 제한
@@ -1,56 +1,111 @@
 package com.musinsa.payment.point.application.point.service;
 
 import com.musinsa.payment.point.domain.point.entity.*;
+import com.musinsa.payment.point.api.point.dto.PointHoldResponse;
+import com.musinsa.payment.point.domain.point.enums.PointHoldStatus;
 import com.musinsa.payment.point.domain.point.enums.PointStatus;
 import com.musinsa.payment.point.domain.point.enums.PointType;
 import com.musinsa.payment.point.domain.point.repository.*;
+import com.musinsa.payment.point.api.point.dto.PointCommandResponse;
+import com.musinsa.payment.point.global.annotation.UserSerialized;
+import com.musinsa.payment.point.global.concurrency.SlotRebalanceRequiredException;
+import com.musinsa.payment.point.global.concurrency.StripedWalletRouter;
+import com.musinsa.payment.point.global.concurrency.WalletConcurrencyStrategy;
 import com.musinsa.payment.point.global.error.BusinessException;
+import com.musinsa.payment.point.global.error.ErrorCode;
 import com.musinsa.payment.point.global.policy.PointPolicyManager;
 import com.musinsa.payment.point.global.util.TsidUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Collectors;
 
 /**
  * 포인트 Command Service
  * - 역할: 포인트의 적립, 사용, 취소 등 "상태 변화(쓰기) 트랜잭션"을 관리.
  * - 특징: UserPointWallet의 동시성 제어를 위해 Lock을 사용하며, 모든 작업은 원자성(Atomicity)을 보장해야 함.
+ * - 동시성: @UserSerialized로 동일 유저 요청을 트랜잭션 진입 전에 JVM 내에서 직렬화하고, DB Lock은 다중 노드 안전장치로 유지함.
+ *   지갑 Lock 방식은 WalletConcurrencyStrategy 설정(PESSIMISTIC / OPTIMISTIC)에 따름.
+ * - 차감 큐: 유저별 차감 우선순위 큐(PointDeductionQueueCache)를 모든 쓰기 명령이 커밋 후 함께 갱신함.
+ * - 잔액 캐시: 지갑 잔액을 변경한 명령은 커밋 후 잔액 캐시(PointBalanceCache)도 지갑 버전과 함께 갱신함.
+ * - 이력: 적립/사용 이력은 PointHistoryJournal을 통해 기록함. (저널 모드에서는 Write-behind로 반영)
+ * - 스트라이프 지갑: 등록된 핫 지갑의 적립/사용은 지갑 대신 슬롯 1개만 잠그며(earnOnSlot/useOnSlot), 그 외 쓰기는 슬롯을 지갑으로 통합한 뒤 기존 로직으로 처리함.
+ * - 홀드: 결제 2단계(hold -> capture / release)는 선차감만 지갑 Lock 안에서 수행하고, 확정은 홀드 상태 전환 + USE 이력 기록만 수행함.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PointService {
 
+    // use() 폴백 경로에서 한 번에 조회하는 차감 대상 아이템 수
+    private static final int DEDUCTION_PAGE_SIZE = 20;
+
     private final UserPointWalletRepository userPointWalletRepository;
     private final PointItemRepository pointItemRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final PointHistoryArchiveRepository pointHistoryArchiveRepository;
+    private final PointJdbcRepository pointJdbcRepository;
     private final PointPolicyManager policyManager;
+    private final WalletConcurrencyStrategy walletConcurrencyStrategy;
+    private final PointIdempotencyKeyStore pointIdempotencyKeyStore;
+    private final PointDeductionQueueCache pointDeductionQueueCache;
+    private final PointBalanceCache pointBalanceCache;
+    private final PointHistoryJournal pointHistoryJournal;
+    private final PointHoldRepository pointHoldRepository;
+    private final StripedWalletRouter stripedWalletRouter;
+    private final StripedWalletService stripedWalletService;
+    private final PointRefundBackfillGate pointRefundBackfillGate;
+
+    // 홀드 확정 가능 기한 (분)
+    @Value("${musinsa.point.hold.ttl-minutes:15}")
+    private long holdTtlMinutes;
 
     /**
      * 1. 포인트 적립 (EARN, ADMIN_GRANT)
      * - 트랜잭션: 하나의 트랜잭션으로 Wallet, Item, History 모두 저장/업데이트
+     * - 멱등성: 같은 refId로 재시도하면 원본 처리 결과를 그대로 재응답함. (replayed=true)
      */
+    @UserSerialized
     @Transactional
-    public void earn(Long userId, long amount, boolean isManual, String refId) {
-
-        // 1. 지갑조회(Lock)
-        UserPointWallet userPointWallet = userPointWalletRepository.findByUserIdForUpdate(userId)
-                .orElseGet(() -> {
-                    // 유저가 없는 신규 생성의 경우, 락을 걸 수 없으므로 바로 저장
-                    // (단, 이 경우에도 Unique Constraint가 없다면 동시 생성 문제가 있을 수 있으나,
-                    // 보통 회원 가입 후 적립이므로 지갑은 존재한다고 가정)
-                    return userPointWalletRepository.save(new UserPointWallet(userId, 0L));
-                });
-
-        // 2. 중복적립 체크
+    public PointCommandResponse earn(Long userId, long amount, boolean isManual, String refId) {
         PointType type = isManual ? PointType.ADMIN_GRANT : PointType.EARN;
-        if (pointHistoryRepository.existsByUserIdAndRefIdAndType(userId, refId, type)) {
-            throw BusinessException.invalid("이미 처리된 적립 요청입니다.");
+
+        // 1. 멱등성 키 선점 (중복 요청은 지갑 Lock을 잡지 않고 저장된 결과를 재응답)
+        Optional<PointCommandResponse> replay = pointIdempotencyKeyStore.claim(userId, refId, type, amount);
+        if (replay.isPresent()) {
+            return replay.get();
+        }
+
+        // 스트라이프 지갑: 지갑 대신 슬롯 1개만 잠그는 핫 경로
+        if (stripedWalletRouter.useSlotPath(userId)) {
+            return earnOnSlot(userId, amount, isManual, refId, type);
+        }
+
+        // 2. 지갑조회(Lock)
+        UserPointWallet userPointWallet = findWalletForWrite(userId).orElse(null);
+
+        // 기존 지갑이면 캐시된 차감 큐를 이어서 갱신 (신규 지갑은 다음 사용 시 새로 구성)
+        PointDeductionQueue deductionQueue = null;
+        if (userPointWallet != null) {
+            deductionQueue = pointDeductionQueueCache.getIfValid(userPointWallet);
+        } else {
+            // 유저가 없는 신규 생성의 경우, 락을 걸 수 없으므로 바로 저장
+            // (단, 이 경우에도 Unique Constraint가 없다면 동시 생성 문제가 있을 수 있으나,
+            // 보통 회원 가입 후 적립이므로 지갑은 존재한다고 가정)
+            userPointWallet = userPointWalletRepository.save(new UserPointWallet(userId, 0L));
         }
 
         // 3. 정책 검증
@@ -69,11 +124,13 @@ public class PointService {
                 .isManual(isManual)
                 .build();
         pointItemRepository.save(item);
+        pointDeductionQueueCache.updateAfterCommit(userPointWallet, deductionQueue, List.of(item));
+        pointBalanceCache.updateAfterCommit(userPointWallet);
 
         // 6. 히스토리 생성 (Master)
         PointHistory history = PointHistory.builder()
                 .userId(userId)
-                .type(isManual ? PointType.ADMIN_GRANT : PointType.EARN)
+                .type(type)
                 .amount(amount)
                 // 적립의 참조키는 해당 PointItem ID를 사용 (이벤트/주문이 없는 경우)
                 .refId(String.valueOf(refId))
@@ -85,8 +142,20 @@ public class PointService {
                 .amount(amount)
                 .build());
 
-        // History 저장 시 Cascade 옵션으로 Detail까지 함께 저장됨
-        pointHistoryRepository.save(history);
+        // History 저장 시 Cascade 옵션으로 Detail까지 함께 저장됨 (저널 모드에서는 저널 1행만 기록)
+        long historyId = pointHistoryJournal.write(history);
+
+        // 8. 처리 결과를 멱등성 키에 기록 (재시도 시 재응답용)
+        PointCommandResponse response = PointCommandResponse.builder()
+                .userId(userId)
+                .refId(refId)
+                .historyId(historyId)
+                .pointItemId(item.getId())
+                .amount(amount)
+                .balance(userPointWallet.getBalance())
+                .build();
+        pointIdempotencyKeyStore.complete(type, response);
+        return response;
     }
 
     /**
@@ -94,11 +163,13 @@ public class PointService {
      * - 트랜잭션: UserPointWallet에 PESSIMISTIC_WRITE Lock 적용하여 동시성 제어
      * - 제약: 원본 PointItem이 "전액 미사용 상태"일 때만 가능하도록 Item 도메인 로직에 위임
      */
+    @UserSerialized
     @Transactional
     public void cancelEarn(Long userId, Long pointItemId, boolean isManual) {
         // 1. 지갑 조회 (Lock)
-        UserPointWallet userPointWallet = userPointWalletRepository.findByUserIdForUpdate(userId)
+        UserPointWallet userPointWallet = findWalletForWrite(userId)
                 .orElseThrow(() -> BusinessException.notFound("지갑을 찾을 수 없습니다."));
+        PointDeductionQueue deductionQueue = pointDeductionQueueCache.getIfValid(userPointWallet);
 
         PointItem item = pointItemRepository.findById(pointItemId)
                 .orElseThrow(() -> BusinessException.notFound("적립 내역이 존재하지 않습니다."));
@@ -109,6 +180,8 @@ public class PointService {
 
         // 2. PointItem 도메인 로직 호출 (여기서 잔액/상태 체크 및 CANCELED 처리)
         item.cancelEarn();
+        pointDeductionQueueCache.updateAfterCommit(userPointWallet, deductionQueue, List.of(item)); // 큐에서 제거
+        pointBalanceCache.updateAfterCommit(userPointWallet);
 
         // 3. 지갑 잔액 차감 (원본 금액만큼 차감)
         userPointWallet.use(item.getOriginalAmount());
@@ -135,17 +208,28 @@ public class PointService {
      * - 트랜잭션: Wallet, Item의 잔액 업데이트 및 History 저장이 원자적으로 수행됨
      * - 핵심 로직: PointItem 차감 우선순위 적용 (Manual DESC, ExpireAt ASC)
      */
+    @UserSerialized
     @Transactional
-    public void use(Long userId, long amount, String refId) {
-        // 1. 지갑 조회 (비관적 락으로 동시성 제어)
-        UserPointWallet userPointWallet = userPointWalletRepository.findByUserIdForUpdate(userId)
-                .orElseThrow(() -> BusinessException.notFound("지갑을 찾을 수 없습니다."));
+    public PointCommandResponse use(Long userId, long amount, String refId) {
+        // 1. 멱등성 키 선점: 해당 주문번호로 이미 처리된 USE가 있으면 원본 결과를 재응답
+        Optional<PointCommandResponse> replay = pointIdempotencyKeyStore.claim(userId, refId, PointType.USE, amount);
+        if (replay.isPresent()) {
+            return replay.get();
+        }
 
-        // 2. 중복 검사 (멱등성 확보): 해당 주문번호로 이미 USE 트랜잭션이 발생했는지 체크
-        if (pointHistoryRepository.existsByUserIdAndRefIdAndType(userId, refId, PointType.USE)) {
-            throw BusinessException.invalid("이미 처리된 주문번호입니다.");
+        // 스트라이프 지갑: 지갑 대신 슬롯 1개만 잠그는 핫 경로
+        if (stripedWalletRouter.useSlotPath(userId)) {
+            return useOnSlot(userId, amount, refId);
         }
 
+        // 2. 지갑 조회 (비관적 락 또는 낙관적 락으로 동시성 제어)
+        UserPointWallet userPointWallet = findWalletForWrite(userId)
+                .orElseThrow(() -> BusinessException.notFound("지갑을 찾을 수 없습니다."));
+
+        // 차감 큐 조회 (지갑 변경 전의 버전으로 유효성 판단, 캐시가 없으면 DB 경량 조회로 구성)
+        LocalDateTime now = LocalDateTime.now();
+        PointDeductionQueue deductionQueue = pointDeductionQueueCache.load(userPointWallet, now, amount);
+
         // 3. 지갑 잔액 선 차감
         userPointWallet.use(amount);
 
@@ -157,41 +241,38 @@ public class PointService {
                 .refId(refId)
                 .build();
 
-        // 5. 차감할 아이템 조회
-        List<PointItem> items = pointItemRepository.findByUserIdAndStatusAndExpireAtAfterOrderByIsManualDescExpireAtAsc(
-                userId,
-                PointStatus.AVAILABLE,
-                LocalDateTime.now() // 만료되지 않은 포인트만 조회
-        );
-
-        long remainToUse = amount;
-
-        // 6. PointItem 잔액 소진 및 Detail 생성
-        for (PointItem item : items) {
-            if (remainToUse <= 0) break; // 사용 금액을 모두 채웠다면 루프 종료
-
-            long useAmount = Math.min(item.getRemainAmount(), remainToUse);
-
-            // 6-1. 아이템 차감 (상태 변경 로직은 Item 도메인에 위임)
-            item.use(useAmount);
-
-            // 6-2. Detail 추가: 어떤 Item을 얼마만큼 썼는지 기록
-            history.addDetail(PointHistoryDetail.builder()
-                    .pointItem(item)
-                    .amount(useAmount)
-                    .build());
+        // 5. 차감 (캐시된 차감 큐로 소진할 아이템만 조회, 큐가 DB와 다르면 전체 정렬 조회로 폴백)
+        // Detail 추가: 어떤 Item을 얼마만큼 썼는지 기록
+        ObjLongConsumer<PointItem> toDetail = (item, useAmount) -> history.addDetail(PointHistoryDetail.builder()
+                .pointItem(item)
+                .amount(useAmount)
+                .build());
+        List<PointItem> consumedItems = deductionQueue != null
+                ? deductFromQueue(deductionQueue, amount, now, userId, toDetail)
+                : null;
 
-            remainToUse -= useAmount;
+        if (consumedItems == null) {
+            deductionQueue = null; // 폴백 시 캐시는 커밋 후 무효화되어 다음 사용 시 재구성됨
+            consumedItems = deductFromDatabase(userId, amount, now, toDetail);
         }
 
-        // 7. 포인트 부족 체크 (지갑 잔액은 속일 수 있지만, 유효한 Item은 부족할 수 있음)
-        if (remainToUse > 0) {
-            // 예외 발생 시 트랜잭션 롤백 -> 3단계의 지갑 잔액 차감도 자동 취소되어 정합성 유지
-            throw BusinessException.invalid("유효한 포인트가 부족합니다. (만료된 포인트 포함됨)");
-        }
+        // 6. 커밋 후 차감 큐 갱신
+        pointDeductionQueueCache.updateAfterCommit(userPointWallet, deductionQueue, consumedItems);
+        pointBalanceCache.updateAfterCommit(userPointWallet);
 
-        // 8. 통합 저장 (Detail까지 Cascade로 저장)
-        pointHistoryRepository.save(history);
+        // 7. 통합 저장 (Detail까지 Cascade로 저장, 저널 모드에서는 저널 1행만 기록)
+        long historyId = pointHistoryJournal.write(history);
+
+        // 8. 처리 결과를 멱등성 키에 기록 (재시도 시 재응답용)
+        PointCommandResponse response = PointCommandResponse.builder()
+                .userId(userId)
+                .refId(refId)
+                .historyId(historyId)
+                .amount(amount)
+                .balance(userPointWallet.getBalance())
+                .build();
+        pointIdempotencyKeyStore.complete(PointType.USE, response);
+        return response;
     }
 
     /**
@@ -199,24 +280,33 @@ public class PointService {
      * - 트랜잭션: Wallet, Item, History 모두 처리
      * - 핵심 로직: 원본 사용 내역을 역순으로 따라가며 복구(Rollback) 수행.
      * - 만료 포인트 처리: 유효한 포인트는 Item 잔액 롤백(USE_CANCEL), 만료된 포인트는 신규 생성(RESTORE)으로 분기
+     * - 보관된 주문: 원본 이력이 보관 테이블로 이동했어도 보관 이력/상세 내역을 읽어 동일하게 취소함. (취소/재적립 이력은 Hot에 기록)
      */
+    @UserSerialized
     @Transactional
     public void cancelUse(Long userId, String orderId, long cancelAmount) {
+        // 0. 환불 누적 금액 백필 전에는 이전 부분 취소분이 누적에 없으므로 취소를 받지 않음
+        pointRefundBackfillGate.checkOpen();
+
         // 1. 지갑 조회 (Lock)
-        UserPointWallet userPointWallet = userPointWalletRepository.findByUserIdForUpdate(userId)
+        UserPointWallet userPointWallet = findWalletForWrite(userId)
                 .orElseThrow(() -> BusinessException.notFound("지갑을 찾을 수 없습니다."));
+        PointDeductionQueue deductionQueue = pointDeductionQueueCache.getIfValid(userPointWallet);
 
         // 2. 원본 사용 내역 조회 (Fetch Join으로 Detail까지 함께 로딩하여 N+1 방지)
-        PointHistory originalHistory = pointHistoryRepository.findByUserIdAndRefIdAndTypeWithDetails(userId, orderId, PointType.USE)
-                .orElseThrow(() -> BusinessException.notFound("해당 주문의 포인트 사용 이력이 없습니다."));
+        // - 저널 모드: 아직 반영되지 않은 이 유저의 이력을 먼저 반영 (지갑 Lock으로 새 저널이 추가되지 않는 상태)
+        pointHistoryJournal.applyPending(userId);
+        // - Hot 테이블에 없으면 보관 테이블에서 원본 이력과 상세 내역을 읽어 같은 규칙으로 취소함
+        RefundableUse originalHistory = pointHistoryRepository.findByUserIdAndRefIdAndTypeWithDetails(userId, orderId, PointType.USE)
+                .map(RefundableUse::of)
+                .orElseGet(() -> findArchivedUse(userId, orderId));
 
         // 3. 환불 가능 한도 검증 (부분 취소/재취소 방어)
-        // - 이미 USE_CANCEL이나 RESTORE된 금액을 합산하여, 요청된 취소 금액이 원본 금액을 초과하는지 체크
-        long totalPreviouslyRefunded = pointHistoryRepository.getSumAmountByUserIdAndRefIdAndTypes(userId, orderId, List.of(PointType.USE_CANCEL, PointType.RESTORE));
-
-        if (originalHistory.getAmount() < totalPreviouslyRefunded + cancelAmount) {
+        // - 원본 USE 이력에 누적된 환불 금액(refundedAmount)으로 판단하므로, 이전 취소 이력을 합산하는 쿼리가 필요 없음
+        if (originalHistory.getRefundableAmount() < cancelAmount) {
             throw BusinessException.invalid("취소 가능한 금액을 초과했습니다.");
         }
+        originalHistory.refund(cancelAmount);
 
         // 4. 복구 로직 수행을 위한 변수 준비
         List<PointHistoryDetail> cancelDetails = new ArrayList<>();
@@ -226,35 +316,29 @@ public class PointService {
         long currentRestoreAmount = 0; // RESTORE (만료분 신규 적립) 합계
 
         long remainToCancel = cancelAmount;
-        long skipAmount = totalPreviouslyRefunded; // 이미 취소된 금액만큼 원본 Detail을 건너뛰기 위한 변수
+        LocalDateTime now = LocalDateTime.now();
 
         // 5. 상세 내역 순회 (Rollback Logic)
-        for (PointHistoryDetail detail : originalHistory.getDetails()) {
+        for (RefundableUse.Line detail : originalHistory.getLines()) {
             if (remainToCancel <= 0) break;
 
-            long usedAmount = detail.getAmount();
-
-            // 5-1. Skip 처리: 이미 취소된 금액(skipAmount)만큼 해당 detail 사용액을 건너뜀
-            if (skipAmount >= usedAmount) {
-                skipAmount -= usedAmount;
-                continue;
-            }
+            // 5-1. Skip 처리: Detail별 누적 환불 금액으로, 이미 전액 환불된 Detail은 바로 건너뜀
+            long availableRefund = detail.getRefundableAmount(); // 이 detail에서 아직 환불되지 않은 금액
+            if (availableRefund <= 0) continue;
 
             // 5-2. 실제 환불 금액 계산
-            long availableRefund = usedAmount - skipAmount; // 이 detail에서 아직 환불되지 않은 금액
             long refundAmount = Math.min(availableRefund, remainToCancel); // 이번에 환불해야 할 금액
-
-            skipAmount = 0; // 스킵 금액 소진됨 (이제부터 환불 시작)
+            detail.refund(refundAmount);
 
             PointItem originalItem = detail.getPointItem();
 
             // 5-3. 만료 여부에 따른 분기 처리
-            if (originalItem.isExpired()) {
+            if (originalItem.isExpired(now)) {
                 // Case A: 만료됨 -> 신규 Item 생성 (재적립: RESTORE)
                 PointItem newItem = pointItemRepository.save(PointItem.builder()
                         .userId(userId)
                         .originalAmount(refundAmount)
-                        .expireAt(LocalDateTime.now().plusDays(policyManager.getDefaultExpireDays())) // 정책에 따른 유효기간 부여
+                        .expireAt(now.plusDays(policyManager.getDefaultExpireDays())) // 정책에 따른 유효기간 부여
                         .isManual(false)
                         .build());
 
@@ -310,7 +394,430 @@ public class PointService {
             pointHistoryRepository.save(restoreHistory);
         }
 
+        // 보관된 원본이면 환불 누적을 보관 테이블에 반영 (Hot 원본은 Dirty Checking)
+        originalHistory.saveRefunds(pointJdbcRepository);
+
         // 7. 지갑 총 잔액 복구 (USE_CANCEL + RESTORE 합계 = cancelAmount)
         userPointWallet.earn(cancelAmount, policyManager.getMaxPossessionLimit());
+
+        // 8. 커밋 후 차감 큐 갱신 (복구된 원본 아이템 + 재적립된 신규 아이템)
+        List<PointItem> changedItems = new ArrayList<>();
+        cancelDetails.forEach(detail -> changedItems.add(detail.getPointItem()));
+        restoreDetails.forEach(detail -> changedItems.add(detail.getPointItem()));
+        pointDeductionQueueCache.updateAfterCommit(userPointWallet, deductionQueue, changedItems);
+        pointBalanceCache.updateAfterCommit(userPointWallet);
+    }
+
+    /**
+     * 5. 포인트 홀드 (결제 1단계: 선점)
+     * - 트랜잭션: 지갑 Lock 안에서 지갑 잔액과 PointItem을 선차감하고, 어떤 Item에서 얼마를 잡았는지 홀드 상세로 기록함.
+     * - 특징: 이력(USE)은 만들지 않음. 확정 기한(ttl-minutes)이 지나면 스케줄러가 일괄 해제함.
+     * - 멱등성: 같은 주문번호의 HELD 홀드가 있으면 지갑 Lock 없이 기존 홀드를 재응답함.
+     */
+    @UserSerialized
+    @Transactional
+    public PointHoldResponse hold(Long userId, long amount, String orderId) {
+        // 1. 재요청 확인 (Lock 없음)
+        Optional<PointHold> existing = pointHoldRepository.findByUserIdAndRefId(userId, orderId);
+        if (existing.isPresent()) {
+            PointHold hold = existing.get();
+            if (hold.getAmount() != amount) {
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_MISMATCH);
+            }
+            if (hold.getStatus() != PointHoldStatus.HELD) {
+                throw BusinessException.invalid("이미 확정 또는 해제된 주문입니다.");
+            }
+            return PointHoldResponse.of(hold, null, true);
+        }
+
+        // 2. 지갑 조회 (Lock) 및 차감 큐 조회
+        UserPointWallet userPointWallet = findWalletForWrite(userId)
+                .orElseThrow(() -> BusinessException.notFound("지갑을 찾을 수 없습니다."));
+        LocalDateTime now = LocalDateTime.now();
+        PointDeductionQueue deductionQueue = pointDeductionQueueCache.load(userPointWallet, now, amount);
+
+        // 3. 지갑 잔액 선 차감
+        userPointWallet.use(amount);
+
+        // 4. PointItem 선차감 (사용과 동일한 우선순위), 차감 내역은 홀드 상세로 기록
+        PointHold hold = PointHold.builder()
+                .userId(userId)
+                .refId(orderId)
+                .amount(amount)
+                .expireAt(now.plusMinutes(holdTtlMinutes))
+                .build();
+        ObjLongConsumer<PointItem> toHoldItem = (item, holdAmount) -> hold.addItem(PointHoldItem.builder()
+                .pointItem(item)
+                .amount(holdAmount)
+                .build());
+        List<PointItem> heldItems = deductionQueue != null
+                ? deductFromQueue(deductionQueue, amount, now, userId, toHoldItem)
+                : null;
+
+        if (heldItems == null) {
+            deductionQueue = null;
+            heldItems = deductFromDatabase(userId, amount, now, toHoldItem);
+        }
+
+        // 5. 홀드 저장 (홀드 상세까지 Cascade) 및 커밋 후 차감 큐 갱신
+        pointHoldRepository.save(hold);
+        pointDeductionQueueCache.updateAfterCommit(userPointWallet, deductionQueue, heldItems);
+        pointBalanceCache.updateAfterCommit(userPointWallet);
+
+        return PointHoldResponse.of(hold, userPointWallet.getBalance(), false);
+    }
+
+    /**
+     * 6. 홀드 확정 (결제 2단계: Capture)
+     * - 트랜잭션: 홀드 행만 Lock하며 지갑/PointItem은 변경하지 않음. (금액은 홀드 시 이미 차감됨)
+     * - 핵심 로직: 홀드 상세를 그대로 USE 이력의 Detail로 옮겨 기록하므로, 이후 사용 취소(cancelUse)는 일반 사용과 동일하게 동작함.
+     * - 멱등성: 이미 확정된 홀드는 기존 결과를 재응답함.
+     */
+    @UserSerialized
+    @Transactional
+    public PointHoldResponse capture(Long userId, String orderId) {
+        // 1. 홀드 조회 (Lock)
+        PointHold hold = pointHoldRepository.findByUserIdAndRefIdForUpdate(userId, orderId)
+                .orElseThrow(() -> BusinessException.notFound("해당 주문의 포인트 홀드가 없습니다."));
+
+        if (hold.getStatus() == PointHoldStatus.CAPTURED) {
+            return PointHoldResponse.of(hold, null, true);
+        }
+        if (hold.getStatus() == PointHoldStatus.RELEASED) {
+            throw BusinessException.invalid("이미 해제된 홀드입니다.");
+        }
+        if (hold.isExpired(LocalDateTime.now())) {
+            throw new BusinessException(ErrorCode.HOLD_EXPIRED);
+        }
+
+        // 2. USE 멱등성 키 선점 (같은 주문번호로 바로 사용(use)된 건이 있으면 확정 불가)
+        if (pointIdempotencyKeyStore.claim(userId, orderId, PointType.USE, hold.getAmount()).isPresent()) {
+            throw BusinessException.invalid("이미 사용 처리된 주문입니다.");
+        }
+
+        // 3. USE 이력 생성 (홀드 상세 -> 이력 Detail)
+        PointHistory history = PointHistory.builder()
+                .userId(userId)
+                .type(PointType.USE)
+                .amount(hold.getAmount())
+                .refId(orderId)
+                .build();
+        for (PointHoldItem holdItem : hold.getItems()) {
+            history.addDetail(PointHistoryDetail.builder()
+                    .pointItem(holdItem.getPointItem())
+                    .amount(holdItem.getAmount())
+                    .build());
+        }
+        long historyId = pointHistoryJournal.write(history);
+
+        // 4. 홀드 상태 전환 (HELD -> CAPTURED)
+        hold.capture(historyId);
+
+        // 5. 처리 결과를 멱등성 키에 기록 (잔액은 홀드 시점에 이미 반영되어 있으므로 Lock 없이 조회)
+        Long balance = stripedWalletService.totalBalance(userId);
+        pointIdempotencyKeyStore.complete(PointType.USE, PointCommandResponse.builder()
+                .userId(userId)
+                .refId(orderId)
+                .historyId(historyId)
+                .amount(hold.getAmount())
+                .balance(balance)
+                .build());
+
+        return PointHoldResponse.of(hold, balance, false);
+    }
+
+    /**
+     * 7. 홀드 해제 (결제 실패/이탈: Release)
+     * - 트랜잭션: 홀드 -> 지갑 순으로 Lock을 잡고, 선차감분을 원래 PointItem과 지갑에 되돌림.
+     * - 특징: 사용 취소와 달리 이력을 남기지 않고, 만료된 Item도 재적립(RESTORE) 없이 원래 Item으로 복귀함. (만료 배치가 이후 정리)
+     * - 멱등성: 이미 해제된 홀드는 그대로 재응답함.
+     */
+    @UserSerialized
+    @Transactional
+    public PointHoldResponse release(Long userId, String orderId) {
+        // 1. 홀드 조회 (Lock)
+        PointHold hold = pointHoldRepository.findByUserIdAndRefIdForUpdate(userId, orderId)
+                .orElseThrow(() -> BusinessException.notFound("해당 주문의 포인트 홀드가 없습니다."));
+
+        if (hold.getStatus() == PointHoldStatus.RELEASED) {
+            return PointHoldResponse.of(hold, null, true);
+        }
+        if (hold.getStatus() == PointHoldStatus.CAPTURED) {
+            throw BusinessException.invalid("이미 확정된 홀드는 해제할 수 없습니다. 사용 취소를 요청해주세요.");
+        }
+
+        // 2. 지갑 조회 (Lock)
+        UserPointWallet userPointWallet = findWalletForWrite(userId)
+                .orElseThrow(() -> BusinessException.notFound("지갑을 찾을 수 없습니다."));
+        PointDeductionQueue deductionQueue = pointDeductionQueueCache.getIfValid(userPointWallet);
+
+        // 3. 선차감 원복 (Item -> 지갑)
+        List<PointItem> releasedItems = new ArrayList<>();
+        for (PointHoldItem holdItem : pointHoldRepository.findItemsWithPointItem(List.of(hold.getId()))) {
+            holdItem.getPointItem().release(holdItem.getAmount());
+            releasedItems.add(holdItem.getPointItem());
+        }
+        userPointWallet.restore(hold.getAmount());
+        hold.release();
+
+        // 4. 커밋 후 차감 큐 갱신
+        pointDeductionQueueCache.updateAfterCommit(userPointWallet, deductionQueue, releasedItems);
+        pointBalanceCache.updateAfterCommit(userPointWallet);
+
+        return PointHoldResponse.of(hold, userPointWallet.getBalance(), false);
+    }
+
+    /**
+     * 8. 만료 홀드 일괄 해제 (HoldExpirySweeper에서 호출)
+     * - 트랜잭션: 만료된 HELD 홀드를 최대 limit건 Lock한 뒤, 관련 지갑을 userId 오름차순으로 일괄 Lock하여 원복함.
+     * - 특징: 홀드 상세 + Item은 한 번의 Fetch Join으로 조회하고, 변경은 JDBC Batch로 반영됨. (건별 사용 취소 트랜잭션 불필요)
+     * @return 해제한 홀드 건수
+     */
+    @Transactional
+    public int releaseExpiredHolds(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PointHold> holds = pointHoldRepository.findExpiredForUpdate(PointHoldStatus.HELD, now, PageRequest.of(0, limit));
+        if (holds.isEmpty()) return 0;
+
+        // 1. 유저별 원복 금액 집계 (TreeMap: userId 오름차순)
+        Map<Long, Long> restoreByUser = new TreeMap<>();
+        for (PointHold hold : holds) {
+            restoreByUser.merge(hold.getUserId(), hold.getAmount(), Long::sum);
+        }
+
+        // 2. 지갑 일괄 Lock 후 잔액 원복 (스트라이프 지갑은 통합 후 원복)
+        List<UserPointWallet> wallets = stripedWalletService.lockAllForWrite(restoreByUser.keySet());
+        for (UserPointWallet wallet : wallets) {
+            wallet.restore(restoreByUser.get(wallet.getUserId()));
+        }
+
+        // 3. Item 원복 및 홀드 상태 전환
+        List<Long> holdIds = holds.stream().map(PointHold::getId).toList();
+        for (PointHoldItem holdItem : pointHoldRepository.findItemsWithPointItem(holdIds)) {
+            holdItem.getPointItem().release(holdItem.getAmount());
+        }
+        holds.forEach(PointHold::release);
+
+        pointDeductionQueueCache.invalidateAfterCommit(restoreByUser.keySet());
+        pointBalanceCache.updateAfterCommit(wallets);
+        return holds.size();
+    }
+
+    /**
+     * 스트라이프 지갑 적립 (핫 경로)
+     * - 지갑 대신 슬롯 1개만 잠그고, 생성한 Item을 해당 슬롯에 배정함.
+     * - 보유 한도는 슬롯에 미리 배정된 여유분(headroom) 안에서만 적립하여 보장하며, 여유분이 부족하면 재분배 후 재시도됨.
+     */
+    private PointCommandResponse earnOnSlot(Long userId, long amount, boolean isManual, String refId, PointType type) {
+        // 1. 정책 검증
+        if (amount < policyManager.getMinEarnAmount() || amount > policyManager.getMaxEarnAmount()) {
+            throw BusinessException.invalid("적립 가능 금액 범위를 벗어났습니다.");
+        }
+
+        // 2. 슬롯 조회 (Lock) 및 슬롯 잔액 증가
+        UserPointWalletSlot slot = stripedWalletService.lockSlotForEarn(userId, refId, amount);
+        slot.earn(amount);
+
+        // 3. 아이템 생성 후 슬롯에 배정
+        PointItem item = PointItem.builder()
+                .userId(userId)
+                .originalAmount(amount)
+                .expireAt(LocalDateTime.now().plusDays(policyManager.getDefaultExpireDays()))
+                .isManual(isManual)
+                .build();
+        item.assignWalletSlot(slot.getSlotNo());
+        pointItemRepository.save(item);
+        pointDeductionQueueCache.invalidateAfterCommit(List.of(userId)); // 지갑 버전이 바뀌지 않으므로 직접 무효화
+
+        // 4. 히스토리 생성
+        PointHistory history = PointHistory.builder()
+                .userId(userId)
+                .type(type)
+                .amount(amount)
+                .refId(refId)
+                .build();
+        history.addDetail(PointHistoryDetail.builder()
+                .pointItem(item)
+                .amount(amount)
+                .build());
+        long historyId = pointHistoryJournal.write(history);
+
+        // 5. 처리 결과를 멱등성 키에 기록
+        PointCommandResponse response = PointCommandResponse.builder()
+                .userId(userId)
+                .refId(refId)
+                .historyId(historyId)
+                .pointItemId(item.getId())
+                .amount(amount)
+                .balance(stripedWalletService.totalBalance(userId))
+                .build();
+        pointIdempotencyKeyStore.complete(type, response);
+        return response;
+    }
+
+    /**
+     * 스트라이프 지갑 사용 (핫 경로)
+     * - 지갑 대신 슬롯 1개만 잠그고, 해당 슬롯에 배정된 Item만 우선순위 순으로 차감함. (차감 우선순위는 슬롯 안에서 적용)
+     * - 슬롯 잔액 또는 슬롯의 유효한 Item이 부족하면 재분배 후 재시도됨.
+     */
+    private PointCommandResponse useOnSlot(Long userId, long amount, String refId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 슬롯 조회 (Lock) 및 슬롯 잔액 선 차감
+        UserPointWalletSlot slot = stripedWalletService.lockSlotForUse(userId, refId, amount);
+        slot.use(amount);
+
+        // 2. 슬롯 소속 아이템 차감
+        PointHistory history = PointHistory.builder()
+                .userId(userId)
+                .type(PointType.USE)
+                .amount(amount)
+                .refId(refId)
+                .build();
+
+        long remainToUse = amount;
+        for (PointItem item : pointItemRepository.findSlotDeductionItems(userId, slot.getSlotNo(), PointStatus.AVAILABLE, now)) {
+            if (remainToUse <= 0) break;
+
+            long useAmount = Math.min(item.getRemainAmount(), remainToUse);
+            item.use(useAmount, now);
+            history.addDetail(PointHistoryDetail.builder()
+                    .pointItem(item)
+                    .amount(useAmount)
+                    .build());
+            remainToUse -= useAmount;
+        }
+
+        // 슬롯 잔액에 만료 대기 Item이 포함된 경우: 재분배로 유효한 Item을 채운 뒤 재시도
+        if (remainToUse > 0) {
+            throw SlotRebalanceRequiredException.forUse(userId, slot.getSlotNo(), amount);
+        }
+        pointDeductionQueueCache.invalidateAfterCommit(List.of(userId)); // 지갑 버전이 바뀌지 않으므로 직접 무효화
+
+        // 3. 저장 및 처리 결과를 멱등성 키에 기록
+        long historyId = pointHistoryJournal.write(history);
+        PointCommandResponse response = PointCommandResponse.builder()
+                .userId(userId)
+                .refId(refId)
+                .historyId(historyId)
+                .amount(amount)
+                .balance(stripedWalletService.totalBalance(userId))
+                .build();
+        pointIdempotencyKeyStore.complete(PointType.USE, response);
+        return response;
+    }
+
+    /**
+     * 차감 큐 기반 차감
+     * - 큐로 차감 계획을 세운 뒤, 실제로 소진할 아이템만 PK로 조회함.
+     * - 조회한 엔티티가 큐와 다르면(다른 경로의 변경 등) 아무것도 변경하지 않고 null을 반환하여 폴백하게 함.
+     * @param sink 아이템별 차감 금액을 받아 기록하는 콜백 (사용: 이력 Detail, 홀드: 홀드 상세)
+     * @return 차감된 아이템 목록, 큐를 사용할 수 없으면 null
+     */
+    private List<PointItem> deductFromQueue(PointDeductionQueue queue, long amount, LocalDateTime now,
+                                            Long userId, ObjLongConsumer<PointItem> sink) {
+        List<PointDeductionQueue.Allocation> allocations = queue.allocate(amount, now);
+        if (allocations == null) {
+            return null; // 큐 기준 잔액 부족: DB 기준으로 최종 판단
+        }
+
+        Map<Long, PointItem> itemsById = pointItemRepository.findAllById(
+                        allocations.stream().map(PointDeductionQueue.Allocation::itemId).toList()).stream()
+                .collect(Collectors.toMap(PointItem::getId, Function.identity()));
+
+        // 1. 검증 (모두 일치할 때만 차감)
+        for (PointDeductionQueue.Allocation allocation : allocations) {
+            PointItem item = itemsById.get(allocation.itemId());
+            if (item == null
+                    || item.getStatus() != PointStatus.AVAILABLE
+                    || item.getRemainAmount() != allocation.expectedRemain()
+                    || !item.getExpireAt().isAfter(now)) {
+                log.warn("Deduction queue mismatch. Falling back to DB: userId={}, itemId={}", userId, allocation.itemId());
+                return null;
+            }
+        }
+
+        // 2. 차감 및 차감 내역 기록
+        List<PointItem> consumed = new ArrayList<>(allocations.size());
+        for (PointDeductionQueue.Allocation allocation : allocations) {
+            PointItem item = itemsById.get(allocation.itemId());
+            item.use(allocation.amount(), now);
+            sink.accept(item, allocation.amount());
+            consumed.add(item);
+        }
+        return consumed;
+    }
+
+    /**
+     * DB 정렬 조회 기반 차감 (폴백 경로)
+     * - 우선순위(Manual DESC, ExpireAt ASC) 순으로 DEDUCTION_PAGE_SIZE건씩 조회하며, 사용 금액을 모두 채우면 즉시 중단함.
+     * - 보유 아이템이 많아도 조회/메모리 비용은 실제로 소진하는 아이템 수에 비례함.
+     */
+    private List<PointItem> deductFromDatabase(Long userId, long amount, LocalDateTime now, ObjLongConsumer<PointItem> sink) {
+        List<PointItem> consumed = new ArrayList<>();
+        long remainToUse = amount;
+
+        Pageable page = PageRequest.of(0, DEDUCTION_PAGE_SIZE);
+        List<PointItem> items = pointItemRepository.findDeductionPage(userId, PointStatus.AVAILABLE, now, page);
+
+        while (!items.isEmpty()) {
+            for (PointItem item : items) {
+                if (remainToUse <= 0) break; // 사용 금액을 모두 채웠다면 루프 종료
+
+                long useAmount = Math.min(item.getRemainAmount(), remainToUse);
+
+                // 아이템 차감 (상태 변경 로직은 Item 도메인에 위임, 만료 여부는 동일한 기준 시각으로 판단)
+                item.use(useAmount, now);
+
+                // 차감 내역 기록: 어떤 Item을 얼마만큼 썼는지
+                sink.accept(item, useAmount);
+
+                consumed.add(item);
+                remainToUse -= useAmount;
+            }
+
+            if (remainToUse <= 0 || items.size() < DEDUCTION_PAGE_SIZE) break; // 다 채웠거나 마지막 페이지
+
+            // 다음 페이지: 직전 페이지 마지막 아이템 이후부터 (Keyset)
+            PointItem last = items.get(items.size() - 1);
+            items = pointItemRepository.findDeductionPageAfter(userId, PointStatus.AVAILABLE, now,
+                    last.isManual(), last.getExpireAt(), last.getId(), page);
+        }
+
+        // 포인트 부족 체크 (지갑 잔액은 속일 수 있지만, 유효한 Item은 부족할 수 있음)
+        if (remainToUse > 0) {
+            // 예외 발생 시 트랜잭션 롤백 -> 지갑 잔액 차감도 자동 취소되어 정합성 유지
+            throw BusinessException.invalid("유효한 포인트가 부족합니다. (만료된 포인트 포함됨)");
+        }
+        return consumed;
+    }
+
+    /**
+     * 보관 테이블의 원본 사용 내역 조회 (사용 취소용)
+     * - 원본 아이템은 보관 대상이 아니므로 Hot 테이블에서 한 번에 조회함. (지갑 Lock 안이므로 아이템 상태가 바뀌지 않음)
+     */
+    private RefundableUse findArchivedUse(Long userId, String orderId) {
+        PointHistoryArchive history = pointHistoryArchiveRepository.findByUserIdAndRefIdAndType(userId, orderId, PointType.USE)
+                .orElseThrow(() -> BusinessException.notFound("해당 주문의 포인트 사용 이력이 없습니다."));
+        List<PointHistoryDetailArchive> details = pointHistoryArchiveRepository.findDetailsByHistoryId(history.getId());
+        Map<Long, PointItem> items = pointItemRepository.findAllById(
+                        details.stream().map(PointHistoryDetailArchive::getPointItemId).toList()).stream()
+                .collect(Collectors.toMap(PointItem::getId, Function.identity()));
+        return RefundableUse.ofArchived(history, details, items);
+    }
+
+    /**
+     * 쓰기용 지갑 조회
+     * - PESSIMISTIC: SELECT ... FOR UPDATE로 Row Lock 획득
+     * - OPTIMISTIC: Lock 없이 조회하고, 커밋 시 @Version 충돌로 갱신 분실을 감지 (재시도는 트랜잭션 바깥에서 수행)
+     * - 스트라이프 지갑: 지갑 + 모든 슬롯을 잠그고 슬롯을 지갑으로 통합 (이후 지갑 잔액 = 총 잔액)
+     */
+    private Optional<UserPointWallet> findWalletForWrite(Long userId) {
+        if (stripedWalletRouter.isStriped(userId)) {
+            return stripedWalletService.lockForWrite(userId);
+        }
+        return walletConcurrencyStrategy.usePessimisticLock()
+                ? userPointWalletRepository.findByUserIdForUpdate(userId)
+                : userPointWalletRepository.findByUserId(userId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.domain.point.entity.PointHistory;
+import com.musinsa.payment.point.domain.point.entity.PointHistoryArchive;
+import com.musinsa.payment.point.domain.point.entity.PointHistoryDetail;
+import com.musinsa.payment.point.domain.point.entity.PointHistoryDetailArchive;
+import com.musinsa.payment.point.domain.point.entity.PointItem;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import com.musinsa.payment.point.global.error.BusinessException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용 취소 대상 원본 USE 이력 (Hot / 보관 테이블 공통)
+ * - 역할: cancelUse가 원본 이력이 어느 테이블에 있는지와 무관하게 같은 환불 규칙(Detail 순서대로 환불, 만료 여부에 따라 취소/재적립)을 적용하도록 감쌈.
+ * - Hot: 영속 상태의 PointHistory / PointHistoryDetail에 환불 금액을 누적하고, Dirty Checking으로 반영함.
+ * - 보관: 보관 테이블은 읽기 전용 엔티티이므로 환불 금액을 모아 두었다가 saveRefunds에서 JDBC로 누적함.
+ */
+final class RefundableUse {
+
+    private final PointHistory history;           // Hot 원본 (보관이면 null)
+    private final Long archivedHistoryId;         // 보관 원본 (Hot이면 null)
+    private final List<Line> lines;
+    private long refundableAmount;
+    private long refundedNow;                     // 이번 취소에서 환불한 금액
+
+    private RefundableUse(PointHistory history, Long archivedHistoryId, long refundableAmount, List<Line> lines) {
+        this.history = history;
+        this.archivedHistoryId = archivedHistoryId;
+        this.refundableAmount = refundableAmount;
+        this.lines = lines;
+    }
+
+    static RefundableUse of(PointHistory history) {
+        List<Line> lines = history.getDetails().stream()
+                .map(detail -> new Line(detail, null, detail.getPointItem(), detail.getRefundableAmount()))
+                .toList();
+        return new RefundableUse(history, null, history.getRefundableAmount(), lines);
+    }
+
+    /**
+     * @param items 상세 내역이 참조하는 원본 아이템 (ID별)
+     */
+    static RefundableUse ofArchived(PointHistoryArchive history, List<PointHistoryDetailArchive> details,
+                                    Map<Long, PointItem> items) {
+        List<Line> lines = details.stream()
+                .map(detail -> new Line(null, detail.getId(), items.get(detail.getPointItemId()),
+                        detail.getAmount() - detail.getRefundedAmount()))
+                .toList();
+        return new RefundableUse(null, history.getId(), history.getAmount() - history.getRefundedAmount(), lines);
+    }
+
+    long getRefundableAmount() {
+        return refundableAmount;
+    }
+
+    List<Line> getLines() {
+        return lines;
+    }
+
+    void refund(long amount) {
+        if (history != null) {
+            history.refund(amount);
+        } else if (amount <= 0 || amount > refundableAmount) {
+            throw BusinessException.invalid("환불 가능 금액을 초과했습니다.");
+        }
+        refundableAmount -= amount;
+        refundedNow += amount;
+    }
+
+    /**
+     * 보관 원본의 환불 누적 반영 (Hot 원본은 Dirty Checking으로 반영되므로 할 일이 없음)
+     */
+    void saveRefunds(PointJdbcRepository pointJdbcRepository) {
+        if (archivedHistoryId == null || refundedNow == 0) return;
+
+        Map<Long, Long> detailRefunds = new LinkedHashMap<>();
+        lines.stream()
+                .filter(line -> line.refundedNow > 0)
+                .forEach(line -> detailRefunds.put(line.archivedDetailId, line.refundedNow));
+        if (!pointJdbcRepository.refundArchivedUse(archivedHistoryId, refundedNow, detailRefunds)) {
+            throw BusinessException.invalid("취소 가능한 금액을 초과했습니다.");
+        }
+    }
+
+    /**
+     * 원본 상세 내역 1건 (어느 아이템에서 얼마를 차감했고, 얼마를 더 환불할 수 있는지)
+     */
+    static final class Line {
+
+        private final PointHistoryDetail detail;  // Hot 상세 (보관이면 null)
+        private final Long archivedDetailId;      // 보관 상세 (Hot이면 null)
+        private final PointItem pointItem;
+        private long refundableAmount;
+        private long refundedNow;
+
+        private Line(PointHistoryDetail detail, Long archivedDetailId, PointItem pointItem, long refundableAmount) {
+            this.detail = detail;
+            this.archivedDetailId = archivedDetailId;
+            this.pointItem = pointItem;
+            this.refundableAmount = refundableAmount;
+        }
+
+        PointItem getPointItem() {
+            return pointItem;
+        }
+
+        long getRefundableAmount() {
+            return refundableAmount;
+        }
+
+        void refund(long amount) {
+            if (detail != null) {
+                detail.refund(amount);
+            } else if (amount <= 0 || amount > refundableAmount) {
+                throw BusinessException.invalid("상세 내역의 환불 가능 금액을 초과했습니다.");
+            }
+            refundableAmount -= amount;
+            refundedNow += amount;
+        }
+    }
+}
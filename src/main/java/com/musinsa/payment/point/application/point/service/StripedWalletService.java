@@ -0,0 +1,277 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.domain.point.entity.PointItem;
+import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
+import com.musinsa.payment.point.domain.point.entity.UserPointWalletSlot;
+import com.musinsa.payment.point.domain.point.enums.PointStatus;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.SlotSnapshot;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletSlotRepository;
+import com.musinsa.payment.point.global.concurrency.SlotRebalanceRequiredException;
+import com.musinsa.payment.point.global.concurrency.StripedWalletRouter;
+import com.musinsa.payment.point.global.error.BusinessException;
+import com.musinsa.payment.point.global.policy.PointPolicyManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 스트라이프 지갑 Service
+ * - 역할: 핫 지갑의 슬롯 선택(핫 경로), 슬롯 간 재분배, 슬롯 통합을 담당함.
+ * - 통합(consolidate): 지갑 + 모든 슬롯을 잠그고 슬롯 잔액과 Item 배정을 지갑으로 모음. 이후에는 일반 지갑과 완전히 같으므로,
+ *   핫 경로가 아닌 모든 쓰기(적립 취소, 사용 취소, 홀드, 일괄 적립, 만료 배치 등)는 기존 로직을 그대로 사용함.
+ * - Lock 순서: 지갑 -> 슬롯(slotNo 오름차순) -> Item. 핫 경로는 슬롯 1개 -> Item 순서로만 잠금.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StripedWalletService {
+
+    // 재분배 시 한 번에 조회하는 Item 수 (옮길 금액이 채워지면 다음 페이지를 읽지 않음)
+    private static final int MOVE_PAGE_SIZE = 20;
+
+    private final StripedWalletRouter stripedWalletRouter;
+    private final UserPointWalletRepository userPointWalletRepository;
+    private final UserPointWalletSlotRepository userPointWalletSlotRepository;
+    private final PointItemRepository pointItemRepository;
+    private final PointPolicyManager policyManager;
+    private final PointDeductionQueueCache pointDeductionQueueCache;
+
+    /**
+     * 쓰기용 지갑 잠금 (호출자 트랜잭션 안에서 수행)
+     * - 일반 지갑: SELECT ... FOR UPDATE
+     * - 스트라이프 지갑: 통합 후 지갑 반환 (지갑 잔액 = 총 잔액)
+     */
+    public Optional<UserPointWallet> lockForWrite(Long userId) {
+        Optional<UserPointWallet> wallet = userPointWalletRepository.findByUserIdForUpdate(userId);
+        if (stripedWalletRouter.isStriped(userId)) {
+            wallet.ifPresent(this::consolidate);
+        }
+        return wallet;
+    }
+
+    /**
+     * 여러 지갑 일괄 잠금 (userId 오름차순, 스트라이프 지갑은 통합)
+     * - 지갑을 모두 잠근 뒤 슬롯을 잠그므로, 지갑 -> 슬롯 순서가 유지됨.
+     */
+    public List<UserPointWallet> lockAllForWrite(Collection<Long> userIds) {
+        List<UserPointWallet> wallets = userPointWalletRepository.findAllByUserIdInForUpdate(userIds);
+        for (UserPointWallet wallet : wallets) {
+            if (stripedWalletRouter.isStriped(wallet.getUserId())) {
+                consolidate(wallet);
+            }
+        }
+        return wallets;
+    }
+
+    /**
+     * 총 잔액 조회 (Lock 없음, 지갑이 없으면 null)
+     */
+    public Long totalBalance(Long userId) {
+        return userPointWalletRepository.findByUserId(userId)
+                .map(this::totalBalance)
+                .orElse(null);
+    }
+
+    /**
+     * 총 잔액 조회 (Lock 없음): 지갑 잔액 + 슬롯 잔액 합계
+     */
+    public long totalBalance(UserPointWallet wallet) {
+        if (!stripedWalletRouter.isStriped(wallet.getUserId())) {
+            return wallet.getBalance();
+        }
+        return wallet.getBalance() + userPointWalletSlotRepository.sumBalanceByUserId(wallet.getUserId());
+    }
+
+    /**
+     * 사용할 슬롯 잠금 (핫 경로)
+     * - 참조번호 해시 슬롯부터 잔액이 충분해 보이는 슬롯을 고르고, 해당 슬롯 1개만 잠금.
+     * - 잠근 뒤에도 잔액이 부족하면 재분배를 요청함.
+     */
+    public UserPointWalletSlot lockSlotForUse(Long userId, String refId, long amount) {
+        int slotNo = chooseSlot(userId, refId, amount, SlotSnapshot::balance);
+        UserPointWalletSlot slot = userPointWalletSlotRepository.findByUserIdAndSlotNoForUpdate(userId, slotNo)
+                .orElseThrow(() -> SlotRebalanceRequiredException.forUse(userId, slotNo, amount));
+        if (slot.getBalance() < amount) {
+            throw SlotRebalanceRequiredException.forUse(userId, slotNo, amount);
+        }
+        return slot;
+    }
+
+    /**
+     * 적립할 슬롯 잠금 (핫 경로)
+     * - 보유 한도 정책이 바뀐 뒤 배정된 여유분은 쓰지 않고 재분배를 요청함. (한도 감소 시에도 정확히 지켜지도록)
+     */
+    public UserPointWalletSlot lockSlotForEarn(Long userId, String refId, long amount) {
+        int slotNo = chooseSlot(userId, refId, amount, SlotSnapshot::headroom);
+        UserPointWalletSlot slot = userPointWalletSlotRepository.findByUserIdAndSlotNoForUpdate(userId, slotNo)
+                .orElseThrow(() -> SlotRebalanceRequiredException.forEarn(userId, slotNo, amount));
+        if (slot.getHeadroom() < amount || slot.getGrantedLimit() != policyManager.getMaxPossessionLimit()) {
+            throw SlotRebalanceRequiredException.forEarn(userId, slotNo, amount);
+        }
+        return slot;
+    }
+
+    /**
+     * 슬롯 재분배 (StripedWalletRouter에서 트랜잭션 바깥으로 호출됨)
+     * - 지갑 + 모든 슬롯을 잠근 상태에서 수행하므로, 이 시점의 잔액 부족/한도 초과 판단은 정확함.
+     * - 사용: 다른 슬롯/지갑의 Item을 우선순위 순으로 대상 슬롯에 옮김 (Item 단위 이동, 잔액도 같은 금액만큼 이동)
+     *   Item은 페이지 단위로 조회하여, 옮길 금액을 채우는 데 필요한 만큼만 영속성 컨텍스트에 올림.
+     * - 적립: 보유 한도 여유분(한도 - 총 잔액)을 회수하여 대상 슬롯에 우선 배정하고 나머지는 균등 배정
+     */
+    @Transactional
+    public void rebalance(SlotRebalanceRequiredException request) {
+        Long userId = request.getUserId();
+        UserPointWallet wallet = userPointWalletRepository.findByUserIdForUpdate(userId).orElse(null);
+        if (wallet == null) return; // 지갑이 없으면 통합 경로에서 처리
+
+        Map<Integer, UserPointWalletSlot> slots = lockSlots(userId);
+        UserPointWalletSlot target = slots.get(request.getSlotNo());
+
+        if (request.getEarnAmount() > 0) {
+            regrantHeadroom(wallet, slots, target, request.getEarnAmount());
+        }
+        if (request.getUseAmount() > 0) {
+            moveItems(wallet, slots, target, request.getUseAmount());
+        }
+
+        pointDeductionQueueCache.invalidateAfterCommit(List.of(userId));
+        log.debug("Wallet slot rebalanced: userId={}, slotNo={}, use={}, earn={}",
+                userId, request.getSlotNo(), request.getUseAmount(), request.getEarnAmount());
+    }
+
+    /**
+     * 통합: 모든 슬롯 잔액과 Item 배정을 지갑으로 모음 (지갑 Lock을 잡은 상태에서 호출)
+     */
+    private void consolidate(UserPointWallet wallet) {
+        long drained = 0;
+        for (UserPointWalletSlot slot : userPointWalletSlotRepository.findAllByUserIdForUpdate(wallet.getUserId())) {
+            drained += slot.drain();
+        }
+        if (drained > 0) {
+            wallet.restore(drained);
+        }
+        pointItemRepository.clearWalletSlots(wallet.getUserId());
+    }
+
+    /**
+     * 모든 슬롯 잠금 (없는 슬롯은 생성, 지갑 Lock을 잡은 상태에서 호출)
+     */
+    private Map<Integer, UserPointWalletSlot> lockSlots(Long userId) {
+        Map<Integer, UserPointWalletSlot> slots = userPointWalletSlotRepository.findAllByUserIdForUpdate(userId).stream()
+                .collect(Collectors.toMap(UserPointWalletSlot::getSlotNo, Function.identity()));
+        for (int slotNo = 0; slotNo < stripedWalletRouter.getStripes(); slotNo++) {
+            if (!slots.containsKey(slotNo)) {
+                slots.put(slotNo, userPointWalletSlotRepository.save(new UserPointWalletSlot(userId, slotNo)));
+            }
+        }
+        return slots;
+    }
+
+    private void regrantHeadroom(UserPointWallet wallet, Map<Integer, UserPointWalletSlot> slots,
+                                 UserPointWalletSlot target, long amount) {
+        long limit = policyManager.getMaxPossessionLimit();
+        long total = wallet.getBalance() + slots.values().stream().mapToLong(UserPointWalletSlot::getBalance).sum();
+        long pool = Math.max(0, limit - total); // 현재 배정 가능한 전체 여유분 (기존 배정분은 모두 회수)
+
+        if (pool < amount) {
+            throw BusinessException.invalid("개인별 최대 보유 한도를 초과했습니다.");
+        }
+
+        // 대상 슬롯에 요청 금액 이상을 먼저 배정하고, 나머지는 다른 슬롯에 균등 배정
+        long targetGrant = Math.min(pool, Math.max(amount, pool / slots.size()));
+        long rest = pool - targetGrant;
+        int others = slots.size() - 1;
+        for (UserPointWalletSlot slot : slots.values()) {
+            long grant = slot == target ? targetGrant : rest / Math.max(1, others);
+            slot.grantHeadroom(grant, limit);
+        }
+    }
+
+    private void moveItems(UserPointWallet wallet, Map<Integer, UserPointWalletSlot> slots,
+                           UserPointWalletSlot target, long amount) {
+        long total = wallet.getBalance() + slots.values().stream().mapToLong(UserPointWalletSlot::getBalance).sum();
+        if (total < amount) {
+            throw BusinessException.invalid("포인트 잔액이 부족합니다.");
+        }
+
+        // 요청 금액과 균등 몫 중 큰 금액까지 채워, 다음 요청들이 곧바로 다시 재분배하지 않게 함
+        long want = Math.max(amount, total / slots.size());
+
+        // 유효한 Item을 우선순위 순으로 MOVE_PAGE_SIZE건씩 조회하며, 대상 슬롯이 want만큼 차면 즉시 중단함
+        // (지갑 + 모든 슬롯을 잠근 상태이므로 다른 트랜잭션이 변경하지 않고, 이동은 정렬 키를 바꾸지 않아 Keyset이 유지됨)
+        LocalDateTime now = LocalDateTime.now();
+        Long userId = wallet.getUserId();
+        Pageable page = PageRequest.of(0, MOVE_PAGE_SIZE);
+        List<PointItem> items = pointItemRepository.findDeductionPage(userId, PointStatus.AVAILABLE, now, page);
+
+        long validInTarget = 0;
+        while (!items.isEmpty()) {
+            for (PointItem item : items) {
+                if (validInTarget >= want) break;
+
+                long moving = item.getRemainAmount();
+                if (Integer.valueOf(target.getSlotNo()).equals(item.getWalletSlot())) {
+                    validInTarget += moving;
+                    continue;
+                }
+                UserPointWalletSlot owner = item.getWalletSlot() == null ? null : slots.get(item.getWalletSlot());
+                if (owner != null) {
+                    owner.withdraw(moving);
+                } else {
+                    wallet.use(moving);
+                }
+                target.deposit(moving);
+                item.assignWalletSlot(target.getSlotNo());
+                validInTarget += moving;
+            }
+
+            if (validInTarget >= want || items.size() < MOVE_PAGE_SIZE) break; // 다 채웠거나 마지막 페이지
+
+            PointItem last = items.get(items.size() - 1);
+            items = pointItemRepository.findDeductionPageAfter(userId, PointStatus.AVAILABLE, now,
+                    last.isManual(), last.getExpireAt(), last.getId(), page);
+        }
+
+        // 유효한 Item을 모두 훑고도 요청 금액을 채우지 못한 경우 (만료 대기 Item만 남음)
+        if (validInTarget < amount) {
+            throw BusinessException.invalid("유효한 포인트가 부족합니다. (만료된 포인트 포함됨)");
+        }
+    }
+
+    /**
+     * 슬롯 선택: 해시 슬롯부터 순회하며 여유(사용: 잔액, 적립: 한도 여유분)가 충분한 첫 슬롯 (없으면 해시 슬롯)
+     * @param capacity 스냅샷에서 여유로 볼 값 (SlotSnapshot::balance 또는 SlotSnapshot::headroom)
+     */
+    private int chooseSlot(Long userId, String refId, long amount, ToLongFunction<SlotSnapshot> capacity) {
+        int stripes = stripedWalletRouter.getStripes();
+        int start = stripedWalletRouter.slotOf(refId);
+
+        long[] available = new long[stripes];
+        for (SlotSnapshot snapshot : userPointWalletSlotRepository.findSlotSnapshots(userId)) {
+            if (snapshot.slotNo() < stripes) {
+                available[snapshot.slotNo()] = capacity.applyAsLong(snapshot);
+            }
+        }
+        for (int i = 0; i < stripes; i++) {
+            int slotNo = (start + i) % stripes;
+            if (available[slotNo] >= amount) {
+                return slotNo;
+            }
+        }
+        return start;
+    }
+}
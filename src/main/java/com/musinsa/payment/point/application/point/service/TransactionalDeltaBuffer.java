@@ -0,0 +1,107 @@
+package com.musinsa.payment.point.application.point.service;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * 트랜잭션별 증감 누적기 (집계 테이블 공통)
+ * - 역할: 쓰기 트랜잭션 안에서 발생한 증감을 키별로 합산해 두었다가, 커밋 직전(beforeCommit)에 한 번의 UPSERT로 반영함.
+ *   집계 행은 원본 변경과 같은 트랜잭션으로 커밋되므로, 롤백되면 함께 원복됨.
+ * - 수집: 커밋 시점 Flush에서 발생하는 변경까지 모으기 위해, 반영 직전에 먼저 Flush함.
+ * - 순서: 키의 정렬 순서(TreeMap)대로 행 Lock을 획득하여 데드락을 예방함. 키 정렬은 대상 테이블의 PK 순서와 같아야 함.
+ * - 쓰기 트랜잭션 밖에서 기록되면 즉시 반영함.
+ * - 사용: PointLiabilityRecorder, PointDailyStatRecorder, PointExpiryBucketRecorder
+ */
+final class TransactionalDeltaBuffer<K extends Comparable<K>, R> {
+
+    private final EntityManager entityManager;
+    private final BiFunction<K, Long, R> toRow;
+    private final Consumer<List<R>> upsert;
+
+    /**
+     * @param toRow  (키, 합산 증감) -> UPSERT 행
+     * @param upsert 행 목록 일괄 반영 (키 순서로 전달됨)
+     */
+    TransactionalDeltaBuffer(EntityManager entityManager, BiFunction<K, Long, R> toRow, Consumer<List<R>> upsert) {
+        this.entityManager = entityManager;
+        this.toRow = toRow;
+        this.upsert = upsert;
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션에 반영 훅 등록
+     * - 커밋 시점 Flush에서야 발생하는 변경(Dirty Checking, 지연 INSERT)도 수집되도록, 변경이 생기기 전에 미리 등록해 둠.
+     */
+    void track() {
+        pending();
+    }
+
+    /**
+     * 증감 누적 (쓰기 트랜잭션 밖이면 즉시 반영)
+     */
+    void add(K key, long delta) {
+        if (delta == 0) return;
+        Map<K, Long> pending = pending();
+        if (pending == null) {
+            upsert.accept(List.of(toRow.apply(key, delta)));
+            return;
+        }
+        pending.merge(key, delta, Long::sum);
+    }
+
+    /**
+     * 현재 트랜잭션의 미반영 증감 (쓰기 트랜잭션이 아니면 null)
+     * - 처음 조회될 때 커밋 직전 반영 훅을 등록함. 훅은 트랜잭션 동기화 목록에 속하므로, 트랜잭션이 중첩되어도 섞이지 않음.
+     */
+    private Map<K, Long> pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return null;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof TransactionalDeltaBuffer<?, ?>.Pending registered && registered.owner() == this) {
+                @SuppressWarnings("unchecked")
+                Map<K, Long> deltas = (Map<K, Long>) registered.deltas;
+                return deltas;
+            }
+        }
+        Pending created = new Pending();
+        TransactionSynchronizationManager.registerSynchronization(created);
+        return created.deltas;
+    }
+
+    /**
+     * 트랜잭션별 미반영 증감 + 커밋 직전 반영 훅
+     */
+    private class Pending implements TransactionSynchronization {
+
+        private final Map<K, Long> deltas = new TreeMap<>();
+
+        private TransactionalDeltaBuffer<K, R> owner() {
+            return TransactionalDeltaBuffer.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            entityManager.flush(); // 커밋 Flush에서 발생할 변경을 지금 발생시켜 함께 수집
+
+            List<R> rows = new ArrayList<>(deltas.size());
+            deltas.forEach((key, delta) -> {
+                if (delta != 0) rows.add(toRow.apply(key, delta));
+            });
+            deltas.clear();
+            if (!rows.isEmpty()) {
+                upsert.accept(rows);
+            }
+        }
+    }
+}
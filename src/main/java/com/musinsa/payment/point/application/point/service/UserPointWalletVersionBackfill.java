@@ -0,0 +1,30 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지갑 버전 백필
+ * - 역할: @Version 도입 전에 생성된 지갑(version IS NULL)의 버전을 0으로 채움.
+ *   버전이 없으면 낙관적 락 갱신 조건(WHERE version = ?)이 맞지 않고, 잔액 캐시/차감 큐가 버전 비교를 할 수 없음.
+ * - 특징: 요청을 받기 전(빈 초기화 시점)에 수행하며, 이미 채워졌으면 UPDATE 1회로 끝남.
+ *   ddl-auto는 기존 컬럼의 NOT NULL 제약을 추가하지 않으므로, 운영 DB는 백필 후 ALTER로 NOT NULL DEFAULT 0을 적용함.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPointWalletVersionBackfill {
+
+    private final PointJdbcRepository pointJdbcRepository;
+
+    @PostConstruct
+    public void backfill() {
+        int rows = pointJdbcRepository.backfillWalletVersions();
+        if (rows > 0) {
+            log.info(">>> 지갑 버전 백필 완료: {}건", rows);
+        }
+    }
+}
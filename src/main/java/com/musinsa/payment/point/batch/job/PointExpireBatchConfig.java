@@ -1,9 +1,20 @@
 package com.musinsa.payment.point.batch.job;
 
+import com.musinsa.payment.point.application.point.service.PointBalanceCache;
+import com.musinsa.payment.point.application.point.service.PointDailyStatRecorder;
+import com.musinsa.payment.point.application.point.service.PointDeductionQueueCache;
+import com.musinsa.payment.point.application.point.service.PointExpiryBucketRecorder;
+import com.musinsa.payment.point.application.point.service.PointLiabilityRecorder;
+import com.musinsa.payment.point.application.point.service.StripedWalletService;
 import com.musinsa.payment.point.domain.point.entity.*;
 import com.musinsa.payment.point.domain.point.enums.PointStatus;
 import com.musinsa.payment.point.domain.point.enums.PointType;
 import com.musinsa.payment.point.domain.point.repository.*;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.DetailRow;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.ExpiringItemRow;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.HistoryRow;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import com.zaxxer.hikari.HikariDataSource;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,21 +22,32 @@ import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JpaCursorItemReader; // 구체적 타입 import
 import org.springframework.batch.item.database.builder.JpaCursorItemReaderBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +55,8 @@ import java.util.stream.Collectors;
  * - 유효기간이 만료된 PointItem의 잔액을 0으로 만들고 상태를 EXPIRED로 변경하며,
  * UserPointWallet과 PointHistory에 해당 차감 내역을 기록하여 데이터 정합성을 유지함.
  * - 전략: JpaCursorItemReader를 사용하여 대용량 데이터 조회 시 메모리 부하를 줄임.
+ *   만료 처리 Step은 userId 기준 파티션으로 나누어 여러 스레드에서 동시에 수행함.
+ * - 파생 테이블 정리/재집계는 별도 Job(pointReconcileJob)이 수행하므로, 만료 자동 실행 여부와 무관하게 매일 실행됨.
  */
 @Slf4j
 @Configuration
@@ -42,30 +66,104 @@ public class PointExpireBatchConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+    // 스프링 부트 공용 실행기 (spring.threads.virtual.enabled=true면 Virtual Thread, 아니면 스레드 풀)
+    private final TaskExecutor applicationTaskExecutor;
 
-    private final UserPointWalletRepository userPointWalletRepository;
-    private final PointHistoryRepository pointHistoryRepository;
-    private final PointItemRepository pointItemRepository;
+    private final StripedWalletService stripedWalletService;
+    private final PointDeductionQueueCache pointDeductionQueueCache;
+    private final PointBalanceCache pointBalanceCache;
+    private final PointExpiryBucketRecorder pointExpiryBucketRecorder;
+    private final PointLiabilityRecorder pointLiabilityRecorder;
+    private final PointDailyStatRecorder pointDailyStatRecorder;
+    private final PointJdbcRepository pointJdbcRepository;
 
     private static final int CHUNK_SIZE = 1000;
 
+    // 만료 처리 기본 파티션 수 (Job Parameter partitions로 실행마다 지정 가능)
+    @Value("${musinsa.point.expire.partitions:4}")
+    private int defaultPartitions;
+
+    // 파티션 수 상한 (0: 커넥션 풀 크기로 계산한 상한만 적용)
+    @Value("${musinsa.point.expire.max-partitions:0}")
+    private int maxPartitions;
+
+    // 파티션이 쓰지 않고 남겨 둘 커넥션 수 (Job 메타데이터 갱신, 배치 중 들어오는 요청)
+    private static final int RESERVED_CONNECTIONS = 2;
+
+    // Job이 여러 개이므로, 이름 없이 Job 타입으로 주입받는 곳(PointJobScheduler, 테스트의 JobLauncherTestUtils)은 만료 Job을 받음
     @Bean
+    @Primary
     public Job pointExpireJob() {
         return new JobBuilder("pointExpireJob", jobRepository)
                 .start(pointExpireStep())
                 .build();
     }
 
+    /**
+     * 만료 처리 Step (Partitioned)
+     * - userId % partitions로 나눈 파티션마다 Reader/Writer를 가진 Worker Step을 별도 스레드에서 동시에 실행함.
+     * - 한 유저의 Item은 항상 같은 파티션에 속하므로, 파티션끼리 같은 지갑을 잠그지 않음. (지갑 Lock 경합/버전 충돌 없음)
+     * - 파티션 수: Job Parameter partitions (없으면 musinsa.point.expire.partitions, 최대 max-partitions)
+     */
     @Bean
     public Step pointExpireStep() {
         return new StepBuilder("pointExpireStep", jobRepository)
+                .partitioner("pointExpireWorkerStep", pointExpirePartitioner(null))
+                .step(pointExpireWorkerStep())
+                .taskExecutor(applicationTaskExecutor) // 파티션마다 스레드 1개
+                .build();
+    }
+
+    @Bean
+    public Step pointExpireWorkerStep() {
+        return new StepBuilder("pointExpireWorkerStep", jobRepository)
                 .<PointItem, PointItem>chunk(CHUNK_SIZE, transactionManager)
-                .reader(pointExpireItemReader(null))
+                .reader(pointExpireItemReader(null, null, null))
                 // .processor()는 제거합니다. (Writer에서 처리)
                 .writer(pointExpireItemWriter())
                 .build();
     }
 
+    /**
+     * [Partitioner] userId 나머지 기준 파티션 분할
+     * - 파티션마다 (partition, partitions)를 Step Execution Context로 넘기고, Reader가 MOD(userId, partitions) = partition 조건으로 읽음.
+     * - 파티션 하나가 Reader 커서와 Chunk 트랜잭션으로 커넥션 2개를 사용하므로, 파티션 수는 (커넥션 풀 크기 - 예비 2개) / 2를 넘지 않도록 제한함.
+     */
+    @Bean
+    @StepScope
+    public Partitioner pointExpirePartitioner(@Value("#{jobParameters[partitions]}") String partitions) {
+        int count = (partitions != null) ? Integer.parseInt(partitions) : defaultPartitions;
+        int cap = (maxPartitions > 0) ? Math.min(maxPartitions, partitionCapOfPool()) : partitionCapOfPool();
+        int resolved = Math.max(1, Math.min(count, cap));
+        return gridSize -> {
+            Map<String, ExecutionContext> contexts = new HashMap<>();
+            for (int i = 0; i < resolved; i++) {
+                ExecutionContext context = new ExecutionContext();
+                context.putInt("partition", i);
+                context.putInt("partitions", resolved);
+                contexts.put("partition" + i, context);
+            }
+            return contexts;
+        };
+    }
+
+    /**
+     * 커넥션 풀 크기로 계산한 파티션 수 상한
+     * - Hikari가 아니면 Hikari 기본 풀 크기(10)로 계산함.
+     */
+    private int partitionCapOfPool() {
+        int poolSize = 10;
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("Connection pool size unavailable, using default: {}", poolSize);
+        }
+        return Math.max(1, (poolSize - RESERVED_CONNECTIONS) / 2);
+    }
+
     /**
      * [Reader] 만료 대상 PointItem 조회
      * - JpaCursorItemReader 사용: Page 방식보다 메모리 효율적이며, 대용량 처리에 유리함.
@@ -73,87 +171,106 @@ public class PointExpireBatchConfig {
      */
     @Bean
     @StepScope
-    public JpaCursorItemReader<PointItem> pointExpireItemReader(@Value("#{jobParameters[targetDate]}") String targetDate) {
+    public JpaCursorItemReader<PointItem> pointExpireItemReader(@Value("#{jobParameters[targetDate]}") String targetDate,
+                                                                @Value("#{stepExecutionContext['partition']}") Integer partition,
+                                                                @Value("#{stepExecutionContext['partitions']}") Integer partitions) {
         // 기준일 설정 (파라미터가 없으면 현재 시간 기준)
         LocalDateTime criterion = (targetDate != null)
                 ? LocalDate.parse(targetDate).atStartOfDay()
                 : LocalDateTime.now();
 
-        log.info("Batch Reader Start: criterion={}", criterion);
+        log.info("Batch Reader Start: criterion={}, partition={}/{}", criterion, partition, partitions);
+
+        // 쿼리: 상태 AVAILABLE && 만료일(expireAt)이 기준일 이전인 Item 조회
+        // - 만료 버킷 사용 시: 기준일까지 만료 잔액이 남은 유저만 버킷(idx_bucket_date_user)으로 먼저 골라,
+        //   전체 AVAILABLE Item 스캔 대신 유저별 idx_user_status_expire 범위 조회로 읽음.
+        String query = "SELECT p FROM PointItem p WHERE p.status = :status AND p.expireAt < :date";
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "status", PointStatus.AVAILABLE,
+                "date", criterion
+        ));
+        if (pointExpiryBucketRecorder.isEnabled()) {
+            query = "SELECT p FROM PointItem p WHERE p.userId IN (" +
+                    "SELECT b.userId FROM PointExpiryBucket b WHERE b.expireDate <= :day AND b.amount > 0) " +
+                    "AND p.status = :status AND p.expireAt < :date";
+            parameters.put("day", criterion.toLocalDate());
+        }
+        // 파티션 조건: 이 파티션에 속한 유저의 Item만 읽음
+        if (partitions != null && partitions > 1) {
+            query += " AND MOD(p.userId, :partitions) = :partition";
+            parameters.put("partitions", partitions.longValue());
+            parameters.put("partition", partition.longValue());
+        }
 
         return new JpaCursorItemReaderBuilder<PointItem>()
                 .name("pointExpireItemReader")
                 .entityManagerFactory(entityManagerFactory)
-                // 쿼리: 상태 AVAILABLE && 만료일(expireAt)이 기준일 이전인 Item 조회
-                .queryString("SELECT p FROM PointItem p WHERE p.status = :status AND p.expireAt < :date")
-                .parameterValues(Map.of(
-                        "status", PointStatus.AVAILABLE,
-                        "date", criterion
-                ))
+                .queryString(query)
+                .parameterValues(parameters)
                 .build();
     }
 
     /**
-     * [Writer] 만료 처리 및 DB 업데이트
+     * [Writer] 만료 처리 및 DB 업데이트 (Set-based)
      * - 역할: 1. Item 상태 변경(expire), 2. History 생성, 3. Wallet 잔액 차감.
      * - 모든 DB 쓰기 작업은 이 Writer의 청크 단위 트랜잭션 내에서 수행됨.
+     * - Chunk 크기와 무관하게 지갑 Lock 1회, Item Lock 1회, Item UPDATE 1회, 지갑 UPDATE / History / Detail JDBC Batch 각 1회로 처리함.
+     *   (Item을 엔티티로 로딩하지 않으므로 만료 버킷/통계/잔여 포인트 증감은 일괄 적립과 같이 직접 기록함)
      */
     @Bean
     public ItemWriter<PointItem> pointExpireItemWriter() {
         return chunk -> {
-            List<? extends PointItem> items = chunk.getItems();
-            List<PointHistory> histories = new ArrayList<>();
-
-            // 1. 개별 아이템 만료 처리 및 히스토리 생성
-            for (PointItem item : items) {
-                // A. 만료 전 잔액 스냅샷
-                long expireAmount = item.getRemainAmount();
-
-                if (expireAmount <= 0) continue; // 잔액이 0이면 스킵
-
-                // A. Item 상태 변경 (remainAmount=0, status=EXPIRED)
-                item.expire();
-
-                // B. EXPIRE PointHistory 객체 생성 (이유: 만료 내역 추적)
-                PointHistory history = PointHistory.builder()
-                        .userId(item.getUserId())
-                        .type(PointType.EXPIRE)
-                        .amount(expireAmount)
-                        .refId("BATCH_" + LocalDate.now()) // 참조 ID는 배치 실행일 등으로 기록
-                        .build();
-
-                // 상세 정보 추가
-                history.addDetail(PointHistoryDetail.builder()
-                        .pointItem(item)
-                        .amount(expireAmount)
-                        .build());
-
-                histories.add(history);
-            }
+            // 1. 지갑 일괄 Lock (userId 오름차순, 스트라이프 지갑은 슬롯을 지갑으로 통합)
+            // - Item 변경은 항상 지갑 Lock 안에서 일어나므로, 이후 Item 잔액은 커밋까지 바뀌지 않음
+            Set<Long> userIds = chunk.getItems().stream()
+                    .map(PointItem::getUserId)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            Map<Long, UserPointWallet> wallets = stripedWalletService.lockAllForWrite(userIds).stream()
+                    .collect(Collectors.toMap(UserPointWallet::getUserId, Function.identity()));
+
+            // 2. 만료 대상 Item 잠금 조회 (IN 절 1회)
+            // - Reader(Cursor)의 엔티티는 조회 시점의 스냅샷이므로, 잠근 시점에도 AVAILABLE이고 잔액이 남은 Item의 현재 잔액을 기준으로 만료함
+            List<Long> itemIds = chunk.getItems().stream().map(PointItem::getId).toList();
+            List<ExpiringItemRow> items = pointJdbcRepository.lockExpirableItems(itemIds);
+            if (items.isEmpty()) return;
+
+            // 3. Item 일괄 만료 (UPDATE 1회)
+            pointJdbcRepository.expireItems(items.stream().map(ExpiringItemRow::id).toList());
+
+            // 4. Item별 EXPIRE History/Detail 생성 및 증감 기록
+            LocalDateTime now = LocalDateTime.now();
+            String refId = "BATCH_" + now.toLocalDate(); // 참조 ID는 배치 실행일 등으로 기록
+            List<HistoryRow> histories = new ArrayList<>(items.size());
+            List<DetailRow> details = new ArrayList<>(items.size());
+            Map<Long, Long> userExpireMap = new TreeMap<>();
+            for (ExpiringItemRow item : items) {
+                long historyId = TsidUtil.nextId();
+                histories.add(new HistoryRow(historyId, item.userId(), PointType.EXPIRE, item.remainAmount(), refId));
+                details.add(new DetailRow(TsidUtil.nextId(), historyId, item.id(), item.remainAmount(), null));
+                userExpireMap.merge(item.userId(), item.remainAmount(), Long::sum);
 
-            // 2. 유저별 만료 금액 집계 (Wallet 차감을 위해 그룹핑)
-            Map<Long, Long> userExpireMap = histories.stream()
-                    .collect(Collectors.groupingBy(
-                            PointHistory::getUserId,
-                            Collectors.summingLong(PointHistory::getAmount)
-                    ));
-
-            // 3. UserPointWallet 잔액 차감 (Dirty Checking 활용)
-            for (Map.Entry<Long, Long> entry : userExpireMap.entrySet()) {
-                Long userId = entry.getKey();
-                Long totalExpireAmount = entry.getValue();
-
-                // Lock이 불필요하므로 findByUserId 사용
-                userPointWalletRepository.findByUserId(userId)
-                        .ifPresent(wallet -> wallet.use(totalExpireAmount));
+                // JDBC 변경분은 Entity Listener를 거치지 않으므로 직접 기록
+                pointExpiryBucketRecorder.record(item.userId(), item.expireAt().toLocalDate(), item.manual(), -item.remainAmount());
+                pointLiabilityRecorder.record(item.userId(), -item.remainAmount());
+                pointDailyStatRecorder.record(item.userId(), now, PointType.EXPIRE, item.remainAmount());
             }
+            pointJdbcRepository.batchInsertHistories(histories);
+            pointJdbcRepository.batchInsertDetails(details);
 
-            // 4. 변경된 PointItem들을 명시적으로 저장 (Merge/Update)
-            // ItemReader에서 가져온 엔티티의 상태가 변경되었으므로, 변경 내용 반영을 위해 saveAll(merge) 호출
-            pointItemRepository.saveAll((List<PointItem>) items); // 캐스팅 필요
+            // 5. UserPointWallet 잔액 차감
+            // - 잠근 지갑은 관리 상태이므로 커밋 Flush 시 버전 증가와 함께 UPDATE가 JDBC Batch로 묶임 (order_updates: userId 순)
+            List<UserPointWallet> expiredWallets = new ArrayList<>();
+            userExpireMap.forEach((userId, totalExpireAmount) -> {
+                UserPointWallet wallet = wallets.get(userId);
+                if (wallet == null) return;
+                wallet.use(totalExpireAmount);
+                expiredWallets.add(wallet);
+            });
 
-            // 5. 히스토리 일괄 저장
-            pointHistoryRepository.saveAll(histories);
+            // 만료된 아이템이 차감 큐에 남지 않도록 커밋 후 해당 유저의 큐를 비움 (지갑 버전 변경으로도 무효화됨)
+            pointDeductionQueueCache.invalidateAfterCommit(userExpireMap.keySet());
+            // 잔액 캐시는 커밋된 잔액/버전으로 갱신
+            pointBalanceCache.updateAfterCommit(expiredWallets);
         };
     }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.musinsa.payment.point.batch.job;
+
+import com.musinsa.payment.point.application.point.service.PointHistorySegmentStore;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 포인트 이력 보관 배치 Job 설정 (PointHistoryArchiveJob)
+ * - 역할: 최근 hot-months개월(기준일이 속한 달 포함)보다 오래된 월의 point_history / point_history_detail을
+ *   보관 테이블(point_history_archive / point_history_detail_archive)로 옮겨, Hot 테이블과 인덱스 크기를 일정하게 유지함.
+ * - 기준: 보관 경계는 월 1일 00:00의 최소 TSID이므로, 월 단위로 마감된 이력만 옮겨짐.
+ * - 전략: Tasklet이 chunk-rows건씩 옮기고 CONTINUABLE을 반환하여, 회차마다 별도 트랜잭션으로 커밋함. (Lock 보유 시간 최소화, 실패 시 해당 회차만 롤백)
+ * - 재실행: 이미 옮긴 이력은 Hot 테이블에 없으므로 같은 기준일로 다시 실행해도 남은 이력만 이어서 옮김.
+ * - 세그먼트: history-segment.enabled=true이면 이어서 retain-months개월보다 오래된 월을 보관 테이블에서 세그먼트 파일로 옮김. (pointHistorySegmentStep)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class PointHistoryArchiveBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final PointJdbcRepository pointJdbcRepository;
+    private final PointHistorySegmentStore pointHistorySegmentStore;
+
+    @Value("${musinsa.point.history-archive.hot-months:6}")
+    private int hotMonths;
+
+    @Value("${musinsa.point.history-archive.chunk-rows:5000}")
+    private int chunkRows;
+
+    @Value("${musinsa.point.history-segment.retain-months:12}")
+    private int retainMonths;
+
+    @Bean
+    public Job pointHistoryArchiveJob() {
+        return new JobBuilder("pointHistoryArchiveJob", jobRepository)
+                .start(pointHistoryArchiveStep())
+                .next(pointHistorySegmentStep())
+                .build();
+    }
+
+    @Bean
+    public Step pointHistoryArchiveStep() {
+        return new StepBuilder("pointHistoryArchiveStep", jobRepository)
+                .tasklet(pointHistoryArchiveTasklet(null), transactionManager)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet pointHistoryArchiveTasklet(@Value("#{jobParameters[targetDate]}") String targetDate) {
+        LocalDate criterion = (targetDate != null) ? LocalDate.parse(targetDate) : LocalDate.now();
+        LocalDate cutoff = YearMonth.from(criterion).minusMonths(Math.max(1, hotMonths) - 1L).atDay(1);
+        long cutoffId = TsidUtil.minIdAt(cutoff.atStartOfDay());
+        int rows = Math.max(1, chunkRows);
+        log.info("History archive start: criterion={}, cutoff={}", criterion, cutoff);
+
+        return (contribution, chunkContext) -> {
+            int moved = pointJdbcRepository.archiveHistories(cutoffId, rows);
+            contribution.incrementWriteCount(moved);
+            if (moved == 0) {
+                log.info("History archive finished: cutoff={}, moved={}", cutoff, contribution.getStepExecution().getWriteCount());
+                return RepeatStatus.FINISHED;
+            }
+            return RepeatStatus.CONTINUABLE;
+        };
+    }
+
+    /**
+     * 세그먼트 파일 이동 Step
+     * - 보관 테이블에서 가장 오래된 월부터, 월 전체를 세그먼트 파일로 기록한 뒤 DB에서 chunk-rows건씩 삭제함. (회차마다 별도 트랜잭션)
+     * - 파일을 먼저 기록하고 삭제하므로, 삭제 도중 실패해도 재실행 시 이미 기록된 월은 파일을 다시 쓰지 않고 남은 행만 삭제함.
+     * - 보관 기준(retain-months)은 Hot 보관 기간(hot-months)보다 짧아질 수 없음. (파일로 옮기는 월은 모든 이력이 보관 테이블에 있어야 함)
+     */
+    @Bean
+    public Step pointHistorySegmentStep() {
+        return new StepBuilder("pointHistorySegmentStep", jobRepository)
+                .tasklet(pointHistorySegmentTasklet(null), transactionManager)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet pointHistorySegmentTasklet(@Value("#{jobParameters[targetDate]}") String targetDate) {
+        LocalDate criterion = (targetDate != null) ? LocalDate.parse(targetDate) : LocalDate.now();
+        int months = Math.max(Math.max(1, hotMonths), retainMonths);
+        long cutoffId = TsidUtil.minIdAt(YearMonth.from(criterion).minusMonths(months - 1L).atDay(1).atStartOfDay());
+        int rows = Math.max(1, chunkRows);
+
+        return (contribution, chunkContext) -> {
+            if (!pointHistorySegmentStore.isEnabled()) return RepeatStatus.FINISHED;
+
+            Long oldestId = pointJdbcRepository.findMinArchivedId(cutoffId);
+            if (oldestId == null) return RepeatStatus.FINISHED;
+
+            YearMonth month = YearMonth.from(TsidUtil.timeOf(oldestId));
+            long fromId = TsidUtil.minIdAt(month.atDay(1).atStartOfDay());
+            long toId = TsidUtil.minIdAt(month.plusMonths(1).atDay(1).atStartOfDay());
+            if (!pointHistorySegmentStore.contains(month)) {
+                pointHistorySegmentStore.write(month, fromId, toId);
+            }
+            contribution.incrementWriteCount(pointJdbcRepository.deleteArchivedHistories(fromId, toId, rows));
+            return RepeatStatus.CONTINUABLE;
+        };
+    }
+}
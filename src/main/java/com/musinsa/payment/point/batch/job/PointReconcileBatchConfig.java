@@ -0,0 +1,112 @@
+package com.musinsa.payment.point.batch.job;
+
+import com.musinsa.payment.point.application.point.service.PointDailyStatService;
+import com.musinsa.payment.point.application.point.service.PointLiabilityService;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+
+/**
+ * 파생 테이블 정리/재집계 배치 Job 설정 (PointReconcileJob)
+ * - 역할: 만료 버킷 정리, 일자별 거래 통계 재집계, 잔여 포인트 카운터 보정을 수행함.
+ * - 특징: 만료 배치(pointExpireJob)와 분리된 Job이므로, 만료 자동 실행(expire.schedule-enabled)이 꺼져 있어도
+ *   PointReconcileScheduler가 매일 실행하여 파생 테이블의 누락/오차를 복구함.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class PointReconcileBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final PointJdbcRepository pointJdbcRepository;
+    private final PointDailyStatService pointDailyStatService;
+    private final PointLiabilityService pointLiabilityService;
+
+    @Bean
+    public Job pointReconcileJob() {
+        return new JobBuilder("pointReconcileJob", jobRepository)
+                .start(pointExpiryBucketCleanupStep())
+                .next(pointDailyStatReconcileStep())
+                .next(pointLiabilityReconcileStep())
+                .build();
+    }
+
+    /**
+     * 만료 버킷 정리 Step
+     * - 만료 처리나 사용으로 잔액이 0이 된 지난 일자의 버킷을 삭제하여, 버킷 테이블이 "아직 처리할 잔액이 있는 일자"만 유지하도록 함.
+     */
+    @Bean
+    public Step pointExpiryBucketCleanupStep() {
+        return new StepBuilder("pointExpiryBucketCleanupStep", jobRepository)
+                .tasklet(pointExpiryBucketCleanupTasklet(null), transactionManager)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet pointExpiryBucketCleanupTasklet(@Value("#{jobParameters[targetDate]}") String targetDate) {
+        LocalDate criterion = (targetDate != null) ? LocalDate.parse(targetDate) : LocalDate.now();
+        return (contribution, chunkContext) -> {
+            int deleted = pointJdbcRepository.deleteDrainedExpiryBuckets(criterion);
+            log.info("Expiry bucket cleanup: criterion={}, deleted={}", criterion, deleted);
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    /**
+     * 일자별 거래 통계 재집계 Step
+     * - 마감된 일자(기본: 기준일 전날)의 point_daily_stat을 point_history로 다시 집계하여, 증감 반영 누락/오차를 복구함.
+     * - 복구 범위 지정: Job Parameter statFromDate(yyyy-MM-dd)를 주면 statFromDate ~ 기준일 전날을 재집계함.
+     */
+    @Bean
+    public Step pointDailyStatReconcileStep() {
+        return new StepBuilder("pointDailyStatReconcileStep", jobRepository)
+                .tasklet(pointDailyStatReconcileTasklet(null, null), transactionManager)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet pointDailyStatReconcileTasklet(@Value("#{jobParameters[targetDate]}") String targetDate,
+                                                  @Value("#{jobParameters[statFromDate]}") String statFromDate) {
+        LocalDate to = ((targetDate != null) ? LocalDate.parse(targetDate) : LocalDate.now()).minusDays(1);
+        LocalDate from = (statFromDate != null) ? LocalDate.parse(statFromDate) : to;
+        return (contribution, chunkContext) -> {
+            int rows = pointJdbcRepository.rebuildDailyStats(from, to);
+            pointDailyStatService.evictAfterCommit(from, to);
+            log.info("Daily stat reconcile: from={}, to={}, rows={}", from, to, rows);
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    /**
+     * 잔여 포인트 카운터 재집계 Step
+     * - point_liability_counter 합계를 AVAILABLE PointItem 잔액 합계와 비교하고, 차이가 있으면 보정함. (차이는 경고 로그로 남김)
+     * - 카운터를 Lock한 동안에는 쓰기 트랜잭션의 커밋이 잠시 대기하므로, 트래픽이 적은 새벽 시간에 수행함.
+     */
+    @Bean
+    public Step pointLiabilityReconcileStep() {
+        return new StepBuilder("pointLiabilityReconcileStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    long drift = pointLiabilityService.reconcile();
+                    log.info("Liability reconcile: drift={}", drift);
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.musinsa.payment.point.batch.job;
+
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 환불 누적 금액 백필 배치 Job 설정 (PointRefundBackfillJob)
+ * - 역할: refunded_amount 도입 전에 부분 취소된 USE 이력(Hot, 보관)에 이전 USE_CANCEL / RESTORE 금액을 원본 상세별로 기록하여,
+ *   이미 환불된 금액이 다시 환불되지 않도록 함.
+ * - 전략: Tasklet이 이력 ID 순으로 chunk-rows건 구간씩 처리하고 CONTINUABLE을 반환하여, 회차마다 별도 트랜잭션으로 커밋함.
+ *   처리한 위치(Hot/보관, 마지막 ID)는 Step Execution Context에 남기므로, 실패 후 재시작하면 이어서 처리함.
+ * - 1회 실행: PointRefundBackfillRunner가 고정된 Job Parameter로 실행하므로, 한 번 완료된 뒤에는 다시 수행되지 않음.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class PointRefundBackfillBatchConfig {
+
+    private static final String ARCHIVED_KEY = "archived";
+    private static final String AFTER_ID_KEY = "afterId";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final PointJdbcRepository pointJdbcRepository;
+
+    @Value("${musinsa.point.refund-backfill.chunk-rows:5000}")
+    private int chunkRows;
+
+    @Bean
+    public Job pointRefundBackfillJob() {
+        return new JobBuilder("pointRefundBackfillJob", jobRepository)
+                .start(pointRefundBackfillStep())
+                .build();
+    }
+
+    @Bean
+    public Step pointRefundBackfillStep() {
+        return new StepBuilder("pointRefundBackfillStep", jobRepository)
+                .tasklet(pointRefundBackfillTasklet(), transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Tasklet pointRefundBackfillTasklet() {
+        int rows = Math.max(1, chunkRows);
+        return (contribution, chunkContext) -> {
+            ExecutionContext context = contribution.getStepExecution().getExecutionContext();
+            boolean archived = Boolean.TRUE.equals(context.get(ARCHIVED_KEY));
+            long afterId = context.containsKey(AFTER_ID_KEY) ? context.getLong(AFTER_ID_KEY) : 0L;
+
+            Long lastId = pointJdbcRepository.backfillRefundedAmounts(archived, afterId, rows);
+            if (lastId != null) {
+                context.putLong(AFTER_ID_KEY, lastId);
+                return RepeatStatus.CONTINUABLE;
+            }
+            if (archived) {
+                log.info("Refund backfill finished");
+                return RepeatStatus.FINISHED;
+            }
+            // Hot 테이블을 마치면 보관 테이블을 처음부터 처리
+            context.put(ARCHIVED_KEY, true);
+            context.putLong(AFTER_ID_KEY, 0L);
+            return RepeatStatus.CONTINUABLE;
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.musinsa.payment.point.batch.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 포인트 이력 보관 배치 스케줄러
+ * - 역할: 매월 초 pointHistoryArchiveJob을 실행하여, 보관 기간(hot-months)이 지난 월의 이력을 보관 테이블로 옮김.
+ */
+@Slf4j
+@Component
+public class HistoryArchiveScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job pointHistoryArchiveJob;
+
+    // pointExpireJob이 @Primary이므로 이름으로 지정하여 주입
+    public HistoryArchiveScheduler(JobLauncher jobLauncher,
+                                   @Qualifier("pointHistoryArchiveJob") Job pointHistoryArchiveJob) {
+        this.jobLauncher = jobLauncher;
+        this.pointHistoryArchiveJob = pointHistoryArchiveJob;
+    }
+
+    // 기본 매월 1일 01:30 실행 (만료 배치 이후)
+    @Scheduled(cron = "${musinsa.point.history-archive.cron:0 30 1 1 * *}")
+    public void runArchiveJob() {
+        try {
+            log.info(">>> 포인트 이력 보관 배치 시작");
+
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addString("targetDate", LocalDate.now().toString())
+                    .addLong("time", System.currentTimeMillis()) // 중복 실행 방지용 파라미터
+                    .toJobParameters();
+
+            jobLauncher.run(pointHistoryArchiveJob, jobParameters);
+
+            log.info(">>> 포인트 이력 보관 배치 종료");
+        } catch (Exception e) {
+            log.error(">>> 포인트 이력 보관 배치 실패", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.musinsa.payment.point.batch.scheduler;
+
+import com.musinsa.payment.point.application.point.service.PointHistoryJournal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이력 저널 반영 스케줄러 (Write-behind Applier)
+ * - 역할: point_history_journal에 쌓인 이력을 오래된 순으로 point_history / point_history_detail에 일괄 반영함.
+ * - 특징: 한 번 실행 시 저널이 빌 때까지(최대 max-batches-per-run회) 반복하며, 배치마다 별도 트랜잭션으로 커밋함.
+ *   기동 직후 첫 실행에서 이전 프로세스가 남긴 저널도 이어서 반영됨.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoryJournalApplyScheduler {
+
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final PointHistoryJournal pointHistoryJournal;
+
+    // 기본 1초 간격 실행
+    @Scheduled(fixedDelayString = "${musinsa.point.history-journal.apply-interval-ms:1000}")
+    public void applyJournal() {
+        try {
+            int applied = 0;
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                int count = pointHistoryJournal.applyBatch();
+                applied += count;
+                if (count == 0) break;
+            }
+            if (applied > 0) {
+                log.debug(">>> 이력 저널 반영: {}건, 남은 저널 {}건, 지연 {}ms",
+                        applied, pointHistoryJournal.getPendingCount(), pointHistoryJournal.getLagMillis());
+            }
+        } catch (Exception e) {
+            log.error(">>> 이력 저널 반영 실패 (다음 실행에서 재시도)", e);
+        }
+    }
+}
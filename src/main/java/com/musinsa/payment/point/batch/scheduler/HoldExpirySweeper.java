@@ -0,0 +1,45 @@
+package com.musinsa.payment.point.batch.scheduler;
+
+import com.musinsa.payment.point.application.point.service.PointService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 홀드 일괄 해제 스케줄러
+ * - 역할: 확정 기한(expireAt)이 지난 HELD 홀드를 sweep-batch-size건씩 해제하여, 결제 이탈로 잡혀 있던 포인트를 되돌림.
+ * - 특징: 배치마다 별도 트랜잭션으로 커밋하며, 해제 건수가 배치 크기보다 작아질 때까지 반복함.
+ */
+@Slf4j
+@Component
+public class HoldExpirySweeper {
+
+    private final PointService pointService;
+    private final int batchSize;
+
+    public HoldExpirySweeper(PointService pointService,
+                             @Value("${musinsa.point.hold.sweep-batch-size:500}") int batchSize) {
+        this.pointService = pointService;
+        this.batchSize = batchSize;
+    }
+
+    // 기본 1분 간격 실행
+    @Scheduled(fixedDelayString = "${musinsa.point.hold.sweep-interval-ms:60000}")
+    public void releaseExpiredHolds() {
+        try {
+            int released = 0;
+            int count;
+            do {
+                count = pointService.releaseExpiredHolds(batchSize);
+                released += count;
+            } while (count == batchSize);
+
+            if (released > 0) {
+                log.info(">>> 만료 홀드 해제: {}건", released);
+            }
+        } catch (Exception e) {
+            log.error(">>> 만료 홀드 해제 실패 (다음 실행에서 재시도)", e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.musinsa.payment.point.batch.scheduler;
+
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등성 키 TTL 정리 스케줄러
+ * - 역할: 보관 기한(expireAt)이 지난 멱등성 키를 주기적으로 삭제하여 테이블 크기를 일정하게 유지함.
+ * - 전략: chunk-rows건씩 삭제하며 회차마다 별도 트랜잭션(Auto Commit)으로 커밋함. (세일 다음 날처럼 만료 키가 몰려도 Lock 보유 시간 최소화)
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyCleanupScheduler {
+
+    private final PointJdbcRepository pointJdbcRepository;
+    private final int chunkRows;
+
+    public IdempotencyKeyCleanupScheduler(PointJdbcRepository pointJdbcRepository,
+                                          @Value("${musinsa.point.idempotency.cleanup-chunk-rows:1000}") int chunkRows) {
+        this.pointJdbcRepository = pointJdbcRepository;
+        this.chunkRows = Math.max(1, chunkRows);
+    }
+
+    // 기본 10분 간격 실행
+    @Scheduled(fixedDelayString = "${musinsa.point.idempotency.cleanup-interval-ms:600000}")
+    public void evictExpiredKeys() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = pointJdbcRepository.deleteExpiredIdempotencyKeys(now, chunkRows);
+            total += deleted;
+        } while (deleted == chunkRows);
+
+        if (total > 0) {
+            log.info(">>> 만료된 멱등성 키 삭제: {}건", total);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.musinsa.payment.point.batch.scheduler;
+
+import com.musinsa.payment.point.application.point.service.PointLiabilityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간별 잔여 포인트 스냅샷 스케줄러
+ * - 역할: 매 정시 잔여 포인트 카운터 합계를 point_liability_snapshot에 기록함. (추이 조회: GET /admin/remain/snapshots)
+ * - 여러 노드에서 실행되어도 같은 시각의 스냅샷은 한 건만 남음.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiabilitySnapshotScheduler {
+
+    private final PointLiabilityService pointLiabilityService;
+
+    // 기본 매 정시 실행
+    @Scheduled(cron = "${musinsa.point.liability.snapshot-cron:0 0 * * * *}")
+    public void takeSnapshot() {
+        try {
+            if (pointLiabilityService.takeSnapshot(LocalDateTime.now())) {
+                log.info(">>> 잔여 포인트 스냅샷 기록");
+            }
+        } catch (Exception e) {
+            log.error(">>> 잔여 포인트 스냅샷 기록 실패", e);
+        }
+    }
+}
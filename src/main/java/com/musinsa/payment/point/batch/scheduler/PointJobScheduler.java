@@ -6,14 +6,21 @@ import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 
+/**
+ * 포인트 만료 배치 스케줄러
+ * - 역할: 매일 자정 pointExpireJob을 실행하여 유효기간이 지난 포인트를 소멸 처리함.
+ * - 활성화: 실제 잔액이 소멸되는 운영 동작이므로 musinsa.point.expire.schedule-enabled=true일 때만 등록됨. (기본 비활성)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "musinsa.point.expire", name = "schedule-enabled", havingValue = "true")
 public class PointJobScheduler {
 
     private final JobLauncher jobLauncher;
@@ -0,0 +1,51 @@
+package com.musinsa.payment.point.batch.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 파생 테이블 정리/재집계 배치 스케줄러
+ * - 역할: 매일 pointReconcileJob을 실행하여 만료 버킷 정리, 전날 거래 통계 재집계, 잔여 포인트 카운터 보정을 수행함.
+ * - 특징: 만료 배치 자동 실행 여부(expire.schedule-enabled)와 무관하게 항상 등록됨.
+ */
+@Slf4j
+@Component
+public class PointReconcileScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job pointReconcileJob;
+
+    // pointExpireJob이 @Primary이므로 이름으로 지정하여 주입
+    public PointReconcileScheduler(JobLauncher jobLauncher,
+                                   @Qualifier("pointReconcileJob") Job pointReconcileJob) {
+        this.jobLauncher = jobLauncher;
+        this.pointReconcileJob = pointReconcileJob;
+    }
+
+    // 기본 매일 00:30 실행 (자정 만료 배치 이후)
+    @Scheduled(cron = "${musinsa.point.reconcile.cron:0 30 0 * * *}")
+    public void runReconcileJob() {
+        try {
+            log.info(">>> 파생 테이블 재집계 배치 시작");
+
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addString("targetDate", LocalDate.now().toString())
+                    .addLong("time", System.currentTimeMillis()) // 중복 실행 방지용 파라미터
+                    .toJobParameters();
+
+            jobLauncher.run(pointReconcileJob, jobParameters);
+
+            log.info(">>> 파생 테이블 재집계 배치 종료");
+        } catch (Exception e) {
+            log.error(">>> 파생 테이블 재집계 배치 실패", e);
+        }
+    }
+}
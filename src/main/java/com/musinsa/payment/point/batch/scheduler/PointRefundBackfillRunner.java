@@ -0,0 +1,61 @@
+package com.musinsa.payment.point.batch.scheduler;
+
+import com.musinsa.payment.point.application.point.service.PointRefundBackfillGate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 환불 누적 금액 백필 실행기
+ * - 역할: 기동 완료 시 pointRefundBackfillJob을 실행하고, 완료되면 사용 취소 차단(PointRefundBackfillGate)을 엶.
+ * - 1회 실행: Job Parameter를 고정하므로, 이미 완료된 Job Instance가 있으면 다시 수행하지 않고 바로 엶.
+ *   실패하면 취소 차단을 유지하며, 다음 기동 시 실패한 위치부터 재시작함.
+ */
+@Slf4j
+@Component
+public class PointRefundBackfillRunner {
+
+    private static final JobParameters JOB_PARAMETERS = new JobParametersBuilder()
+            .addString("revision", "1")
+            .toJobParameters();
+
+    private final JobLauncher jobLauncher;
+    private final Job pointRefundBackfillJob;
+    private final PointRefundBackfillGate pointRefundBackfillGate;
+
+    // pointExpireJob이 @Primary이므로 이름으로 지정하여 주입
+    public PointRefundBackfillRunner(JobLauncher jobLauncher,
+                                     @Qualifier("pointRefundBackfillJob") Job pointRefundBackfillJob,
+                                     PointRefundBackfillGate pointRefundBackfillGate) {
+        this.jobLauncher = jobLauncher;
+        this.pointRefundBackfillJob = pointRefundBackfillJob;
+        this.pointRefundBackfillGate = pointRefundBackfillGate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runBackfill() {
+        try {
+            JobExecution execution = jobLauncher.run(pointRefundBackfillJob, JOB_PARAMETERS);
+            if (execution.getStatus() != BatchStatus.COMPLETED) {
+                log.error(">>> 환불 누적 금액 백필 실패: status={} (사용 취소 차단 유지)", execution.getStatus());
+                return;
+            }
+            log.info(">>> 환불 누적 금액 백필 완료");
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.debug(">>> 환불 누적 금액 백필 완료 이력 있음");
+        } catch (Exception e) {
+            log.error(">>> 환불 누적 금액 백필 실패 (사용 취소 차단 유지)", e);
+            return;
+        }
+        pointRefundBackfillGate.open();
+    }
+}
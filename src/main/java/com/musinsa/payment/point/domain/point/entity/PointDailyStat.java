@@ -0,0 +1,53 @@
+package com.musinsa.payment.point.domain.point.entity;
+
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일자별 거래 통계 (Point Daily Stat)
+ * - 역할: (거래일, 거래 유형)별 이력 금액 합계를 유지하는 집계 테이블. 관리자 기간별 통계는 point_history 대신 이 테이블만 읽음.
+ * - 갱신: PointHistory가 INSERT되는 트랜잭션의 커밋 직전에 증감분이 반영됨. (PointDailyStatRecorder)
+ * - 슬롯: 같은 (일자, 유형) 행을 모든 거래가 갱신하면 Row Lock이 직렬화 지점이 되므로, userId 기준 slot으로 나누어 기록하고 조회 시 합산함.
+ * - 마감: 지난 일자는 재집계(재집계 배치(pointReconcileJob)의 pointDailyStatReconcileStep) 외에는 바뀌지 않으므로 캐시 대상임.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(PointDailyStat.StatId.class)
+@Table(name = "point_daily_stat")
+public class PointDailyStat {
+
+    @Id
+    private LocalDate statDate; // PointHistory.createdAt의 일자
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private PointType type;
+
+    @Id
+    private int slot;
+
+    @Column(nullable = false)
+    private long amount; // 해당 일자/유형/슬롯의 거래 금액 합계
+
+    /**
+     * 복합 PK
+     */
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StatId implements Serializable {
+        private LocalDate statDate;
+        private PointType type;
+        private int slot;
+    }
+}
@@ -0,0 +1,52 @@
+package com.musinsa.payment.point.domain.point.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일자별 만료 예정 버킷 (Point Expiry Bucket)
+ * - 역할: (userId, 만료일, 수기 지급 여부)별 PointItem 잔액 합계를 유지하는 집계 테이블.
+ *   소멸 예정 금액(7/30/90일) 조회와 만료 배치의 대상 유저 선별을 PointItem 스캔 없이 몇 행으로 처리함.
+ * - 갱신: PointItem의 잔액/만료일이 바뀌면 같은 트랜잭션 커밋 직전에 증감분이 반영됨. (PointExpiryBucketRecorder)
+ * - 키: 행 수가 유저별 만료일 수로 제한되고 증감 UPSERT로만 갱신되므로, 별도 ID 없이 복합 PK를 사용함.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(PointExpiryBucket.BucketId.class)
+@Table(name = "point_expiry_bucket",
+        indexes = @Index(name = "idx_bucket_date_user", columnList = "expireDate, userId")) // 만료 배치의 대상 유저 선별용
+public class PointExpiryBucket {
+
+    @Id
+    private Long userId;
+
+    @Id
+    private LocalDate expireDate; // PointItem.expireAt의 일자
+
+    @Id
+    private boolean isManual;
+
+    @Column(nullable = false)
+    private long amount; // 해당 일자에 만료되는 잔액 합계
+
+    /**
+     * 복합 PK
+     */
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BucketId implements Serializable {
+        private Long userId;
+        private LocalDate expireDate;
+        private boolean isManual;
+    }
+}
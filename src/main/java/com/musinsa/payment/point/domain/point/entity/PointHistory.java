@@ -2,12 +2,15 @@ package com.musinsa.payment.point.domain.point.entity;
 
 import com.musinsa.payment.point.domain.common.BaseTimeEntity;
 import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.listener.PointDailyStatListener;
+import com.musinsa.payment.point.global.error.BusinessException;
 import com.musinsa.payment.point.global.util.TsidUtil;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,9 +23,11 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(PointDailyStatListener.class)
 @Table(name = "point_history", indexes = {
         @Index(name = "idx_user_ref", columnList = "userId, refId"), // 주문번호로 조회
         @Index(name = "idx_user_date", columnList = "userId, createdAt"), // 내역 기간 조회용
+        @Index(name = "idx_user_id", columnList = "userId, id"), // 내역 Keyset(커서) 조회용 (ID = 시간순 TSID)
         @Index(name = "idx_date", columnList = "createdAt") // 관리자 통계/조회용
 })
 public class PointHistory extends BaseTimeEntity {
@@ -43,6 +48,12 @@ public class PointHistory extends BaseTimeEntity {
     @Column(name = "ref_id")
     private String refId; // 주문번호, 이벤트 적립번호 등
 
+    // 누적 환불 금액 (USE 이력 전용: 사용취소 + 만료분 재적립 합계)
+    // - 부분 취소 시 이전 취소 이력을 합산하지 않고 이 값으로 환불 가능 금액을 판단함.
+    @ColumnDefault("0")
+    @Column(name = "refunded_amount", nullable = false)
+    private long refundedAmount;
+
     // Master-Detail 관계 (영속성 전이: History 저장 시 Detail도 같이 저장됨)
     // History가 Detail의 생명주기를 관리함 (orphanRemoval = true)
     @OneToMany(mappedBy = "pointHistory", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -70,4 +81,30 @@ public class PointHistory extends BaseTimeEntity {
         detail.setPointHistory(this);
     }
 
+    /**
+     * 저장 전 ID 선부여 (이력 저널 기록용)
+     * - 저널 모드에서는 persist 없이 저널에 기록하므로, @PrePersist 대신 여기서 History/Detail ID를 미리 부여함.
+     */
+    public void assignIds() {
+        generateId();
+        this.details.forEach(PointHistoryDetail::assignId);
+    }
+
+    /**
+     * 환불 가능 잔여 금액 (원본 금액 - 누적 환불 금액)
+     */
+    public long getRefundableAmount() {
+        return this.amount - this.refundedAmount;
+    }
+
+    /**
+     * 환불 금액 누적 (부분 취소)
+     */
+    public void refund(long amount) {
+        if (amount <= 0 || amount > getRefundableAmount()) {
+            throw BusinessException.invalid("취소 가능한 금액을 초과했습니다.");
+        }
+        this.refundedAmount += amount;
+    }
+
 }
\ No newline at end of file
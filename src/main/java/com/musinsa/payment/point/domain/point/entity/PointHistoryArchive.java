@@ -0,0 +1,50 @@
+package com.musinsa.payment.point.domain.point.entity;
+
+import com.musinsa.payment.point.domain.common.BaseTimeEntity;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 포인트 거래 이력 보관 테이블 (Point History Archive, Cold)
+ * - 역할: 보관 기간(hot-months)이 지난 월의 PointHistory를 옮겨 두는 읽기 전용 테이블. 컬럼은 point_history와 동일함.
+ *   예외적으로 보관된 주문의 사용 취소는 환불 누적(refundedAmount)만 JDBC로 갱신함. (PointJdbcRepository.refundArchivedUse)
+ * - 이동: 이력 아카이브 배치(pointHistoryArchiveJob)가 ID 오름차순으로 Chunk 단위 이동하므로,
+ *   보관 테이블의 모든 ID는 point_history(Hot)의 ID보다 작음. (조회 라우팅과 병합 정렬의 전제)
+ * - 파티셔닝: PK가 시간순 TSID이고 모든 조회가 ID 범위를 포함하므로, MySQL에서는 월 경계 ID(TsidUtil.minIdAt)로
+ *   RANGE 파티션을 나누면 조회 기간에 해당하는 월 파티션만 읽음.
+ */
+@Entity
+@Getter
+@Immutable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_history_archive", indexes = {
+        @Index(name = "idx_archive_user_ref", columnList = "userId, refId"),
+        @Index(name = "idx_archive_user_date", columnList = "userId, createdAt"),
+        @Index(name = "idx_archive_user_id", columnList = "userId, id"),
+        @Index(name = "idx_archive_date", columnList = "createdAt")
+})
+public class PointHistoryArchive extends BaseTimeEntity {
+
+    @Id @Column(name = "point_history_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PointType type;
+
+    @Column(nullable = false)
+    private long amount;
+
+    @Column(name = "ref_id")
+    private String refId;
+
+    @Column(name = "refunded_amount", nullable = false)
+    private long refundedAmount;
+}
@@ -2,12 +2,14 @@ package com.musinsa.payment.point.domain.point.entity;
 
 import com.musinsa.payment.point.domain.common.BaseTimeEntity;
 import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.global.error.BusinessException;
 import com.musinsa.payment.point.global.util.TsidUtil;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * 포인트 거래 상세 내역 (Detail)
@@ -41,11 +43,22 @@ public class PointHistoryDetail extends BaseTimeEntity {
     @Column(name = "restored_from_item_id")
     private Long restoredFromItemId;
 
+    // 이 Detail 사용액 중 누적 환불 금액 (USE 이력의 Detail 전용)
+    // - 부분 취소가 반복되어도 이미 환불된 Detail을 금액 계산 없이 건너뛸 수 있음.
+    @ColumnDefault("0")
+    @Column(name = "refunded_amount", nullable = false)
+    private long refundedAmount;
+
     @PrePersist
     private void generateId() {
         if (this.id == null) this.id = TsidUtil.nextId();
     }
 
+    // 이력 저널 기록용 ID 선부여 (PointHistory.assignIds에서 호출)
+    void assignId() {
+        generateId();
+    }
+
     @Builder
     public PointHistoryDetail(PointItem pointItem, long amount, Long restoredFromItemId) {
         this.pointItem = pointItem;
@@ -53,6 +66,20 @@ public class PointHistoryDetail extends BaseTimeEntity {
         this.restoredFromItemId = restoredFromItemId;
     }
 
+    /**
+     * 환불 가능 잔여 금액 (사용액 - 누적 환불 금액)
+     */
+    public long getRefundableAmount() {
+        return this.amount - this.refundedAmount;
+    }
+
+    public void refund(long amount) {
+        if (amount <= 0 || amount > getRefundableAmount()) {
+            throw BusinessException.invalid("상세 내역의 환불 가능 금액을 초과했습니다.");
+        }
+        this.refundedAmount += amount;
+    }
+
     public void setPointHistory(PointHistory pointHistory) {
         this.pointHistory = pointHistory;
     }
@@ -0,0 +1,40 @@
+package com.musinsa.payment.point.domain.point.entity;
+
+import com.musinsa.payment.point.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 포인트 거래 상세 내역 보관 테이블 (Detail Archive, Cold)
+ * - 역할: 보관 처리된 PointHistory의 상세 내역. 컬럼은 point_history_detail과 동일하며, 보관 테이블끼리만 참조하므로 FK를 두지 않음.
+ */
+@Entity
+@Getter
+@Immutable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_history_detail_archive", indexes = {
+        @Index(name = "idx_detail_archive_history", columnList = "point_history_id")
+})
+public class PointHistoryDetailArchive extends BaseTimeEntity {
+
+    @Id @Column(name = "point_history_detail_id")
+    private Long id;
+
+    @Column(name = "point_history_id", nullable = false)
+    private Long pointHistoryId;
+
+    @Column(name = "point_item_id", nullable = false)
+    private Long pointItemId;
+
+    @Column(nullable = false)
+    private long amount;
+
+    @Column(name = "restored_from_item_id")
+    private Long restoredFromItemId;
+
+    @Column(name = "refunded_amount", nullable = false)
+    private long refundedAmount;
+}
@@ -0,0 +1,78 @@
+package com.musinsa.payment.point.domain.point.entity;
+
+import com.musinsa.payment.point.domain.common.BaseTimeEntity;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 이력 저널 (Write-behind Journal)
+ * - 역할: 저널 모드에서 PointHistory + PointHistoryDetail을 요청 트랜잭션 안에서 1행으로 기록하고, 이후 Applier가 point_history에 일괄 반영함.
+ * - 특징: PK가 곧 반영될 PointHistory ID이므로, 같은 저널을 여러 번 반영해도 이력은 한 번만 생성됨. (재기동 시 재반영 안전)
+ * - details: "detailId:itemId:amount:restoredFromItemId" 항목을 ',' 로 이어 붙인 문자열. (restoredFromItemId가 없으면 빈 값)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_history_journal", indexes = {
+        @Index(name = "idx_journal_user", columnList = "userId") // 유저 단위 즉시 반영용
+})
+public class PointHistoryJournalEntry extends BaseTimeEntity implements Persistable<Long> {
+
+    @Id
+    @Column(name = "point_history_journal_id")
+    private Long id; // = 반영될 PointHistory ID
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PointType type;
+
+    @Column(nullable = false)
+    private long amount;
+
+    @Column(name = "ref_id")
+    private String refId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String details;
+
+    // ID를 직접 부여하므로, save() 시 merge(SELECT 후 INSERT) 대신 바로 persist 되도록 신규 여부를 직접 관리
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    private void markPersisted() {
+        this.persisted = true;
+    }
+
+    /**
+     * ID가 부여된 PointHistory로부터 저널 행 생성
+     */
+    public static PointHistoryJournalEntry of(PointHistory history) {
+        PointHistoryJournalEntry entry = new PointHistoryJournalEntry();
+        entry.id = history.getId();
+        entry.userId = history.getUserId();
+        entry.type = history.getType();
+        entry.amount = history.getAmount();
+        entry.refId = history.getRefId();
+        entry.details = history.getDetails().stream()
+                .map(d -> d.getId() + ":" + d.getPointItem().getId() + ":" + d.getAmount() + ":"
+                        + (d.getRestoredFromItemId() != null ? d.getRestoredFromItemId() : ""))
+                .collect(Collectors.joining(","));
+        return entry;
+    }
+}
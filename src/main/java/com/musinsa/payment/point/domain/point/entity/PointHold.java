@@ -0,0 +1,108 @@
+package com.musinsa.payment.point.domain.point.entity;
+
+import com.musinsa.payment.point.domain.common.BaseTimeEntity;
+import com.musinsa.payment.point.domain.point.enums.PointHoldStatus;
+import com.musinsa.payment.point.global.error.BusinessException;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포인트 홀드 (결제 2단계: Hold -> Capture / Release)
+ * - 역할: 주문 결제 전 포인트를 특정 PointItem에서 선차감해 두고, 결제 성공 시 확정(Capture), 실패 시 해제(Release)함.
+ * - 특징: 확정은 상태 변경 + USE 이력 기록만 수행하며, 해제는 선차감분을 원장/지갑에 되돌릴 뿐 취소 이력(USE_CANCEL/RESTORE)을 만들지 않음.
+ * - 수명: expireAt이 지난 HELD 홀드는 확정할 수 없으며, 스케줄러가 일괄 해제함.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_hold",
+        uniqueConstraints = @UniqueConstraint(name = "uk_hold_user_ref", columnNames = {"userId", "refId"}),
+        indexes = @Index(name = "idx_hold_status_expire", columnList = "status, expireAt") // 만료 홀드 일괄 해제용
+)
+public class PointHold extends BaseTimeEntity {
+
+    @Id @Column(name = "point_hold_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(name = "ref_id", nullable = false)
+    private String refId; // 주문번호
+
+    @Column(nullable = false)
+    private long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PointHoldStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime expireAt; // 확정 가능 기한 (TTL)
+
+    private Long historyId; // 확정 시 생성된 USE 이력 ID
+
+    // 선차감 내역 (어떤 Item에서 얼마를 잡아두었는지)
+    @OneToMany(mappedBy = "pointHold", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<PointHoldItem> items = new ArrayList<>();
+
+    @PrePersist
+    private void generateId() {
+        if (this.id == null) this.id = TsidUtil.nextId();
+    }
+
+    @Builder
+    public PointHold(Long userId, String refId, long amount, LocalDateTime expireAt) {
+        this.userId = userId;
+        this.refId = refId;
+        this.amount = amount;
+        this.expireAt = expireAt;
+        this.status = PointHoldStatus.HELD;
+    }
+
+    /**
+     * 연관관계 편의 메서드 (양방향 연결)
+     */
+    public void addItem(PointHoldItem item) {
+        this.items.add(item);
+        item.setPointHold(this);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return now.isAfter(this.expireAt);
+    }
+
+    /**
+     * 확정 (HELD -> CAPTURED)
+     */
+    public void capture(long historyId) {
+        if (this.status != PointHoldStatus.HELD) {
+            throw BusinessException.invalid("확정할 수 없는 홀드 상태입니다.");
+        }
+        this.status = PointHoldStatus.CAPTURED;
+        this.historyId = historyId;
+    }
+
+    /**
+     * 해제 (HELD -> RELEASED)
+     */
+    public void release() {
+        if (this.status != PointHoldStatus.HELD) {
+            throw BusinessException.invalid("해제할 수 없는 홀드 상태입니다.");
+        }
+        this.status = PointHoldStatus.RELEASED;
+    }
+
+    // 테스트 코드에서 만료 상태를 강제 설정하기 위한 유틸리티 메서드. 운영 코드에는 불필요
+    public void setExpired() {
+        this.expireAt = LocalDateTime.now().minusMinutes(1);
+    }
+}
@@ -0,0 +1,50 @@
+package com.musinsa.payment.point.domain.point.entity;
+
+import com.musinsa.payment.point.domain.common.BaseTimeEntity;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 포인트 홀드 상세 (Hold Detail)
+ * - PointHold와 PointItem을 연결하며, 홀드 시 어떤 원장(Item)에서 얼마를 선차감했는지 기록함.
+ * - 확정 시 그대로 USE 이력의 Detail이 되고, 해제 시 이 금액만큼 원장 잔액을 되돌림.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_hold_item")
+public class PointHoldItem extends BaseTimeEntity {
+
+    @Id @Column(name = "point_hold_item_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "point_hold_id", nullable = false)
+    private PointHold pointHold;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "point_item_id", nullable = false)
+    private PointItem pointItem;
+
+    @Column(nullable = false)
+    private long amount; // 이 Item에서 선차감한 금액
+
+    @PrePersist
+    private void generateId() {
+        if (this.id == null) this.id = TsidUtil.nextId();
+    }
+
+    @Builder
+    public PointHoldItem(PointItem pointItem, long amount) {
+        this.pointItem = pointItem;
+        this.amount = amount;
+    }
+
+    public void setPointHold(PointHold pointHold) {
+        this.pointHold = pointHold;
+    }
+}
@@ -0,0 +1,51 @@
+package com.musinsa.payment.point.domain.point.entity;
+
+import com.musinsa.payment.point.domain.common.BaseTimeEntity;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등성 키 (Idempotency Key)
+ * - 역할: (userId, refId, type) 단위로 쓰기 명령의 "처리 결과"를 보관하여, 재시도 요청에 원본 결과를 그대로 재응답(Replay)함.
+ * - 특징: Unique Key로 중복을 DB가 강제함. 동일 키로 동시에 들어온 요청은 먼저 들어온 트랜잭션이 끝날 때까지 INSERT 단계에서 대기함.
+ * - 수명: 명령과 같은 트랜잭션에서 기록되므로 명령이 롤백되면 키도 함께 사라지며, expireAt이 지나면 스케줄러가 삭제함.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_idempotency_key",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_ref_type", columnNames = {"userId", "refId", "type"}),
+        indexes = @Index(name = "idx_expire_at", columnList = "expireAt") // TTL 삭제용
+)
+public class PointIdempotencyKey extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "point_idempotency_key_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String refId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PointType type;
+
+    @Column(nullable = false)
+    private long requestAmount; // 최초 요청 금액 (같은 키로 금액이 다른 요청이 오면 거절)
+
+    // 처리 결과 (명령 완료 시 기록)
+    private Long historyId;    // 생성된 PointHistory ID
+    private Long pointItemId;  // 적립 시 생성된 PointItem ID (사용은 null)
+    private Long balance;      // 처리 직후 지갑 잔액
+
+    @Column(nullable = false)
+    private LocalDateTime expireAt; // 보관 만료 시각 (TTL)
+}
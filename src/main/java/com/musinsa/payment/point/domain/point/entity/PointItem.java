@@ -2,6 +2,8 @@ package com.musinsa.payment.point.domain.point.entity;
 
 import com.musinsa.payment.point.domain.common.BaseTimeEntity;
 import com.musinsa.payment.point.domain.point.enums.PointStatus;
+import com.musinsa.payment.point.domain.point.listener.PointExpiryBucketListener;
+import com.musinsa.payment.point.domain.point.listener.PointLiabilityListener;
 import com.musinsa.payment.point.global.error.BusinessException;
 import com.musinsa.payment.point.global.util.TsidUtil;
 import jakarta.persistence.*;
@@ -10,19 +12,25 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
  * 포인트 원장 (Point Item)
  * - 역할: 사용자가 실제로 보유한 '포인트 낱장' 하나하나를 관리하는 핵심 엔티티.
  * - 잔액, 만료일, 사용 상태 등 모든 재무적 정보를 포함하며, 모든 포인트 사용/취소/만료의 대상이 됨.
+ * - 잔액/만료일 변경은 PointExpiryBucketListener를 통해 일자별 만료 버킷(point_expiry_bucket)에 같은 트랜잭션으로 반영됨.
+ * - 잔액 변경은 PointLiabilityListener를 통해 시스템 전체 잔여 포인트 카운터(point_liability_counter)에도 같은 트랜잭션으로 반영됨.
  */
 @Entity
 @Getter
+@EntityListeners({PointExpiryBucketListener.class, PointLiabilityListener.class})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "point_item", indexes = {
         // 만료 임박 순 조회 및 유효한 포인트 조회를 위한 복합 인덱스
-        @Index(name = "idx_user_status_expire", columnList = "userId, status, expireAt")
+        @Index(name = "idx_user_status_expire", columnList = "userId, status, expireAt"),
+        // 차감 우선순위(Manual DESC, ExpireAt ASC, ID ASC) 조회용 복합 인덱스 - isManual 값별로 정렬된 범위를 LIMIT만큼만 읽음
+        @Index(name = "idx_user_status_manual_expire", columnList = "userId, status, isManual, expireAt, point_item_id")
 })
 public class PointItem extends BaseTimeEntity {
 
@@ -49,6 +57,19 @@ public class PointItem extends BaseTimeEntity {
     @Column(nullable = false)
     private PointStatus status; // AVAILABLE, EXHAUSTED, EXPIRED, CANCELED
 
+    @Column(name = "wallet_slot")
+    private Integer walletSlot; // 스트라이프 지갑의 소속 슬롯 (일반 지갑/지갑 소속은 null)
+
+    // 만료 버킷에 마지막으로 반영된 (만료일, 잔액) 스냅샷 (영속화 대상 아님, PointExpiryBucketListener 전용)
+    @Transient
+    private LocalDate bucketDate;
+    @Transient
+    private long bucketAmount;
+
+    // 잔여 포인트 카운터에 마지막으로 반영된 잔액 스냅샷 (영속화 대상 아님, PointLiabilityListener 전용)
+    @Transient
+    private long liabilityAmount;
+
     @PrePersist
     private void generateId() {
         if (this.id == null) {
@@ -79,10 +100,18 @@ public class PointItem extends BaseTimeEntity {
      * - DB 업데이트(Dirty Checking)가 발생하는 핵심 쓰기 메서드.
      */
     public void use(long amount) {
+        use(amount, LocalDateTime.now());
+    }
+
+    /**
+     * 포인트 차감 (기준 시각 지정)
+     * - 여러 아이템을 연속으로 차감할 때, 아이템마다 현재 시각을 다시 구하지 않고 같은 기준 시각으로 만료 여부를 판단함.
+     */
+    public void use(long amount, LocalDateTime now) {
         if (this.status != PointStatus.AVAILABLE) {
             throw BusinessException.invalid("사용 가능한 상태의 포인트가 아닙니다.");
         }
-        if (isExpired()) {
+        if (isExpired(now)) {
             throw BusinessException.invalid("이미 만료된 포인트입니다.");
         }
         if (amount > this.remainAmount) {
@@ -117,6 +146,23 @@ public class PointItem extends BaseTimeEntity {
         }
     }
 
+    /**
+     * 홀드 해제 (선점 원복)
+     * - 홀드로 선차감했던 금액을 되돌림. 사용 취소(cancel)와 달리 이력을 남기지 않으며, 만료 여부와 무관하게 원래 Item으로 복귀함.
+     * - 홀드 중 만료되어 EXPIRED 처리된 Item은 AVAILABLE로 되돌려, 다음 만료 배치에서 복귀한 금액까지 정상 만료되도록 함.
+     */
+    public void release(long amount) {
+        if (this.remainAmount + amount > this.originalAmount) {
+            throw BusinessException.invalid("원금보다 더 많이 복구할 수 없습니다.");
+        }
+
+        this.remainAmount += amount;
+
+        if (this.status == PointStatus.EXHAUSTED || this.status == PointStatus.EXPIRED) {
+            this.status = PointStatus.AVAILABLE;
+        }
+    }
+
     /**
      * 적립 취소 (관리자/시스템)
      * - 전액이 남아있을 때만 가능. 남아있는 금액을 0으로 만들고 상태를 CANCELED로 변경.
@@ -142,7 +188,40 @@ public class PointItem extends BaseTimeEntity {
     }
 
     public boolean isExpired() {
-        return LocalDateTime.now().isAfter(this.expireAt);
+        return isExpired(LocalDateTime.now());
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return now.isAfter(this.expireAt);
+    }
+
+    /**
+     * 만료 버킷 기준 일자 (expireAt의 일자)
+     */
+    public LocalDate getExpireDate() {
+        return this.expireAt.toLocalDate();
+    }
+
+    /**
+     * 현재 (만료일, 잔액)을 만료 버킷 반영 기준으로 기억
+     */
+    public void markBucketSnapshot() {
+        this.bucketDate = getExpireDate();
+        this.bucketAmount = this.remainAmount;
+    }
+
+    /**
+     * 현재 잔액을 잔여 포인트 카운터 반영 기준으로 기억
+     */
+    public void markLiabilitySnapshot() {
+        this.liabilityAmount = this.remainAmount;
+    }
+
+    /**
+     * 스트라이프 지갑 슬롯 배정 (슬롯 적립/재분배 시 사용)
+     */
+    public void assignWalletSlot(Integer walletSlot) {
+        this.walletSlot = walletSlot;
     }
 
     // 테스트 코드에서 만료 상태를 강제 설정하기 위한 유틸리티 메서드. 운영 코드에는 불필요
@@ -0,0 +1,28 @@
+package com.musinsa.payment.point.domain.point.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시스템 전체 잔여 포인트 카운터 (Point Liability Counter)
+ * - 역할: 전체 PointItem 잔액 합계(= 미사용 포인트 부채)를 유지하는 카운터. 관리자 잔여 포인트 조회는 point_item 대신 이 테이블만 읽음.
+ * - 갱신: PointItem의 잔액이 바뀌는 트랜잭션의 커밋 직전에 증감분이 반영됨. (PointLiabilityRecorder)
+ * - 스트라이프: 모든 거래가 한 행을 갱신하면 Row Lock이 직렬화 지점이 되므로, userId 기준 stripe로 나누어 기록하고 조회 시 합산함.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_liability_counter")
+public class PointLiabilityCounter {
+
+    @Id
+    private int stripe;
+
+    @Column(nullable = false)
+    private long amount; // 해당 stripe에 속한 유저들의 잔액 합계
+}
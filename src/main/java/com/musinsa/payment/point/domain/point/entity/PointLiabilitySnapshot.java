@@ -0,0 +1,29 @@
+package com.musinsa.payment.point.domain.point.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간별 잔여 포인트 스냅샷 (Point Liability Snapshot)
+ * - 역할: 매 정시의 시스템 전체 잔여 포인트를 기록하여, 추이 차트를 point_item 스캔 없이 그릴 수 있게 함.
+ * - 키: 정시(분 이하 절삭) 시각. 여러 노드가 같은 시각에 기록해도 한 건만 남음.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "point_liability_snapshot")
+public class PointLiabilitySnapshot {
+
+    @Id
+    private LocalDateTime snapshotAt;
+
+    @Column(nullable = false)
+    private long amount; // 스냅샷 시점의 카운터 합계
+}
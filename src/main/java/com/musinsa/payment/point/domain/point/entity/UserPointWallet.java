@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * 사용자 포인트 지갑 (User Point Wallet)
@@ -15,7 +16,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "user_point_wallet") // 
+@Table(name = "user_point_wallet",
+        indexes = @Index(name = "idx_wallet_updated_at", columnList = "updatedAt")) // 잔액 캐시 노드 간 동기화(DB 폴링)용
 public class UserPointWallet extends BaseTimeEntity {
 
     // User ID가 PK이며, User 테이블과의 1:1 관계를 가짐 (User 테이블을 참조하지 않고 ID만 저장)
@@ -25,7 +27,17 @@ public class UserPointWallet extends BaseTimeEntity {
 
     @Column(nullable = false)
     private long balance; // 사용자 총 잔액 합계
-    
+
+    // 낙관적 락(Optimistic Lock) 버전
+    // - OPTIMISTIC 모드에서 SELECT ... FOR UPDATE 없이 갱신 분실을 감지함 (UPDATE ... WHERE version = ?)
+    // - 모든 쓰기 명령은 지갑 잔액을 변경하므로, 버전 충돌 감지가 PointItem 변경까지 함께 보호함.
+    // - 컬럼은 NOT NULL(기본 0)이며, 도입 전 지갑은 기동 시 0으로 채움 (UserPointWalletVersionBackfill)
+    // - 래퍼 타입: 저장 전(null)이면 새 지갑으로 판단하여 persist함. (ID를 직접 지정하는 엔티티)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     public UserPointWallet(Long userId, long balance) {
         this.userId = userId;
         this.balance = balance;
@@ -62,4 +74,15 @@ public class UserPointWallet extends BaseTimeEntity {
         }
         this.balance -= amount;
     }
-}
\ No newline at end of file
+
+    /**
+     * 홀드 해제 (선차감 원복)
+     * - 홀드 시 선차감했던 금액을 되돌림. 원래 보유하던 금액의 복귀이므로 보유 한도는 체크하지 않음.
+     */
+    public void restore(long amount) {
+        if (amount <= 0) {
+            throw BusinessException.invalid("복구 금액은 0보다 커야 합니다.");
+        }
+        this.balance += amount;
+    }
+}
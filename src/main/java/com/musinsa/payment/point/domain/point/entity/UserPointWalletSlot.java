@@ -0,0 +1,107 @@
+package com.musinsa.payment.point.domain.point.entity;
+
+import com.musinsa.payment.point.domain.common.BaseTimeEntity;
+import com.musinsa.payment.point.global.error.BusinessException;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지갑 슬롯 (Striped Wallet Slot)
+ * - 역할: 핫 지갑(프로모션 풀/브랜드 계정 등)의 잔액을 N개의 행으로 나누어, 적립/사용이 지갑 1행이 아닌 슬롯 1행만 잠그게 함.
+ * - 잔액: 유저 총 잔액 = 지갑(UserPointWallet) 잔액 + 모든 슬롯 잔액. 슬롯 잔액은 해당 슬롯에 배정된 PointItem(walletSlot)의 잔액 합과 같음.
+ * - 한도 여유분(headroom): 보유 한도 중 이 슬롯이 적립에 쓸 수 있도록 미리 배정받은 금액.
+ *   총 잔액 + 모든 슬롯의 여유분 <= 보유 한도를 유지하므로, 슬롯별로 적립해도 보유 한도가 정확히 지켜짐.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_point_wallet_slot",
+        uniqueConstraints = @UniqueConstraint(name = "uk_wallet_slot_user_slot", columnNames = {"userId", "slotNo"})
+)
+public class UserPointWalletSlot extends BaseTimeEntity {
+
+    @Id @Column(name = "user_point_wallet_slot_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private int slotNo;
+
+    @Column(nullable = false)
+    private long balance; // 슬롯 잔액
+
+    @Column(nullable = false)
+    private long headroom; // 슬롯에 배정된 보유 한도 여유분
+
+    @Column(nullable = false)
+    private long grantedLimit; // 여유분을 배정할 때 기준이 된 보유 한도 (정책 변경 감지용)
+
+    @PrePersist
+    private void generateId() {
+        if (this.id == null) this.id = TsidUtil.nextId();
+    }
+
+    public UserPointWalletSlot(Long userId, int slotNo) {
+        this.userId = userId;
+        this.slotNo = slotNo;
+    }
+
+    /**
+     * 슬롯 적립: 배정받은 여유분 안에서만 가능 (여유분이 부족하면 재분배 후 재시도해야 함)
+     */
+    public void earn(long amount) {
+        if (amount > this.headroom) {
+            throw BusinessException.invalid("슬롯의 보유 한도 여유분이 부족합니다.");
+        }
+        this.headroom -= amount;
+        this.balance += amount;
+    }
+
+    /**
+     * 슬롯 사용: 사용한 금액만큼 보유 한도 여유분이 슬롯에 돌아옴
+     */
+    public void use(long amount) {
+        if (amount > this.balance) {
+            throw BusinessException.invalid("슬롯 잔액이 부족합니다.");
+        }
+        this.balance -= amount;
+        this.headroom += amount;
+    }
+
+    /**
+     * 재분배: 다른 슬롯/지갑과 잔액 주고받기 (PointItem 배정 변경과 함께 호출)
+     */
+    public void deposit(long amount) {
+        this.balance += amount;
+    }
+
+    public void withdraw(long amount) {
+        if (amount > this.balance) {
+            throw BusinessException.invalid("슬롯 잔액이 부족합니다.");
+        }
+        this.balance -= amount;
+    }
+
+    /**
+     * 재분배: 보유 한도 여유분 재배정
+     */
+    public void grantHeadroom(long headroom, long limit) {
+        this.headroom = headroom;
+        this.grantedLimit = limit;
+    }
+
+    /**
+     * 통합: 슬롯 잔액/여유분을 모두 비우고 비운 잔액을 반환 (지갑으로 이동)
+     */
+    public long drain() {
+        long drained = this.balance;
+        this.balance = 0;
+        this.headroom = 0;
+        return drained;
+    }
+}
@@ -0,0 +1,7 @@
+package com.musinsa.payment.point.domain.point.enums;
+
+public enum PointHoldStatus {
+    HELD,       // 선점 (지갑/원장에서 선차감된 상태)
+    CAPTURED,   // 확정 (USE 이력 생성)
+    RELEASED    // 해제 (선차감 원복)
+}
@@ -0,0 +1,10 @@
+package com.musinsa.payment.point.domain.point.enums;
+
+/**
+ * 관리자 기간별 통계 집계 단위
+ */
+public enum StatGranularity {
+    TOTAL,  // 기간 전체 합계 (기본)
+    DAY,    // 일별
+    MONTH   // 월별
+}
@@ -0,0 +1,34 @@
+package com.musinsa.payment.point.domain.point.listener;
+
+import com.musinsa.payment.point.domain.point.entity.PointHistory;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * PointHistory INSERT -> 일자별 거래 통계 증감 변환 (JPA Entity Listener)
+ * - 역할: 적립/사용/취소/만료 등 JPA로 이력이 저장되는 모든 경로에서 금액을 PointDailyStatSink(구현: PointDailyStatRecorder)에 전달함.
+ * - 특징: 이력은 INSERT 후 금액/유형/일시가 바뀌지 않으므로(불변 기록), 저장 시점만 수집함.
+ */
+public class PointDailyStatListener {
+
+    private final ObjectProvider<PointDailyStatSink> recorderProvider;
+
+    public PointDailyStatListener(ObjectProvider<PointDailyStatSink> recorderProvider) {
+        this.recorderProvider = recorderProvider;
+    }
+
+    @PrePersist
+    public void beforePersist(PointHistory history) {
+        recorder().track();
+    }
+
+    @PostPersist
+    public void afterPersist(PointHistory history) {
+        recorder().record(history.getUserId(), history.getCreatedAt(), history.getType(), history.getAmount());
+    }
+
+    private PointDailyStatSink recorder() {
+        return recorderProvider.getObject();
+    }
+}
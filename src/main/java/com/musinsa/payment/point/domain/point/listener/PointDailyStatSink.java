@@ -0,0 +1,22 @@
+package com.musinsa.payment.point.domain.point.listener;
+
+import com.musinsa.payment.point.domain.point.enums.PointType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일자별 거래 통계 수집 대상 (PointDailyStatListener -> 애플리케이션 계층)
+ * - 구현: PointDailyStatRecorder (트랜잭션 단위로 모아 커밋 직전에 반영)
+ */
+public interface PointDailyStatSink {
+
+    /**
+     * 현재 쓰기 트랜잭션에 반영 훅 등록 (PointHistory를 저장할 때 호출)
+     */
+    void track();
+
+    /**
+     * 이력 1건의 금액 기록 (거래일은 createdAt 기준)
+     */
+    void record(Long userId, LocalDateTime createdAt, PointType type, long amount);
+}
@@ -0,0 +1,68 @@
+package com.musinsa.payment.point.domain.point.listener;
+
+import com.musinsa.payment.point.domain.point.entity.PointItem;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDate;
+
+/**
+ * PointItem 변경 -> 만료 버킷 증감 변환 (JPA Entity Listener)
+ * - 역할: 적립/사용/취소/홀드/만료 등 JPA로 PointItem 잔액이나 만료일이 바뀌는 모든 경로에서 증감을 PointExpiryBucketSink(구현: PointExpiryBucketRecorder)에 전달함.
+ * - 방식: 로딩/저장 시점의 (만료일, 잔액)을 Item에 스냅샷으로 기억해 두고, UPDATE 후 현재 값과의 차이만 기록함.
+ *   만료일이 바뀐 경우(테스트용 setExpired 등)는 이전 일자에서 빼고 새 일자에 더함.
+ */
+public class PointExpiryBucketListener {
+
+    private final ObjectProvider<PointExpiryBucketSink> recorderProvider;
+
+    public PointExpiryBucketListener(ObjectProvider<PointExpiryBucketSink> recorderProvider) {
+        this.recorderProvider = recorderProvider;
+    }
+
+    @PostLoad
+    public void afterLoad(PointItem item) {
+        item.markBucketSnapshot();
+        recorder().track();
+    }
+
+    @PrePersist
+    public void beforePersist(PointItem item) {
+        recorder().track(); // INSERT가 커밋 시점 Flush에서 실행되더라도 반영 훅이 먼저 등록되도록 함
+    }
+
+    @PostPersist
+    public void afterPersist(PointItem item) {
+        recorder().record(item.getUserId(), item.getExpireDate(), item.isManual(), item.getRemainAmount());
+        item.markBucketSnapshot();
+    }
+
+    @PostUpdate
+    public void afterUpdate(PointItem item) {
+        LocalDate previousDate = item.getBucketDate();
+        if (previousDate == null) return; // 스냅샷이 없는 Item (방어 코드)
+
+        PointExpiryBucketSink recorder = recorder();
+        if (previousDate.equals(item.getExpireDate())) {
+            recorder.record(item.getUserId(), previousDate, item.isManual(), item.getRemainAmount() - item.getBucketAmount());
+        } else {
+            recorder.record(item.getUserId(), previousDate, item.isManual(), -item.getBucketAmount());
+            recorder.record(item.getUserId(), item.getExpireDate(), item.isManual(), item.getRemainAmount());
+        }
+        item.markBucketSnapshot();
+    }
+
+    @PostRemove
+    public void afterRemove(PointItem item) {
+        if (item.getBucketDate() == null) return;
+        recorder().record(item.getUserId(), item.getBucketDate(), item.isManual(), -item.getBucketAmount());
+    }
+
+    private PointExpiryBucketSink recorder() {
+        return recorderProvider.getObject();
+    }
+}
@@ -0,0 +1,20 @@
+package com.musinsa.payment.point.domain.point.listener;
+
+import java.time.LocalDate;
+
+/**
+ * 만료 버킷 증감 수집 대상 (PointExpiryBucketListener -> 애플리케이션 계층)
+ * - 구현: PointExpiryBucketRecorder (트랜잭션 단위로 모아 커밋 직전에 반영)
+ */
+public interface PointExpiryBucketSink {
+
+    /**
+     * 현재 쓰기 트랜잭션에 반영 훅 등록 (PointItem을 로딩/저장할 때 호출)
+     */
+    void track();
+
+    /**
+     * (userId, 만료일, 수기 지급 여부)별 잔액 증감 기록
+     */
+    void record(Long userId, LocalDate expireDate, boolean manual, long delta);
+}
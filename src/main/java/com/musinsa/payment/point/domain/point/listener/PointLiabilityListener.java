@@ -0,0 +1,56 @@
+package com.musinsa.payment.point.domain.point.listener;
+
+import com.musinsa.payment.point.domain.point.entity.PointItem;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * PointItem 잔액 변경 -> 잔여 포인트 카운터 증감 변환 (JPA Entity Listener)
+ * - 역할: 적립/사용/취소/홀드/만료 등 JPA로 PointItem 잔액이 바뀌는 모든 경로에서 증감을 PointLiabilitySink(구현: PointLiabilityRecorder)에 전달함.
+ * - 방식: 로딩/저장 시점의 잔액을 Item에 스냅샷으로 기억해 두고, UPDATE 후 현재 잔액과의 차이만 기록함.
+ *   (만료 버킷 스냅샷과는 별도로 유지하므로 두 Listener의 호출 순서와 무관함)
+ */
+public class PointLiabilityListener {
+
+    private final ObjectProvider<PointLiabilitySink> recorderProvider;
+
+    public PointLiabilityListener(ObjectProvider<PointLiabilitySink> recorderProvider) {
+        this.recorderProvider = recorderProvider;
+    }
+
+    @PostLoad
+    public void afterLoad(PointItem item) {
+        item.markLiabilitySnapshot();
+        recorder().track();
+    }
+
+    @PrePersist
+    public void beforePersist(PointItem item) {
+        recorder().track();
+    }
+
+    @PostPersist
+    public void afterPersist(PointItem item) {
+        recorder().record(item.getUserId(), item.getRemainAmount());
+        item.markLiabilitySnapshot();
+    }
+
+    @PostUpdate
+    public void afterUpdate(PointItem item) {
+        recorder().record(item.getUserId(), item.getRemainAmount() - item.getLiabilityAmount());
+        item.markLiabilitySnapshot();
+    }
+
+    @PostRemove
+    public void afterRemove(PointItem item) {
+        recorder().record(item.getUserId(), -item.getLiabilityAmount());
+    }
+
+    private PointLiabilitySink recorder() {
+        return recorderProvider.getObject();
+    }
+}
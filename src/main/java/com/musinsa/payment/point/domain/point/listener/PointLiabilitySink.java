@@ -0,0 +1,18 @@
+package com.musinsa.payment.point.domain.point.listener;
+
+/**
+ * 잔여 포인트 카운터 증감 수집 대상 (PointLiabilityListener -> 애플리케이션 계층)
+ * - 구현: PointLiabilityRecorder (트랜잭션 단위로 모아 커밋 직전에 반영)
+ */
+public interface PointLiabilitySink {
+
+    /**
+     * 현재 쓰기 트랜잭션에 반영 훅 등록 (PointItem을 로딩/저장할 때 호출)
+     */
+    void track();
+
+    /**
+     * 유저의 Item 잔액 증감 기록
+     */
+    void record(Long userId, long delta);
+}
@@ -0,0 +1,7 @@
+/**
+ * 집계 테이블 증감 수집용 JPA Entity Listener와 전달 규약 (Sink)
+ * - 구조: 엔티티 -> Listener(도메인 계층) -> *Sink 인터페이스 -> *Recorder(애플리케이션 계층, 트랜잭션 단위로 모아 커밋 직전에 반영)
+ *   Listener는 Sink 인터페이스로만 전달하므로 엔티티가 애플리케이션 계층을 참조하지 않음.
+ * - 주의: Listener는 Hibernate가 Spring Bean으로 생성하며, EntityManagerFactory 초기화 중 생성되므로 기록기(Sink)는 ObjectProvider로 사용 시점에 조회함.
+ */
+package com.musinsa.payment.point.domain.point.listener;
@@ -0,0 +1,22 @@
+package com.musinsa.payment.point.domain.point.repository;
+
+import com.musinsa.payment.point.domain.point.entity.PointDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PointDailyStatRepository extends JpaRepository<PointDailyStat, PointDailyStat.StatId> {
+
+    /**
+     * 기간 내 일자/유형별 거래 금액 합계 (슬롯 합산)
+     * - 결과: [statDate, type, amount] (엔티티 미생성)
+     * - PK(statDate, type, slot) 범위 조회이므로 최대 (기간 일수 x 유형 수 x 슬롯 수)행만 읽음.
+     */
+    @Query("SELECT s.statDate, s.type, SUM(s.amount) FROM PointDailyStat s " +
+            "WHERE s.statDate BETWEEN :from AND :to " +
+            "GROUP BY s.statDate, s.type ORDER BY s.statDate ASC")
+    List<Object[]> findDailyAmounts(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
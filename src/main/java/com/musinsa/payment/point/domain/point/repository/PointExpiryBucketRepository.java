@@ -0,0 +1,24 @@
+package com.musinsa.payment.point.domain.point.repository;
+
+import com.musinsa.payment.point.domain.point.entity.PointExpiryBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PointExpiryBucketRepository extends JpaRepository<PointExpiryBucket, PointExpiryBucket.BucketId> {
+
+    /**
+     * 기간 내 일자별 만료 예정 금액 (소멸 예정 요약 조회용)
+     * - 결과: [expireDate, amount] (수기/일반 합산, 엔티티 미생성)
+     * - PK(userId, expireDate, isManual) 범위 조회이므로 유저당 최대 (기간 일수 x 2)행만 읽음.
+     */
+    @Query("SELECT b.expireDate, SUM(b.amount) FROM PointExpiryBucket b " +
+            "WHERE b.userId = :userId AND b.expireDate BETWEEN :from AND :to AND b.amount > 0 " +
+            "GROUP BY b.expireDate ORDER BY b.expireDate ASC")
+    List<Object[]> findExpiringAmounts(@Param("userId") Long userId,
+                                       @Param("from") LocalDate from,
+                                       @Param("to") LocalDate to);
+}
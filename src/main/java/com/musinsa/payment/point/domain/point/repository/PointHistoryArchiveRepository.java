@@ -0,0 +1,146 @@
+package com.musinsa.payment.point.domain.point.repository;
+
+import com.musinsa.payment.point.api.point.dto.PointHistoryResponse;
+import com.musinsa.payment.point.domain.point.entity.PointHistoryArchive;
+import com.musinsa.payment.point.domain.point.entity.PointHistoryDetailArchive;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 포인트 거래 이력 보관 테이블 리포지토리 (Cold)
+ * - 조회 조건과 결과 형태는 PointHistoryRepository의 같은 이름 메서드와 동일하며, PointHistoryTierRouter를 통해서만 사용함.
+ */
+public interface PointHistoryArchiveRepository extends JpaRepository<PointHistoryArchive, Long> {
+
+    /**
+     * 보관된 이력의 최대 ID (없으면 null)
+     * - 조회 범위의 하한이 이 값보다 크면 보관 테이블을 읽을 필요가 없음. (PK 끝 한 건만 읽음)
+     */
+    @Query("SELECT MAX(h.id) FROM PointHistoryArchive h")
+    Long findMaxId();
+
+    boolean existsByUserIdAndRefIdAndType(Long userId, String refId, PointType type);
+
+    @Query("SELECT h.userId, h.refId FROM PointHistoryArchive h " +
+            "WHERE h.type = :type AND h.userId IN :userIds AND h.refId IN :refIds")
+    List<Object[]> findProcessedUserRefIds(
+            @Param("type") PointType type,
+            @Param("userIds") Collection<Long> userIds,
+            @Param("refIds") Collection<String> refIds
+    );
+
+    /**
+     * 보관된 원본 이력 조회 (보관 주문 사용 취소용)
+     * - 인덱스 활용: idx_archive_user_ref (userId, refId)
+     */
+    Optional<PointHistoryArchive> findByUserIdAndRefIdAndType(Long userId, String refId, PointType type);
+
+    /**
+     * 보관된 이력의 상세 내역 (상세 ID 오름차순 = 원본 차감 순서)
+     * - 인덱스 활용: idx_detail_archive_history (point_history_id)
+     */
+    @Query("SELECT d FROM PointHistoryDetailArchive d WHERE d.pointHistoryId = :historyId ORDER BY d.id")
+    List<PointHistoryDetailArchive> findDetailsByHistoryId(@Param("historyId") Long historyId);
+
+    @Query(value = "SELECT new com.musinsa.payment.point.api.point.dto.PointHistoryResponse(h.id, h.userId, h.type, h.amount, h.refId, h.createdAt) " +
+            "FROM PointHistoryArchive h " +
+            "WHERE h.userId = :userId " +
+            "AND h.createdAt BETWEEN :startDt AND :endDt " +
+            "AND (:refId IS NULL OR h.refId = :refId) " +
+            "AND (:type IS NULL OR h.type = :type)",
+            countQuery = "SELECT COUNT(h) FROM PointHistoryArchive h " +
+                    "WHERE h.userId = :userId " +
+                    "AND h.createdAt BETWEEN :startDt AND :endDt " +
+                    "AND (:refId IS NULL OR h.refId = :refId) " +
+                    "AND (:type IS NULL OR h.type = :type)")
+    Page<PointHistoryResponse> findAllByUserAndDateRange(
+            @Param("userId") Long userId,
+            @Param("startDt") LocalDateTime startDt,
+            @Param("endDt") LocalDateTime endDt,
+            @Param("refId") String refId,
+            @Param("type") PointType type,
+            Pageable pageable
+    );
+
+    @Query(value = "SELECT new com.musinsa.payment.point.api.point.dto.PointHistoryResponse(h.id, h.userId, h.type, h.amount, h.refId, h.createdAt) " +
+            "FROM PointHistoryArchive h " +
+            "WHERE h.createdAt BETWEEN :startDt AND :endDt " +
+            "AND (:userId IS NULL OR h.userId = :userId) " +
+            "AND (:refId IS NULL OR h.refId = :refId) " +
+            "AND (:type IS NULL OR h.type = :type)",
+            countQuery = "SELECT COUNT(h) FROM PointHistoryArchive h " +
+                    "WHERE h.createdAt BETWEEN :startDt AND :endDt " +
+                    "AND (:userId IS NULL OR h.userId = :userId) " +
+                    "AND (:refId IS NULL OR h.refId = :refId) " +
+                    "AND (:type IS NULL OR h.type = :type)")
+    Page<PointHistoryResponse> findAllByAdminCondition(
+            @Param("startDt") LocalDateTime startDt,
+            @Param("endDt") LocalDateTime endDt,
+            @Param("userId") Long userId,
+            @Param("refId") String refId,
+            @Param("type") PointType type,
+            Pageable pageable
+    );
+
+    @Query("SELECT new com.musinsa.payment.point.api.point.dto.PointHistoryResponse(h.id, h.userId, h.type, h.amount, h.refId, h.createdAt) " +
+            "FROM PointHistoryArchive h " +
+            "WHERE h.userId = :userId " +
+            "AND h.id > :lowerId AND h.id < :upperId " +
+            "AND (:refId IS NULL OR h.refId = :refId) " +
+            "AND (:type IS NULL OR h.type = :type)")
+    Slice<PointHistoryResponse> findSliceByUserAndIdRange(
+            @Param("userId") Long userId,
+            @Param("lowerId") long lowerId,
+            @Param("upperId") long upperId,
+            @Param("refId") String refId,
+            @Param("type") PointType type,
+            Pageable pageable
+    );
+
+    @Query("SELECT new com.musinsa.payment.point.api.point.dto.PointHistoryResponse(h.id, h.userId, h.type, h.amount, h.refId, h.createdAt) " +
+            "FROM PointHistoryArchive h " +
+            "WHERE h.id > :lowerId AND h.id < :upperId " +
+            "AND (:userId IS NULL OR h.userId = :userId) " +
+            "AND (:refId IS NULL OR h.refId = :refId) " +
+            "AND (:type IS NULL OR h.type = :type)")
+    Slice<PointHistoryResponse> findSliceByAdminCondition(
+            @Param("lowerId") long lowerId,
+            @Param("upperId") long upperId,
+            @Param("userId") Long userId,
+            @Param("refId") String refId,
+            @Param("type") PointType type,
+            Pageable pageable
+    );
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT h.id, h.userId, h.type, h.amount, h.refId, h.createdAt FROM PointHistoryArchive h " +
+            "WHERE h.id > :lowerId AND h.id < :upperId " +
+            "AND (:userId IS NULL OR h.userId = :userId) " +
+            "AND (:refId IS NULL OR h.refId = :refId) " +
+            "AND (:type IS NULL OR h.type = :type) " +
+            "ORDER BY h.id ASC")
+    Stream<Object[]> streamForExport(
+            @Param("lowerId") long lowerId,
+            @Param("upperId") long upperId,
+            @Param("userId") Long userId,
+            @Param("refId") String refId,
+            @Param("type") PointType type
+    );
+}
@@ -0,0 +1,37 @@
+package com.musinsa.payment.point.domain.point.repository;
+
+import com.musinsa.payment.point.domain.point.entity.PointHistoryJournalEntry;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PointHistoryJournalRepository extends JpaRepository<PointHistoryJournalEntry, Long> {
+
+    /**
+     * 반영 대상 조회 (오래된 순, Lock)
+     * - Applier와 유저 단위 즉시 반영이 같은 저널을 동시에 반영하지 않도록 행 Lock을 잡음.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM PointHistoryJournalEntry j ORDER BY j.id ASC")
+    List<PointHistoryJournalEntry> findOldestForUpdate(Pageable pageable);
+
+    /**
+     * 특정 유저의 미반영 저널 조회 (Lock)
+     * - 인덱스 활용: idx_journal_user (userId)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM PointHistoryJournalEntry j WHERE j.userId = :userId ORDER BY j.id ASC")
+    List<PointHistoryJournalEntry> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    /**
+     * 가장 오래된 미반영 저널의 기록 시각 (반영 지연 지표용)
+     */
+    @Query("SELECT MIN(j.createdAt) FROM PointHistoryJournalEntry j")
+    LocalDateTime findOldestCreatedAt();
+}
@@ -1,17 +1,24 @@
 package com.musinsa.payment.point.domain.point.repository;
 
+import com.musinsa.payment.point.api.point.dto.PointHistoryResponse;
 import com.musinsa.payment.point.api.point.dto.PointStatisticsResponse;
 import com.musinsa.payment.point.domain.point.entity.PointHistory;
 import com.musinsa.payment.point.domain.point.enums.PointType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
 
@@ -23,12 +30,27 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
     boolean existsByUserIdAndRefIdAndType(Long userId, String refId, PointType type);
 
     /**
-     * 히스토리 + 상세 내역(Detail) 한 방 조회 (Fetch Join)
-     * - 포인트 사용 취소(USE_CANCEL) 등의 복잡한 로직 수행 시, N+1 문제 없이 원본 이력과 상세 내역을 함께 로딩
+     * 일괄 중복 검사 (Bulk Earn 전용)
+     * - 여러 건의 (userId, refId)를 한 번의 쿼리로 조회하여 이미 처리된 조합을 반환함.
+     * - 반환: [userId, refId] 배열 목록. 서비스 계층에서 (userId, refId) 쌍으로 최종 필터링함.
+     * - 인덱스 활용: idx_user_ref (userId, refId)
+     */
+    @Query("SELECT h.userId, h.refId FROM PointHistory h " +
+            "WHERE h.type = :type AND h.userId IN :userIds AND h.refId IN :refIds")
+    List<Object[]> findProcessedUserRefIds(
+            @Param("type") PointType type,
+            @Param("userIds") Collection<Long> userIds,
+            @Param("refIds") Collection<String> refIds
+    );
+
+    /**
+     * 히스토리 + 상세 내역(Detail) + 원본 Item 한 방 조회 (Fetch Join)
+     * - 포인트 사용 취소(USE_CANCEL) 등의 복잡한 로직 수행 시, N+1 문제 없이 원본 이력과 상세 내역, 복구 대상 Item을 함께 로딩
      * - 인덱스 활용: idx_user_ref (userId, refId)를 활용
      */
     @Query("SELECT h FROM PointHistory h " +
-            "JOIN FETCH h.details " +
+            "JOIN FETCH h.details d " +
+            "JOIN FETCH d.pointItem " +
             "WHERE h.userId = :userId AND h.refId = :refId AND h.type = :type")
     Optional<PointHistory> findByUserIdAndRefIdAndTypeWithDetails(
             @Param("userId") Long userId,
@@ -56,13 +78,20 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
      * - 마이페이지 포인트 내역 조회 (기간 제한 규칙은 Service 계층에서 적용)
      * - 인덱스 활용: idx_user_date (userId, createdAt)가 가장 유리하며, refId나 type은 동적 필터링으로 처리
      * - 조건: userId와 기간(startDt, endDt)은 필수, refId와 type은 동적 (NULL일 때 무시)
+     * - SELECT NEW 사용: 응답에 필요한 컬럼만 읽어 DTO로 바로 생성하므로, 엔티티(details 컬렉션/감사 필드 포함)를 영속성 컨텍스트에 올리지 않음.
      */
-    @Query("SELECT h FROM PointHistory h " +
+    @Query(value = "SELECT new com.musinsa.payment.point.api.point.dto.PointHistoryResponse(h.id, h.userId, h.type, h.amount, h.refId, h.createdAt) " +
+            "FROM PointHistory h " +
             "WHERE h.userId = :userId " +
             "AND h.createdAt BETWEEN :startDt AND :endDt " +
             "AND (:refId IS NULL OR h.refId = :refId) " + // [추가] 거래번호
-            "AND (:type IS NULL OR h.type = :type)")      // [추가] 거래상태
-    Page<PointHistory> findAllByUserAndDateRange(
+            "AND (:type IS NULL OR h.type = :type)",      // [추가] 거래상태
+            countQuery = "SELECT COUNT(h) FROM PointHistory h " +
+                    "WHERE h.userId = :userId " +
+                    "AND h.createdAt BETWEEN :startDt AND :endDt " +
+                    "AND (:refId IS NULL OR h.refId = :refId) " +
+                    "AND (:type IS NULL OR h.type = :type)")
+    Page<PointHistoryResponse> findAllByUserAndDateRange(
             @Param("userId") Long userId,
             @Param("startDt") LocalDateTime startDt,
             @Param("endDt") LocalDateTime endDt,
@@ -76,13 +105,20 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
      * - 운영/CS팀의 광범위한 포인트 이력 검색
      * - 인덱스 활용: idx_date (createdAt)를 기본으로 하고, userId가 제공되면 추가적으로 인덱스가 활용됨.
      * - 조건: 기간(startDt, endDt)은 필수, userId, refId, type은 선택적 동적 필터링
+     * - SELECT NEW 사용: 사용자용 조회와 동일하게 DTO Projection으로 조회함.
      */
-    @Query("SELECT h FROM PointHistory h " +
+    @Query(value = "SELECT new com.musinsa.payment.point.api.point.dto.PointHistoryResponse(h.id, h.userId, h.type, h.amount, h.refId, h.createdAt) " +
+            "FROM PointHistory h " +
             "WHERE h.createdAt BETWEEN :startDt AND :endDt " +
             "AND (:userId IS NULL OR h.userId = :userId) " +
             "AND (:refId IS NULL OR h.refId = :refId) " + // [추가] 거래번호
-            "AND (:type IS NULL OR h.type = :type)")      // [추가] 거래상태
-    Page<PointHistory> findAllByAdminCondition(
+            "AND (:type IS NULL OR h.type = :type)",      // [추가] 거래상태
+            countQuery = "SELECT COUNT(h) FROM PointHistory h " +
+                    "WHERE h.createdAt BETWEEN :startDt AND :endDt " +
+                    "AND (:userId IS NULL OR h.userId = :userId) " +
+                    "AND (:refId IS NULL OR h.refId = :refId) " +
+                    "AND (:type IS NULL OR h.type = :type)")
+    Page<PointHistoryResponse> findAllByAdminCondition(
             @Param("startDt") LocalDateTime startDt,
             @Param("endDt") LocalDateTime endDt,
             @Param("userId") Long userId,
@@ -91,11 +127,78 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
             Pageable pageable
     );
 
+    /**
+     * [사용자용] 내 거래내역 커서 조회 (Keyset Pagination)
+     * - 기간과 커서를 모두 ID 범위(lowerId < id < upperId)로 변환하여 전달받음. (ID = 시간순 TSID)
+     * - 인덱스 활용: idx_user_id (userId, id) 범위를 정렬 순서대로 읽고 limit + 1건에서 멈추므로, 페이지 깊이와 무관하게 일정한 비용.
+     * - Slice 반환: COUNT 쿼리를 실행하지 않음. (정렬 방향은 Pageable의 Sort로 전달)
+     */
+    @Query("SELECT new com.musinsa.payment.point.api.point.dto.PointHistoryResponse(h.id, h.userId, h.type, h.amount, h.refId, h.createdAt) " +
+            "FROM PointHistory h " +
+            "WHERE h.userId = :userId " +
+            "AND h.id > :lowerId AND h.id < :upperId " +
+            "AND (:refId IS NULL OR h.refId = :refId) " +
+            "AND (:type IS NULL OR h.type = :type)")
+    Slice<PointHistoryResponse> findSliceByUserAndIdRange(
+            @Param("userId") Long userId,
+            @Param("lowerId") long lowerId,
+            @Param("upperId") long upperId,
+            @Param("refId") String refId,
+            @Param("type") PointType type,
+            Pageable pageable
+    );
+
+    /**
+     * [관리자용] 전체 거래내역 커서 조회 (Keyset Pagination)
+     * - 인덱스 활용: userId가 없으면 PK 범위, 있으면 idx_user_id (userId, id) 범위를 정렬 순서대로 읽음.
+     * - Slice 반환: COUNT 쿼리를 실행하지 않음.
+     */
+    @Query("SELECT new com.musinsa.payment.point.api.point.dto.PointHistoryResponse(h.id, h.userId, h.type, h.amount, h.refId, h.createdAt) " +
+            "FROM PointHistory h " +
+            "WHERE h.id > :lowerId AND h.id < :upperId " +
+            "AND (:userId IS NULL OR h.userId = :userId) " +
+            "AND (:refId IS NULL OR h.refId = :refId) " +
+            "AND (:type IS NULL OR h.type = :type)")
+    Slice<PointHistoryResponse> findSliceByAdminCondition(
+            @Param("lowerId") long lowerId,
+            @Param("upperId") long upperId,
+            @Param("userId") Long userId,
+            @Param("refId") String refId,
+            @Param("type") PointType type,
+            Pageable pageable
+    );
+
+    /**
+     * [관리자] 거래내역 내보내기용 스트리밍 조회 (Forward-only Cursor)
+     * - 결과: [id, userId, type, amount, refId, createdAt] (Projection, 엔티티/영속성 컨텍스트 미사용)
+     * - 방식: 전체 결과를 List로 만들지 않고 Fetch Size 단위로 DB에서 끌어오며, 호출하는 쪽의 트랜잭션 안에서 소비해야 함.
+     *   (MySQL Connector/J는 URL에 useCursorFetch=true가 있어야 Fetch Size 단위로 읽음)
+     * - 인덱스 활용: 기간이 ID 범위로 전달되므로 PK(또는 idx_user_id) 순서대로 읽어 정렬 비용이 없음.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT h.id, h.userId, h.type, h.amount, h.refId, h.createdAt FROM PointHistory h " +
+            "WHERE h.id > :lowerId AND h.id < :upperId " +
+            "AND (:userId IS NULL OR h.userId = :userId) " +
+            "AND (:refId IS NULL OR h.refId = :refId) " +
+            "AND (:type IS NULL OR h.type = :type) " +
+            "ORDER BY h.id ASC")
+    Stream<Object[]> streamForExport(
+            @Param("lowerId") long lowerId,
+            @Param("upperId") long upperId,
+            @Param("userId") Long userId,
+            @Param("refId") String refId,
+            @Param("type") PointType type
+    );
+
     /**
      * [관리자] 특정 기간 동안의 타입별 합계 통계
      * - 월별/일별 총 적립액(SAVE) 및 총 사용액(USE) 등을 산출 (대시보드 지표)
      * - SELECT NEW 사용: DTO 객체로 결과를 직접 매핑하여 반환 (성능 최적화)
      * - 인덱스 활용: idx_date (createdAt)
+     * - 관리자 통계 API는 일자별 거래 통계(point_daily_stat)로 응답하며, 이 쿼리는 원본 기준 검증/비교용으로 사용함.
      */
     @Query("SELECT new com.musinsa.payment.point.api.point.dto.PointStatisticsResponse(h.type, SUM(h.amount)) " +
             "FROM PointHistory h " +
@@ -0,0 +1,53 @@
+package com.musinsa.payment.point.domain.point.repository;
+
+import com.musinsa.payment.point.domain.point.entity.PointHold;
+import com.musinsa.payment.point.domain.point.entity.PointHoldItem;
+import com.musinsa.payment.point.domain.point.enums.PointHoldStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PointHoldRepository extends JpaRepository<PointHold, Long> {
+
+    /**
+     * 홀드 조회 (재요청 판단용, Lock 없음)
+     * - 인덱스 활용: uk_hold_user_ref (userId, refId)
+     */
+    Optional<PointHold> findByUserIdAndRefId(Long userId, String refId);
+
+    /**
+     * 홀드 조회 (Lock)
+     * - 확정/해제/만료 해제가 같은 홀드를 동시에 처리하지 않도록 홀드 행을 잠금.
+     * - Lock 순서: 홀드 -> 지갑 -> 원장 (만료 해제 스케줄러와 동일)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM PointHold h WHERE h.userId = :userId AND h.refId = :refId")
+    Optional<PointHold> findByUserIdAndRefIdForUpdate(@Param("userId") Long userId, @Param("refId") String refId);
+
+    /**
+     * 만료된 홀드 조회 (일괄 해제용, Lock)
+     * - 인덱스 활용: idx_hold_status_expire (status, expireAt)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM PointHold h WHERE h.status = :status AND h.expireAt < :now ORDER BY h.id ASC")
+    List<PointHold> findExpiredForUpdate(
+            @Param("status") PointHoldStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    /**
+     * 홀드 상세 + 원장 한 방 조회 (Fetch Join)
+     * - 해제 시 N+1 없이 원복 대상 PointItem까지 함께 로딩
+     */
+    @Query("SELECT hi FROM PointHoldItem hi JOIN FETCH hi.pointItem WHERE hi.pointHold.id IN :holdIds")
+    List<PointHoldItem> findItemsWithPointItem(@Param("holdIds") Collection<Long> holdIds);
+}
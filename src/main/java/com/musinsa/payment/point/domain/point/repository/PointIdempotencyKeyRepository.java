@@ -0,0 +1,60 @@
+package com.musinsa.payment.point.domain.point.repository;
+
+import com.musinsa.payment.point.domain.point.entity.PointIdempotencyKey;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PointIdempotencyKeyRepository extends JpaRepository<PointIdempotencyKey, Long> {
+
+    /**
+     * 멱등성 키 선점 (INSERT IGNORE)
+     * - 반환값 1: 선점 성공 (최초 요청) / 0: 이미 처리된 요청
+     * - 같은 키를 가진 다른 트랜잭션이 진행 중이면, 해당 트랜잭션이 끝날 때까지 Unique Index에서 대기함.
+     *   => 커밋되면 0(재응답), 롤백되면 1(이 요청이 처리)이 반환됨.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO point_idempotency_key " +
+            "(point_idempotency_key_id, user_id, ref_id, type, request_amount, expire_at, created_at, updated_at) " +
+            "VALUES (:id, :userId, :refId, :type, :requestAmount, :expireAt, :now, :now)", nativeQuery = true)
+    int insertIfAbsent(@Param("id") Long id,
+                       @Param("userId") Long userId,
+                       @Param("refId") String refId,
+                       @Param("type") String type,
+                       @Param("requestAmount") long requestAmount,
+                       @Param("expireAt") LocalDateTime expireAt,
+                       @Param("now") LocalDateTime now);
+
+    Optional<PointIdempotencyKey> findByUserIdAndRefIdAndType(Long userId, String refId, PointType type);
+
+    /**
+     * 일괄 중복 검사 (Bulk Earn 전용)
+     * - 여러 건의 (userId, refId) 중 멱등성 키가 이미 있는 조합을 한 번의 쿼리로 반환함. (다른 노드/단건 API에서 처리된 요청 포함)
+     * - 인덱스 활용: uk_user_ref_type (userId, refId, type)
+     */
+    @Query("SELECT k.userId, k.refId FROM PointIdempotencyKey k " +
+            "WHERE k.type = :type AND k.userId IN :userIds AND k.refId IN :refIds")
+    List<Object[]> findClaimedUserRefIds(@Param("type") PointType type,
+                                         @Param("userIds") Collection<Long> userIds,
+                                         @Param("refIds") Collection<String> refIds);
+
+    /**
+     * 처리 결과 기록 (명령과 같은 트랜잭션에서 호출)
+     */
+    @Modifying
+    @Query("UPDATE PointIdempotencyKey k SET k.historyId = :historyId, k.pointItemId = :pointItemId, k.balance = :balance " +
+            "WHERE k.userId = :userId AND k.refId = :refId AND k.type = :type")
+    int complete(@Param("userId") Long userId,
+                 @Param("refId") String refId,
+                 @Param("type") PointType type,
+                 @Param("historyId") Long historyId,
+                 @Param("pointItemId") Long pointItemId,
+                 @Param("balance") Long balance);
+}
@@ -2,12 +2,17 @@ package com.musinsa.payment.point.domain.point.repository;
 
 import com.musinsa.payment.point.domain.point.entity.PointItem;
 import com.musinsa.payment.point.domain.point.enums.PointStatus;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 public interface PointItemRepository extends JpaRepository<PointItem, Long> {
 
@@ -24,6 +29,134 @@ public interface PointItemRepository extends JpaRepository<PointItem, Long> {
             LocalDateTime now // 현재 시간보다 만료일이 미래인(유효한) 아이템만 조회
     );
 
+    /**
+     * 차감 대상 첫 페이지 조회 (use() 폴백 경로)
+     * - 전체 목록 대신 우선순위 상위 N건만 조회하여, 실제로 소진하는 만큼만 영속성 컨텍스트에 올림.
+     * - 수기 지급분(isManual = true)을 먼저 읽고, 페이지가 차지 않으면 일반 지급분으로 이어 채움.
+     */
+    default List<PointItem> findDeductionPage(Long userId, PointStatus status, LocalDateTime now, Pageable pageable) {
+        List<PointItem> manual = findDeductionRange(userId, status, true, now, pageable);
+        return fillPage(manual, pageable, rest -> findDeductionRange(userId, status, false, now, rest));
+    }
+
+    /**
+     * 차감 대상 다음 페이지 조회 (Keyset Pagination)
+     * - 직전 페이지의 마지막 아이템(isManual, expireAt, id) 이후부터 조회함.
+     * - OFFSET 방식과 달리, 앞 페이지 아이템이 소진(EXHAUSTED)되어 목록에서 빠져도 건너뛰는 아이템이 없음.
+     * - 같은 isManual 범위의 나머지를 먼저 읽고, 수기 지급분이 끝나면 일반 지급분의 처음부터 이어 채움.
+     */
+    default List<PointItem> findDeductionPageAfter(Long userId, PointStatus status, LocalDateTime now,
+                                                   boolean lastManual, LocalDateTime lastExpireAt, Long lastId,
+                                                   Pageable pageable) {
+        List<PointItem> items = findDeductionRangeAfter(userId, status, lastManual, now, lastExpireAt, lastId, pageable);
+        if (!lastManual) return items;
+        return fillPage(items, pageable, rest -> findDeductionRange(userId, status, false, now, rest));
+    }
+
+    /**
+     * 차감 대상 범위 조회 (isManual 값 하나)
+     * - 인덱스 활용: idx_user_status_manual_expire (userId, status, isManual, expireAt, id)의 범위를 정렬 순서대로 LIMIT만큼만 읽음.
+     */
+    @Query("SELECT i FROM PointItem i " +
+            "WHERE i.userId = :userId AND i.status = :status AND i.isManual = :manual AND i.expireAt > :now " +
+            "ORDER BY i.expireAt ASC, i.id ASC")
+    List<PointItem> findDeductionRange(
+            @Param("userId") Long userId,
+            @Param("status") PointStatus status,
+            @Param("manual") boolean manual,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    /**
+     * 차감 대상 범위 이어 읽기 (isManual 값 하나, Keyset)
+     * - expireAt >= :lastExpireAt 가 인덱스 범위의 시작점이 되고, 같은 만료일 안의 경계는 id로 거름.
+     */
+    @Query("SELECT i FROM PointItem i " +
+            "WHERE i.userId = :userId AND i.status = :status AND i.isManual = :manual AND i.expireAt > :now " +
+            "AND i.expireAt >= :lastExpireAt AND (i.expireAt > :lastExpireAt OR i.id > :lastId) " +
+            "ORDER BY i.expireAt ASC, i.id ASC")
+    List<PointItem> findDeductionRangeAfter(
+            @Param("userId") Long userId,
+            @Param("status") PointStatus status,
+            @Param("manual") boolean manual,
+            @Param("now") LocalDateTime now,
+            @Param("lastExpireAt") LocalDateTime lastExpireAt,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    /**
+     * 스트라이프 지갑 슬롯의 차감 대상 조회 (슬롯 적립/사용 핫 경로)
+     * - 슬롯에 배정된 Item만 우선순위(Manual DESC, ExpireAt ASC) 순으로 조회함. 슬롯 간 Item이 겹치지 않아 슬롯끼리 Row Lock 경합이 없음.
+     */
+    @Query("SELECT i FROM PointItem i " +
+            "WHERE i.userId = :userId AND i.walletSlot = :slotNo AND i.status = :status AND i.expireAt > :now " +
+            "ORDER BY i.isManual DESC, i.expireAt ASC, i.id ASC")
+    List<PointItem> findSlotDeductionItems(
+            @Param("userId") Long userId,
+            @Param("slotNo") int slotNo,
+            @Param("status") PointStatus status,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 스트라이프 지갑 통합: 슬롯 배정 일괄 해제 (모든 Item을 지갑 소속으로 되돌림)
+     * - 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로, 호출 전에 변경된 Item을 먼저 Flush함.
+     *   호출 이후에 이미 로딩된 Item을 변경하면 이전 walletSlot 값이 다시 기록되므로, Item 조회 전에 호출해야 함.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PointItem i SET i.walletSlot = null WHERE i.userId = :userId AND i.walletSlot IS NOT NULL")
+    int clearWalletSlots(@Param("userId") Long userId);
+
+    /**
+     * 차감 큐 구성용 경량 조회 (엔티티 미생성, 우선순위 상위 N건)
+     * - 반환: (id, remainAmount, expireAt, isManual) - 차감 우선순위와 동일한 순서
+     * - id ASC: 우선순위가 같은 아이템의 순서를 메모리 큐와 일치시키기 위한 보조 정렬
+     * - 조회 방식은 findDeductionPage와 동일함. (수기 지급분 범위 -> 일반 지급분 범위)
+     */
+    default List<Object[]> findDeductionQueueRows(Long userId, PointStatus status, LocalDateTime now, Pageable pageable) {
+        List<Object[]> manual = findDeductionQueueRange(userId, status, true, now, pageable);
+        return fillPage(manual, pageable, rest -> findDeductionQueueRange(userId, status, false, now, rest));
+    }
+
+    /**
+     * 차감 큐 이어 읽기 (Keyset Pagination, 부분 큐의 경계 이후)
+     * - 조회 방식은 findDeductionPageAfter와 동일함.
+     */
+    default List<Object[]> findDeductionQueueRowsAfter(Long userId, PointStatus status, LocalDateTime now,
+                                                       boolean lastManual, LocalDateTime lastExpireAt, Long lastId,
+                                                       Pageable pageable) {
+        List<Object[]> rows = findDeductionQueueRangeAfter(userId, status, lastManual, now, lastExpireAt, lastId, pageable);
+        if (!lastManual) return rows;
+        return fillPage(rows, pageable, rest -> findDeductionQueueRange(userId, status, false, now, rest));
+    }
+
+    @Query("SELECT i.id, i.remainAmount, i.expireAt, i.isManual FROM PointItem i " +
+            "WHERE i.userId = :userId AND i.status = :status AND i.isManual = :manual AND i.expireAt > :now " +
+            "ORDER BY i.expireAt ASC, i.id ASC")
+    List<Object[]> findDeductionQueueRange(
+            @Param("userId") Long userId,
+            @Param("status") PointStatus status,
+            @Param("manual") boolean manual,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    @Query("SELECT i.id, i.remainAmount, i.expireAt, i.isManual FROM PointItem i " +
+            "WHERE i.userId = :userId AND i.status = :status AND i.isManual = :manual AND i.expireAt > :now " +
+            "AND i.expireAt >= :lastExpireAt AND (i.expireAt > :lastExpireAt OR i.id > :lastId) " +
+            "ORDER BY i.expireAt ASC, i.id ASC")
+    List<Object[]> findDeductionQueueRangeAfter(
+            @Param("userId") Long userId,
+            @Param("status") PointStatus status,
+            @Param("manual") boolean manual,
+            @Param("now") LocalDateTime now,
+            @Param("lastExpireAt") LocalDateTime lastExpireAt,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
     /**
      * [사용자] 소멸 예정 포인트 조회 (마이페이지/알림용)
      * 사용자에게 곧 만료될 예정인 포인트 목록을 만료일 순으로 제공
@@ -52,9 +185,21 @@ public interface PointItemRepository extends JpaRepository<PointItem, Long> {
      * 포인트 전체 잔액 산출
      * - 조건: 상태가 AVAILABLE(사용 가능)인 PointItem의 잔액(remainAmount)만 합산
      * - COALESCE 사용: 조회 결과가 0건일 경우 NULL 대신 0을 반환하여 서비스 계층의 예외를 방지
+     * - 전체 스캔이므로 API 조회는 잔여 포인트 카운터를 사용하고, 이 쿼리는 카운터 재집계(PointLiabilityService.reconcile)에서만 사용함.
      */
     @Query("SELECT COALESCE(SUM(i.remainAmount), 0) FROM PointItem i WHERE i.status = :status")
     long sumTotalRemainAmountByStatus(@Param("status") PointStatus status);
 
     List<PointItem> findByUserId(long userId);
-}
\ No newline at end of file
+
+    /**
+     * 앞 범위의 조회 결과가 페이지 크기에 못 미치면, 모자란 건수만큼 다음 범위에서 이어 채움
+     */
+    private static <T> List<T> fillPage(List<T> head, Pageable pageable, Function<Pageable, List<T>> nextRange) {
+        int missing = pageable.getPageSize() - head.size();
+        if (missing <= 0) return head;
+        List<T> merged = new ArrayList<>(head);
+        merged.addAll(nextRange.apply(PageRequest.of(0, missing)));
+        return merged;
+    }
+}
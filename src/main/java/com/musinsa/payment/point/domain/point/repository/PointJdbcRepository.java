@@ -0,0 +1,684 @@
+package com.musinsa.payment.point.domain.point.repository;
+
+import com.musinsa.payment.point.domain.point.enums.PointStatus;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 포인트 대량 쓰기 전용 JDBC 리포지토리 (Set-based Persistence)
+ * - 역할: 대량 적립/배치 등에서 PointItem, PointHistory, PointHistoryDetail을 JDBC Batch로 한 번에 저장함.
+ * - 특징: 엔티티를 영속성 컨텍스트에 올리지 않으므로 Dirty Checking/Cascade 비용이 없음.
+ * - 주의: JPA 트랜잭션과 같은 커넥션을 사용하므로, 호출하는 쪽의 @Transactional 경계 안에서 원자적으로 처리됨.
+ *   ID는 엔티티와 동일하게 TSID를 애플리케이션에서 부여해야 함.
+ */
+@Repository
+public class PointJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public PointJdbcRepository(JdbcTemplate jdbcTemplate,
+                               @Value("${musinsa.point.jdbc.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 지갑이 없는 유저의 지갑을 일괄 생성 (이미 존재하면 무시)
+     * - INSERT IGNORE: 동시에 같은 유저의 지갑을 만들더라도 PK 충돌 없이 한 건만 생성됨.
+     */
+    public void insertWalletsIfAbsent(Collection<Long> userIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO user_point_wallet (user_id, balance, version, created_at, updated_at) VALUES (?, 0, 0, ?, ?)",
+                List.copyOf(userIds), batchSize,
+                (ps, userId) -> {
+                    ps.setLong(1, userId);
+                    ps.setTimestamp(2, now);
+                    ps.setTimestamp(3, now);
+                });
+    }
+
+    public void batchInsertItems(List<ItemRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO point_item (point_item_id, user_id, original_amount, remain_amount, expire_at, is_manual, status, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                rows, batchSize,
+                (ps, row) -> {
+                    ps.setLong(1, row.id());
+                    ps.setLong(2, row.userId());
+                    ps.setLong(3, row.amount());
+                    ps.setLong(4, row.amount()); // 초기 잔액 = 최초 지급액
+                    ps.setTimestamp(5, Timestamp.valueOf(row.expireAt()));
+                    ps.setBoolean(6, row.manual());
+                    ps.setString(7, PointStatus.AVAILABLE.name());
+                    ps.setTimestamp(8, now);
+                    ps.setTimestamp(9, now);
+                });
+    }
+
+    public void batchInsertHistories(List<HistoryRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO point_history (point_history_id, user_id, type, amount, ref_id, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows, batchSize,
+                (ps, row) -> {
+                    ps.setLong(1, row.id());
+                    ps.setLong(2, row.userId());
+                    ps.setString(3, row.type().name());
+                    ps.setLong(4, row.amount());
+                    ps.setString(5, row.refId());
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                });
+    }
+
+    public void batchInsertDetails(List<DetailRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO point_history_detail (point_history_detail_id, point_history_id, point_item_id, amount, restored_from_item_id, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows, batchSize,
+                (ps, row) -> {
+                    ps.setLong(1, row.id());
+                    ps.setLong(2, row.historyId());
+                    ps.setLong(3, row.itemId());
+                    ps.setLong(4, row.amount());
+                    if (row.restoredFromItemId() != null) {
+                        ps.setLong(5, row.restoredFromItemId());
+                    } else {
+                        ps.setNull(5, Types.BIGINT);
+                    }
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                });
+    }
+
+    /**
+     * 멱등성 키 일괄 저장 (처리 결과 포함)
+     * - 일괄 적립분도 단건 API로 재시도되면 재응답될 수 있도록 단건 적립과 동일한 키를 남김.
+     */
+    public void batchInsertIdempotencyKeys(List<IdempotencyKeyRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO point_idempotency_key (point_idempotency_key_id, user_id, ref_id, type, request_amount, history_id, point_item_id, balance, expire_at, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                rows, batchSize,
+                (ps, row) -> {
+                    ps.setLong(1, row.id());
+                    ps.setLong(2, row.userId());
+                    ps.setString(3, row.refId());
+                    ps.setString(4, row.type().name());
+                    ps.setLong(5, row.amount());
+                    ps.setLong(6, row.historyId());
+                    ps.setLong(7, row.itemId());
+                    ps.setLong(8, row.balance());
+                    ps.setTimestamp(9, Timestamp.valueOf(row.expireAt()));
+                    ps.setTimestamp(10, now);
+                    ps.setTimestamp(11, now);
+                });
+    }
+
+    /**
+     * 저널에 기록된 이력 반영 (INSERT IGNORE)
+     * - ID가 저널 기록 시점에 부여되어 있으므로, 이미 반영된 이력은 PK 충돌로 무시됨. (재반영해도 중복 생성 없음)
+     * - created_at은 반영 시각이 아닌 저널 기록 시각(거래 시각)을 사용함.
+     * @return 실제로 INSERT된 이력 (이미 반영되어 무시된 이력 제외, 드라이버가 건별 결과를 주지 않으면 모두 포함)
+     */
+    public List<JournaledHistory> insertJournaledHistories(List<JournaledHistory> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO point_history (point_history_id, user_id, type, amount, ref_id, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows, batchSize,
+                (ps, row) -> {
+                    ps.setLong(1, row.history().id());
+                    ps.setLong(2, row.history().userId());
+                    ps.setString(3, row.history().type().name());
+                    ps.setLong(4, row.history().amount());
+                    ps.setString(5, row.history().refId());
+                    ps.setTimestamp(6, Timestamp.valueOf(row.createdAt()));
+                    ps.setTimestamp(7, now);
+                });
+
+        List<JournaledDetail> details = rows.stream()
+                .flatMap(row -> row.details().stream().map(detail -> new JournaledDetail(detail, row.createdAt())))
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO point_history_detail (point_history_detail_id, point_history_id, point_item_id, amount, restored_from_item_id, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                details, batchSize,
+                (ps, row) -> {
+                    ps.setLong(1, row.detail().id());
+                    ps.setLong(2, row.detail().historyId());
+                    ps.setLong(3, row.detail().itemId());
+                    ps.setLong(4, row.detail().amount());
+                    if (row.detail().restoredFromItemId() != null) {
+                        ps.setLong(5, row.detail().restoredFromItemId());
+                    } else {
+                        ps.setNull(5, Types.BIGINT);
+                    }
+                    ps.setTimestamp(6, Timestamp.valueOf(row.createdAt()));
+                    ps.setTimestamp(7, now);
+                });
+
+        // 건별 결과: 0 = PK 충돌로 무시됨, 1 = INSERT, SUCCESS_NO_INFO(-2) = 알 수 없음(INSERT로 간주)
+        List<JournaledHistory> inserted = new ArrayList<>(rows.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count != 0) inserted.add(rows.get(index));
+                index++;
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * 만료 대상 Item 잠금 조회 (만료 배치 Writer용)
+     * - 지정한 Item 중 아직 AVAILABLE이고 잔액이 남은 Item만 ID 순으로 잠그고, 잠근 시점의 잔액을 반환함.
+     * - 호출자는 해당 유저들의 지갑 Lock을 먼저 잡아야 함. (Lock 순서: 지갑 -> Item)
+     */
+    public List<ExpiringItemRow> lockExpirableItems(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) return List.of();
+        List<Object> args = new ArrayList<>(itemIds);
+        args.add(PointStatus.AVAILABLE.name());
+        return jdbcTemplate.query(
+                "SELECT point_item_id, user_id, remain_amount, expire_at, is_manual FROM point_item " +
+                        "WHERE point_item_id IN (" + placeholders(itemIds.size()) + ") AND status = ? AND remain_amount > 0 " +
+                        "ORDER BY point_item_id FOR UPDATE",
+                (rs, rowNum) -> new ExpiringItemRow(rs.getLong(1), rs.getLong(2), rs.getLong(3),
+                        rs.getTimestamp(4).toLocalDateTime(), rs.getBoolean(5)),
+                args.toArray());
+    }
+
+    /**
+     * 버전이 없는 지갑의 버전을 0으로 채움 (@Version 도입 전 지갑)
+     * - batchSize건씩 나누어 갱신하여 한 번에 많은 행을 잠그지 않음.
+     * @return 채운 지갑 수
+     */
+    public int backfillWalletVersions() {
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(
+                    "UPDATE user_point_wallet SET version = 0 WHERE user_id IN (" +
+                            "SELECT user_id FROM (SELECT user_id FROM user_point_wallet WHERE version IS NULL LIMIT ?) t)",
+                    batchSize);
+            total += updated;
+        } while (updated > 0);
+        return total;
+    }
+
+    /**
+     * 보관 기한이 지난 멱등성 키 삭제 1회분 (TTL Eviction)
+     * - expireAt이 가장 오래된 chunkRows건만 삭제하여, 선점(INSERT IGNORE) 경로 옆에서 한 번에 많은 행을 잠그지 않음.
+     * - 인덱스 활용: idx_expire_at (expireAt)
+     * @return 삭제된 키 수 (chunkRows 미만이면 남은 만료 키가 없음)
+     */
+    public int deleteExpiredIdempotencyKeys(LocalDateTime now, int chunkRows) {
+        return jdbcTemplate.update(
+                "DELETE FROM point_idempotency_key WHERE point_idempotency_key_id IN (" +
+                        "SELECT point_idempotency_key_id FROM (" +
+                        "SELECT point_idempotency_key_id FROM point_idempotency_key WHERE expire_at < ? " +
+                        "ORDER BY expire_at LIMIT ?) t)",
+                Timestamp.valueOf(now), chunkRows);
+    }
+
+    /**
+     * Item 일괄 만료 (잔액 0, 상태 EXPIRED)
+     * - 상태 조건을 함께 걸어 이미 만료/소진된 Item은 변경하지 않음.
+     * - JPA Entity Listener를 거치지 않으므로, 만료 버킷/잔여 포인트 카운터 증감은 호출자가 직접 기록해야 함.
+     * @return 변경된 Item 수
+     */
+    public int expireItems(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) return 0;
+        List<Object> args = new ArrayList<>(itemIds.size() + 3);
+        args.add(PointStatus.EXPIRED.name());
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.addAll(itemIds);
+        args.add(PointStatus.AVAILABLE.name());
+        return jdbcTemplate.update(
+                "UPDATE point_item SET status = ?, remain_amount = 0, updated_at = ? " +
+                        "WHERE point_item_id IN (" + placeholders(itemIds.size()) + ") AND status = ?",
+                args.toArray());
+    }
+
+    /**
+     * 만료 버킷 증감 반영 (UPSERT)
+     * - 행이 없으면 생성하고, 있으면 amount에 증감분을 더함.
+     * - 호출자는 (userId, expireDate, isManual) 순으로 정렬하여 전달해야 함. (여러 트랜잭션이 같은 행을 갱신해도 Lock 순서가 같아 데드락 예방)
+     */
+    public void upsertExpiryBuckets(List<ExpiryBucketDelta> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO point_expiry_bucket (user_id, expire_date, is_manual, amount) VALUES (?, ?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount)",
+                rows, batchSize,
+                (ps, row) -> {
+                    ps.setLong(1, row.userId());
+                    ps.setDate(2, Date.valueOf(row.expireDate()));
+                    ps.setBoolean(3, row.manual());
+                    ps.setLong(4, row.delta());
+                });
+    }
+
+    /**
+     * 만료 버킷 전체 재구축 (최초 도입 시 백필, 불일치 복구용)
+     * - point_item의 잔액을 (userId, 만료일, 수기 지급 여부)로 다시 집계하여 교체함.
+     * @return 생성된 버킷 수
+     */
+    public int rebuildExpiryBuckets() {
+        jdbcTemplate.update("DELETE FROM point_expiry_bucket");
+        return jdbcTemplate.update(
+                "INSERT INTO point_expiry_bucket (user_id, expire_date, is_manual, amount) " +
+                        "SELECT user_id, CAST(expire_at AS DATE), is_manual, SUM(remain_amount) FROM point_item " +
+                        "WHERE remain_amount > 0 GROUP BY user_id, CAST(expire_at AS DATE), is_manual");
+    }
+
+    /**
+     * 모두 소진/만료된 지난 버킷 삭제 (재집계 배치의 정리 Step)
+     */
+    public int deleteDrainedExpiryBuckets(LocalDate before) {
+        return jdbcTemplate.update("DELETE FROM point_expiry_bucket WHERE expire_date < ? AND amount = 0", Date.valueOf(before));
+    }
+
+    /**
+     * 일자별 거래 통계 증감 반영 (UPSERT)
+     * - 호출자는 (statDate, type, slot) 순으로 정렬하여 전달해야 함. (Lock 순서를 맞춰 데드락 예방)
+     */
+    public void upsertDailyStats(List<DailyStatDelta> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO point_daily_stat (stat_date, type, slot, amount) VALUES (?, ?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount)",
+                rows, batchSize,
+                (ps, row) -> {
+                    ps.setDate(1, Date.valueOf(row.statDate()));
+                    ps.setString(2, row.type().name());
+                    ps.setInt(3, row.slot());
+                    ps.setLong(4, row.delta());
+                });
+    }
+
+    /**
+     * 일자별 거래 통계 재집계 (불일치 복구용)
+     * - 기간 [from, to] 일자의 통계를 point_history(+ 보관 테이블)로 다시 집계하여 교체함. (재집계 결과는 slot 0에 기록)
+     * - 아직 거래가 발생 중인 당일을 대상으로 하면 동시에 커밋된 증감이 유실될 수 있으므로, 마감된 일자에만 사용해야 함.
+     * - 세그먼트 파일로 옮겨진 월은 DB에 이력이 없으므로 재집계 대상으로 지정하면 안 됨.
+     * @return 생성된 통계 행 수
+     */
+    public int rebuildDailyStats(LocalDate from, LocalDate to) {
+        Timestamp start = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+        jdbcTemplate.update("DELETE FROM point_daily_stat WHERE stat_date BETWEEN ? AND ?", Date.valueOf(from), Date.valueOf(to));
+        return jdbcTemplate.update(
+                "INSERT INTO point_daily_stat (stat_date, type, slot, amount) " +
+                        "SELECT CAST(created_at AS DATE), type, 0, SUM(amount) FROM (" +
+                        "SELECT created_at, type, amount FROM point_history WHERE created_at >= ? AND created_at < ? " +
+                        "UNION ALL " +
+                        "SELECT created_at, type, amount FROM point_history_archive WHERE created_at >= ? AND created_at < ?" +
+                        ") h GROUP BY CAST(created_at AS DATE), type",
+                start, end, start, end);
+    }
+
+    /**
+     * 일자별 거래 통계 전체 재구축 (최초 도입 시 백필)
+     * @return 생성된 통계 행 수
+     */
+    public int rebuildAllDailyStats() {
+        jdbcTemplate.update("DELETE FROM point_daily_stat");
+        return jdbcTemplate.update(
+                "INSERT INTO point_daily_stat (stat_date, type, slot, amount) " +
+                        "SELECT CAST(created_at AS DATE), type, 0, SUM(amount) FROM (" +
+                        "SELECT created_at, type, amount FROM point_history " +
+                        "UNION ALL " +
+                        "SELECT created_at, type, amount FROM point_history_archive" +
+                        ") h GROUP BY CAST(created_at AS DATE), type");
+    }
+
+    /**
+     * 이력 보관 처리 1회분 (Hot -> 보관 테이블 이동)
+     * - ID가 cutoffId 미만인 이력을 ID 오름차순으로 최대 chunkRows건 골라, 상세 내역과 함께 보관 테이블로 복사한 뒤 원본에서 삭제함.
+     * - ID 오름차순으로만 옮기므로 보관 테이블의 ID는 항상 Hot 테이블의 ID보다 작음. (조회 라우팅의 전제)
+     * - 호출자의 트랜잭션 1개가 1회분이 되며, 중간에 실패하면 해당 회차만 롤백됨.
+     * @return 이동된 이력 수 (0이면 더 옮길 이력이 없음)
+     */
+    public int archiveHistories(long cutoffId, int chunkRows) {
+        Long lastId = jdbcTemplate.queryForObject(
+                "SELECT MAX(point_history_id) FROM (" +
+                        "SELECT point_history_id FROM point_history WHERE point_history_id < ? " +
+                        "ORDER BY point_history_id LIMIT ?) t",
+                Long.class, cutoffId, chunkRows);
+        if (lastId == null) return 0;
+
+        jdbcTemplate.update(
+                "INSERT INTO point_history_archive " +
+                        "(point_history_id, user_id, type, amount, ref_id, refunded_amount, created_at, updated_at) " +
+                        "SELECT point_history_id, user_id, type, amount, ref_id, refunded_amount, created_at, updated_at " +
+                        "FROM point_history WHERE point_history_id <= ?",
+                lastId);
+        jdbcTemplate.update(
+                "INSERT INTO point_history_detail_archive " +
+                        "(point_history_detail_id, point_history_id, point_item_id, amount, restored_from_item_id, refunded_amount, created_at, updated_at) " +
+                        "SELECT point_history_detail_id, point_history_id, point_item_id, amount, restored_from_item_id, refunded_amount, created_at, updated_at " +
+                        "FROM point_history_detail WHERE point_history_id <= ?",
+                lastId);
+        jdbcTemplate.update("DELETE FROM point_history_detail WHERE point_history_id <= ?", lastId);
+        return jdbcTemplate.update("DELETE FROM point_history WHERE point_history_id <= ?", lastId);
+    }
+
+    /**
+     * 보관 테이블에서 ID가 beforeId 미만인 가장 오래된 이력 ID (없으면 null)
+     */
+    public Long findMinArchivedId(long beforeId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT MIN(point_history_id) FROM point_history_archive WHERE point_history_id < ?",
+                Long.class, beforeId);
+    }
+
+    /**
+     * 보관 테이블 이력 순차 조회 (ID 범위 [fromId, toId), ID 오름차순)
+     * - 행마다 consumer로 넘기고 목록으로 모으지 않음. (세그먼트 파일 기록용)
+     */
+    public void scanArchivedHistories(long fromId, long toId, Consumer<ArchivedHistoryRow> consumer) {
+        jdbcTemplate.query(
+                "SELECT point_history_id, user_id, type, amount, ref_id, refunded_amount, created_at " +
+                        "FROM point_history_archive WHERE point_history_id >= ? AND point_history_id < ? " +
+                        "ORDER BY point_history_id",
+                (RowCallbackHandler) rs -> {
+                    long id = rs.getLong(1);
+                    Timestamp createdAt = rs.getTimestamp(7);
+                    consumer.accept(new ArchivedHistoryRow(id, rs.getLong(2), PointType.valueOf(rs.getString(3)),
+                            rs.getLong(4), rs.getString(5), rs.getLong(6),
+                            createdAt != null ? createdAt.toLocalDateTime() : TsidUtil.timeOf(id)));
+                },
+                fromId, toId);
+    }
+
+    /**
+     * 보관 테이블 상세 내역 순차 조회 (이력 ID 범위 [fromId, toId), 이력 ID -> 상세 ID 오름차순)
+     */
+    public void scanArchivedDetails(long fromId, long toId, Consumer<ArchivedDetailRow> consumer) {
+        jdbcTemplate.query(
+                "SELECT point_history_detail_id, point_history_id, point_item_id, amount, restored_from_item_id, refunded_amount " +
+                        "FROM point_history_detail_archive WHERE point_history_id >= ? AND point_history_id < ? " +
+                        "ORDER BY point_history_id, point_history_detail_id",
+                (RowCallbackHandler) rs -> {
+                    long restoredFromItemId = rs.getLong(5);
+                    consumer.accept(new ArchivedDetailRow(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4),
+                            rs.wasNull() ? null : restoredFromItemId, rs.getLong(6)));
+                },
+                fromId, toId);
+    }
+
+    /**
+     * 보관 테이블 이력 삭제 1회분 (세그먼트 파일로 옮긴 뒤 호출)
+     * - ID 범위 [fromId, toId)에서 가장 오래된 chunkRows건을 상세 내역과 함께 삭제함.
+     * @return 삭제된 이력 수 (0이면 범위 내 이력이 없음)
+     */
+    public int deleteArchivedHistories(long fromId, long toId, int chunkRows) {
+        Long lastId = jdbcTemplate.queryForObject(
+                "SELECT MAX(point_history_id) FROM (" +
+                        "SELECT point_history_id FROM point_history_archive WHERE point_history_id >= ? AND point_history_id < ? " +
+                        "ORDER BY point_history_id LIMIT ?) t",
+                Long.class, fromId, toId, chunkRows);
+        if (lastId == null) return 0;
+
+        jdbcTemplate.update("DELETE FROM point_history_detail_archive WHERE point_history_id >= ? AND point_history_id <= ?",
+                fromId, lastId);
+        return jdbcTemplate.update("DELETE FROM point_history_archive WHERE point_history_id >= ? AND point_history_id <= ?",
+                fromId, lastId);
+    }
+
+    /**
+     * 보관된 USE 이력의 환불 누적 (보관 주문 사용 취소용)
+     * - 보관 테이블은 읽기 전용 엔티티이므로 환불 금액(refunded_amount)만 JDBC로 누적함.
+     * - 환불 가능 금액 조건을 함께 걸어, 조회 이후 다른 취소가 먼저 반영되었으면 변경하지 않음.
+     * @param detailRefunds 상세 ID별 이번 환불 금액
+     * @return 이력 환불 누적 성공 여부 (false면 호출자가 트랜잭션을 실패 처리해야 함)
+     */
+    public boolean refundArchivedUse(long historyId, long amount, Map<Long, Long> detailRefunds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = jdbcTemplate.update(
+                "UPDATE point_history_archive SET refunded_amount = refunded_amount + ?, updated_at = ? " +
+                        "WHERE point_history_id = ? AND amount - refunded_amount >= ?",
+                amount, now, historyId, amount);
+        if (updated == 0) return false;
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE point_history_detail_archive SET refunded_amount = refunded_amount + ?, updated_at = ? " +
+                        "WHERE point_history_detail_id = ?",
+                List.copyOf(detailRefunds.entrySet()), batchSize,
+                (ps, refund) -> {
+                    ps.setLong(1, refund.getValue());
+                    ps.setTimestamp(2, now);
+                    ps.setLong(3, refund.getKey());
+                });
+        return true;
+    }
+
+    /**
+     * 환불 누적 금액 백필 1회분 (refunded_amount 도입 전에 부분 취소된 USE 이력)
+     * - afterId 다음 chunkRows건 구간의 USE 이력 중 환불 누적이 0인데 같은 주문의 USE_CANCEL / RESTORE 이력이 있는 건을 찾아,
+     *   취소 상세를 원본 Item별로 합산하여 원본 상세(상세 ID 순)와 이력에 기록함. (USE_CANCEL은 point_item_id, RESTORE는 restored_from_item_id가 원본 Item)
+     * - 같은 주문의 취소 이력: USE_CANCEL은 ref_id가 주문번호와 같고, RESTORE는 ref_id가 "주문번호_TSID"임.
+     * - 취소 이력은 항상 원본보다 나중에 생기므로, Hot 원본은 Hot 취소 이력만, 보관 원본은 Hot/보관 취소 이력을 모두 합산함.
+     * - 멱등: refunded_amount = 0인 행만 갱신하므로, 다시 실행해도 이미 기록된 이력은 변경하지 않음.
+     * @param archived true면 보관 테이블의 USE 이력을 대상으로 함
+     * @return 이번 회차 구간의 마지막 이력 ID (null이면 더 처리할 이력이 없음)
+     */
+    public Long backfillRefundedAmounts(boolean archived, long afterId, int chunkRows) {
+        String historyTable = archived ? "point_history_archive" : "point_history";
+        String detailTable = archived ? "point_history_detail_archive" : "point_history_detail";
+        Long lastId = jdbcTemplate.queryForObject(
+                "SELECT MAX(point_history_id) FROM (" +
+                        "SELECT point_history_id FROM " + historyTable + " WHERE point_history_id > ? " +
+                        "ORDER BY point_history_id LIMIT ?) t",
+                Long.class, afterId, chunkRows);
+        if (lastId == null) return null;
+
+        // USE_CANCEL은 주문번호 그대로, RESTORE는 "주문번호_TSID"로 기록되므로 접두사 + 뒤에 '_'가 더 없는 행만 같은 주문으로 봄
+        String cancelExists = "EXISTS (SELECT 1 FROM %s c WHERE c.user_id = h.user_id " +
+                "AND ((c.type = 'USE_CANCEL' AND c.ref_id = h.ref_id) " +
+                "  OR (c.type = 'RESTORE' AND SUBSTRING(c.ref_id, 1, LENGTH(h.ref_id) + 1) = CONCAT(h.ref_id, '_') " +
+                "      AND LOCATE('_', c.ref_id, LENGTH(h.ref_id) + 2) = 0)))";
+        List<RefundBackfillTarget> targets = jdbcTemplate.query(
+                "SELECT h.point_history_id, h.user_id, h.ref_id, h.amount FROM " + historyTable + " h " +
+                        "WHERE h.point_history_id > ? AND h.point_history_id <= ? AND h.type = 'USE' " +
+                        "AND h.refunded_amount = 0 AND h.ref_id IS NOT NULL " +
+                        "AND (" + cancelExists.formatted("point_history") +
+                        (archived ? " OR " + cancelExists.formatted("point_history_archive") : "") + ")",
+                (rs, rowNum) -> new RefundBackfillTarget(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getLong(4)),
+                afterId, lastId);
+        if (targets.isEmpty()) return lastId;
+
+        // 1. 주문별 -> 원본 Item별 취소 합계
+        List<Long> userIds = targets.stream().map(RefundBackfillTarget::userId).distinct().toList();
+        List<String> refIds = targets.stream().map(RefundBackfillTarget::refId).distinct().toList();
+        Map<String, Map<Long, Long>> canceled = new HashMap<>();
+        List<String> cancelTables = archived
+                ? List.of("point_history", "point_history_archive")
+                : List.of("point_history");
+        for (String cancelTable : cancelTables) {
+            String cancelDetailTable = cancelTable.replace("point_history", "point_history_detail");
+            List<Object> args = new ArrayList<>(userIds);
+            args.addAll(refIds);
+            refIds.forEach(refId -> args.add(escapeLike(refId) + "!_%"));
+            jdbcTemplate.query(
+                    "SELECT c.user_id, c.ref_id, c.type, CASE WHEN c.type = 'RESTORE' THEN d.restored_from_item_id ELSE d.point_item_id END, d.amount " +
+                            "FROM " + cancelTable + " c JOIN " + cancelDetailTable + " d ON d.point_history_id = c.point_history_id " +
+                            "WHERE c.user_id IN (" + placeholders(userIds.size()) + ") " +
+                            "AND ((c.type = 'USE_CANCEL' AND c.ref_id IN (" + placeholders(refIds.size()) + ")) " +
+                            "  OR (c.type = 'RESTORE' AND (" +
+                            String.join(" OR ", Collections.nCopies(refIds.size(), "c.ref_id LIKE ? ESCAPE '!'")) + ")))",
+                    (RowCallbackHandler) rs -> {
+                        // RESTORE는 마지막 '_' 앞부분이 주문번호 (접두사가 겹치는 다른 주문의 RESTORE는 키가 달라 합산되지 않음)
+                        String refId = rs.getString(2);
+                        String orderId = "RESTORE".equals(rs.getString(3)) ? refId.substring(0, refId.lastIndexOf('_')) : refId;
+                        canceled.computeIfAbsent(rs.getLong(1) + ":" + orderId, key -> new HashMap<>())
+                                .merge(rs.getLong(4), rs.getLong(5), Long::sum);
+                    },
+                    args.toArray());
+        }
+
+        // 2. 원본 상세 (상세 ID 순: cancelUse가 환불하는 순서)
+        List<Long> historyIds = targets.stream().map(RefundBackfillTarget::id).toList();
+        Map<Long, List<long[]>> detailsByHistory = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT point_history_detail_id, point_history_id, point_item_id, amount FROM " + detailTable + " " +
+                        "WHERE point_history_id IN (" + placeholders(historyIds.size()) + ") ORDER BY point_history_detail_id",
+                (RowCallbackHandler) rs -> detailsByHistory.computeIfAbsent(rs.getLong(2), key -> new ArrayList<>())
+                        .add(new long[]{rs.getLong(1), rs.getLong(3), rs.getLong(4)}),
+                historyIds.toArray());
+
+        // 3. 원본 Item별 취소 합계를 상세에 나누어 기록
+        List<long[]> historyRefunds = new ArrayList<>();
+        List<long[]> detailRefunds = new ArrayList<>();
+        for (RefundBackfillTarget target : targets) {
+            Map<Long, Long> remaining = new HashMap<>(canceled.getOrDefault(target.userId() + ":" + target.refId(), Map.of()));
+            long total = 0;
+            for (long[] detail : detailsByHistory.getOrDefault(target.id(), List.of())) {
+                long refund = Math.min(detail[2], remaining.getOrDefault(detail[1], 0L));
+                if (refund <= 0) continue;
+                remaining.merge(detail[1], -refund, Long::sum);
+                detailRefunds.add(new long[]{detail[0], refund});
+                total += refund;
+            }
+            if (total > 0) historyRefunds.add(new long[]{target.id(), Math.min(total, target.amount())});
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE " + detailTable + " SET refunded_amount = ? WHERE point_history_detail_id = ? AND refunded_amount = 0",
+                detailRefunds, batchSize,
+                (ps, row) -> {
+                    ps.setLong(1, row[1]);
+                    ps.setLong(2, row[0]);
+                });
+        jdbcTemplate.batchUpdate(
+                "UPDATE " + historyTable + " SET refunded_amount = ? WHERE point_history_id = ? AND refunded_amount = 0",
+                historyRefunds, batchSize,
+                (ps, row) -> {
+                    ps.setLong(1, row[1]);
+                    ps.setLong(2, row[0]);
+                });
+        return lastId;
+    }
+
+    /**
+     * 잔여 포인트 카운터 증감 반영 (UPSERT)
+     * - 호출자는 stripe 순으로 정렬하여 전달해야 함. (Lock 순서를 맞춰 데드락 예방)
+     */
+    public void upsertLiability(List<LiabilityDelta> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO point_liability_counter (stripe, amount) VALUES (?, ?) " +
+                        "ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount)",
+                rows, batchSize,
+                (ps, row) -> {
+                    ps.setInt(1, row.stripe());
+                    ps.setLong(2, row.delta());
+                });
+    }
+
+    /**
+     * 잔여 포인트 카운터 전체 Lock (재집계용, stripe 순)
+     * - 커밋 직전 증감을 반영하려는 쓰기 트랜잭션은 이 트랜잭션이 끝날 때까지 대기함.
+     * @return 현재 카운터 합계
+     */
+    public long lockLiabilityCounters() {
+        List<Long> amounts = jdbcTemplate.queryForList(
+                "SELECT amount FROM point_liability_counter ORDER BY stripe FOR UPDATE", Long.class);
+        return amounts.stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * 잔여 포인트 카운터 전체 재구축 (최초 도입 시 백필)
+     * - AVAILABLE 상태 PointItem의 잔액을 stripe(userId 기준)별로 다시 집계하여 교체함.
+     * @return 생성된 stripe 수
+     */
+    public int rebuildLiability(int stripes) {
+        jdbcTemplate.update("DELETE FROM point_liability_counter");
+        return jdbcTemplate.update(
+                "INSERT INTO point_liability_counter (stripe, amount) " +
+                        "SELECT MOD(user_id, " + stripes + "), SUM(remain_amount) FROM point_item " +
+                        "WHERE status = ? GROUP BY MOD(user_id, " + stripes + ")",
+                PointStatus.AVAILABLE.name());
+    }
+
+    /**
+     * 시간별 잔여 포인트 스냅샷 기록 (INSERT IGNORE)
+     * - 같은 시각의 스냅샷이 이미 있으면(다른 노드가 먼저 기록) 무시함.
+     * @return 기록 여부
+     */
+    public boolean insertLiabilitySnapshot(LocalDateTime snapshotAt, long amount) {
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO point_liability_snapshot (snapshot_at, amount) VALUES (?, ?)",
+                Timestamp.valueOf(snapshotAt), amount) > 0;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    // LIKE 패턴의 리터럴 처리 (ESCAPE '!')
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    /** point_item 한 행 (신규 적립분) */
+    public record ItemRow(long id, long userId, long amount, LocalDateTime expireAt, boolean manual) {}
+
+    /** 만료 대상으로 잠근 point_item 한 행 (잠근 시점의 잔액) */
+    public record ExpiringItemRow(long id, long userId, long remainAmount, LocalDateTime expireAt, boolean manual) {}
+
+    /** point_history 한 행 */
+    public record HistoryRow(long id, long userId, PointType type, long amount, String refId) {}
+
+    /** point_history_detail 한 행 */
+    public record DetailRow(long id, long historyId, long itemId, long amount, Long restoredFromItemId) {}
+
+    /** 저널에서 복원한 이력 한 건 (History + Detail, 거래 시각) */
+    public record JournaledHistory(HistoryRow history, List<DetailRow> details, LocalDateTime createdAt) {}
+
+    private record JournaledDetail(DetailRow detail, LocalDateTime createdAt) {}
+
+    /** 환불 누적 금액 백필 대상 USE 이력 */
+    private record RefundBackfillTarget(long id, long userId, String refId, long amount) {}
+
+    /** point_history_archive 한 행 (세그먼트 파일 기록용) */
+    public record ArchivedHistoryRow(long id, long userId, PointType type, long amount, String refId,
+                                     long refundedAmount, LocalDateTime createdAt) {}
+
+    /** point_history_detail_archive 한 행 (세그먼트 파일 기록용) */
+    public record ArchivedDetailRow(long id, long historyId, long itemId, long amount, Long restoredFromItemId,
+                                    long refundedAmount) {}
+
+    /** point_expiry_bucket 증감 1건 */
+    public record ExpiryBucketDelta(long userId, LocalDate expireDate, boolean manual, long delta) {}
+
+    /** point_daily_stat 증감 1건 */
+    public record DailyStatDelta(LocalDate statDate, PointType type, int slot, long delta) {}
+
+    /** point_liability_counter 증감 1건 */
+    public record LiabilityDelta(int stripe, long delta) {}
+
+    /** point_idempotency_key 한 행 (적립 결과) */
+    public record IdempotencyKeyRow(long id, long userId, String refId, PointType type, long amount,
+                                    long historyId, long itemId, long balance, LocalDateTime expireAt) {}
+}
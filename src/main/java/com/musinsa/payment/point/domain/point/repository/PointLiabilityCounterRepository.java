@@ -0,0 +1,15 @@
+package com.musinsa.payment.point.domain.point.repository;
+
+import com.musinsa.payment.point.domain.point.entity.PointLiabilityCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface PointLiabilityCounterRepository extends JpaRepository<PointLiabilityCounter, Integer> {
+
+    /**
+     * 시스템 전체 잔여 포인트 (stripe 합산)
+     * - 행 수가 stripe 수로 고정되므로 데이터 규모와 무관하게 일정한 비용으로 응답함.
+     */
+    @Query("SELECT COALESCE(SUM(c.amount), 0) FROM PointLiabilityCounter c")
+    long sumAmount();
+}
@@ -0,0 +1,15 @@
+package com.musinsa.payment.point.domain.point.repository;
+
+import com.musinsa.payment.point.domain.point.entity.PointLiabilitySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PointLiabilitySnapshotRepository extends JpaRepository<PointLiabilitySnapshot, LocalDateTime> {
+
+    /**
+     * 기간 내 시간별 스냅샷 (PK 범위 조회, 시각 오름차순)
+     */
+    List<PointLiabilitySnapshot> findBySnapshotAtBetweenOrderBySnapshotAtAsc(LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,8 @@
+package com.musinsa.payment.point.domain.point.repository;
+
+/**
+ * 스트라이프 지갑 슬롯 스냅샷 (슬롯 선택용 경량 조회 결과, Lock 없음)
+ * - 잠그기 전에 읽은 값이므로 선택 기준으로만 쓰고, 실제 잔액/여유분 확인은 슬롯을 잠근 뒤에 다시 함.
+ */
+public record SlotSnapshot(int slotNo, long balance, long headroom) {
+}
@@ -2,11 +2,15 @@ package com.musinsa.payment.point.domain.point.repository;
 
 import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserPointWalletRepository extends JpaRepository<UserPointWallet, Long> {
@@ -28,6 +32,27 @@ public interface UserPointWalletRepository extends JpaRepository<UserPointWallet
     @Query("SELECT w FROM UserPointWallet w WHERE w.userId = :userId")
     Optional<UserPointWallet> findByUserIdForUpdate(@Param("userId") Long userId);
 
+    /**
+     * 여러 지갑 일괄 잠금 (Bulk Earn 전용, 비관적 락 적용)
+     * - userId 오름차순으로 정렬하여 Lock을 획득 -> 여러 요청이 겹쳐도 Lock 획득 순서가 같아 데드락을 예방함.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM UserPointWallet w WHERE w.userId IN :userIds ORDER BY w.userId ASC")
+    List<UserPointWallet> findAllByUserIdInForUpdate(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 최근 변경된 지갑 조회 (잔액 캐시 노드 간 동기화용, DB 폴링)
+     * - 결과: [userId, balance, version, updatedAt] (엔티티 미생성)
+     * - (updatedAt, userId) Keyset 페이지 조회: 같은 시각에 변경된 지갑이 많아도 건너뛰거나 반복하지 않고 이어 읽음.
+     * - idx_wallet_updated_at 인덱스를 사용하여 범위 조회함.
+     */
+    @Query("SELECT w.userId, w.balance, w.version, w.updatedAt FROM UserPointWallet w " +
+            "WHERE w.updatedAt > :afterAt OR (w.updatedAt = :afterAt AND w.userId > :afterUserId) " +
+            "ORDER BY w.updatedAt ASC, w.userId ASC")
+    List<Object[]> findChangedAfter(@Param("afterAt") LocalDateTime afterAt,
+                                    @Param("afterUserId") Long afterUserId,
+                                    Pageable pageable);
+
     /** * 테스트용 일반 조회
      * - 비즈니스 로직(Lock 버전)과의 혼동을 막기 위해 read 접두사 사용
      * */
@@ -0,0 +1,43 @@
+package com.musinsa.payment.point.domain.point.repository;
+
+import com.musinsa.payment.point.domain.point.entity.UserPointWalletSlot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserPointWalletSlotRepository extends JpaRepository<UserPointWalletSlot, Long> {
+
+    /**
+     * 슬롯 선택용 경량 조회 (Lock 없음, 엔티티 미생성)
+     * - 엔티티로 조회하면 이후 Lock 조회 시 영속성 컨텍스트의 이전 값이 그대로 반환되므로 DTO Projection(SELECT NEW)으로 조회함.
+     */
+    @Query("SELECT new com.musinsa.payment.point.domain.point.repository.SlotSnapshot(s.slotNo, s.balance, s.headroom) " +
+            "FROM UserPointWalletSlot s WHERE s.userId = :userId ORDER BY s.slotNo ASC")
+    List<SlotSnapshot> findSlotSnapshots(@Param("userId") Long userId);
+
+    /**
+     * 슬롯 1개 잠금 (핫 경로: 적립/사용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserPointWalletSlot s WHERE s.userId = :userId AND s.slotNo = :slotNo")
+    Optional<UserPointWalletSlot> findByUserIdAndSlotNoForUpdate(@Param("userId") Long userId, @Param("slotNo") int slotNo);
+
+    /**
+     * 모든 슬롯 잠금 (재분배/통합)
+     * - Lock 순서: 지갑 -> 슬롯(slotNo 오름차순). 핫 경로는 슬롯 1개만 잠그고 지갑은 잠그지 않으므로 순서가 엇갈리지 않음.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserPointWalletSlot s WHERE s.userId = :userId ORDER BY s.slotNo ASC")
+    List<UserPointWalletSlot> findAllByUserIdForUpdate(@Param("userId") Long userId);
+
+    /**
+     * 슬롯 잔액 합계 (잔액 조회용)
+     */
+    @Query("SELECT COALESCE(SUM(s.balance), 0) FROM UserPointWalletSlot s WHERE s.userId = :userId")
+    long sumBalanceByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,16 @@
+package com.musinsa.payment.point.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 이 어노테이션이 붙은 메서드는 동일 유저(userId)의 요청끼리 JVM 내에서 순차 실행된다.
+ * - 규칙: 메서드의 첫 번째 파라미터는 반드시 userId(Long)여야 함.
+ * - 동작: UserCommandAspect가 트랜잭션 시작 "이전"에 유저별 Lock Stripe를 획득함.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UserSerialized {
+}
@@ -0,0 +1,53 @@
+package com.musinsa.payment.point.global.aop;
+
+import com.musinsa.payment.point.application.point.service.StripedWalletService;
+import com.musinsa.payment.point.global.annotation.UserSerialized;
+import com.musinsa.payment.point.global.concurrency.StripedWalletRouter;
+import com.musinsa.payment.point.global.concurrency.UserStripedLock;
+import com.musinsa.payment.point.global.concurrency.WalletConcurrencyStrategy;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 유저 단위 명령 직렬화 Aspect
+ * - 대상: @UserSerialized 가 붙은 메서드 (PointService의 쓰기 메서드)
+ * - 순서: HIGHEST_PRECEDENCE로 @Transactional 프록시보다 "바깥"에서 실행됨.
+ *   => Stripe 대기 중에는 트랜잭션/DB 커넥션이 열리지 않음.
+ * - 재시도: OPTIMISTIC 모드의 버전 충돌 재시도(WalletConcurrencyStrategy)도 트랜잭션 바깥인 이곳에서 수행됨.
+ * - 스트라이프 지갑: 유저 단위로 줄 세우지 않고 슬롯 Lock에 맡기며, 슬롯 재분배 후 재시도(StripedWalletRouter)를 이곳에서 수행함.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class UserCommandAspect {
+
+    private final UserStripedLock userStripedLock;
+    private final WalletConcurrencyStrategy walletConcurrencyStrategy;
+    private final StripedWalletRouter stripedWalletRouter;
+    private final StripedWalletService stripedWalletService;
+
+    @Around("@annotation(userSerialized)")
+    public Object serialize(ProceedingJoinPoint joinPoint, UserSerialized userSerialized) throws Throwable {
+        // 호출자가 이미 트랜잭션을 열고 들어온 경우(테스트, 배치 등) DB Lock에만 맡김
+        // - 바깥 트랜잭션이 DB Row Lock을 쥔 채 Stripe를 다시 기다리는 교착 상태를 방지
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        Object[] args = joinPoint.getArgs();
+        Long userId = (args.length > 0 && args[0] instanceof Long id) ? id : null;
+
+        if (stripedWalletRouter.isStriped(userId)) {
+            return stripedWalletRouter.execute(joinPoint::proceed, stripedWalletService::rebalance);
+        }
+
+        return userStripedLock.execute(userId, () -> walletConcurrencyStrategy.execute(joinPoint::proceed));
+    }
+}
@@ -0,0 +1,20 @@
+package com.musinsa.payment.point.global.common;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(Keyset) 기반 목록 응답 포맷
+ * - Page와 달리 전체 건수(COUNT)를 제공하지 않으며, 다음 목록 존재 여부와 다음 요청에 그대로 전달할 커서만 제공함.
+ * @param <T> 목록 항목 타입
+ */
+@Getter
+@Builder
+public class CursorResponse<T> {
+    private List<T> content;    // 목록 (ID 내림차순)
+    private int size;           // 이번 응답 건수
+    private boolean hasNext;    // 같은 방향으로 더 읽을 항목이 있는지 여부
+    private String nextCursor;  // 다음 요청의 cursor 파라미터 (더 없으면 null)
+}
@@ -0,0 +1,33 @@
+package com.musinsa.payment.point.global.concurrency;
+
+import lombok.Getter;
+
+/**
+ * 스트라이프 지갑 슬롯 재분배 요청
+ * - 슬롯 1개만 잠근 핫 경로에서 슬롯 잔액(사용) 또는 보유 한도 여유분(적립)이 부족할 때 발생함.
+ * - 트랜잭션을 롤백시킨 뒤, 트랜잭션 바깥(StripedWalletRouter)에서 재분배를 수행하고 명령을 재시도함.
+ */
+@Getter
+public class SlotRebalanceRequiredException extends RuntimeException {
+
+    private final Long userId;
+    private final int slotNo;
+    private final long useAmount;  // 슬롯에 필요한 잔액 (사용)
+    private final long earnAmount; // 슬롯에 필요한 여유분 (적립)
+
+    private SlotRebalanceRequiredException(Long userId, int slotNo, long useAmount, long earnAmount) {
+        super("Wallet slot rebalance required: userId=" + userId + ", slotNo=" + slotNo, null, false, false);
+        this.userId = userId;
+        this.slotNo = slotNo;
+        this.useAmount = useAmount;
+        this.earnAmount = earnAmount;
+    }
+
+    public static SlotRebalanceRequiredException forUse(Long userId, int slotNo, long amount) {
+        return new SlotRebalanceRequiredException(userId, slotNo, amount, 0);
+    }
+
+    public static SlotRebalanceRequiredException forEarn(Long userId, int slotNo, long amount) {
+        return new SlotRebalanceRequiredException(userId, slotNo, 0, amount);
+    }
+}
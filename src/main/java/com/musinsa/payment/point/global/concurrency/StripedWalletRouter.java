@@ -0,0 +1,111 @@
+package com.musinsa.payment.point.global.concurrency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 스트라이프 지갑 라우터 (Opt-in)
+ * - 대상: musinsa.point.striped-wallet.user-ids에 등록된 핫 지갑 (프로모션 풀 계정, 브랜드 계정 등)
+ * - 핫 경로: 적립/사용은 지갑 행 대신 슬롯 1개만 잠그므로, 같은 지갑에 대한 요청이 슬롯 수만큼 병렬로 처리됨.
+ * - 재분배: 슬롯이 부족하면 SlotRebalanceRequiredException으로 롤백한 뒤 재분배 트랜잭션을 실행하고 재시도함.
+ *   K회(max-attempts) 재분배 후에도 부족하면 마지막 시도는 통합 경로(지갑 + 모든 슬롯 잠금)로 수행하여, 결과(잔액 부족/한도 초과)가 항상 정확함.
+ * - 재시도는 트랜잭션 바깥(UserCommandAspect)에서만 가능하므로, execute()를 거치지 않은 호출은 항상 통합 경로를 사용함.
+ */
+@Slf4j
+@Component
+public class StripedWalletRouter {
+
+    // 현재 스레드가 execute() 재시도 범위 안에 있는지, 통합 경로로 전환되었는지 표시 (true: 슬롯 경로 허용)
+    private static final ThreadLocal<Boolean> SLOT_PATH = new ThreadLocal<>();
+
+    private final Set<Long> stripedUserIds;
+    private final int stripes;
+    private final int maxRebalanceAttempts;
+
+    // 모니터링 지표 (재분배 횟수, 통합 경로 전환 횟수)
+    private final AtomicLong rebalanceCount = new AtomicLong();
+    private final AtomicLong fallbackCount = new AtomicLong();
+
+    public StripedWalletRouter(
+            @Value("${musinsa.point.striped-wallet.user-ids:}") List<Long> stripedUserIds,
+            @Value("${musinsa.point.striped-wallet.stripes:8}") int stripes,
+            @Value("${musinsa.point.striped-wallet.max-rebalance-attempts:2}") int maxRebalanceAttempts
+    ) {
+        this.stripedUserIds = Set.copyOf(stripedUserIds);
+        this.stripes = Math.max(1, stripes);
+        this.maxRebalanceAttempts = Math.max(0, maxRebalanceAttempts);
+
+        log.info("StripedWalletRouter initialized: users={}, stripes={}, maxRebalanceAttempts={}",
+                this.stripedUserIds, this.stripes, this.maxRebalanceAttempts);
+    }
+
+    /**
+     * 쓰기 명령 실행 (트랜잭션 바깥에서 호출되어야 함)
+     * @param rebalancer 슬롯 재분배 (별도 트랜잭션으로 수행되어야 함)
+     */
+    public <T> T execute(UserStripedLock.Command<T> command, Consumer<SlotRebalanceRequiredException> rebalancer) throws Throwable {
+        if (SLOT_PATH.get() != null) {
+            return command.run(); // 이미 바깥 execute()의 재시도 범위 안인 경우
+        }
+
+        try {
+            for (int attempt = 1; ; attempt++) {
+                boolean consolidated = attempt > maxRebalanceAttempts;
+                SLOT_PATH.set(!consolidated);
+                try {
+                    return command.run();
+                } catch (SlotRebalanceRequiredException e) {
+                    if (consolidated) {
+                        throw e; // 통합 경로에서는 발생하지 않아야 하므로 그대로 전파
+                    }
+                    rebalanceCount.incrementAndGet();
+                    rebalancer.accept(e);
+                    if (attempt == maxRebalanceAttempts) {
+                        fallbackCount.incrementAndGet();
+                        log.info("Slot rebalance limit reached. Falling back to consolidated wallet: userId={}", e.getUserId());
+                    }
+                }
+            }
+        } finally {
+            SLOT_PATH.remove();
+        }
+    }
+
+    public boolean isStriped(Long userId) {
+        return userId != null && stripedUserIds.contains(userId);
+    }
+
+    /**
+     * 슬롯 1개만 잠그는 핫 경로를 사용해도 되는지 여부
+     */
+    public boolean useSlotPath(Long userId) {
+        return isStriped(userId) && Boolean.TRUE.equals(SLOT_PATH.get());
+    }
+
+    /**
+     * 참조번호 기반 기본 슬롯 (같은 주문/이벤트는 같은 슬롯부터 탐색)
+     */
+    public int slotOf(String refId) {
+        int hash = refId == null ? 0 : refId.hashCode();
+        hash ^= (hash >>> 16);
+        return Math.floorMod(hash, stripes);
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public long getRebalanceCount() {
+        return rebalanceCount.get();
+    }
+
+    public long getFallbackCount() {
+        return fallbackCount.get();
+    }
+}
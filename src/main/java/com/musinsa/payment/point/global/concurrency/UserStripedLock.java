@@ -0,0 +1,98 @@
+package com.musinsa.payment.point.global.concurrency;
+
+import com.musinsa.payment.point.global.error.BusinessException;
+import com.musinsa.payment.point.global.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별 명령 직렬화기 (In-JVM Lock Stripe)
+ * - 역할: 동일 userId의 쓰기 명령을 애플리케이션 메모리에서 줄 세워, DB 커넥션을 잡지 않은 채로 대기하게 함.
+ * - 배경: 비관적 락(SELECT ... FOR UPDATE)만 사용하면 핫 유저 요청 N건이 각자 Hikari 커넥션을 점유한 채 Row Lock을 기다림.
+ * - 특징: DB Lock은 그대로 유지되며, 다중 노드 환경에서의 최종 안전장치(Safety Net) 역할을 함.
+ * - Lock 개수를 고정(Stripe)하여 유저 수와 무관하게 메모리 사용량이 일정함. (서로 다른 유저가 같은 Stripe를 공유할 수 있음)
+ */
+@Slf4j
+@Component
+public class UserStripedLock {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final long timeoutMillis;
+
+    // 벤치마크/장애 대응 시 비활성화할 수 있도록 분리 (false면 DB Lock만으로 동작)
+    private volatile boolean enabled;
+
+    public UserStripedLock(
+            @Value("${musinsa.point.user-lock.stripes:1024}") int stripeCount,
+            @Value("${musinsa.point.user-lock.timeout-ms:3000}") long timeoutMillis,
+            @Value("${musinsa.point.user-lock.enabled:true}") boolean enabled
+    ) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1); // 2의 거듭제곱으로 올림 (비트 마스크 사용)
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.timeoutMillis = timeoutMillis;
+        this.enabled = enabled;
+
+        log.info("UserStripedLock initialized: stripes={}, timeoutMs={}, enabled={}", size, timeoutMillis, enabled);
+    }
+
+    /**
+     * userId에 해당하는 Stripe를 잡은 상태에서 명령을 실행한다.
+     * - 대기 시간이 timeout을 넘으면 DB 커넥션을 잡기 전에 빠르게 실패시킴 (Fail-fast).
+     */
+    public <T> T execute(Long userId, Command<T> command) throws Throwable {
+        if (!enabled || userId == null) {
+            return command.run();
+        }
+
+        ReentrantLock lock = stripeOf(userId);
+        if (!lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+            log.warn("UserStripedLock timeout: userId={}, queueLength={}", userId, lock.getQueueLength());
+            throw new BusinessException(ErrorCode.USER_LOCK_TIMEOUT);
+        }
+
+        try {
+            return command.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 해당 유저 Stripe에서 대기 중인 스레드 수 (모니터링/테스트용)
+     */
+    public int queueLength(Long userId) {
+        return stripeOf(userId).getQueueLength();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private ReentrantLock stripeOf(Long userId) {
+        long id = userId;
+        int hash = (int) (id ^ (id >>> 32));
+        hash ^= (hash >>> 16); // 하위 비트 편중 방지 (TSID/순차 ID 대응)
+        return stripes[hash & mask];
+    }
+
+    /**
+     * Lock 구간에서 실행할 명령 (AOP의 ProceedingJoinPoint#proceed가 Throwable을 던지므로 동일하게 선언)
+     */
+    @FunctionalInterface
+    public interface Command<T> {
+        T run() throws Throwable;
+    }
+}
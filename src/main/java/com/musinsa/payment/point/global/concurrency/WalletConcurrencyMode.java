@@ -0,0 +1,9 @@
+package com.musinsa.payment.point.global.concurrency;
+
+/**
+ * 지갑(UserPointWallet) 동시성 제어 모드
+ */
+public enum WalletConcurrencyMode {
+    PESSIMISTIC, // SELECT ... FOR UPDATE (기본값)
+    OPTIMISTIC   // @Version 충돌 감지 + 재시도, K회 충돌 시 비관적 락으로 전환
+}
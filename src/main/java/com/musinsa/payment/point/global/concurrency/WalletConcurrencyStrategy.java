@@ -0,0 +1,117 @@
+package com.musinsa.payment.point.global.concurrency;
+
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지갑 동시성 제어 전략 (Pessimistic / Optimistic 스위치)
+ * - PESSIMISTIC: 항상 SELECT ... FOR UPDATE로 지갑을 잠금. (기존 동작)
+ * - OPTIMISTIC: 잠금 없이 조회 후 커밋 시 @Version으로 충돌을 감지함.
+ *   충돌 시 Jitter Backoff 후 트랜잭션 전체를 재시도하고, K회 충돌하면 마지막 시도는 비관적 락으로 수행하여 기아(Starvation)를 방지함.
+ * - 재시도는 트랜잭션 바깥(UserCommandAspect)에서만 가능하므로, execute()를 거치지 않은 호출은 항상 비관적 락을 사용함.
+ */
+@Slf4j
+@Component
+public class WalletConcurrencyStrategy {
+
+    // 현재 스레드가 execute() 재시도 범위 안에 있는지, 비관적 락으로 전환되었는지 표시
+    private static final ThreadLocal<Boolean> FORCE_PESSIMISTIC = new ThreadLocal<>();
+
+    private final int maxOptimisticAttempts;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+
+    private volatile WalletConcurrencyMode mode;
+
+    // 모니터링 지표 (충돌 횟수, 비관적 락 전환 횟수)
+    private final AtomicLong conflictCount = new AtomicLong();
+    private final AtomicLong fallbackCount = new AtomicLong();
+
+    public WalletConcurrencyStrategy(
+            @Value("${musinsa.point.concurrency.mode:PESSIMISTIC}") WalletConcurrencyMode mode,
+            @Value("${musinsa.point.concurrency.optimistic-max-attempts:3}") int maxOptimisticAttempts,
+            @Value("${musinsa.point.concurrency.backoff-base-ms:5}") long backoffBaseMillis,
+            @Value("${musinsa.point.concurrency.backoff-max-ms:100}") long backoffMaxMillis
+    ) {
+        this.mode = mode;
+        this.maxOptimisticAttempts = Math.max(1, maxOptimisticAttempts);
+        this.backoffBaseMillis = backoffBaseMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+
+        log.info("WalletConcurrencyStrategy initialized: mode={}, maxOptimisticAttempts={}", mode, this.maxOptimisticAttempts);
+    }
+
+    /**
+     * 쓰기 명령 실행 (트랜잭션 바깥에서 호출되어야 함)
+     * - OPTIMISTIC 모드: 버전 충돌 시 재시도하며, K회 충돌 후에는 비관적 락으로 1회 더 수행함.
+     */
+    public <T> T execute(UserStripedLock.Command<T> command) throws Throwable {
+        if (mode == WalletConcurrencyMode.PESSIMISTIC || FORCE_PESSIMISTIC.get() != null) {
+            return command.run(); // 비관적 모드이거나, 이미 바깥 execute()의 재시도 범위 안인 경우
+        }
+
+        try {
+            for (int attempt = 1; ; attempt++) {
+                boolean pessimistic = attempt > maxOptimisticAttempts;
+                FORCE_PESSIMISTIC.set(pessimistic);
+                try {
+                    return command.run();
+                } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                    if (pessimistic) {
+                        throw e; // 비관적 락 시도에서는 발생하지 않아야 하므로 그대로 전파
+                    }
+                    conflictCount.incrementAndGet();
+                    if (attempt == maxOptimisticAttempts) {
+                        fallbackCount.incrementAndGet();
+                        log.info("Optimistic conflict limit reached. Falling back to pessimistic lock: attempts={}", attempt);
+                    }
+                    backoff(attempt);
+                }
+            }
+        } finally {
+            FORCE_PESSIMISTIC.remove();
+        }
+    }
+
+    /**
+     * 지갑 조회 시 비관적 락(SELECT ... FOR UPDATE)을 사용해야 하는지 여부
+     * - execute() 재시도 범위 밖의 호출(바깥 트랜잭션, 배치 등)은 재시도가 불가능하므로 항상 true.
+     */
+    public boolean usePessimisticLock() {
+        Boolean forced = FORCE_PESSIMISTIC.get();
+        return mode == WalletConcurrencyMode.PESSIMISTIC || forced == null || forced;
+    }
+
+    /**
+     * Full Jitter Exponential Backoff: [0, min(max, base * 2^attempt)) 범위에서 무작위 대기
+     * - 동시에 충돌한 요청들이 같은 타이밍에 재시도하여 다시 충돌하는 것을 방지함.
+     */
+    private void backoff(int attempt) throws InterruptedException {
+        long cap = Math.min(backoffMaxMillis, backoffBaseMillis << Math.min(attempt, 16));
+        if (cap > 0) {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        }
+    }
+
+    public WalletConcurrencyMode getMode() {
+        return mode;
+    }
+
+    public void setMode(WalletConcurrencyMode mode) {
+        this.mode = mode;
+    }
+
+    public long getConflictCount() {
+        return conflictCount.get();
+    }
+
+    public long getFallbackCount() {
+        return fallbackCount.get();
+    }
+}
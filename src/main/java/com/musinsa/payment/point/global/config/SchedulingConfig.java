@@ -0,0 +1,15 @@
+package com.musinsa.payment.point.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄러 활성화 설정
+ * - 등록된 모든 @Scheduled 작업이 실행됨: 멱등성 키 TTL 정리, 이력 저널 반영, 홀드 만료 정리, 잔액 캐시 DB 폴링,
+ *   잔여 포인트 스냅샷, Bloom Filter 재구축 점검, 파생 테이블 재집계 배치(매일), 이력 보관 배치(매월).
+ * - 포인트 만료 배치(PointJobScheduler)는 musinsa.point.expire.schedule-enabled=true일 때만 등록되므로 기본으로는 실행되지 않음.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -18,6 +18,10 @@ public enum ErrorCode {
     BALANCE_INSUFFICIENT(HttpStatus.BAD_REQUEST, "P002", "잔액이 부족합니다."),
     MAX_POSSESSION_EXCEEDED(HttpStatus.BAD_REQUEST, "P003", "보유 한도를 초과했습니다."),
     INVALID_POINT_AMOUNT(HttpStatus.BAD_REQUEST, "P004", "유효하지 않은 포인트 금액입니다."),
+    USER_LOCK_TIMEOUT(HttpStatus.CONFLICT, "P005", "동일 사용자의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_MISMATCH(HttpStatus.UNPROCESSABLE_ENTITY, "P006", "동일한 참조번호로 금액이 다른 요청이 접수되었습니다."),
+    HOLD_EXPIRED(HttpStatus.CONFLICT, "P007", "확정 기한이 지난 포인트 홀드입니다."),
+    REFUND_BACKFILL_PENDING(HttpStatus.SERVICE_UNAVAILABLE, "P008", "사용 취소 준비 중입니다. 잠시 후 다시 시도해주세요."),
 
     // Policy Domain
     POLICY_NOT_FOUND(HttpStatus.BAD_REQUEST, "P501", "운영 정책 데이터가 존재하지 않습니다."); // 500 에러
@@ -0,0 +1,122 @@
+package com.musinsa.payment.point.global.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 Bloom Filter (Thread-safe)
+ *
+ * <p>
+ * <b>특징</b>
+ * 1. <b>False Negative 없음:</b> put() 한 키에 대해 mightContain()은 항상 true를 반환한다.
+ * 2. <b>False Positive 있음:</b> put() 하지 않은 키도 일정 확률(fpp)로 true가 될 수 있다. => "true"는 "확인 필요"로 취급해야 한다.
+ * 3. <b>Lock-free:</b> 비트 배열을 AtomicLongArray로 관리하여 여러 스레드가 동시에 put/mightContain 해도 안전하다.
+ * </p>
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    /**
+     * @param expectedInsertions 예상 저장 건수 (n)
+     * @param fpp                목표 오탐률 (p, 0 < p < 1)
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        // 최적 비트 수 m = -n * ln(p) / (ln2)^2, 해시 함수 개수 k = m / n * ln2
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, (m + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        this.expectedInsertions = n;
+        this.words = new AtomicLongArray((int) (bitSize / 64));
+    }
+
+    /**
+     * 키 저장
+     * - 새로 켠 비트가 하나라도 있을 때만 저장 건수(insertions)에 포함함. (같은 키를 다시 넣어도 건수가 늘지 않음)
+     *   이미 있는 것으로 보이는 새 키(오탐)는 세지 않으므로, 건수는 실제 고유 키 수보다 조금 적을 수 있음.
+     * @return 새로 켠 비트가 있으면 true (처음 저장된 키)
+     */
+    public boolean put(String key) {
+        long hash = fnv1a64(key);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L; // 홀수로 만들어 h1 + i*h2가 비트 전체를 고르게 순회하도록 함
+
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            while (true) {
+                long word = words.get(index);
+                if ((word & mask) != 0) break;
+                if (words.compareAndSet(index, word, word | mask)) {
+                    changed = true;
+                    break;
+                }
+            }
+        }
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+        return changed;
+    }
+
+    public boolean mightContain(String key) {
+        long hash = fnv1a64(key);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 비트 점유율로 추정한 오탐률: (설정된 비트 비율)^k
+     */
+    public double expectedFpp() {
+        long setBits = 0;
+        for (int i = 0; i < words.length(); i++) {
+            setBits += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) setBits / bitSize, hashCount);
+    }
+
+    public long insertions() {
+        return insertions.get();
+    }
+
+    public long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    // 64bit FNV-1a (UTF-16 문자 단위)
+    private static long fnv1a64(String key) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    // SplitMix64 finalizer: FNV 결과의 하위 비트 편향 제거
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
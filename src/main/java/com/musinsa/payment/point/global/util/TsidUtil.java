@@ -2,6 +2,10 @@ package com.musinsa.payment.point.global.util;
 
 import io.hypersistence.tsid.TSID;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
 /**
  * TSID (Time-Sorted Unique Identifier) 생성 유틸리티
  *
@@ -16,6 +20,11 @@ import io.hypersistence.tsid.TSID;
  */
 public class TsidUtil {
 
+    // TSID 구조: 상위 42bit = TSID Epoch(2020-01-01T00:00Z) 이후 밀리초, 하위 22bit = 랜덤/카운터
+    private static final long TSID_EPOCH = Instant.parse("2020-01-01T00:00:00Z").toEpochMilli();
+    private static final int RANDOM_BITS = 22;
+    private static final long RANDOM_MASK = (1L << RANDOM_BITS) - 1;
+
     /**
      * 시간 순서대로 정렬되는 유니크한 Long ID를 반환한다.
      * 예: 4928194820194821
@@ -23,4 +32,28 @@ public class TsidUtil {
     public static Long nextId() {
         return TSID.fast().toLong();
     }
-}
\ No newline at end of file
+
+    /**
+     * 해당 시각(밀리초)에 생성될 수 있는 가장 작은 ID
+     * - 시각 범위 조건을 PK(ID) 범위 조건으로 바꿀 때 사용. (예: 이력 Keyset 페이지네이션)
+     */
+    public static long minIdAt(LocalDateTime time) {
+        long millis = time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return (millis - TSID_EPOCH) << RANDOM_BITS;
+    }
+
+    /**
+     * 해당 시각(밀리초)에 생성될 수 있는 가장 큰 ID
+     */
+    public static long maxIdAt(LocalDateTime time) {
+        return minIdAt(time) | RANDOM_MASK;
+    }
+
+    /**
+     * ID가 생성된 시각 (밀리초 단위)
+     * - ID 범위를 월/일 같은 시간 구간으로 되돌릴 때 사용. (예: 이력 세그먼트 파일의 대상 월)
+     */
+    public static LocalDateTime timeOf(long id) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli((id >>> RANDOM_BITS) + TSID_EPOCH), ZoneId.systemDefault());
+    }
+}
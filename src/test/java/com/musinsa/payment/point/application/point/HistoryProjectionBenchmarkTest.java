@@ -0,0 +1,150 @@
+package com.musinsa.payment.point.application.point;
+
+import com.musinsa.payment.point.api.point.dto.PointHistoryResponse;
+import com.musinsa.payment.point.application.point.service.PointAdminSearchService;
+import com.musinsa.payment.point.application.point.service.PointSearchService;
+import com.musinsa.payment.point.domain.point.entity.PointHistory;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.HistoryRow;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이력 조회: 엔티티 조회 후 변환 vs DTO Projection (1000건 페이지)
+ * - ENTITY: 변경 전 방식. PointHistory 엔티티를 읽기 전용 트랜잭션에서 조회한 뒤 PointHistoryResponse.from으로 변환함.
+ * - PROJECTION: 현재 getMyHistories / getHistories. (SELECT NEW)
+ * - 측정: 호출 스레드의 할당 바이트(com.sun.management.ThreadMXBean)와 지연 시간(p50/평균)을 반복 측정하여 출력함.
+ *   수치는 환경에 따라 달라지므로 출력만 하고, 검증은 두 방식의 결과가 같은지만 수행함.
+ * - 단독 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+class HistoryProjectionBenchmarkTest {
+
+    private static final long USER_ID = 8501L;
+    private static final int HISTORIES = 3000;
+    private static final int PAGE_SIZE = 1000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 50;
+
+    @Autowired private PointSearchService pointSearchService;
+    @Autowired private PointAdminSearchService pointAdminSearchService;
+    @Autowired private PointJdbcRepository pointJdbcRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("1000건 페이지 조회의 할당량과 지연 시간을 엔티티 방식과 Projection 방식으로 비교한다")
+    void entity_vs_projection() {
+        // given
+        List<HistoryRow> rows = new ArrayList<>(HISTORIES);
+        for (int i = 0; i < HISTORIES; i++) {
+            rows.add(new HistoryRow(TsidUtil.nextId(), USER_ID, PointType.EARN, 100L, "BENCH_" + i));
+        }
+        pointJdbcRepository.batchInsertHistories(rows);
+
+        LocalDate today = LocalDate.now();
+        Pageable page = PageRequest.of(1, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id"));
+
+        // when
+        Result userEntity = measure("USER/ENTITY", () -> loadEntities(USER_ID, today, page));
+        Result userProjection = measure("USER/PROJECTION",
+                () -> pointSearchService.getMyHistories(USER_ID, today, today, null, null, page).getContent());
+        Result adminEntity = measure("ADMIN/ENTITY", () -> loadEntities(null, today, page));
+        Result adminProjection = measure("ADMIN/PROJECTION",
+                () -> pointAdminSearchService.getHistories(today, today, null, null, null, page).getContent());
+
+        for (Result result : List.of(userEntity, userProjection, adminEntity, adminProjection)) {
+            System.out.printf("[HistoryRead] %-16s : alloc=%,d bytes/call, p50=%.2fms, avg=%.2fms%n",
+                    result.label(), result.allocatedBytes(), result.p50Millis(), result.avgMillis());
+        }
+
+        // then: 두 방식의 결과(ID 순서)가 같아야 함
+        assertThat(userProjection.ids()).hasSize(PAGE_SIZE).isEqualTo(userEntity.ids());
+        assertThat(adminProjection.ids()).isEqualTo(adminEntity.ids());
+    }
+
+    /**
+     * 변경 전 방식 재현: 엔티티 조회(COUNT 포함) 후 DTO 변환
+     */
+    private List<PointHistoryResponse> loadEntities(Long userId, LocalDate day, Pageable page) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true); // 변경 전 서비스와 같은 읽기 전용 트랜잭션
+        return readOnly.execute(status -> {
+            entityManager.createQuery("SELECT COUNT(h) FROM PointHistory h " +
+                            "WHERE h.createdAt BETWEEN :startDt AND :endDt AND (:userId IS NULL OR h.userId = :userId)", Long.class)
+                    .setParameter("startDt", day.atStartOfDay())
+                    .setParameter("endDt", day.atTime(23, 59, 59))
+                    .setParameter("userId", userId)
+                    .getSingleResult();
+            List<PointHistory> histories = entityManager.createQuery("SELECT h FROM PointHistory h " +
+                            "WHERE h.createdAt BETWEEN :startDt AND :endDt AND (:userId IS NULL OR h.userId = :userId) " +
+                            "ORDER BY h.id DESC", PointHistory.class)
+                    .setParameter("startDt", day.atStartOfDay())
+                    .setParameter("endDt", day.atTime(23, 59, 59))
+                    .setParameter("userId", userId)
+                    .setFirstResult((int) page.getOffset())
+                    .setMaxResults(page.getPageSize())
+                    .getResultList();
+            return histories.stream().map(PointHistoryResponse::from).toList();
+        });
+    }
+
+    private Result measure(String label, Supplier<List<PointHistoryResponse>> call) {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP; i++) {
+            call.get();
+        }
+
+        long[] nanos = new long[ITERATIONS];
+        long allocated = 0;
+        List<PointHistoryResponse> last = List.of();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            last = call.get();
+            nanos[i] = System.nanoTime() - start;
+            allocated += threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        }
+
+        Arrays.sort(nanos);
+        return new Result(
+                label,
+                allocated / ITERATIONS,
+                nanos[ITERATIONS / 2] / 1_000_000.0,
+                Arrays.stream(nanos).average().orElse(0) / 1_000_000.0,
+                last.stream().map(PointHistoryResponse::getPointHistoryId).toList()
+        );
+    }
+
+    private record Result(String label, long allocatedBytes, double p50Millis, double avgMillis, List<Long> ids) {
+    }
+}
@@ -0,0 +1,237 @@
+package com.musinsa.payment.point.application.point;
+
+import com.musinsa.payment.point.application.point.service.PointService;
+import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import com.musinsa.payment.point.global.concurrency.UserStripedLock;
+import com.musinsa.payment.point.global.concurrency.WalletConcurrencyMode;
+import com.musinsa.payment.point.global.concurrency.WalletConcurrencyStrategy;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 핫 유저 / 지갑 동시성 모드 부하 비교
+ * - 핫 유저: Stripe 직렬화 vs DB Lock 대기
+ * - 지갑 모드: PESSIMISTIC vs OPTIMISTIC (저경합 10명 / 고경합 1명)
+ * - 지연 시간(p50/p99), Hikari 활성 커넥션 수(샘플링), 모드별 처리량/충돌 횟수를 출력함.
+ *   활성 커넥션 수는 풀 전체 값이라 백그라운드 폴러(잔액 캐시 동기화, 저널 반영 등)의 커넥션도 섞이므로 출력만 함.
+ * - 검증은 요청 성공 여부, 잔액 정합성, 저경합 OPTIMISTIC의 충돌 없음만 수행함. (Stripe 직렬화와 OPTIMISTIC 갱신 분실 검증은 PointConcurrencyTest)
+ * - 단독 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+class PointConcurrencyBenchmarkTest {
+
+    private static final int HOT_USER_THREADS = 20;
+    private static final int HOT_USER_REQUESTS = 200;
+
+    private static final int MODE_THREADS = 10;
+    private static final int MODE_USERS = 10;
+    private static final int MODE_REQUESTS = 200;
+
+    @Autowired private PointService pointService;
+    @Autowired private UserStripedLock userStripedLock;
+    @Autowired private WalletConcurrencyStrategy walletConcurrencyStrategy;
+    @Autowired private DataSource dataSource;
+
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+
+    @AfterEach
+    void tearDown() {
+        userStripedLock.setEnabled(true);
+        walletConcurrencyStrategy.setMode(WalletConcurrencyMode.PESSIMISTIC);
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("핫 유저 요청을 Stripe 직렬화 / DB Lock 대기로 각각 처리하고 커넥션 점유와 지연 시간을 비교한다")
+    void hot_user_connection_occupancy() throws Exception {
+        // given
+        Long userId = 9701L;
+        pointService.earn(userId, 100_000L, false, "HOT_USER_SEED");
+
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+
+        // when 1: In-JVM Stripe 직렬화 (기본 동작)
+        LoadResult serialized = runHotUserLoad(userId, "SERIAL", pool);
+
+        // when 2: Stripe 비활성화 (DB Row Lock만으로 대기)
+        userStripedLock.setEnabled(false);
+        LoadResult dbLockOnly = runHotUserLoad(userId, "DB_ONLY", pool);
+
+        System.out.printf("[HotUser] SERIAL  : maxActiveConn=%d, p50=%dus, p99=%dus%n",
+                serialized.maxActiveConnections(), serialized.p50Micros(), serialized.p99Micros());
+        System.out.printf("[HotUser] DB_ONLY : maxActiveConn=%d, p50=%dus, p99=%dus%n",
+                dbLockOnly.maxActiveConnections(), dbLockOnly.p50Micros(), dbLockOnly.p99Micros());
+
+        // then
+        // 1. 모든 요청이 성공해야 함 (직렬화로 인한 유실/타임아웃 없음)
+        assertThat(serialized.failCount()).isZero();
+        assertThat(dbLockOnly.failCount()).isZero();
+
+        // 2. 잔액 정합성 (100,000 - 2 * 200 * 10)
+        UserPointWallet wallet = userPointWalletRepository.readByUserId(userId).orElseThrow();
+        assertThat(wallet.getBalance()).isEqualTo(100_000L - 2 * HOT_USER_REQUESTS * 10L);
+    }
+
+    /**
+     * 핫 유저 부하 발생기
+     * - 20개 스레드가 동일 유저에게 10원씩 사용 요청 200건을 보내며, 1ms 간격으로 Hikari 활성 커넥션 수를 샘플링함.
+     */
+    private LoadResult runHotUserLoad(Long userId, String prefix, HikariPoolMXBean pool) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(HOT_USER_THREADS);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        CountDownLatch latch = new CountDownLatch(HOT_USER_REQUESTS);
+
+        AtomicInteger maxActive = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+        long[] latencies = new long[HOT_USER_REQUESTS];
+
+        sampler.scheduleAtFixedRate(
+                () -> maxActive.accumulateAndGet(pool.getActiveConnections(), Math::max),
+                0, 1, TimeUnit.MILLISECONDS);
+
+        for (int i = 0; i < HOT_USER_REQUESTS; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    pointService.use(userId, 10L, prefix + "_ORDER_" + index);
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latencies[index] = System.nanoTime() - start;
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        sampler.shutdownNow();
+        executorService.shutdown();
+
+        Arrays.sort(latencies);
+        return new LoadResult(
+                maxActive.get(),
+                failCount.get(),
+                latencies[HOT_USER_REQUESTS / 2] / 1_000,
+                latencies[(int) Math.ceil(HOT_USER_REQUESTS * 0.99) - 1] / 1_000
+        );
+    }
+
+    private record LoadResult(int maxActiveConnections, int failCount, long p50Micros, long p99Micros) {
+    }
+
+    @Test
+    @DisplayName("비관적/낙관적 모드를 저경합·고경합 상황에서 각각 실행하고 처리량과 충돌 횟수를 비교한다")
+    void wallet_concurrency_modes() throws Exception {
+        // given: 모드별로 서로 다른 유저 그룹 사용 (저경합 10명, 고경합 1명)
+        for (long userId = 5100; userId < 5122; userId++) {
+            pointService.earn(userId, 100_000L, false, "MODE_SEED");
+        }
+
+        // when 1: 저경합 - 요청이 10명의 유저에게 분산됨 (Stripe 활성)
+        ModeResult lowPessimistic = runModeLoad(WalletConcurrencyMode.PESSIMISTIC, 5100L, MODE_USERS, "LOW_P");
+        ModeResult lowOptimistic = runModeLoad(WalletConcurrencyMode.OPTIMISTIC, 5110L, MODE_USERS, "LOW_O");
+
+        // when 2: 고경합 - 모든 요청이 1명의 유저에게 몰림 (Stripe 비활성화로 DB 단에서 직접 경합)
+        userStripedLock.setEnabled(false);
+        ModeResult highPessimistic = runModeLoad(WalletConcurrencyMode.PESSIMISTIC, 5120L, 1, "HIGH_P");
+        ModeResult highOptimistic = runModeLoad(WalletConcurrencyMode.OPTIMISTIC, 5121L, 1, "HIGH_O");
+
+        for (ModeResult result : List.of(lowPessimistic, lowOptimistic, highPessimistic, highOptimistic)) {
+            System.out.printf("[WalletMode] %-7s : throughput=%d ops/s, conflicts=%d, fallbacks=%d%n",
+                    result.label(), result.opsPerSecond(), result.conflicts(), result.fallbacks());
+        }
+
+        // then
+        // 1. 모든 요청이 성공해야 함 (충돌 시 재시도, K회 초과 시 비관적 락으로 전환되어 결국 성공)
+        assertThat(List.of(lowPessimistic, lowOptimistic, highPessimistic, highOptimistic))
+                .allSatisfy(result -> assertThat(result.failCount()).isZero());
+
+        // 2. 저경합에서는 같은 유저 요청이 Stripe로 직렬화되므로 버전 충돌이 없어야 함
+        assertThat(lowOptimistic.conflicts()).isZero();
+
+        // 3. 잔액 정합성 (갱신 분실 없음)
+        long perUserLow = MODE_REQUESTS / MODE_USERS * 10L;
+        for (long userId = 5100; userId < 5120; userId++) {
+            assertThat(userPointWalletRepository.readByUserId(userId).orElseThrow().getBalance())
+                    .isEqualTo(100_000L - perUserLow);
+        }
+        assertThat(userPointWalletRepository.readByUserId(5120L).orElseThrow().getBalance())
+                .isEqualTo(100_000L - MODE_REQUESTS * 10L);
+        assertThat(userPointWalletRepository.readByUserId(5121L).orElseThrow().getBalance())
+                .isEqualTo(100_000L - MODE_REQUESTS * 10L);
+    }
+
+    /**
+     * 모드별 부하 발생기
+     * - 10개 스레드가 [firstUserId, firstUserId + userCount) 범위의 유저에게 10원씩 사용 요청 200건을 분산하여 보냄.
+     */
+    private ModeResult runModeLoad(WalletConcurrencyMode mode, long firstUserId, int userCount, String label)
+            throws InterruptedException {
+        walletConcurrencyStrategy.setMode(mode);
+        long conflictsBefore = walletConcurrencyStrategy.getConflictCount();
+        long fallbacksBefore = walletConcurrencyStrategy.getFallbackCount();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(MODE_THREADS);
+        CountDownLatch latch = new CountDownLatch(MODE_REQUESTS);
+        AtomicInteger failCount = new AtomicInteger();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MODE_REQUESTS; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                try {
+                    pointService.use(firstUserId + index % userCount, 10L, label + "_ORDER_" + index);
+                } catch (Exception e) {
+                    System.out.println("Use Failed: " + e.getMessage());
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsedNanos = System.nanoTime() - start;
+        executorService.shutdown();
+
+        return new ModeResult(
+                label,
+                failCount.get(),
+                MODE_REQUESTS * 1_000_000_000L / Math.max(1, elapsedNanos),
+                walletConcurrencyStrategy.getConflictCount() - conflictsBefore,
+                walletConcurrencyStrategy.getFallbackCount() - fallbacksBefore
+        );
+    }
+
+    private record ModeResult(String label, int failCount, long opsPerSecond, long conflicts, long fallbacks) {
+    }
+}
@@ -1,22 +1,41 @@
 package com.musinsa.payment.point.application.point;
 
+import com.musinsa.payment.point.api.point.dto.PointCommandResponse;
+import com.musinsa.payment.point.application.point.service.PointRefIdFilter;
 import com.musinsa.payment.point.application.point.service.PointService;
 import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
+import com.musinsa.payment.point.domain.point.enums.PointType;
 import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
 import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
 import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import com.musinsa.payment.point.global.concurrency.UserStripedLock;
+import com.musinsa.payment.point.global.concurrency.WalletConcurrencyMode;
+import com.musinsa.payment.point.global.concurrency.WalletConcurrencyStrategy;
+import com.musinsa.payment.point.global.error.BusinessException;
+import com.musinsa.payment.point.global.error.ErrorCode;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 class PointConcurrencyTest {
@@ -30,16 +49,30 @@ class PointConcurrencyTest {
     private PointItemRepository pointItemRepository;
     @Autowired
     private PointHistoryRepository pointHistoryRepository;
+    @Autowired
+    private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+    @Autowired
+    private UserStripedLock userStripedLock;
+    @Autowired
+    private WalletConcurrencyStrategy walletConcurrencyStrategy;
+    @Autowired
+    private PointRefIdFilter pointRefIdFilter;
+    @Autowired
+    private CommandOverlapProbe commandOverlapProbe;
 
     @AfterEach
     void tearDown() {
+        commandOverlapProbe.watch(null);
+        userStripedLock.setEnabled(true);
+        walletConcurrencyStrategy.setMode(WalletConcurrencyMode.PESSIMISTIC);
+        pointIdempotencyKeyRepository.deleteAll();
         pointHistoryRepository.deleteAll();
         pointItemRepository.deleteAll();
         userPointWalletRepository.deleteAll();
     }
 
     @Test
-    @DisplayName("1. [적립] 동일한 주문번호로 동시에 5번 적립 요청 시 1번만 성공해야 한다 (중복 방어)")
+    @DisplayName("1. [적립] 동일한 주문번호로 동시에 5번 적립 요청 시 1번만 처리되고 나머지는 최초 결과를 재응답해야 한다 (중복 방어)")
     void concurrent_earn_duplicate_prevention() throws InterruptedException {
         // given
         Long userId = 5000L;
@@ -53,18 +86,20 @@ class PointConcurrencyTest {
         CountDownLatch latch = new CountDownLatch(threadCount);
 
         AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failCount = new AtomicInteger(0);
+        AtomicInteger replayCount = new AtomicInteger(0);
+        Set<Long> historyIds = ConcurrentHashMap.newKeySet();
 
         // when
         for (int i = 0; i < threadCount; i++) {
             executorService.submit(() -> {
                 try {
                     // 동일한 refId로 동시에 요청
-                    pointService.earn(userId, amount, false, refId);
+                    PointCommandResponse response = pointService.earn(userId, amount, false, refId);
                     successCount.incrementAndGet();
+                    if (response.isReplayed()) replayCount.incrementAndGet();
+                    historyIds.add(response.getHistoryId());
                 } catch (Exception e) {
-                    // "이미 처리된 적립 요청입니다" 예외 발생 예상
-                    failCount.incrementAndGet();
+                    System.out.println("Earn Failed: " + e.getMessage());
                 } finally {
                     latch.countDown();
                 }
@@ -76,11 +111,12 @@ class PointConcurrencyTest {
         // then
         UserPointWallet wallet = userPointWalletRepository.readByUserId(userId).orElseThrow();
 
-        // 검증 1: 성공 횟수는 1회여야 함
-        assertThat(successCount.get()).isEqualTo(1);
+        // 검증 1: 모든 요청이 성공 응답을 받아야 함 (재시도는 오류가 아님)
+        assertThat(successCount.get()).isEqualTo(5);
 
-        // 검증 2: 실패 횟수는 4회여야 함
-        assertThat(failCount.get()).isEqualTo(4);
+        // 검증 2: 실제 처리는 1회, 나머지 4회는 재응답이며 모두 같은 거래 이력을 가리켜야 함
+        assertThat(replayCount.get()).isEqualTo(4);
+        assertThat(historyIds).hasSize(1);
 
         // 검증 3: 잔액은 1번만 적립된 1000원이어야 함 (5000원이면 실패)
         assertThat(wallet.getBalance()).isEqualTo(1000L);
@@ -130,7 +166,7 @@ class PointConcurrencyTest {
     }
 
     @Test
-    @DisplayName("동일한 주문번호 3번 사용 요청 시 1번만 성공하고 잔액은 0원이어야 한다")
+    @DisplayName("동일한 주문번호 3번 사용 요청 시 1번만 차감되고 잔액은 0원이어야 한다")
     void duplicate_order_use() throws InterruptedException {
         // given
         Long userId = 1L;
@@ -143,17 +179,17 @@ class PointConcurrencyTest {
         CountDownLatch latch = new CountDownLatch(threadCount);
 
         AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failCount = new AtomicInteger(0);
+        AtomicInteger replayCount = new AtomicInteger(0);
 
         // when
         for (int i = 0; i < threadCount; i++) {
             executorService.submit(() -> {
                 try {
-                    pointService.use(userId, 1000L, "ORDER_UUID_002");
+                    PointCommandResponse response = pointService.use(userId, 1000L, "ORDER_UUID_002");
                     successCount.incrementAndGet();
+                    if (response.isReplayed()) replayCount.incrementAndGet();
                 } catch (Exception e) {
-                    // 잔액 부족 등 예외 발생 시 실패 카운트 증가
-                    failCount.incrementAndGet();
+                    System.out.println("Use Failed: " + e.getMessage());
                 } finally {
                     latch.countDown(); // 작업 완료 알림
                 }
@@ -165,12 +201,182 @@ class PointConcurrencyTest {
         // then
         UserPointWallet wallet = userPointWalletRepository.readByUserId(userId).orElseThrow();
 
-        // 검증: 성공은 딱 1번, 나머지는 실패해야 함
-        assertThat(successCount.get()).isEqualTo(1);
-        assertThat(failCount.get()).isEqualTo(2);
+        // 검증: 실제 차감은 딱 1번, 나머지는 최초 결과 재응답이어야 함
+        assertThat(successCount.get()).isEqualTo(3);
+        assertThat(replayCount.get()).isEqualTo(2);
 
         // 검증: 잔액은 0원이어야 함 (-1000, -2000 되면 안됨)
         assertThat(wallet.getBalance()).isEqualTo(0L);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("같은 주문번호로 금액이 다른 사용 요청은 재응답하지 않고 거절해야 한다")
+    void duplicate_order_use_with_different_amount() {
+        // given
+        Long userId = 5003L;
+        pointService.earn(userId, 3000L, false, "EARN_MISMATCH");
+        pointService.use(userId, 1000L, "ORDER_MISMATCH");
+
+        // when & then
+        assertThatThrownBy(() -> pointService.use(userId, 2000L, "ORDER_MISMATCH"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.IDEMPOTENCY_KEY_MISMATCH);
+
+        UserPointWallet wallet = userPointWalletRepository.readByUserId(userId).orElseThrow();
+        assertThat(wallet.getBalance()).isEqualTo(2000L);
+    }
+
+    @Test
+    @DisplayName("TTL로 멱등성 키가 삭제된 뒤의 재시도는 처리 이력으로 중복 거절해야 한다")
+    void retry_after_idempotency_key_eviction() {
+        // given
+        Long userId = 5004L;
+        pointService.earn(userId, 1000L, false, "EARN_TTL");
+
+        // 커밋된 요청은 Bloom Filter에 등록되어 있어야 함 (False Negative 없음)
+        assertThat(pointRefIdFilter.mightContain(userId, "EARN_TTL", PointType.EARN)).isTrue();
+
+        // TTL 경과로 키가 삭제된 상황
+        pointIdempotencyKeyRepository.deleteAll();
+
+        // when & then: 재응답할 결과는 없지만, 이력이 남아 있으므로 중복 적립되면 안 됨
+        assertThatThrownBy(() -> pointService.earn(userId, 1000L, false, "EARN_TTL"))
+                .isInstanceOf(BusinessException.class);
+
+        UserPointWallet wallet = userPointWalletRepository.readByUserId(userId).orElseThrow();
+        assertThat(wallet.getBalance()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("4. [직렬화] 핫 유저에게 요청이 몰려도 Stripe 안에서는 같은 유저의 명령이 한 번에 하나만 실행되어야 한다")
+    void hot_user_commands_never_overlap() throws InterruptedException {
+        // given
+        Long userId = 5002L;
+        pointService.earn(userId, 100_000L, false, "HOT_USER_SEED");
+        commandOverlapProbe.watch(userId);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(HOT_USER_THREADS);
+        CountDownLatch latch = new CountDownLatch(HOT_USER_REQUESTS);
+        AtomicInteger failCount = new AtomicInteger();
+
+        // when: 20개 스레드가 동일 유저에게 10원씩 사용 요청 100건
+        for (int i = 0; i < HOT_USER_REQUESTS; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                try {
+                    pointService.use(userId, 10L, "HOT_ORDER_" + index);
+                } catch (Exception e) {
+                    System.out.println("Use Failed: " + e.getMessage());
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        // 검증 1: 모든 요청이 성공해야 함 (직렬화로 인한 유실/타임아웃 없음)
+        assertThat(failCount.get()).isZero();
+
+        // 검증 2: Stripe 안(트랜잭션 바깥)에서 같은 유저의 명령이 동시에 실행된 적이 없어야 함
+        assertThat(commandOverlapProbe.maxConcurrent()).isEqualTo(1);
+
+        // 검증 3: 잔액 정합성 (100,000 - 100 * 10)
+        UserPointWallet wallet = userPointWalletRepository.readByUserId(userId).orElseThrow();
+        assertThat(wallet.getBalance()).isEqualTo(100_000L - HOT_USER_REQUESTS * 10L);
+    }
+
+    private static final int HOT_USER_THREADS = 20;
+    private static final int HOT_USER_REQUESTS = 100;
+
+    @Test
+    @DisplayName("5. [낙관적 락] OPTIMISTIC 모드에서 한 유저에게 요청이 몰려도 갱신 분실 없이 모두 처리되어야 한다")
+    void optimistic_mode_no_lost_update_under_contention() throws InterruptedException {
+        // given: Stripe 비활성화로 같은 유저의 요청이 DB 단에서 직접 버전 충돌을 일으키게 함
+        Long userId = 5120L;
+        pointService.earn(userId, 100_000L, false, "MODE_SEED");
+        userStripedLock.setEnabled(false);
+        walletConcurrencyStrategy.setMode(WalletConcurrencyMode.OPTIMISTIC);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(MODE_THREADS);
+        CountDownLatch latch = new CountDownLatch(MODE_REQUESTS);
+        AtomicInteger failCount = new AtomicInteger();
+
+        // when: 10개 스레드가 10원씩 사용 요청 100건
+        for (int i = 0; i < MODE_REQUESTS; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                try {
+                    pointService.use(userId, 10L, "OPT_ORDER_" + index);
+                } catch (Exception e) {
+                    System.out.println("Use Failed: " + e.getMessage());
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        // 검증 1: 모든 요청이 성공해야 함 (충돌 시 재시도, K회 초과 시 비관적 락으로 전환되어 결국 성공)
+        assertThat(failCount.get()).isZero();
+
+        // 검증 2: 잔액 정합성 (갱신 분실 없음)
+        assertThat(userPointWalletRepository.readByUserId(userId).orElseThrow().getBalance())
+                .isEqualTo(100_000L - MODE_REQUESTS * 10L);
+    }
+
+    private static final int MODE_THREADS = 10;
+    private static final int MODE_REQUESTS = 100;
+
+    @TestConfiguration
+    static class CommandOverlapProbeConfig {
+
+        @Bean
+        CommandOverlapProbe commandOverlapProbe() {
+            return new CommandOverlapProbe();
+        }
+    }
+
+    /**
+     * 같은 유저의 use() 명령 동시 실행 수 측정
+     * - UserCommandAspect(HIGHEST_PRECEDENCE) 바로 안쪽, 트랜잭션 바깥에서 실행되므로 Stripe 구간 안의 동시 실행 수를 셈.
+     * - 측정 대상 유저의 요청만 세므로 스케줄러 등 다른 경로의 영향을 받지 않음.
+     */
+    @Aspect
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    static class CommandOverlapProbe {
+
+        private volatile Long target;
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        void watch(Long userId) {
+            running.set(0);
+            maxConcurrent.set(0);
+            target = userId;
+        }
+
+        int maxConcurrent() {
+            return maxConcurrent.get();
+        }
+
+        @Around("execution(* com.musinsa.payment.point.application.point.service.PointService.use(..)) && args(userId, ..)")
+        public Object measure(ProceedingJoinPoint joinPoint, Long userId) throws Throwable {
+            if (!userId.equals(target)) {
+                return joinPoint.proceed();
+            }
+            maxConcurrent.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                return joinPoint.proceed();
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+}
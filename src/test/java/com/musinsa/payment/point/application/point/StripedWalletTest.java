@@ -0,0 +1,238 @@
+package com.musinsa.payment.point.application.point;
+
+import com.musinsa.payment.point.application.point.service.PointDeductionQueueCache;
+import com.musinsa.payment.point.application.point.service.PointSearchService;
+import com.musinsa.payment.point.application.point.service.PointService;
+import com.musinsa.payment.point.domain.point.entity.PointItem;
+import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletSlotRepository;
+import com.musinsa.payment.point.global.concurrency.StripedWalletRouter;
+import com.musinsa.payment.point.global.error.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 스트라이프 지갑 검증 (슬롯 4개)
+ * - 총 잔액(지갑 + 슬롯)과 Item 잔액 합계의 일치, 보유 한도의 정확한 적용, 통합 경로(사용 취소) 동작을 확인함.
+ * - 슬롯 경로가 지갑 Lock을 잡지 않는지(지갑 행이 잠겨 있어도 처리되는지) 확인함.
+ */
+@SpringBootTest(properties = {
+        "musinsa.point.striped-wallet.user-ids=8701,8702,8703,8704",
+        "musinsa.point.striped-wallet.stripes=4"
+})
+class StripedWalletTest {
+
+    private static final long MAX_EARN = 100_000L;      // 1회 최대 적립 (기본 정책)
+    private static final long MAX_POSSESSION = 2_000_000L; // 보유 한도 (기본 정책)
+
+    @Autowired private PointService pointService;
+    @Autowired private PointSearchService pointSearchService;
+    @Autowired private StripedWalletRouter stripedWalletRouter;
+    @Autowired private PointDeductionQueueCache pointDeductionQueueCache;
+
+    @Autowired private UserPointWalletSlotRepository userPointWalletSlotRepository;
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        userPointWalletSlotRepository.deleteAll();
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("핫 지갑에 동시 사용이 몰려도 슬롯별로 처리되며, 총 잔액과 Item 잔액 합계가 정확히 일치한다")
+    void concurrent_use_on_striped_wallet() throws InterruptedException {
+        // given: 100만 포인트 (10건 적립)
+        Long userId = 8701L;
+        for (int i = 0; i < 10; i++) {
+            pointService.earn(userId, MAX_EARN, false, "STRIPE_SEED_" + i);
+        }
+
+        // when: 16 스레드에서 1,000원씩 200건 사용
+        int requests = 200;
+        AtomicInteger failCount = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(requests);
+        long start = System.nanoTime();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < requests; i++) {
+                String orderId = "STRIPE_ORDER_" + i;
+                executorService.submit(() -> {
+                    try {
+                        pointService.use(userId, 1_000L, orderId);
+                    } catch (Exception e) {
+                        System.out.println("Request Failed: " + e.getMessage());
+                        failCount.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+        }
+        System.out.printf("[StripedWallet] %d uses in %dms, rebalance=%d, fallback=%d%n",
+                requests, (System.nanoTime() - start) / 1_000_000,
+                stripedWalletRouter.getRebalanceCount(), stripedWalletRouter.getFallbackCount());
+
+        // then
+        long expected = 10 * MAX_EARN - requests * 1_000L;
+        assertThat(failCount.get()).isZero();
+        assertThat(pointSearchService.getMyBalance(userId).getCurrentBalance()).isEqualTo(expected);
+        assertThat(remainSum(userId)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("슬롯별로 동시에 적립해도 보유 한도는 정확히 지켜진다")
+    void possession_limit_holds_exactly() throws InterruptedException {
+        // given / when: 한도(200만)를 정확히 채우는 적립 20건 + 초과분 4건을 동시에 요청
+        Long userId = 8702L;
+        pointService.earn(userId, MAX_EARN, false, "LIMIT_SEED");
+
+        int requests = 23;
+        AtomicInteger successCount = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(requests);
+        try (ExecutorService executorService = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < requests; i++) {
+                String refId = "LIMIT_EARN_" + i;
+                executorService.submit(() -> {
+                    try {
+                        pointService.earn(userId, MAX_EARN, false, refId);
+                        successCount.incrementAndGet();
+                    } catch (BusinessException e) {
+                        // 보유 한도 초과
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+        }
+
+        // then: 한도까지만 적립됨
+        assertThat(successCount.get()).isEqualTo((int) (MAX_POSSESSION / MAX_EARN) - 1);
+        assertThat(pointSearchService.getMyBalance(userId).getCurrentBalance()).isEqualTo(MAX_POSSESSION);
+        assertThatThrownBy(() -> pointService.earn(userId, 1_000L, false, "LIMIT_OVER"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("보유 한도");
+    }
+
+    @Test
+    @DisplayName("사용 취소 등 슬롯 경로가 아닌 명령은 슬롯을 지갑으로 통합한 뒤 기존 로직으로 처리된다")
+    void cancelUse_consolidates_slots() {
+        // given: 슬롯 경로로 적립/사용
+        Long userId = 8703L;
+        pointService.earn(userId, 50_000L, false, "CONSOLIDATE_SEED_1");
+        pointService.earn(userId, 50_000L, false, "CONSOLIDATE_SEED_2");
+        pointService.use(userId, 30_000L, "CONSOLIDATE_ORDER");
+        assertThat(userPointWalletSlotRepository.sumBalanceByUserId(userId)).isPositive();
+
+        // when
+        pointService.cancelUse(userId, "CONSOLIDATE_ORDER", 30_000L);
+
+        // then: 슬롯은 비워지고 지갑 잔액 = 총 잔액, Item 배정도 해제됨
+        assertThat(userPointWalletSlotRepository.sumBalanceByUserId(userId)).isZero();
+        assertThat(userPointWalletRepository.readByUserId(userId).orElseThrow().getBalance()).isEqualTo(100_000L);
+        assertThat(itemsOf(userId)).allSatisfy(item -> assertThat(item.getWalletSlot()).isNull());
+        assertThat(remainSum(userId)).isEqualTo(100_000L);
+    }
+
+    @Test
+    @DisplayName("슬롯 경로의 사용은 지갑 Lock을 잡지 않으므로, 다른 트랜잭션이 지갑 행을 잠그고 있어도 처리된다")
+    void slot_path_never_holds_wallet_lock() throws Exception {
+        // given: 50만 포인트 적립 후 1건 사용 (재분배로 한 슬롯에 균등 몫 이상이 채워짐)
+        Long userId = 8704L;
+        for (int i = 0; i < 5; i++) {
+            pointService.earn(userId, MAX_EARN, false, "WALLET_LOCK_SEED_" + i);
+        }
+        pointService.use(userId, 1_000L, "WALLET_LOCK_WARMUP");
+        long rebalanceBefore = stripedWalletRouter.getRebalanceCount();
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executorService = Executors.newFixedThreadPool(2)) {
+            // 지갑 행 Lock을 쥔 채 대기하는 트랜잭션
+            Future<?> holder = executorService.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                userPointWalletRepository.findByUserIdForUpdate(userId).orElseThrow();
+                locked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when: 지갑이 잠긴 동안 슬롯 경로로 10건 사용 (지갑 Lock을 기다린다면 Lock 타임아웃으로 실패함)
+            Future<?> uses = executorService.submit(() -> {
+                for (int i = 0; i < 10; i++) {
+                    pointService.use(userId, 1_000L, "WALLET_LOCK_ORDER_" + i);
+                }
+            });
+            try {
+                uses.get(10, TimeUnit.SECONDS);
+            } finally {
+                release.countDown();
+            }
+            holder.get(5, TimeUnit.SECONDS);
+        }
+
+        // then: 재분배(지갑 Lock 필요) 없이 슬롯 경로로만 처리됨
+        assertThat(stripedWalletRouter.getRebalanceCount()).isEqualTo(rebalanceBefore);
+        assertThat(pointSearchService.getMyBalance(userId).getCurrentBalance()).isEqualTo(5 * MAX_EARN - 11_000L);
+        assertThat(remainSum(userId)).isEqualTo(5 * MAX_EARN - 11_000L);
+    }
+
+    @Test
+    @DisplayName("스트라이프 지갑 유저는 슬롯 경로가 지갑 버전을 바꾸지 않으므로 차감 큐를 캐시하지 않는다")
+    void deduction_queue_is_not_cached_for_striped_wallet() {
+        // given: 슬롯 경로로 적립/사용 후, 통합 경로(사용 취소)로 지갑 버전을 올림
+        Long userId = 8701L;
+        pointService.earn(userId, MAX_EARN, false, "QUEUE_SEED");
+        pointService.use(userId, 1_000L, "QUEUE_ORDER");
+        pointService.cancelUse(userId, "QUEUE_ORDER", 1_000L);
+
+        // when: 이후 슬롯 경로로 수기 지급 (지갑 버전은 그대로)
+        pointService.earn(userId, 1_000L, true, "QUEUE_MANUAL");
+
+        // then: 지갑 버전이 같아도 이전 큐가 재사용되지 않음
+        UserPointWallet wallet = userPointWalletRepository.findByUserId(userId).orElseThrow();
+        assertThat(pointDeductionQueueCache.getIfValid(wallet)).isNull();
+        assertThat(pointDeductionQueueCache.load(wallet, LocalDateTime.now(), 1_000L)).isNull();
+    }
+
+    private List<PointItem> itemsOf(Long userId) {
+        return pointItemRepository.findAll().stream()
+                .filter(item -> item.getUserId().equals(userId))
+                .toList();
+    }
+
+    private long remainSum(Long userId) {
+        return itemsOf(userId).stream().mapToLong(PointItem::getRemainAmount).sum();
+    }
+}
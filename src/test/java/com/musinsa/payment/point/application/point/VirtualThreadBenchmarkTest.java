@@ -0,0 +1,168 @@
+package com.musinsa.payment.point.application.point;
+
+import com.musinsa.payment.point.application.point.service.PointSearchService;
+import com.musinsa.payment.point.application.point.service.PointService;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Platform Thread vs Virtual Thread 비교 (조회 + 사용 혼합 부하)
+ * - Platform: 고정 크기 스레드 풀 (Tomcat 스레드 풀 고갈 상황 재현)
+ * - Virtual: 요청마다 Virtual Thread (spring.threads.virtual.enabled=true 와 같은 실행 모델)
+ * - Pinning: JFR jdk.VirtualThreadPinned 이벤트를 임계값 0으로 수집하여 건수와 상위 프레임을 출력함.
+ * - 처리량/지연 시간은 환경에 따라 달라지므로 출력만 하고, 검증은 요청 성공 여부와 잔액 정합성만 수행함.
+ * - 단독 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+class VirtualThreadBenchmarkTest {
+
+    private static final long FIRST_USER_ID = 8401L;
+    private static final int USERS = 10;
+    private static final int REQUESTS = 400;        // 모드별 요청 수 (4건 중 1건은 사용, 나머지는 조회)
+    private static final int PLATFORM_THREADS = 20; // 고정 스레드 풀 크기
+    private static final long USE_AMOUNT = 10L;
+
+    @Autowired private PointService pointService;
+    @Autowired private PointSearchService pointSearchService;
+
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+
+    @AfterEach
+    void tearDown() {
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("조회 + 사용 혼합 부하를 Platform/Virtual Thread로 각각 처리하고 처리량과 Pinning 이벤트를 비교한다")
+    void platform_vs_virtual_threads() throws Exception {
+        // given
+        for (long userId = FIRST_USER_ID; userId < FIRST_USER_ID + USERS; userId++) {
+            pointService.earn(userId, 100_000L, false, "VT_SEED");
+        }
+
+        // when
+        LoadResult platform = runMixedLoad("PLATFORM", () -> Executors.newFixedThreadPool(PLATFORM_THREADS));
+        LoadResult virtual = runMixedLoad("VIRTUAL", Executors::newVirtualThreadPerTaskExecutor);
+
+        for (LoadResult result : List.of(platform, virtual)) {
+            System.out.printf("[ThreadMode] %-8s : throughput=%d ops/s, avg=%.2fms, fails=%d, pinned=%d %s%n",
+                    result.label(), result.opsPerSecond(), result.avgMillis(), result.failCount(),
+                    result.pinnedCount(), result.pinnedFrames());
+        }
+
+        // then
+        // 1. 모든 요청이 성공해야 함
+        assertThat(List.of(platform, virtual)).allSatisfy(result -> assertThat(result.failCount()).isZero());
+
+        // 2. 잔액 정합성: 유저별 사용 건수 = (모드 2회 * 사용 요청 수) / 유저 수
+        long usesPerUser = 2L * (REQUESTS / 4) / USERS;
+        for (long userId = FIRST_USER_ID; userId < FIRST_USER_ID + USERS; userId++) {
+            assertThat(userPointWalletRepository.readByUserId(userId).orElseThrow().getBalance())
+                    .isEqualTo(100_000L - usesPerUser * USE_AMOUNT);
+        }
+    }
+
+    /**
+     * 혼합 부하 발생기
+     * - 요청 4건 중 1건은 사용(use), 3건은 내역 조회 + 잔액 조회를 수행함.
+     */
+    private LoadResult runMixedLoad(String label, Supplier<ExecutorService> executorFactory) throws InterruptedException {
+        AtomicInteger failCount = new AtomicInteger();
+        AtomicLong totalNanos = new AtomicLong();
+        CountDownLatch latch = new CountDownLatch(REQUESTS);
+        LocalDate today = LocalDate.now();
+
+        AtomicInteger pinnedCount = new AtomicInteger();
+        Map<String, AtomicInteger> pinnedFrames = new ConcurrentHashMap<>();
+
+        try (RecordingStream pinning = new RecordingStream();
+             ExecutorService executorService = executorFactory.get()) {
+            pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            pinning.onEvent("jdk.VirtualThreadPinned", event -> {
+                pinnedCount.incrementAndGet();
+                if (event.getStackTrace() != null) {
+                    event.getStackTrace().getFrames().stream()
+                            .filter(RecordedFrame::isJavaFrame)
+                            .filter(frame -> !frame.getMethod().getType().getName().startsWith("java."))
+                            .findFirst()
+                            .ifPresent(frame -> pinnedFrames.computeIfAbsent(
+                                    frame.getMethod().getType().getName() + "." + frame.getMethod().getName(),
+                                    key -> new AtomicInteger()).incrementAndGet());
+                }
+            });
+            pinning.startAsync();
+
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                long userId = FIRST_USER_ID + index % USERS;
+                executorService.submit(() -> {
+                    long requestStart = System.nanoTime();
+                    try {
+                        if (index % 4 == 0) {
+                            pointService.use(userId, USE_AMOUNT, label + "_ORDER_" + index);
+                        } else {
+                            pointSearchService.getMyHistories(userId, today.minusDays(7), today, null, null, PageRequest.of(0, 20));
+                            pointSearchService.getMyBalance(userId);
+                        }
+                    } catch (Exception e) {
+                        System.out.println("Request Failed: " + e.getMessage());
+                        failCount.incrementAndGet();
+                    } finally {
+                        totalNanos.addAndGet(System.nanoTime() - requestStart);
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            long elapsedNanos = System.nanoTime() - start;
+
+            pinning.stop(); // 남은 이벤트까지 모두 소비한 뒤 종료
+
+            return new LoadResult(
+                    label,
+                    failCount.get(),
+                    REQUESTS * 1_000_000_000L / Math.max(1, elapsedNanos),
+                    totalNanos.get() / 1_000_000.0 / REQUESTS,
+                    pinnedCount.get(),
+                    Map.copyOf(pinnedFrames)
+            );
+        }
+    }
+
+    private record LoadResult(String label, int failCount, long opsPerSecond, double avgMillis,
+                              int pinnedCount, Map<String, AtomicInteger> pinnedFrames) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 잔액 캐시 검증
+ * - 트랜잭션 커밋 후에 캐시가 갱신되므로, 테스트 메서드에 @Transactional을 붙이지 않음.
+ * - 폴링 스케줄러가 테스트 도중 끼어들지 않도록 실행 주기를 길게 설정하고, poll()을 직접 호출함.
+ */
+@SpringBootTest(properties = {
+        "musinsa.point.balance-cache.poll-interval-ms=3600000",
+        "musinsa.point.balance-cache.poll-page-size=2" // 한 번의 폴링이 여러 페이지를 이어 읽도록
+})
+class PointBalanceCacheTest {
+
+    @Autowired private PointService pointService;
+    @Autowired private PointSearchService pointSearchService;
+    @Autowired private PointBalanceCache pointBalanceCache;
+    @Autowired private DbPollingBalanceInvalidationChannel balanceInvalidationChannel;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+
+    @AfterEach
+    void tearDown() {
+        pointBalanceCache.invalidateAll();
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("쓰기 명령이 커밋되면 캐시된 잔액도 함께 갱신되어, 이후 조회는 DB를 읽지 않고 최신 잔액을 응답한다")
+    void cache_follows_write_commands() {
+        // given
+        Long userId = 8801L;
+        pointService.earn(userId, 1000L, false, "EARN_C");
+        assertThat(pointSearchService.getMyBalance(userId).getCurrentBalance()).isEqualTo(1000L);
+
+        // when
+        pointService.use(userId, 300L, "ORDER_C");
+        double hitsBefore = gauge("point.balance.cache.hits");
+        long balance = pointSearchService.getMyBalance(userId).getCurrentBalance();
+
+        // then: 커밋 후 갱신된 잔액이 캐시에서 응답됨
+        assertThat(balance).isEqualTo(700L);
+        assertThat(gauge("point.balance.cache.hits")).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 버전의 잔액은 캐시된 최신 잔액을 덮어쓰지 않는다")
+    void stale_value_does_not_overwrite_newer() {
+        // given: 사용 전 지갑 스냅샷 (이전 버전)
+        Long userId = 8802L;
+        pointService.earn(userId, 1000L, false, "EARN_C");
+        UserPointWallet stale = userPointWalletRepository.readByUserId(userId).orElseThrow();
+
+        pointService.use(userId, 400L, "ORDER_C");
+
+        // when: 조회 도중 읽었던 이전 스냅샷이 늦게 적재되는 상황 재현
+        pointBalanceCache.put(stale);
+
+        // then
+        assertThat(pointBalanceCache.get(userId)).isEqualTo(600L);
+        assertThat(pointSearchService.getMyBalance(userId).getCurrentBalance()).isEqualTo(600L);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 변경한 잔액은 DB 폴링으로 감지되어, 이미 캐시된 잔액이 갱신된다")
+    void remote_change_is_applied_by_polling() {
+        // given
+        Long userId = 8803L;
+        pointService.earn(userId, 1000L, false, "EARN_C");
+        assertThat(pointSearchService.getMyBalance(userId).getCurrentBalance()).isEqualTo(1000L);
+
+        // when: 다른 노드의 커밋 재현 (캐시를 거치지 않고 DB만 변경)
+        jdbcTemplate.update("UPDATE user_point_wallet SET balance = ?, version = version + 1, updated_at = ? WHERE user_id = ?",
+                1500L, LocalDateTime.now(), userId);
+        assertThat(pointSearchService.getMyBalance(userId).getCurrentBalance()).isEqualTo(1000L); // 폴링 전에는 이전 값
+
+        double remoteUpdatesBefore = meterRegistry.counter("point.balance.cache.remote_updates").count();
+        balanceInvalidationChannel.poll();
+
+        // then
+        assertThat(pointSearchService.getMyBalance(userId).getCurrentBalance()).isEqualTo(1500L);
+        assertThat(meterRegistry.counter("point.balance.cache.remote_updates").count()).isEqualTo(remoteUpdatesBefore + 1);
+        assertThat(gauge("point.balance.cache.staleness_seconds")).isGreaterThanOrEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("폴링은 페이지 크기보다 많은 변경도 Keyset으로 이어 읽어 캐시 전체를 비우지 않고 반영하며, 같은 변경을 다시 전달하지 않는다")
+    void polling_pages_through_changes_without_resync() {
+        // given: 변경될 유저 3명 + 변경되지 않는 유저 1명의 잔액을 캐시
+        List<Long> changedUserIds = List.of(8804L, 8805L, 8806L);
+        Long untouchedUserId = 8807L;
+        for (Long userId : changedUserIds) {
+            pointService.earn(userId, 1000L, false, "EARN_C");
+            pointSearchService.getMyBalance(userId);
+        }
+        pointService.earn(untouchedUserId, 1000L, false, "EARN_C");
+        pointSearchService.getMyBalance(untouchedUserId);
+        balanceInvalidationChannel.poll(); // 위 쓰기 명령의 변경분을 먼저 소비
+
+        // when: 다른 노드가 같은 시각에 3명의 잔액을 변경 (페이지 크기 2 초과)
+        LocalDateTime changedAt = LocalDateTime.now();
+        for (Long userId : changedUserIds) {
+            jdbcTemplate.update("UPDATE user_point_wallet SET balance = ?, version = version + 1, updated_at = ? WHERE user_id = ?",
+                    2000L, changedAt, userId);
+        }
+        double remoteUpdatesBefore = meterRegistry.counter("point.balance.cache.remote_updates").count();
+        balanceInvalidationChannel.poll();
+        balanceInvalidationChannel.poll(); // overlap 구간을 다시 읽어도 이미 전달한 변경은 전달하지 않음
+
+        // then: 3명 모두 반영되고, 변경되지 않은 유저의 캐시는 유지됨 (전체 무효화 없음)
+        assertThat(meterRegistry.counter("point.balance.cache.remote_updates").count()).isEqualTo(remoteUpdatesBefore + 3);
+        for (Long userId : changedUserIds) {
+            assertThat(pointBalanceCache.get(userId)).isEqualTo(2000L);
+        }
+        assertThat(pointBalanceCache.get(untouchedUserId)).isEqualTo(1000L);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+}
@@ -0,0 +1,140 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointBulkEarnRequest.Entry;
+import com.musinsa.payment.point.api.point.dto.PointBulkEarnResponse;
+import com.musinsa.payment.point.api.point.dto.PointCommandResponse;
+import com.musinsa.payment.point.domain.point.entity.PointItem;
+import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import com.musinsa.payment.point.global.policy.PointPolicyManager;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PointBulkEarnServiceTest {
+
+    @Autowired private PointBulkEarnService pointBulkEarnService;
+    @Autowired private PointService pointService;
+    @Autowired private PointPolicyManager policyManager;
+
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("일괄 적립 시 항목별로 성공/실패가 나뉘고, 성공 항목만 지갑/원장/이력에 반영된다")
+    void earnAll_partial_success() {
+        // given
+        // 7001번 유저는 단건 API로 이미 CAMPAIGN_A를 받은 상태
+        pointService.earn(7001L, 1000L, false, "CAMPAIGN_A");
+
+        List<Entry> entries = List.of(
+                new Entry(7002L, 1000L, "CAMPAIGN_A"),                                        // 0: 성공 (신규 지갑)
+                new Entry(7001L, 1000L, "CAMPAIGN_A"),                                        // 1: 실패 (DB 중복)
+                new Entry(7002L, 500L, "CAMPAIGN_A"),                                         // 2: 실패 (요청 내 중복)
+                new Entry(7003L, policyManager.getMaxEarnAmount() + 1, "CAMPAIGN_A"),        // 3: 실패 (1회 한도 초과)
+                new Entry(7002L, 2000L, "CAMPAIGN_B")                                         // 4: 성공 (같은 유저 다른 refId)
+        );
+
+        // when
+        PointBulkEarnResponse response = pointBulkEarnService.earnAll(entries);
+
+        // then
+        // 1. 항목별 결과는 요청 순서와 동일해야 함
+        assertThat(response.getTotalCount()).isEqualTo(5);
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getResults())
+                .extracting(PointBulkEarnResponse.Result::isSuccess)
+                .containsExactly(true, false, false, false, true);
+
+        // 2. 지갑 잔액: 7002 = 1000 + 2000, 7001 = 기존 1000 유지
+        assertThat(userPointWalletRepository.readByUserId(7002L).orElseThrow().getBalance()).isEqualTo(3000L);
+        assertThat(userPointWalletRepository.readByUserId(7001L).orElseThrow().getBalance()).isEqualTo(1000L);
+
+        // 3. 원장(Item) 생성 검증
+        List<PointItem> items = pointItemRepository.findByUserId(7002L);
+        assertThat(items).hasSize(2);
+        assertThat(items).extracting(PointItem::getRemainAmount).containsExactlyInAnyOrder(1000L, 2000L);
+
+        // 4. 일괄 적립분도 단건 적립과 동일하게 중복 방어되어야 함
+        assertThat(pointHistoryRepository.existsByUserIdAndRefIdAndType(7002L, "CAMPAIGN_B", PointType.EARN)).isTrue();
+
+        // 5. 일괄 적립분을 단건 API로 재시도하면 원본 결과가 재응답되어야 함
+        PointCommandResponse replay = pointService.earn(7002L, 2000L, false, "CAMPAIGN_B");
+        assertThat(replay.isReplayed()).isTrue();
+        assertThat(replay.getPointItemId()).isEqualTo(response.getResults().get(4).getPointItemId());
+        assertThat(userPointWalletRepository.readByUserId(7002L).orElseThrow().getBalance()).isEqualTo(3000L);
+    }
+
+    @Test
+    @DisplayName("Chunk 크기를 넘는 대량 요청도 모두 처리된다")
+    void earnAll_multiple_chunks() {
+        // given: 기본 Chunk(500)를 넘는 1,200명
+        List<Entry> entries = new ArrayList<>();
+        for (long userId = 10_000; userId < 11_200; userId++) {
+            entries.add(new Entry(userId, 100L, "CAMPAIGN_LARGE"));
+        }
+
+        // when
+        PointBulkEarnResponse response = pointBulkEarnService.earnAll(entries);
+
+        // then
+        assertThat(response.getSuccessCount()).isEqualTo(1_200);
+        for (long userId = 10_000; userId < 11_200; userId++) {
+            assertThat(userPointWalletRepository.readByUserId(userId).orElseThrow().getBalance()).isEqualTo(100L);
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 멱등성 키가 선점된 항목은 해당 항목만 실패하고, 나머지 Chunk는 정상 적립된다")
+    void earnAll_skips_entries_claimed_elsewhere() {
+        // given: 7011번 유저의 CAMPAIGN_C는 다른 노드가 처리함 (이력은 아직 저널에 있어 point_history에 없음)
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO point_idempotency_key " +
+                        "(point_idempotency_key_id, user_id, ref_id, type, request_amount, expire_at, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                TsidUtil.nextId(), 7011L, "CAMPAIGN_C", PointType.EARN.name(), 1000L,
+                Timestamp.valueOf(LocalDateTime.now().plusDays(7)), now, now);
+
+        List<Entry> entries = List.of(
+                new Entry(7011L, 1000L, "CAMPAIGN_C"), // 실패 (멱등성 키 존재)
+                new Entry(7012L, 1000L, "CAMPAIGN_C")  // 성공
+        );
+
+        // when
+        PointBulkEarnResponse response = pointBulkEarnService.earnAll(entries);
+
+        // then
+        assertThat(response.getResults())
+                .extracting(PointBulkEarnResponse.Result::isSuccess)
+                .containsExactly(false, true);
+        assertThat(userPointWalletRepository.readByUserId(7011L).map(UserPointWallet::getBalance).orElse(0L)).isZero();
+        assertThat(userPointWalletRepository.readByUserId(7012L).orElseThrow().getBalance()).isEqualTo(1000L);
+    }
+}
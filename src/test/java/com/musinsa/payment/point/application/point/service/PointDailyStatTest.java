@@ -0,0 +1,137 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointStatisticsResponse;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.enums.StatGranularity;
+import com.musinsa.payment.point.domain.point.repository.PointExpiryBucketRepository;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 일자별 거래 통계(point_daily_stat) 검증
+ * - 다른 테스트의 이력도 오늘 통계에 누적되므로, 오늘 통계는 실행 전후 차이로 검증함.
+ */
+@SpringBootTest
+class PointDailyStatTest {
+
+    // 다른 데이터와 겹치지 않는 마감 일자
+    private static final LocalDate CLOSED_DAY = LocalDate.of(2021, 3, 15);
+
+    @Autowired private PointService pointService;
+    @Autowired private PointAdminSearchService pointAdminSearchService;
+    @Autowired private PointDailyStatService pointDailyStatService;
+    @Autowired private PointJdbcRepository pointJdbcRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+    @Autowired private PointExpiryBucketRepository pointExpiryBucketRepository;
+
+    @AfterEach
+    void tearDown() {
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+        pointExpiryBucketRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM point_daily_stat WHERE stat_date = ?", Date.valueOf(CLOSED_DAY));
+        pointDailyStatService.evictAfterCommit(CLOSED_DAY, CLOSED_DAY);
+    }
+
+    @Test
+    @DisplayName("적립/사용/사용취소 이력은 같은 트랜잭션에서 통계에 반영되고, 롤백된 명령은 반영되지 않는다")
+    void stat_follows_history_inserts() {
+        // given
+        Long userId = 9201L;
+        LocalDate today = LocalDate.now();
+        long earnBefore = todayAmount(PointType.EARN);
+        long useBefore = todayAmount(PointType.USE);
+        long cancelBefore = todayAmount(PointType.USE_CANCEL);
+
+        // when
+        pointService.earn(userId, 1000L, false, "EARN_S1");
+        pointService.earn(userId, 500L, true, "EARN_S2");
+        pointService.use(userId, 700L, "ORDER_S");
+        pointService.cancelUse(userId, "ORDER_S", 200L);
+        assertThatThrownBy(() -> pointService.use(userId, 5000L, "ORDER_FAIL")); // 잔액 부족 -> 롤백
+
+        // then
+        assertThat(todayAmount(PointType.EARN) - earnBefore).isEqualTo(1500L);
+        assertThat(todayAmount(PointType.USE) - useBefore).isEqualTo(700L);
+        assertThat(todayAmount(PointType.USE_CANCEL) - cancelBefore).isEqualTo(200L);
+
+        // 원본(point_history) 집계와 같아야 함
+        List<PointStatisticsResponse> raw = pointHistoryRepository.getStatisticsByType(today.atStartOfDay(), today.atTime(23, 59, 59));
+        for (PointStatisticsResponse row : raw) {
+            assertThat(todayAmount(row.getType())).isGreaterThanOrEqualTo(row.getTotalAmount());
+        }
+    }
+
+    @Test
+    @DisplayName("재집계는 마감 일자 통계를 원본 이력으로 교체하고, 일별/월별/전체 단위로 조회된다")
+    void reconcile_and_granularity() {
+        // given: 마감 일자의 이력 3건 + 어긋난 통계 행
+        insertHistory(9202L, PointType.EARN, 1000L);
+        insertHistory(9203L, PointType.EARN, 300L);
+        insertHistory(9202L, PointType.USE, 400L);
+        jdbcTemplate.update("INSERT INTO point_daily_stat (stat_date, type, slot, amount) VALUES (?, 'EARN', 3, 999999)",
+                Date.valueOf(CLOSED_DAY));
+
+        // when
+        pointJdbcRepository.rebuildDailyStats(CLOSED_DAY, CLOSED_DAY);
+        pointDailyStatService.evictAfterCommit(CLOSED_DAY, CLOSED_DAY);
+
+        // then 1: 일별
+        List<PointStatisticsResponse> daily = pointAdminSearchService.getStatistics(CLOSED_DAY, CLOSED_DAY, StatGranularity.DAY);
+        assertThat(daily).extracting(PointStatisticsResponse::getPeriod, PointStatisticsResponse::getType, PointStatisticsResponse::getTotalAmount)
+                .containsExactly(
+                        tuple("2021-03-15", PointType.EARN, 1300L),
+                        tuple("2021-03-15", PointType.USE, 400L));
+
+        // then 2: 월별 / 전체
+        assertThat(pointAdminSearchService.getStatistics(CLOSED_DAY.minusDays(14), CLOSED_DAY, StatGranularity.MONTH))
+                .extracting(PointStatisticsResponse::getPeriod).containsOnly("2021-03");
+        assertThat(pointAdminSearchService.getStatistics(CLOSED_DAY, CLOSED_DAY))
+                .extracting(PointStatisticsResponse::getPeriod).containsOnlyNulls();
+
+        // then 3: 마감 일자는 캐시에서 응답 (재집계로 캐시를 비우기 전까지는 테이블 변경이 보이지 않음)
+        jdbcTemplate.update("UPDATE point_daily_stat SET amount = 0 WHERE stat_date = ?", Date.valueOf(CLOSED_DAY));
+        assertThat(pointAdminSearchService.getStatistics(CLOSED_DAY, CLOSED_DAY))
+                .extracting(PointStatisticsResponse::getTotalAmount).containsExactly(1300L, 400L);
+    }
+
+    private long todayAmount(PointType type) {
+        LocalDate today = LocalDate.now();
+        return pointAdminSearchService.getStatistics(today, today).stream()
+                .filter(row -> row.getType() == type)
+                .mapToLong(PointStatisticsResponse::getTotalAmount)
+                .sum();
+    }
+
+    private void insertHistory(Long userId, PointType type, long amount) {
+        Timestamp createdAt = Timestamp.valueOf(CLOSED_DAY.atTime(12, 0));
+        jdbcTemplate.update("INSERT INTO point_history (point_history_id, user_id, type, amount, ref_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", TsidUtil.nextId(), userId, type.name(), amount, "STAT_" + amount, createdAt, createdAt);
+    }
+}
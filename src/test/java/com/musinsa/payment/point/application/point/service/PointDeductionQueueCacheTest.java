@@ -0,0 +1,109 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointCommandResponse;
+import com.musinsa.payment.point.domain.point.entity.PointItem;
+import com.musinsa.payment.point.domain.point.enums.PointStatus;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 차감 큐 캐시 검증
+ * - 트랜잭션 커밋 후에 큐가 갱신되므로, 테스트 메서드에 @Transactional을 붙이지 않음.
+ */
+@SpringBootTest
+class PointDeductionQueueCacheTest {
+
+    @Autowired private PointService pointService;
+    @Autowired private PointDeductionQueueCache pointDeductionQueueCache;
+
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+
+    @AfterEach
+    void tearDown() {
+        pointDeductionQueueCache.invalidateAll();
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("적립/사용/사용취소가 이어져도 캐시된 차감 큐는 우선순위(수기 -> 만료 임박)와 잔액을 DB와 동일하게 유지한다")
+    void queue_follows_all_write_commands() {
+        // given: 일반 1000(A) -> 수기 1000(M) -> 일반 1000(B) 순으로 적립
+        Long userId = 8001L;
+        long itemA = pointService.earn(userId, 1000L, false, "EARN_A").getPointItemId();
+        long itemM = pointService.earn(userId, 1000L, true, "EARN_M").getPointItemId();
+        long itemB = pointService.earn(userId, 1000L, false, "EARN_B").getPointItemId();
+
+        // when 1: 1500원 사용 -> 수기(M) 전액 + A 500
+        pointService.use(userId, 1500L, "ORDER_1");
+
+        // then 1
+        assertThat(remainOf(itemM)).isEqualTo(0L);
+        assertThat(remainOf(itemA)).isEqualTo(500L);
+        assertThat(remainOf(itemB)).isEqualTo(1000L);
+
+        // when 2: 캐시된 큐(커밋 후 갱신됨)로 700원 사용 -> A 잔여 500 + B 200
+        pointService.use(userId, 700L, "ORDER_2");
+
+        // then 2
+        assertThat(remainOf(itemA)).isEqualTo(0L);
+        assertThat(remainOf(itemB)).isEqualTo(800L);
+
+        // when 3: 첫 주문 전액 취소 후 다시 1000원 사용 -> 복구된 수기(M)부터 차감되어야 함
+        pointService.cancelUse(userId, "ORDER_1", 1500L);
+        PointCommandResponse response = pointService.use(userId, 1000L, "ORDER_3");
+
+        // then 3
+        assertThat(remainOf(itemM)).isEqualTo(0L);
+        assertThat(response.getBalance()).isEqualTo(3000L - 1500L - 700L + 1500L - 1000L);
+        assertThat(sumOfAvailableRemain(userId)).isEqualTo(response.getBalance());
+    }
+
+    @Test
+    @DisplayName("지갑을 거치지 않고 아이템이 변경되면 큐 검증에 실패하여 DB 정렬 조회로 폴백한다")
+    void stale_queue_falls_back_to_database() {
+        // given
+        Long userId = 8002L;
+        long itemA = pointService.earn(userId, 1000L, false, "EARN_A").getPointItemId();
+        long itemB = pointService.earn(userId, 1000L, false, "EARN_B").getPointItemId();
+        pointService.use(userId, 100L, "ORDER_1"); // 큐 캐시 생성 (A 잔액 900)
+
+        // 다른 경로로 A의 잔액이 변경된 상황 (지갑 버전은 그대로)
+        PointItem changed = pointItemRepository.findById(itemA).orElseThrow();
+        changed.use(800L);
+        pointItemRepository.save(changed);
+
+        // when: 큐 기준으로는 A에서 500을 차감해야 하지만, 실제 A 잔액은 100
+        pointService.use(userId, 500L, "ORDER_2");
+
+        // then: DB 기준으로 A 100 + B 400 차감
+        assertThat(remainOf(itemA)).isEqualTo(0L);
+        assertThat(pointItemRepository.findById(itemA).orElseThrow().getStatus()).isEqualTo(PointStatus.EXHAUSTED);
+        assertThat(remainOf(itemB)).isEqualTo(600L);
+    }
+
+    private long remainOf(long itemId) {
+        return pointItemRepository.findById(itemId).orElseThrow().getRemainAmount();
+    }
+
+    private long sumOfAvailableRemain(Long userId) {
+        return pointItemRepository.findByUserId(userId).stream()
+                .filter(item -> item.getStatus() == PointStatus.AVAILABLE)
+                .mapToLong(PointItem::getRemainAmount)
+                .sum();
+    }
+}
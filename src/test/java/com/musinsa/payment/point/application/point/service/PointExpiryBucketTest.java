@@ -0,0 +1,121 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointExpiringSummaryResponse;
+import com.musinsa.payment.point.domain.point.entity.PointItem;
+import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
+import com.musinsa.payment.point.domain.point.repository.PointExpiryBucketRepository;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 일자별 만료 버킷 검증
+ * - 버킷은 커밋 직전에 반영되므로, 테스트 메서드에 @Transactional을 붙이지 않음.
+ */
+@SpringBootTest
+class PointExpiryBucketTest {
+
+    @Autowired private PointService pointService;
+    @Autowired private PointSearchService pointSearchService;
+    @Autowired private PointExpiryBucketRecorder pointExpiryBucketRecorder;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private PointExpiryBucketRepository pointExpiryBucketRepository;
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+
+    @AfterEach
+    void tearDown() {
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+        pointExpiryBucketRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("사용/사용취소가 이어져도 7/30/90일 소멸 예정 합계는 Item 잔액과 같게 유지된다")
+    void bucket_follows_use_and_cancel() {
+        // given: 일반 D+5(A), 수기 D+20(B), 일반 D+60(C) 각 1000원
+        Long userId = 8901L;
+        LocalDateTime now = LocalDateTime.now();
+        userPointWalletRepository.save(new UserPointWallet(userId, 3000L));
+        saveItem(userId, now.plusDays(5), false);
+        saveItem(userId, now.plusDays(20), true);
+        saveItem(userId, now.plusDays(60), false);
+        assertSummary(userId, 1000L, 2000L, 3000L);
+
+        // when 1: 1500원 사용 -> 수기(B) 전액 + A 500
+        pointService.use(userId, 1500L, "ORDER_B");
+
+        // then 1
+        assertSummary(userId, 500L, 500L, 1500L);
+
+        // when 2: 전액 사용 취소 -> 원래 Item으로 복구
+        pointService.cancelUse(userId, "ORDER_B", 1500L);
+
+        // then 2
+        assertSummary(userId, 1000L, 2000L, 3000L);
+        assertThat(bucketTotal(userId)).isEqualTo(itemRemainTotal(userId));
+    }
+
+    @Test
+    @DisplayName("롤백된 명령의 증감은 반영되지 않으며, 재구축 결과는 증감으로 유지한 버킷과 같다")
+    void rollback_is_not_applied_and_rebuild_matches() {
+        // given
+        Long userId = 8902L;
+        pointService.earn(userId, 1000L, false, "EARN_B1");
+        pointService.earn(userId, 500L, true, "EARN_B2");
+        pointService.use(userId, 700L, "ORDER_B");
+
+        // when 1: 잔액 부족으로 실패(롤백)하는 사용
+        assertThatThrownBy(() -> pointService.use(userId, 5000L, "ORDER_FAIL"));
+
+        // then 1
+        assertThat(bucketTotal(userId)).isEqualTo(800L);
+        assertThat(bucketTotal(userId)).isEqualTo(itemRemainTotal(userId));
+
+        // when 2: 전체 재구축
+        long before = bucketTotal(userId);
+        pointExpiryBucketRecorder.rebuild();
+
+        // then 2
+        assertThat(bucketTotal(userId)).isEqualTo(before);
+    }
+
+    private void saveItem(Long userId, LocalDateTime expireAt, boolean manual) {
+        pointItemRepository.save(PointItem.builder()
+                .userId(userId).originalAmount(1000L).isManual(manual).expireAt(expireAt).build());
+    }
+
+    private void assertSummary(Long userId, long within7Days, long within30Days, long within90Days) {
+        PointExpiringSummaryResponse summary = pointSearchService.getExpiringSummary(userId);
+        assertThat(summary.getWithin7Days()).isEqualTo(within7Days);
+        assertThat(summary.getWithin30Days()).isEqualTo(within30Days);
+        assertThat(summary.getWithin90Days()).isEqualTo(within90Days);
+    }
+
+    private long bucketTotal(Long userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(amount), 0) FROM point_expiry_bucket WHERE user_id = ?", Long.class, userId);
+    }
+
+    private long itemRemainTotal(Long userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(remain_amount), 0) FROM point_item WHERE user_id = ?", Long.class, userId);
+    }
+}
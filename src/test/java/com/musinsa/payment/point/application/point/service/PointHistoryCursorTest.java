@@ -0,0 +1,137 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointHistoryResponse;
+import com.musinsa.payment.point.domain.point.repository.PointExpiryBucketRepository;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import com.musinsa.payment.point.global.common.CursorResponse;
+import com.musinsa.payment.point.global.error.BusinessException;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 이력 Keyset(커서) 조회 검증
+ */
+@SpringBootTest
+class PointHistoryCursorTest {
+
+    @Autowired private PointService pointService;
+    @Autowired private PointSearchService pointSearchService;
+    @Autowired private PointAdminSearchService pointAdminSearchService;
+
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+    @Autowired private PointExpiryBucketRepository pointExpiryBucketRepository;
+
+    @AfterEach
+    void tearDown() {
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+        pointExpiryBucketRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("TSID는 생성 시각의 minIdAt ~ maxIdAt 범위 안에 있다")
+    void tsid_is_within_time_bounds() {
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+        long id = TsidUtil.nextId();
+        LocalDateTime after = LocalDateTime.now().plusSeconds(1);
+
+        assertThat(id).isBetween(TsidUtil.minIdAt(before), TsidUtil.maxIdAt(after));
+        assertThat(TsidUtil.minIdAt(after)).isGreaterThan(id);
+    }
+
+    @Test
+    @DisplayName("nextCursor를 따라가면 모든 이력을 중복 없이 최신순으로 한 번씩 읽는다")
+    void cursor_walks_all_histories_without_duplicates() {
+        // given: 25건 적립 이력
+        Long userId = 9001L;
+        for (int i = 0; i < 25; i++) {
+            pointService.earn(userId, 100L, false, "EARN_C" + i);
+        }
+        LocalDate today = LocalDate.now();
+
+        // when: 10건씩 커서를 따라 조회
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorResponse<PointHistoryResponse> page = pointSearchService.getMyHistoriesByCursor(
+                    userId, today, today, null, null, null, null, cursor, 10);
+            page.getContent().forEach(history -> ids.add(history.getPointHistoryId()));
+            assertThat(page.getNextCursor() != null).isEqualTo(page.isHasNext());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // then
+        assertThat(pages).isEqualTo(3);
+        assertThat(ids).hasSize(25).doesNotHaveDuplicates();
+        assertThat(ids).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @Test
+    @DisplayName("afterId는 더 최근 이력을 읽고, 응답은 최신순으로 정렬된다")
+    void after_id_reads_newer_histories() {
+        // given
+        Long userId = 9002L;
+        for (int i = 0; i < 5; i++) {
+            pointService.earn(userId, 100L, false, "EARN_A" + i);
+        }
+        LocalDate today = LocalDate.now();
+        List<Long> all = pointSearchService.getMyHistoriesByCursor(
+                userId, today, today, null, null, null, null, null, 10).getContent().stream()
+                .map(PointHistoryResponse::getPointHistoryId).toList();
+        Long oldest = all.get(all.size() - 1);
+
+        // when: 가장 오래된 이력 이후 2건
+        CursorResponse<PointHistoryResponse> newer = pointAdminSearchService.getHistoriesByCursor(
+                today, today, userId, null, null, null, oldest, null, 2);
+
+        // then: 오래된 쪽부터 2건(all[3], all[2])을 최신순으로 응답
+        assertThat(newer.getContent()).extracting(PointHistoryResponse::getPointHistoryId)
+                .containsExactly(all.get(2), all.get(3));
+        assertThat(newer.isHasNext()).isTrue();
+
+        // when 2: 이어서 조회
+        CursorResponse<PointHistoryResponse> rest = pointAdminSearchService.getHistoriesByCursor(
+                today, today, userId, null, null, null, null, newer.getNextCursor(), 10);
+
+        // then 2
+        assertThat(rest.getContent()).extracting(PointHistoryResponse::getPointHistoryId)
+                .containsExactly(all.get(0), all.get(1));
+        assertThat(rest.isHasNext()).isFalse();
+        assertThat(rest.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서나 범위를 벗어난 limit은 거부된다")
+    void invalid_cursor_is_rejected() {
+        LocalDate today = LocalDate.now();
+
+        assertThatThrownBy(() -> pointSearchService.getMyHistoriesByCursor(
+                9003L, today, today, null, null, null, null, "not-a-cursor", 10))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> pointSearchService.getMyHistoriesByCursor(
+                9003L, today, today, null, null, null, null, null, 1001))
+                .isInstanceOf(BusinessException.class);
+    }
+}
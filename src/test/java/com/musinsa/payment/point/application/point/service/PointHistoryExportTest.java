@@ -0,0 +1,111 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.repository.PointExpiryBucketRepository;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import com.musinsa.payment.point.global.error.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 관리자 이력 내보내기 검증
+ */
+@SpringBootTest(properties = "musinsa.point.history-export.chunk-rows=3") // 청크 경계(Flush/Clear)를 여러 번 지나도록
+class PointHistoryExportTest {
+
+    @Autowired private PointService pointService;
+    @Autowired private PointHistoryExportService pointHistoryExportService;
+
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+    @Autowired private PointExpiryBucketRepository pointExpiryBucketRepository;
+
+    @AfterEach
+    void tearDown() {
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+        pointExpiryBucketRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기는 조건에 맞는 이력을 ID 오름차순으로 한 줄씩 모두 기록한다")
+    void export_ndjson() throws Exception {
+        // given: 적립 10건 + 사용 1건
+        Long userId = 9101L;
+        for (int i = 0; i < 10; i++) {
+            pointService.earn(userId, 100L, false, "EARN_X" + i);
+        }
+        pointService.use(userId, 300L, "ORDER_X");
+        LocalDate today = LocalDate.now();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = pointHistoryExportService.export(today, today, userId, null, null,
+                PointHistoryExportService.Format.NDJSON, out);
+
+        // then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(rows).isEqualTo(11);
+        assertThat(lines).hasSize(11);
+        assertThat(lines.get(0)).startsWith("{\"pointHistoryId\":")
+                .contains("\"userId\":9101", "\"type\":\"EARN\"", "\"refId\":\"EARN_X0\"");
+        assertThat(lines.get(10)).contains("\"type\":\"USE\"", "\"amount\":300");
+
+        // when 2: 타입 필터
+        ByteArrayOutputStream useOnly = new ByteArrayOutputStream();
+        pointHistoryExportService.export(today, today, userId, null, PointType.USE,
+                PointHistoryExportService.Format.NDJSON, useOnly);
+
+        // then 2
+        assertThat(useOnly.toString(StandardCharsets.UTF_8).lines()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기는 헤더를 쓰고, 쉼표/따옴표가 있는 값을 따옴표로 감싼다")
+    void export_csv_escapes_fields() throws Exception {
+        // given
+        Long userId = 9102L;
+        pointService.earn(userId, 100L, false, "EARN,\"Q\"");
+        LocalDate today = LocalDate.now();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        pointHistoryExportService.export(today, today, userId, null, null, PointHistoryExportService.Format.CSV, out);
+
+        // then
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).isEqualTo("pointHistoryId,userId,type,amount,refId,createAt");
+        assertThat(lines.get(1)).contains(",9102,EARN,100,\"EARN,\"\"Q\"\"\",");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이나 잘못된 기간은 스트리밍 전에 거부된다")
+    void invalid_request_is_rejected() {
+        LocalDate today = LocalDate.now();
+
+        assertThat(PointHistoryExportService.Format.from(null)).isEqualTo(PointHistoryExportService.Format.NDJSON);
+        assertThat(PointHistoryExportService.Format.from("CSV")).isEqualTo(PointHistoryExportService.Format.CSV);
+        assertThatThrownBy(() -> PointHistoryExportService.Format.from("xlsx")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> pointHistoryExportService.validate(today, today.minusDays(1)))
+                .isInstanceOf(BusinessException.class);
+    }
+}
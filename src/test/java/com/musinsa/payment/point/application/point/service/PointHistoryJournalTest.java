@@ -0,0 +1,125 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointCommandResponse;
+import com.musinsa.payment.point.domain.point.entity.PointHistory;
+import com.musinsa.payment.point.domain.point.entity.PointHistoryJournalEntry;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryJournalRepository;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이력 Write-behind 저널 검증
+ * - Applier 스케줄러가 테스트 도중 끼어들지 않도록 실행 주기를 길게 설정하고, applyBatch()를 직접 호출함.
+ */
+@SpringBootTest(properties = {
+        "musinsa.point.history-journal.enabled=true",
+        "musinsa.point.history-journal.apply-interval-ms=3600000"
+})
+class PointHistoryJournalTest {
+
+    @Autowired private PointService pointService;
+    @Autowired private PointHistoryJournal pointHistoryJournal;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private PointHistoryJournalRepository pointHistoryJournalRepository;
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryJournalRepository.deleteAll();
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("저널 모드의 적립/사용 이력은 Applier가 반영하며, 같은 저널을 다시 반영해도 이력이 중복되지 않는다")
+    void journaled_history_is_applied_exactly_once() {
+        // given
+        Long userId = 8301L;
+        pointService.earn(userId, 1000L, false, "EARN_J");
+        PointCommandResponse used = pointService.use(userId, 300L, "ORDER_J");
+
+        // then 1: 지갑은 즉시 반영, 이력은 저널에만 존재
+        assertThat(userPointWalletRepository.readByUserId(userId).orElseThrow().getBalance()).isEqualTo(700L);
+        assertThat(pointHistoryRepository.existsByUserIdAndRefIdAndType(userId, "ORDER_J", PointType.USE)).isFalse();
+        List<PointHistoryJournalEntry> journaled = journalOf(userId);
+        assertThat(journaled).hasSize(2);
+
+        // when 1: Applier 실행
+        drain();
+
+        // then 2: 응답의 historyId 그대로 이력 + 상세가 생성되고 저널은 비워짐
+        PointHistory useHistory = pointHistoryRepository.findById(used.getHistoryId()).orElseThrow();
+        assertThat(useHistory.getType()).isEqualTo(PointType.USE);
+        assertThat(useHistory.getAmount()).isEqualTo(300L);
+        assertThat(journalOf(userId)).isEmpty();
+        assertThat(historyCount(userId)).isEqualTo(2L);
+        assertThat(detailCount(userId)).isEqualTo(2L);
+
+        // when 2: 반영 직후 저널 삭제 전에 장애가 난 상황을 재현 (같은 저널이 다시 남아 있음)
+        pointHistoryJournalRepository.saveAll(journaled);
+        drain();
+
+        // then 3: 재반영되어도 이력/상세는 그대로
+        assertThat(journalOf(userId)).isEmpty();
+        assertThat(historyCount(userId)).isEqualTo(2L);
+        assertThat(detailCount(userId)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("사용 취소는 아직 반영되지 않은 원본 사용 이력을 먼저 반영한 뒤 처리된다")
+    void cancelUse_applies_pending_history_first() {
+        // given
+        Long userId = 8302L;
+        pointService.earn(userId, 1000L, false, "EARN_J");
+        pointService.use(userId, 600L, "ORDER_J");
+
+        // when: Applier 실행 없이 바로 취소
+        pointService.cancelUse(userId, "ORDER_J", 600L);
+
+        // then
+        assertThat(userPointWalletRepository.readByUserId(userId).orElseThrow().getBalance()).isEqualTo(1000L);
+        assertThat(journalOf(userId)).isEmpty();
+        assertThat(pointHistoryRepository.existsByUserIdAndRefIdAndType(userId, "ORDER_J", PointType.USE_CANCEL)).isTrue();
+    }
+
+    private void drain() {
+        while (pointHistoryJournal.applyBatch() > 0) {
+            // 저널이 빌 때까지 반복
+        }
+    }
+
+    private List<PointHistoryJournalEntry> journalOf(Long userId) {
+        return pointHistoryJournalRepository.findAll().stream()
+                .filter(entry -> entry.getUserId().equals(userId))
+                .toList();
+    }
+
+    private long historyCount(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_history WHERE user_id = ?", Long.class, userId);
+    }
+
+    private long detailCount(Long userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_history_detail d JOIN point_history h ON d.point_history_id = h.point_history_id WHERE h.user_id = ?",
+                Long.class, userId);
+    }
+}
@@ -0,0 +1,145 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointHoldResponse;
+import com.musinsa.payment.point.domain.point.entity.PointHold;
+import com.musinsa.payment.point.domain.point.entity.PointItem;
+import com.musinsa.payment.point.domain.point.enums.PointHoldStatus;
+import com.musinsa.payment.point.domain.point.enums.PointStatus;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointHoldRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import com.musinsa.payment.point.global.error.BusinessException;
+import com.musinsa.payment.point.global.error.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 결제 2단계 홀드 (hold -> capture / release) 검증
+ * - 스케줄러가 테스트 도중 끼어들지 않도록 해제 주기를 길게 설정하고, releaseExpiredHolds()를 직접 호출함.
+ */
+@SpringBootTest(properties = "musinsa.point.hold.sweep-interval-ms=3600000")
+class PointHoldTest {
+
+    @Autowired private PointService pointService;
+
+    @Autowired private PointHoldRepository pointHoldRepository;
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+
+    @AfterEach
+    void tearDown() {
+        pointHoldRepository.deleteAll();
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("홀드는 잔액을 선차감하고, 확정하면 USE 이력이 생성되어 일반 사용과 동일하게 취소할 수 있다")
+    void hold_then_capture_then_cancelUse() {
+        // given
+        Long userId = 8601L;
+        pointService.earn(userId, 1000L, false, "EARN_H1");
+
+        // when 1: 홀드
+        PointHoldResponse held = pointService.hold(userId, 400L, "ORDER_H1");
+
+        // then 1: 잔액은 선차감, 이력은 아직 없음
+        assertThat(held.getStatus()).isEqualTo(PointHoldStatus.HELD);
+        assertThat(held.getBalance()).isEqualTo(600L);
+        assertThat(pointHistoryRepository.existsByUserIdAndRefIdAndType(userId, "ORDER_H1", PointType.USE)).isFalse();
+
+        // 재시도는 기존 홀드를 재응답
+        assertThat(pointService.hold(userId, 400L, "ORDER_H1").isReplayed()).isTrue();
+
+        // when 2: 확정
+        PointHoldResponse captured = pointService.capture(userId, "ORDER_H1");
+
+        // then 2: 잔액 변동 없이 USE 이력 생성
+        assertThat(captured.getStatus()).isEqualTo(PointHoldStatus.CAPTURED);
+        assertThat(captured.getHistoryId()).isNotNull();
+        assertThat(userPointWalletRepository.readByUserId(userId).orElseThrow().getBalance()).isEqualTo(600L);
+        assertThat(pointHistoryRepository.existsByUserIdAndRefIdAndType(userId, "ORDER_H1", PointType.USE)).isTrue();
+        assertThat(pointService.capture(userId, "ORDER_H1").isReplayed()).isTrue();
+
+        // when 3: 확정된 주문의 사용 취소
+        pointService.cancelUse(userId, "ORDER_H1", 400L);
+
+        // then 3
+        assertThat(userPointWalletRepository.readByUserId(userId).orElseThrow().getBalance()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("해제는 선차감한 금액을 원래 Item과 지갑으로 되돌리며 취소 이력을 남기지 않는다")
+    void release_restores_items_and_wallet() {
+        // given
+        Long userId = 8602L;
+        pointService.earn(userId, 500L, false, "EARN_H2");
+        pointService.hold(userId, 500L, "ORDER_H2");
+        assertThat(itemsOf(userId)).allSatisfy(item -> assertThat(item.getStatus()).isEqualTo(PointStatus.EXHAUSTED));
+
+        // when
+        PointHoldResponse released = pointService.release(userId, "ORDER_H2");
+
+        // then
+        assertThat(released.getStatus()).isEqualTo(PointHoldStatus.RELEASED);
+        assertThat(userPointWalletRepository.readByUserId(userId).orElseThrow().getBalance()).isEqualTo(500L);
+        assertThat(itemsOf(userId)).allSatisfy(item -> {
+            assertThat(item.getStatus()).isEqualTo(PointStatus.AVAILABLE);
+            assertThat(item.getRemainAmount()).isEqualTo(500L);
+        });
+        assertThat(pointHistoryRepository.existsByUserIdAndRefIdAndType(userId, "ORDER_H2", PointType.USE_CANCEL)).isFalse();
+
+        // 해제된 홀드는 확정할 수 없음
+        assertThatThrownBy(() -> pointService.capture(userId, "ORDER_H2"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("확정 기한이 지난 홀드는 확정할 수 없고, 일괄 해제 시 잔액이 복구된다")
+    void expired_hold_is_swept() {
+        // given
+        Long userId = 8603L;
+        pointService.earn(userId, 1000L, false, "EARN_H3");
+        pointService.hold(userId, 300L, "ORDER_H3");
+
+        PointHold hold = pointHoldRepository.findByUserIdAndRefId(userId, "ORDER_H3").orElseThrow();
+        hold.setExpired();
+        pointHoldRepository.save(hold);
+
+        // when 1: 기한이 지난 확정 요청
+        assertThatThrownBy(() -> pointService.capture(userId, "ORDER_H3"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.HOLD_EXPIRED);
+
+        // when 2: 일괄 해제
+        int released = pointService.releaseExpiredHolds(100);
+
+        // then
+        assertThat(released).isGreaterThanOrEqualTo(1);
+        assertThat(pointHoldRepository.findByUserIdAndRefId(userId, "ORDER_H3").orElseThrow().getStatus())
+                .isEqualTo(PointHoldStatus.RELEASED);
+        assertThat(userPointWalletRepository.readByUserId(userId).orElseThrow().getBalance()).isEqualTo(1000L);
+        assertThat(itemsOf(userId)).allSatisfy(item -> assertThat(item.getRemainAmount()).isEqualTo(1000L));
+    }
+
+    private List<PointItem> itemsOf(Long userId) {
+        return pointItemRepository.findAll().stream()
+                .filter(item -> item.getUserId().equals(userId))
+                .toList();
+    }
+}
@@ -0,0 +1,122 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.api.point.dto.PointBulkEarnRequest.Entry;
+import com.musinsa.payment.point.api.point.dto.PointLiabilitySnapshotResponse;
+import com.musinsa.payment.point.domain.point.enums.PointStatus;
+import com.musinsa.payment.point.domain.point.repository.PointExpiryBucketRepository;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 시스템 전체 잔여 포인트 카운터 검증
+ * - 카운터는 커밋 직전에 반영되므로, 테스트 메서드에 @Transactional을 붙이지 않음.
+ * - 다른 테스트의 Item도 카운터에 포함되므로, 카운터는 실행 전후 차이를 대상 유저의 원본 잔액 합계와 비교하여 검증함.
+ */
+@SpringBootTest
+class PointLiabilityTest {
+
+    // 다른 데이터와 겹치지 않는 스냅샷 일자
+    private static final LocalDate SNAPSHOT_DAY = LocalDate.of(2021, 4, 20);
+
+    @Autowired private PointService pointService;
+    @Autowired private PointBulkEarnService pointBulkEarnService;
+    @Autowired private PointAdminSearchService pointAdminSearchService;
+    @Autowired private PointLiabilityService pointLiabilityService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+    @Autowired private PointExpiryBucketRepository pointExpiryBucketRepository;
+
+    @AfterEach
+    void tearDown() {
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+        pointExpiryBucketRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM point_liability_snapshot WHERE snapshot_at >= ? AND snapshot_at < ?",
+                Timestamp.valueOf(SNAPSHOT_DAY.atStartOfDay()), Timestamp.valueOf(SNAPSHOT_DAY.plusDays(1).atStartOfDay()));
+    }
+
+    @Test
+    @DisplayName("적립/사용/사용취소/적립취소/일괄 적립은 같은 트랜잭션에서 카운터에 반영되고, 롤백된 명령은 반영되지 않는다")
+    void counter_follows_item_changes() {
+        // given
+        Long userId = 9301L;
+        long before = pointAdminSearchService.getTotalRemain();
+
+        // when
+        pointService.earn(userId, 1000L, false, "EARN_L1");
+        pointService.earn(userId, 500L, true, "EARN_L2");
+        pointService.use(userId, 700L, "ORDER_L");
+        pointService.cancelUse(userId, "ORDER_L", 200L);
+        assertThatThrownBy(() -> pointService.use(userId, 5000L, "ORDER_FAIL")); // 잔액 부족 -> 롤백
+        pointBulkEarnService.earnAll(List.of(new Entry(9302L, 300L, "BULK_L1"), new Entry(9303L, 400L, "BULK_L2")));
+        Long canceledItemId = pointService.earn(userId, 50L, false, "EARN_L3").getPointItemId();
+        pointService.cancelEarn(userId, canceledItemId, false);
+
+        // then: 1500 - 700 + 200 + 700(일괄) = 1700
+        assertThat(pointAdminSearchService.getTotalRemain() - before).isEqualTo(1700L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(remain_amount), 0) FROM point_item WHERE user_id IN (?, ?, ?) AND status = ?",
+                Long.class, userId, 9302L, 9303L, PointStatus.AVAILABLE.name())).isEqualTo(1700L);
+    }
+
+    @Test
+    @DisplayName("재집계는 어긋난 카운터를 AVAILABLE 잔액 합계로 보정하고, 일치하면 변경하지 않는다")
+    void reconcile_fixes_drift() {
+        // given: 적립 후 카운터를 임의로 어긋나게 함
+        pointService.earn(9304L, 1000L, false, "EARN_L4");
+        jdbcTemplate.update("INSERT INTO point_liability_counter (stripe, amount) VALUES (3, 12345) " +
+                "ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount)");
+
+        // when
+        long drift = pointLiabilityService.reconcile();
+
+        // then
+        assertThat(drift).isEqualTo(12345L);
+        assertThat(pointAdminSearchService.getTotalRemain())
+                .isEqualTo(pointItemRepository.sumTotalRemainAmountByStatus(PointStatus.AVAILABLE));
+        assertThat(pointLiabilityService.reconcile()).isZero();
+    }
+
+    @Test
+    @DisplayName("스냅샷은 정시 단위로 한 건만 기록되고, 기간으로 조회된다")
+    void hourly_snapshot() {
+        // given
+        long total = pointAdminSearchService.getTotalRemain();
+
+        // when: 같은 시각대에 두 번 기록 (두 번째는 무시됨)
+        boolean first = pointLiabilityService.takeSnapshot(SNAPSHOT_DAY.atTime(9, 0, 5));
+        boolean second = pointLiabilityService.takeSnapshot(SNAPSHOT_DAY.atTime(9, 30));
+        pointLiabilityService.takeSnapshot(SNAPSHOT_DAY.atTime(10, 0));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        List<PointLiabilitySnapshotResponse> snapshots = pointAdminSearchService.getRemainSnapshots(SNAPSHOT_DAY, SNAPSHOT_DAY);
+        assertThat(snapshots).extracting(PointLiabilitySnapshotResponse::getSnapshotAt)
+                .containsExactly(SNAPSHOT_DAY.atTime(9, 0), SNAPSHOT_DAY.atTime(10, 0));
+        assertThat(snapshots).extracting(PointLiabilitySnapshotResponse::getTotalRemain).containsOnly(total);
+        assertThatThrownBy(() -> pointAdminSearchService.getRemainSnapshots(SNAPSHOT_DAY, SNAPSHOT_DAY.plusYears(2)));
+    }
+}
@@ -1,10 +1,15 @@
 package com.musinsa.payment.point.application.point.service;
 
+import com.musinsa.payment.point.domain.point.entity.PointHistory;
+import com.musinsa.payment.point.domain.point.entity.PointHistoryDetail;
 import com.musinsa.payment.point.domain.point.entity.PointItem;
 import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
 import com.musinsa.payment.point.domain.point.enums.PointStatus;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
 import com.musinsa.payment.point.domain.point.repository.PointItemRepository; // [변경]
 import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository; // [변경]
+import com.musinsa.payment.point.global.error.BusinessException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @Transactional
@@ -22,6 +28,7 @@ class PointScenarioTest {
 
     @Autowired private PointItemRepository pointItemRepository; // [변경] Ledger -> Item
     @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
     @Autowired
     private PointService pointService;
 
@@ -160,4 +167,43 @@ class PointScenarioTest {
         UserPointWallet userWallet = userPointWalletRepository.findById(userId).orElseThrow();
         assertThat(userWallet.getBalance()).isEqualTo(1000L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 번 부분 취소해도 누적 환불 금액 기준으로 남은 금액만 환불되고, 한도를 넘는 취소는 거부된다")
+    void repeated_partial_cancel_tracks_refunded_amount() {
+        // given: 1000원 아이템 3개(만료일 순 A -> B -> C)로 3000원 사용
+        Long userId = 99993L;
+        String orderId = "ORD-MULTI-CANCEL";
+        LocalDateTime now = LocalDateTime.now();
+
+        userPointWalletRepository.save(new UserPointWallet(userId, 3000L));
+        for (int i = 1; i <= 3; i++) {
+            pointItemRepository.save(PointItem.builder()
+                    .userId(userId).originalAmount(1000L).isManual(false)
+                    .expireAt(now.plusDays(10L * i)).build());
+        }
+        pointService.use(userId, 3000L, orderId);
+
+        // when: 700원씩 4번 부분 취소 (누적 2800원)
+        for (int i = 0; i < 4; i++) {
+            pointService.cancelUse(userId, orderId, 700L);
+        }
+
+        // then
+        // 1. 원본 USE 이력과 Detail에 누적 환불 금액이 기록되어야 함
+        PointHistory original = pointHistoryRepository.findByUserIdAndRefIdAndTypeWithDetails(userId, orderId, PointType.USE).orElseThrow();
+        assertThat(original.getRefundedAmount()).isEqualTo(2800L);
+        assertThat(original.getDetails()).extracting(PointHistoryDetail::getRefundedAmount).containsExactlyInAnyOrder(1000L, 1000L, 800L);
+
+        // 2. 지갑/원장 잔액: 2800원 복구
+        assertThat(userPointWalletRepository.findById(userId).orElseThrow().getBalance()).isEqualTo(2800L);
+
+        // 3. 남은 200원을 넘는 취소는 거부되어야 함
+        assertThatThrownBy(() -> pointService.cancelUse(userId, orderId, 201L))
+                .isInstanceOf(BusinessException.class);
+
+        // 4. 남은 200원 취소 후 전액 복구
+        pointService.cancelUse(userId, orderId, 200L);
+        assertThat(userPointWalletRepository.findById(userId).orElseThrow().getBalance()).isEqualTo(3000L);
+    }
+}
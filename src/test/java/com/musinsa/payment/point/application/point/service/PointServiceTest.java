@@ -3,6 +3,8 @@ package com.musinsa.payment.point.application.point.service;
 import com.musinsa.payment.point.domain.point.entity.*;
 import com.musinsa.payment.point.domain.point.enums.PointType;
 import com.musinsa.payment.point.domain.point.repository.*;
+import com.musinsa.payment.point.global.concurrency.StripedWalletRouter;
+import com.musinsa.payment.point.global.concurrency.WalletConcurrencyStrategy;
 import com.musinsa.payment.point.global.policy.PointPolicyManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,8 +30,19 @@ class PointServiceTest {
     // [변경] PointUsageRepository 삭제됨
     @Mock private UserPointWalletRepository userPointWalletRepository;
     @Mock private PointHistoryRepository pointHistoryRepository;
+    @Mock private PointHistoryArchiveRepository pointHistoryArchiveRepository;
+    @Mock private PointJdbcRepository pointJdbcRepository;
     @Mock private PointItemRepository pointItemRepository;
     @Mock private PointPolicyManager policyManager;
+    @Mock private WalletConcurrencyStrategy walletConcurrencyStrategy;
+    @Mock private PointIdempotencyKeyStore pointIdempotencyKeyStore;
+    @Mock private PointDeductionQueueCache pointDeductionQueueCache;
+    @Mock private PointBalanceCache pointBalanceCache;
+    @Mock private PointHistoryJournal pointHistoryJournal;
+    @Mock private PointHoldRepository pointHoldRepository;
+    @Mock private StripedWalletRouter stripedWalletRouter;
+    @Mock private StripedWalletService stripedWalletService;
+    @Mock private PointRefundBackfillGate pointRefundBackfillGate;
 
     @Test
     @DisplayName("부분 취소 시 기 취소된 금액은 건너뛰고(Skip) 남은 금액만 환불되어야 한다")
@@ -42,6 +55,7 @@ class PointServiceTest {
 
         // 1. Mock Wallet (비관적 락 조회 가정)
         UserPointWallet userPointWallet = new UserPointWallet(userId, 0L);
+        given(walletConcurrencyStrategy.usePessimisticLock()).willReturn(true);
         given(userPointWalletRepository.findByUserIdForUpdate(userId))
                 .willReturn(Optional.of(userPointWallet));
 
@@ -67,19 +81,22 @@ class PointServiceTest {
         // 4. 상세 내역 연결 (Detail) - 순서가 중요! (Skip 로직 테스트)
         // 가정: Repository에서 조회 시 [C, B, A] 순서로 담겨있다고 가정
         // (보통 insert 순서나 정렬 조건에 따라 다르지만, 여기서는 리스트 순서대로 로직이 동작함)
-        originalHistory.addDetail(PointHistoryDetail.builder().pointItem(itemC).amount(1000L).build());
-        originalHistory.addDetail(PointHistoryDetail.builder().pointItem(itemB).amount(1000L).build());
-        originalHistory.addDetail(PointHistoryDetail.builder().pointItem(itemA).amount(1000L).build());
+        PointHistoryDetail detailC = PointHistoryDetail.builder().pointItem(itemC).amount(1000L).build();
+        PointHistoryDetail detailB = PointHistoryDetail.builder().pointItem(itemB).amount(1000L).build();
+        PointHistoryDetail detailA = PointHistoryDetail.builder().pointItem(itemA).amount(1000L).build();
+        originalHistory.addDetail(detailC);
+        originalHistory.addDetail(detailB);
+        originalHistory.addDetail(detailA);
 
         // [변경] findByRefIdAndTypeWithDetails 호출 시 위에서 만든 history 리턴
         given(pointHistoryRepository.findByUserIdAndRefIdAndTypeWithDetails(userId, orderId, PointType.USE))
                 .willReturn(Optional.of(originalHistory));
 
         // 5. [핵심] 이미 1500원이 취소된 상태 (기 취소액)
-        // -> C(1000) 전액과 B(500) 만큼이 이미 취소되었다고 가정
-        // [수정] 모든 인자를 Matcher 형태로 통일해야 함 (eq 사용)
-        given(pointHistoryRepository.getSumAmountByUserIdAndRefIdAndTypes(userId, eq(orderId), anyList()))
-                .willReturn(1500L);
+        // -> C(1000) 전액과 B(500) 만큼이 이미 취소되었다고 가정 (History/Detail의 누적 환불 금액으로 기록됨)
+        originalHistory.refund(1500L);
+        detailC.refund(1000L);
+        detailB.refund(500L);
 
         // Policy Mock
         given(policyManager.getMaxPossessionLimit()).willReturn(100000L);
@@ -115,6 +132,14 @@ class PointServiceTest {
 
         // Wallet 잔액 검증: 0원에서 1500원 증가해야 함
         assertThat(userPointWallet.getBalance()).isEqualTo(1500L);
+
+        // 누적 환불 금액 갱신 검증: 전액 환불되어 더 이상 취소할 수 없음
+        assertThat(originalHistory.getRefundableAmount()).isZero();
+        assertThat(detailB.getRefundableAmount()).isZero();
+        assertThat(detailA.getRefundableAmount()).isZero();
+
+        // 이전 취소 이력 합산 쿼리는 더 이상 사용하지 않음
+        verify(pointHistoryRepository, never()).getSumAmountByUserIdAndRefIdAndTypes(anyLong(), anyString(), anyList());
     }
 
     // Helper Method
@@ -0,0 +1,142 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.domain.point.entity.PointItem;
+import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
+import com.musinsa.payment.point.domain.point.enums.PointStatus;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.ItemRow;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 원장(10,000건) 보유 유저의 사용(use) 지연 시간 비교
+ * - 기본 설정(차감 큐 캐시 사용) 그대로 측정함. 차감 큐는 우선순위 상위 page-size건만 읽고, 모자랄 때만 이어 읽음.
+ * - 비교 대상(before): 기존 방식처럼 AVAILABLE 아이템 전체를 엔티티로 조회한 뒤 순회하는 비용.
+ * - 지연 시간은 환경에 따라 달라지므로 출력만 하고, 검증은 차감 결과의 정합성과 캐시된 큐의 크기만 수행함.
+ */
+@SpringBootTest
+class PointUseLargeLedgerTest {
+
+    private static final Long USER_ID = 8101L;
+    private static final int ITEM_COUNT = 10_000;
+    private static final long ITEM_AMOUNT = 100L;
+    private static final int ROUNDS = 20;
+    private static final long USE_AMOUNT = 250L; // 한 번의 사용에 아이템 3개 소진
+    private static final long LARGE_USE_AMOUNT = 20_000L; // 캐시된 부분 큐보다 많은 아이템(200개)이 필요한 사용
+
+    @Autowired private PointService pointService;
+    @Autowired private PointDeductionQueueCache pointDeductionQueueCache;
+    @Autowired private PointJdbcRepository pointJdbcRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private PointLiabilityService pointLiabilityService;
+
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+
+    @AfterEach
+    void tearDown() {
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+        // JDBC로 넣은 Item은 Entity Listener를 거치지 않았지만 JPA 삭제는 카운터에서 차감되므로, 다른 테스트를 위해 카운터를 원본 합계로 보정
+        pointLiabilityService.reconcile();
+        pointDeductionQueueCache.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("아이템 10,000건 보유 유저도 사용 시 필요한 만큼만 조회하여 차감하고, 우선순위 순서를 지킨다")
+    void use_with_10k_items() {
+        // given: 만료일이 1분씩 늦어지는 10,000건 (앞쪽 아이템부터 차감되어야 함)
+        LocalDateTime base = LocalDateTime.now().plusDays(30);
+        List<ItemRow> rows = new ArrayList<>(ITEM_COUNT);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            rows.add(new ItemRow(TsidUtil.nextId(), USER_ID, ITEM_AMOUNT, base.plusMinutes(i), false));
+        }
+        pointJdbcRepository.batchInsertItems(rows);
+        userPointWalletRepository.save(new UserPointWallet(USER_ID, ITEM_COUNT * ITEM_AMOUNT));
+
+        // warm-up (JIT, 커넥션 풀, 쿼리 플랜)
+        legacyFullScan();
+        pointService.use(USER_ID, USE_AMOUNT, "WARMUP");
+
+        // when 1 (before): 기존 방식 - 전체 아이템 엔티티 조회 후 순회
+        long legacyNanos = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            legacyFullScan();
+            legacyNanos += System.nanoTime() - start;
+        }
+
+        // when 2 (after): 차감 큐 (상위 페이지만 적재 + 커밋 후 캐시 갱신)
+        long pagedNanos = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            pointService.use(USER_ID, USE_AMOUNT, "ORDER_" + i);
+            pagedNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("[10k items] legacy full fetch avg=%.2fms, queued use() avg=%.2fms%n",
+                legacyNanos / 1_000_000.0 / ROUNDS, pagedNanos / 1_000_000.0 / ROUNDS);
+
+        // when 3: 부분 큐에 남은 아이템으로 모자라는 금액 -> 경계 이후를 페이지 단위로 이어 읽어 차감
+        pointService.use(USER_ID, LARGE_USE_AMOUNT, "ORDER_LARGE");
+
+        // then
+        // 1. 잔액: 전체 - (warm-up 포함 21회 * 250 + 20,000)
+        long used = (ROUNDS + 1) * USE_AMOUNT + LARGE_USE_AMOUNT;
+        assertThat(userPointWalletRepository.readByUserId(USER_ID).orElseThrow().getBalance())
+                .isEqualTo(ITEM_COUNT * ITEM_AMOUNT - used);
+
+        // 2. 만료 임박 순으로 정확히 앞쪽 아이템들만 소진되었는지 확인
+        List<PointItem> ordered = pointItemRepository.findByUserId(USER_ID).stream()
+                .sorted((a, b) -> a.getExpireAt().compareTo(b.getExpireAt()))
+                .toList();
+        int exhausted = (int) (used / ITEM_AMOUNT);
+        for (int i = 0; i < exhausted; i++) {
+            assertThat(ordered.get(i).getStatus()).isEqualTo(PointStatus.EXHAUSTED);
+        }
+        assertThat(ordered.get(exhausted).getRemainAmount()).isEqualTo(ITEM_AMOUNT - used % ITEM_AMOUNT);
+        assertThat(ordered.get(exhausted + 1).getRemainAmount()).isEqualTo(ITEM_AMOUNT);
+
+        // 3. 캐시된 차감 큐는 전체 10,000건이 아닌 상위 일부(기본 max-items 500건 이하)만 보관
+        PointDeductionQueue queue = pointDeductionQueueCache.getIfValid(userPointWalletRepository.readByUserId(USER_ID).orElseThrow());
+        assertThat(queue).isNotNull();
+        assertThat(queue.isComplete()).isFalse();
+        assertThat(queue.size()).isLessThanOrEqualTo(500);
+    }
+
+    /**
+     * 기존 use() 차감 루프의 조회 비용 재현 (전체 로드 후 필요한 만큼만 순회)
+     */
+    private void legacyFullScan() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<PointItem> items = pointItemRepository.findByUserIdAndStatusAndExpireAtAfterOrderByIsManualDescExpireAtAsc(
+                    USER_ID, PointStatus.AVAILABLE, LocalDateTime.now());
+            long remainToUse = USE_AMOUNT;
+            for (PointItem item : items) {
+                if (remainToUse <= 0) break;
+                if (item.isExpired()) continue;
+                remainToUse -= Math.min(item.getRemainAmount(), remainToUse);
+            }
+            status.setRollbackOnly();
+        });
+    }
+}
@@ -0,0 +1,133 @@
+package com.musinsa.payment.point.application.point.service;
+
+import com.musinsa.payment.point.domain.point.entity.UserPointWallet;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryRepository;
+import com.musinsa.payment.point.domain.point.repository.PointIdempotencyKeyRepository;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository;
+import com.musinsa.payment.point.domain.point.repository.PointJdbcRepository.ItemRow;
+import com.musinsa.payment.point.domain.point.repository.UserPointWalletRepository;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쓰기 경로 JDBC Batch 검증 (DB 왕복 횟수)
+ * - P6Spy 이벤트로 execute/executeQuery/executeUpdate/executeBatch 호출 수를 셈. (addBatch는 왕복이 아니므로 제외)
+ * - 스케줄러 등 다른 스레드의 쿼리가 섞이지 않도록 측정 중인 스레드의 쿼리만 셈.
+ */
+@SpringBootTest
+class PointWriteBatchingTest {
+
+    private static final int ITEM_COUNT = 20;
+    private static final long ITEM_AMOUNT = 100L;
+
+    // Item 20개를 건별로 쓰면 UPDATE 20 + Detail INSERT 20 = 40회 이상이 되어야 함
+    private static final int MAX_ROUND_TRIPS = 15;
+
+    @Autowired private PointService pointService;
+    @Autowired private PointJdbcRepository pointJdbcRepository;
+    @Autowired private StatementCounter statementCounter;
+    @Autowired private PointLiabilityService pointLiabilityService;
+    @Autowired private PointExpiryBucketRecorder pointExpiryBucketRecorder;
+
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+
+    @AfterEach
+    void tearDown() {
+        statementCounter.stop();
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+        // JDBC로 넣은 Item은 Entity Listener를 거치지 않았지만 이후 사용/취소/JPA 삭제는 집계에 반영되므로, 다른 테스트를 위해 카운터와 만료 버킷을 원본 기준으로 보정
+        pointLiabilityService.reconcile();
+        pointExpiryBucketRecorder.rebuild();
+    }
+
+    @Test
+    @DisplayName("Item 20개를 차감하는 사용과 그 전액 취소는 건별 쿼리 없이 몇 번의 DB 왕복으로 처리된다")
+    void use_and_cancelUse_are_batched() {
+        // given: 100원짜리 Item 20개 (2000원)
+        Long userId = 8201L;
+        LocalDateTime base = LocalDateTime.now().plusDays(30);
+        List<ItemRow> rows = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            rows.add(new ItemRow(TsidUtil.nextId(), userId, ITEM_AMOUNT, base.plusMinutes(i), false));
+        }
+        pointJdbcRepository.batchInsertItems(rows);
+        userPointWalletRepository.save(new UserPointWallet(userId, ITEM_COUNT * ITEM_AMOUNT));
+
+        // when 1: 전체 Item을 소진하는 사용
+        statementCounter.start();
+        pointService.use(userId, ITEM_COUNT * ITEM_AMOUNT, "ORDER_BATCH");
+        int useRoundTrips = statementCounter.stop();
+
+        // when 2: 전액 취소 (Item 20개 복구 + Detail 20건 기록)
+        statementCounter.start();
+        pointService.cancelUse(userId, "ORDER_BATCH", ITEM_COUNT * ITEM_AMOUNT);
+        int cancelRoundTrips = statementCounter.stop();
+
+        System.out.printf("[%d items] use() round trips=%d, cancelUse() round trips=%d%n",
+                ITEM_COUNT, useRoundTrips, cancelRoundTrips);
+
+        // then
+        assertThat(useRoundTrips).isLessThanOrEqualTo(MAX_ROUND_TRIPS);
+        assertThat(cancelRoundTrips).isLessThanOrEqualTo(MAX_ROUND_TRIPS);
+        assertThat(userPointWalletRepository.readByUserId(userId).orElseThrow().getBalance())
+                .isEqualTo(ITEM_COUNT * ITEM_AMOUNT);
+    }
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+
+        @Bean
+        StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+    }
+
+    /**
+     * 측정 중인 스레드의 JDBC 실행 횟수 카운터 (P6Spy가 JdbcEventListener 빈을 자동 등록함)
+     */
+    static class StatementCounter extends JdbcEventListener {
+
+        private volatile Thread target;
+        private final AtomicInteger count = new AtomicInteger();
+
+        void start() {
+            count.set(0);
+            target = Thread.currentThread();
+        }
+
+        int stop() {
+            target = null;
+            return count.get();
+        }
+
+        @Override
+        public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+            if (Thread.currentThread() == target) {
+                count.incrementAndGet();
+            }
+        }
+    }
+}
@@ -12,10 +12,12 @@ import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.test.JobLauncherTestUtils;
 import org.springframework.batch.test.context.SpringBatchTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -35,6 +37,7 @@ class PointExpireBatchJobTest {
     @Autowired private PointItemRepository pointItemRepository;
     @Autowired private UserPointWalletRepository userPointWalletRepository;
     @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
 
     @AfterEach
     void tearDown() {
@@ -135,4 +138,141 @@ class PointExpireBatchJobTest {
         assertThat(histories.get(0).getType()).isEqualTo(PointType.EXPIRE);
         assertThat(histories.get(0).getRefId()).contains("BATCH_"); // 배치 실행 기록
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("파티션 수를 지정하면 userId 나머지 기준으로 나눈 Worker Step이 각자 자신의 유저만 만료 처리한다")
+    void pointExpireJob_partitioned() throws Exception {
+        // given: 유저 6명 (userId % 3 -> 파티션마다 2명), 유저마다 만료 대상 2건 + 유효 1건
+        LocalDateTime tomorrow = LocalDateTime.now().plusDays(1);
+        List<Long> userIds = List.of(4451L, 4452L, 4453L, 4454L, 4455L, 4456L);
+        for (Long userId : userIds) {
+            userPointWalletRepository.save(new UserPointWallet(userId, 3000L));
+            for (int i = 0; i < 3; i++) {
+                PointItem item = PointItem.builder()
+                        .userId(userId)
+                        .originalAmount(1000L)
+                        .expireAt(tomorrow)
+                        .isManual(false)
+                        .build();
+                if (i < 2) item.setExpired();
+                pointItemRepository.save(item);
+            }
+        }
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("targetDate", LocalDate.now().toString())
+                .addString("partitions", "3")
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        // when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // then 1: 파티션 3개가 각각 유저 2명 x 만료 대상 2건을 읽음 (겹치거나 빠진 Item 없음)
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        List<StepExecution> workers = jobExecution.getStepExecutions().stream()
+                .filter(step -> step.getStepName().startsWith("pointExpireWorkerStep"))
+                .toList();
+        assertThat(workers).hasSize(3);
+        assertThat(workers).allSatisfy(step -> {
+            assertThat(step.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+            assertThat(step.getReadCount()).isEqualTo(4);
+        });
+
+        // then 2: 모든 유저의 지갑에서 만료 금액 2000원이 차감됨
+        for (Long userId : userIds) {
+            assertThat(userPointWalletRepository.findByUserId(userId).get().getBalance()).isEqualTo(1000L);
+        }
+        assertThat(pointHistoryRepository.findAll()).hasSize(12)
+                .allSatisfy(history -> assertThat(history.getType()).isEqualTo(PointType.EXPIRE));
+    }
+
+    @Test
+    @DisplayName("커넥션 풀보다 많은 파티션을 지정해도 (풀 크기 - 2) / 2개로 제한된다")
+    void pointExpireJob_partitions_capped_by_pool() throws Exception {
+        // given: 풀 크기 10 -> 파티션 상한 4
+        Long userId = 4457L;
+        userPointWalletRepository.save(new UserPointWallet(userId, 1000L));
+        PointItem item = PointItem.builder().userId(userId).originalAmount(1000L).expireAt(LocalDateTime.now().plusDays(1)).isManual(false).build();
+        item.setExpired();
+        pointItemRepository.save(item);
+
+        // when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString("targetDate", LocalDate.now().toString())
+                .addString("partitions", "16")
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters());
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jobExecution.getStepExecutions().stream()
+                .filter(step -> step.getStepName().startsWith("pointExpireWorkerStep")))
+                .hasSize(4);
+        assertThat(userPointWalletRepository.findByUserId(userId).get().getBalance()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 배치는 Item을 JDBC로 일괄 만료하면서 지갑 버전, 만료 버킷, 잔여 포인트 카운터, 일자별 통계를 함께 갱신한다")
+    void pointExpireJob_updates_derived_tables() throws Exception {
+        // given
+        Long userId = 4461L;
+        LocalDateTime tomorrow = LocalDateTime.now().plusDays(1);
+        userPointWalletRepository.save(new UserPointWallet(userId, 1500L));
+        PointItem manualItem = PointItem.builder().userId(userId).originalAmount(500L).expireAt(tomorrow).isManual(true).build();
+        manualItem.setExpired();
+        pointItemRepository.save(manualItem);
+        PointItem expiredItem = PointItem.builder().userId(userId).originalAmount(700L).expireAt(tomorrow).isManual(false).build();
+        expiredItem.setExpired();
+        pointItemRepository.save(expiredItem);
+        pointItemRepository.save(PointItem.builder().userId(userId).originalAmount(300L).expireAt(tomorrow).isManual(false).build());
+
+        long versionBefore = userPointWalletRepository.findByUserId(userId).get().getVersion();
+        long liabilityBefore = liabilityTotal();
+        long expireStatBefore = todayExpireStat();
+
+        // when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString("targetDate", LocalDate.now().toString())
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters());
+
+        // then 1: Item / 지갑
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(pointItemRepository.findById(manualItem.getId()).get().getStatus()).isEqualTo(PointStatus.EXPIRED);
+        assertThat(pointItemRepository.findById(expiredItem.getId()).get().getRemainAmount()).isZero();
+        UserPointWallet wallet = userPointWalletRepository.findByUserId(userId).get();
+        assertThat(wallet.getBalance()).isEqualTo(300L);
+        assertThat(wallet.getVersion()).isGreaterThan(versionBefore);
+
+        // then 2: 이력 (Item별 EXPIRE 이력 + 상세)
+        List<PointHistory> histories = pointHistoryRepository.findAll().stream()
+                .filter(history -> history.getUserId().equals(userId))
+                .toList();
+        assertThat(histories).extracting(PointHistory::getAmount).containsExactlyInAnyOrder(500L, 700L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_history_detail d JOIN point_history h ON h.point_history_id = d.point_history_id " +
+                        "WHERE h.user_id = ? AND d.point_item_id IN (?, ?)",
+                Long.class, userId, manualItem.getId(), expiredItem.getId())).isEqualTo(2L);
+
+        // then 3: 파생 테이블 (JDBC 변경분도 Entity Listener 경로와 같이 반영됨)
+        long expiredTotal = pointHistoryRepository.findAll().stream()
+                .filter(history -> history.getType() == PointType.EXPIRE)
+                .mapToLong(PointHistory::getAmount)
+                .sum();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(amount), 0) FROM point_expiry_bucket WHERE user_id = ?", Long.class, userId)).isEqualTo(300L);
+        assertThat(liabilityTotal()).isEqualTo(liabilityBefore - expiredTotal);
+        assertThat(todayExpireStat()).isEqualTo(expireStatBefore + expiredTotal);
+    }
+
+    private long liabilityTotal() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount), 0) FROM point_liability_counter", Long.class);
+    }
+
+    private long todayExpireStat() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(amount), 0) FROM point_daily_stat WHERE stat_date = CURRENT_DATE AND type = ?",
+                Long.class, PointType.EXPIRE.name());
+    }
+}
@@ -0,0 +1,233 @@
+package com.musinsa.payment.point.batch.job;
+
+import com.musinsa.payment.point.api.point.dto.PointHistoryResponse;
+import com.musinsa.payment.point.api.point.dto.PointStatisticsResponse;
+import com.musinsa.payment.point.application.point.service.PointAdminSearchService;
+import com.musinsa.payment.point.application.point.service.PointDailyStatService;
+import com.musinsa.payment.point.application.point.service.PointHistoryExportService;
+import com.musinsa.payment.point.application.point.service.PointService;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.enums.StatGranularity;
+import com.musinsa.payment.point.domain.point.repository.*;
+import com.musinsa.payment.point.global.common.CursorResponse;
+import com.musinsa.payment.point.global.error.BusinessException;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 포인트 이력 보관 배치 + Hot/Cold 조회 라우팅 검증
+ * - 기준일 2021-12-01, 보관 기간 6개월 -> 2021-07-01 이전 이력이 보관 대상.
+ */
+@SpringBootTest(properties = "musinsa.point.history-archive.chunk-rows=2") // 여러 회차(트랜잭션)로 나누어 옮기도록
+class PointHistoryArchiveBatchJobTest {
+
+    private static final Long USER_ID = 9401L;
+    private static final LocalDateTime ARCHIVED_AT = LocalDateTime.of(2021, 5, 10, 12, 0); // 보관 대상
+    private static final LocalDateTime HOT_AT = LocalDateTime.of(2021, 9, 10, 12, 0);      // 보관 기간 내
+    private static final LocalDate ARCHIVED_DAY = ARCHIVED_AT.toLocalDate();
+
+    @Autowired private JobLauncher jobLauncher;
+    @Autowired @Qualifier("pointHistoryArchiveJob") private Job pointHistoryArchiveJob;
+
+    @Autowired private PointService pointService;
+    @Autowired private PointAdminSearchService pointAdminSearchService;
+    @Autowired private PointHistoryExportService pointHistoryExportService;
+    @Autowired private PointDailyStatService pointDailyStatService;
+    @Autowired private PointJdbcRepository pointJdbcRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointHistoryArchiveRepository pointHistoryArchiveRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+    @Autowired private PointExpiryBucketRepository pointExpiryBucketRepository;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM point_history_detail_archive");
+        jdbcTemplate.update("DELETE FROM point_history_archive");
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+        pointExpiryBucketRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM point_daily_stat WHERE stat_date = ?", Date.valueOf(ARCHIVED_DAY));
+        pointDailyStatService.evictAfterCommit(ARCHIVED_DAY, ARCHIVED_DAY);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 월의 이력은 상세 내역과 함께 여러 회차로 나뉘어 보관 테이블로 옮겨지고, 재실행 시 옮길 이력이 없다")
+    void archive_moves_closed_months_in_chunks() throws Exception {
+        // given: 보관 대상 5건(상세 1건) + 보관 기간 내 1건 + 오늘 2건
+        Long itemId = seed();
+
+        // when
+        JobExecution execution = runJob();
+
+        // then
+        StepExecution step = execution.getStepExecutions().iterator().next();
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(step.getWriteCount()).isEqualTo(5);
+        assertThat(step.getCommitCount()).isEqualTo(4); // 2 + 2 + 1 + 0(종료 확인)
+
+        assertThat(pointHistoryArchiveRepository.count()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT point_item_id FROM point_history_detail_archive", Long.class)).isEqualTo(itemId);
+        assertThat(pointHistoryRepository.findAll()).extracting(h -> h.getCreatedAt().toLocalDate())
+                .doesNotContain(ARCHIVED_DAY);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_history_detail WHERE point_history_id < ?", Long.class,
+                TsidUtil.minIdAt(HOT_AT))).isZero();
+
+        // then 2: 재실행
+        assertThat(runJob().getStepExecutions().iterator().next().getWriteCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 포함된 페이지/커서/내보내기 조회는 두 테이블을 시간순으로 이어 붙인다")
+    void reads_span_both_tiers() throws Exception {
+        // given
+        seed();
+        runJob();
+        LocalDate from = ARCHIVED_DAY.withDayOfMonth(1);
+        LocalDate today = LocalDate.now();
+
+        // when 1: 최신순 2페이지 (Hot 3건 중 마지막 1건 + 보관 테이블 첫 1건)
+        Page<PointHistoryResponse> page = pointAdminSearchService.getHistories(from, today, USER_ID, null, null,
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "id")));
+
+        // then 1
+        assertThat(page.getTotalElements()).isEqualTo(8);
+        assertThat(page.getTotalPages()).isEqualTo(4);
+        assertThat(page.getContent()).extracting(PointHistoryResponse::getRefId).containsExactly("HOT_E", "ORDER_ARC");
+
+        // when 2: 커서로 전체 순회
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorResponse<PointHistoryResponse> slice = pointAdminSearchService.getHistoriesByCursor(
+                    from, today, USER_ID, null, null, null, null, cursor, 3);
+            slice.getContent().forEach(history -> ids.add(history.getPointHistoryId()));
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+
+        // then 2
+        assertThat(ids).hasSize(8).doesNotHaveDuplicates();
+        assertThat(ids).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+
+        // when 3: 내보내기
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = pointHistoryExportService.export(from, today, USER_ID, null, null,
+                PointHistoryExportService.Format.NDJSON, out);
+
+        // then 3: 보관 테이블 -> Hot 순 (ID 오름차순)
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(rows).isEqualTo(8);
+        assertThat(lines.get(0)).contains("\"refId\":\"ARC_E0\"");
+        assertThat(lines.get(5)).contains("\"refId\":\"HOT_E\"");
+
+        // then 4: 최근 기간 조회는 Hot만 읽음
+        assertThat(pointAdminSearchService.getHistories(today, today, USER_ID, null, null, PageRequest.of(0, 10))
+                .getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보관된 주문도 보관 이력/상세 내역으로 사용 취소되고, 통계 재집계는 보관 테이블의 이력도 포함한다")
+    void archived_histories_in_cancel_and_stats() throws Exception {
+        // given: 보관된 사용 이력의 상세가 참조하는 Item까지 모두 소진된 상태
+        Long itemId = seed();
+        runJob();
+        pointService.use(USER_ID, 1500L, "ORDER_ALL");
+
+        // when 1
+        pointService.cancelUse(USER_ID, "ORDER_ARC", 50L);
+
+        // then 1: 원본 Item 잔액 복구 + 보관 이력/상세의 환불 누적 + 취소 이력은 Hot에 기록
+        assertThat(userPointWalletRepository.findByUserId(USER_ID).orElseThrow().getBalance()).isEqualTo(50L);
+        assertThat(pointItemRepository.findById(itemId).orElseThrow().getRemainAmount()).isEqualTo(50L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT refunded_amount FROM point_history_archive WHERE ref_id = 'ORDER_ARC'", Long.class)).isEqualTo(50L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(refunded_amount) FROM point_history_detail_archive", Long.class)).isEqualTo(50L);
+        assertThat(pointHistoryRepository.existsByUserIdAndRefIdAndType(USER_ID, "ORDER_ARC", PointType.USE_CANCEL)).isTrue();
+
+        // 남은 환불 가능 금액(50)을 넘는 재취소는 거부
+        assertThatThrownBy(() -> pointService.cancelUse(USER_ID, "ORDER_ARC", 60L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("취소 가능한 금액을 초과했습니다.");
+
+        // when 2
+        pointJdbcRepository.rebuildDailyStats(ARCHIVED_DAY, ARCHIVED_DAY);
+        pointDailyStatService.evictAfterCommit(ARCHIVED_DAY, ARCHIVED_DAY);
+
+        // then 2
+        assertThat(pointAdminSearchService.getStatistics(ARCHIVED_DAY, ARCHIVED_DAY, StatGranularity.DAY))
+                .extracting(PointStatisticsResponse::getType, PointStatisticsResponse::getTotalAmount)
+                .containsExactly(
+                        tuple(PointType.EARN, 400L),
+                        tuple(PointType.USE, 100L));
+    }
+
+    /**
+     * 보관 대상 이력 5건(적립 4건, 사용 1건 + 상세) + 보관 기간 내 1건 + 오늘 적립 2건
+     * @return 오늘 적립된 Item ID (보관 대상 사용 이력의 상세가 참조)
+     */
+    private Long seed() {
+        Long itemId = pointService.earn(USER_ID, 1000L, false, "EARN_H0").getPointItemId();
+        pointService.earn(USER_ID, 500L, false, "EARN_H1");
+
+        long baseId = TsidUtil.minIdAt(ARCHIVED_AT);
+        for (int i = 0; i < 4; i++) {
+            insertHistory(baseId + i, PointType.EARN, 100L, "ARC_E" + i, ARCHIVED_AT);
+        }
+        insertHistory(baseId + 4, PointType.USE, 100L, "ORDER_ARC", ARCHIVED_AT);
+        Timestamp createdAt = Timestamp.valueOf(ARCHIVED_AT);
+        jdbcTemplate.update("INSERT INTO point_history_detail (point_history_detail_id, point_history_id, point_item_id, amount, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", baseId + 10, baseId + 4, itemId, 100L, createdAt, createdAt);
+
+        insertHistory(TsidUtil.minIdAt(HOT_AT), PointType.EARN, 100L, "HOT_E", HOT_AT);
+        return itemId;
+    }
+
+    private void insertHistory(long id, PointType type, long amount, String refId, LocalDateTime at) {
+        Timestamp createdAt = Timestamp.valueOf(at);
+        jdbcTemplate.update("INSERT INTO point_history (point_history_id, user_id, type, amount, ref_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", id, USER_ID, type.name(), amount, refId, createdAt, createdAt);
+    }
+
+    private JobExecution runJob() throws Exception {
+        return jobLauncher.run(pointHistoryArchiveJob, new JobParametersBuilder()
+                .addString("targetDate", "2021-12-01")
+                .addLong("time", System.nanoTime())
+                .toJobParameters());
+    }
+}
@@ -0,0 +1,201 @@
+package com.musinsa.payment.point.batch.job;
+
+import com.musinsa.payment.point.api.point.dto.PointHistorySegmentResponse;
+import com.musinsa.payment.point.application.point.service.PointAdminSearchService;
+import com.musinsa.payment.point.application.point.service.PointHistorySegmentStore;
+import com.musinsa.payment.point.domain.point.enums.PointType;
+import com.musinsa.payment.point.domain.point.repository.PointHistoryArchiveRepository;
+import com.musinsa.payment.point.global.util.TsidUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 이력 세그먼트 파일 이동 + 파일 조회 검증
+ * - 기준일 2022-06-01, DB 보관 12개월 -> 2021-07-01 이전 월이 파일 대상. (보관 테이블에 직접 적재하여 검증)
+ */
+@SpringBootTest(properties = {
+        "musinsa.point.history-segment.enabled=true",
+        "musinsa.point.history-segment.dir=build/test-history-segments",
+        "musinsa.point.history-archive.chunk-rows=2"
+})
+class PointHistorySegmentBatchJobTest {
+
+    private static final Path SEGMENT_DIR = Path.of("build/test-history-segments");
+    private static final LocalDateTime FEB_AT = LocalDateTime.of(2021, 2, 10, 12, 0);
+    private static final LocalDateTime MAR_AT = LocalDateTime.of(2021, 3, 5, 9, 0);
+    private static final LocalDateTime AUG_AT = LocalDateTime.of(2021, 8, 20, 18, 0); // DB 보관 기간 내
+    private static final LocalDate FROM = LocalDate.of(2021, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2021, 12, 31);
+
+    @Autowired private JobLauncher jobLauncher;
+    @Autowired @Qualifier("pointHistoryArchiveJob") private Job pointHistoryArchiveJob;
+
+    @Autowired private PointAdminSearchService pointAdminSearchService;
+    @Autowired private PointHistorySegmentStore pointHistorySegmentStore;
+    @Autowired private PointHistoryArchiveRepository pointHistoryArchiveRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        jdbcTemplate.update("DELETE FROM point_history_detail_archive");
+        jdbcTemplate.update("DELETE FROM point_history_archive");
+        FileSystemUtils.deleteRecursively(SEGMENT_DIR);
+        pointHistorySegmentStore.reload();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 월은 월별 세그먼트 파일로 기록된 뒤 DB에서 여러 회차로 삭제되고, 재실행 시 옮길 이력이 없다")
+    void segment_step_moves_old_months_to_files() throws Exception {
+        // given
+        seed();
+
+        // when
+        JobExecution execution = runJob();
+
+        // then
+        StepExecution step = segmentStep(execution);
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(step.getWriteCount()).isEqualTo(5);
+        assertThat(step.getCommitCount()).isEqualTo(4); // 2월 2 + 1, 3월 2, 종료 확인
+
+        assertThat(Files.exists(SEGMENT_DIR.resolve("point-history-2021-02.seg"))).isTrue();
+        assertThat(Files.exists(SEGMENT_DIR.resolve("point-history-2021-03.seg"))).isTrue();
+        assertThat(pointHistoryArchiveRepository.findAll()).extracting("refId").containsExactly("SEG_KEEP");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_history_detail_archive", Long.class)).isZero();
+
+        // then 2: 재실행
+        assertThat(segmentStep(runJob()).getWriteCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("파일 조회는 최신순으로 상세 내역과 함께 응답하고, 유저/유형/건수 조건을 적용한다")
+    void search_reads_segments_with_details() throws Exception {
+        // given
+        seed();
+        runJob();
+
+        // when 1
+        List<PointHistorySegmentResponse> histories = pointAdminSearchService.getSegmentHistories(FROM, TO, 9501L, null, null, null);
+
+        // then 1: 3월 -> 2월, 같은 월은 최신순 (보관 테이블에 남은 8월 이력은 포함하지 않음)
+        assertThat(histories).extracting(PointHistorySegmentResponse::getType, PointHistorySegmentResponse::getRefId)
+                .containsExactly(
+                        tuple(PointType.USE_CANCEL, "SEG_ORDER"),
+                        tuple(PointType.EARN, "SEG_E3"),
+                        tuple(PointType.USE, "SEG_ORDER"),
+                        tuple(PointType.EARN, "SEG_E1"));
+        PointHistorySegmentResponse use = histories.get(2);
+        assertThat(use.getCreateAt()).isEqualTo(FEB_AT);
+        assertThat(use.getRefundedAmount()).isEqualTo(100L);
+        assertThat(use.getDetails()).singleElement().satisfies(detail -> {
+            assertThat(detail.getPointItemId()).isEqualTo(777L);
+            assertThat(detail.getAmount()).isEqualTo(400L);
+            assertThat(detail.getRestoredFromItemId()).isNull();
+        });
+        assertThat(histories.get(0).getDetails()).singleElement()
+                .extracting(PointHistorySegmentResponse.Detail::getRestoredFromItemId).isEqualTo(777L);
+        assertThat(histories.get(1).getDetails()).isEmpty();
+
+        // then 2: 조건
+        assertThat(pointAdminSearchService.getSegmentHistories(FROM, TO, 9502L, null, null, null))
+                .extracting(PointHistorySegmentResponse::getRefId).containsExactly("SEG_E2");
+        assertThat(pointAdminSearchService.getSegmentHistories(FROM, TO, null, null, PointType.USE, null))
+                .extracting(PointHistorySegmentResponse::getAmount).containsExactly(400L);
+        assertThat(pointAdminSearchService.getSegmentHistories(FROM, TO, 9501L, null, null, 1))
+                .extracting(PointHistorySegmentResponse::getType).containsExactly(PointType.USE_CANCEL);
+        assertThat(pointAdminSearchService.getSegmentHistories(LocalDate.of(2021, 3, 1), TO, null, "SEG_ORDER", null, null))
+                .extracting(PointHistorySegmentResponse::getType).containsExactly(PointType.USE_CANCEL);
+    }
+
+    @Test
+    @DisplayName("체크섬이 맞지 않는 세그먼트 파일은 조회하지 않고 예외로 중단한다")
+    void corrupted_segment_is_rejected() throws Exception {
+        // given
+        seed();
+        runJob();
+        Path file = SEGMENT_DIR.resolve("point-history-2021-02.seg");
+        byte[] data = Files.readAllBytes(file);
+        data[data.length - 12] ^= 0x01; // 마지막 컬럼 블록 1비트 손상
+        Files.write(file, data);
+        assertThat(pointAdminSearchService.reloadSegments()).isEqualTo(2); // 헤더는 손상되지 않았으므로 2개 모두 적재
+
+        // when & then
+        assertThatThrownBy(() -> pointAdminSearchService.getSegmentHistories(FROM, TO, 9502L, null, null, null))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("point-history-2021-02.seg");
+        // 손상되지 않은 파일만 읽는 조회는 정상 응답
+        assertThat(pointAdminSearchService.getSegmentHistories(LocalDate.of(2021, 3, 1), TO, 9501L, null, null, null))
+                .hasSize(2);
+    }
+
+    /**
+     * 보관 테이블: 2월 3건(상세 1건), 3월 2건(상세 1건), 8월 1건
+     */
+    private void seed() {
+        long feb = TsidUtil.minIdAt(FEB_AT);
+        insertArchive(feb, 9501L, PointType.EARN, 1000L, "SEG_E1", 0L, FEB_AT);
+        insertArchive(feb + 1, 9502L, PointType.EARN, 300L, "SEG_E2", 0L, FEB_AT);
+        insertArchive(feb + 2, 9501L, PointType.USE, 400L, "SEG_ORDER", 100L, FEB_AT);
+        insertArchiveDetail(feb + 10, feb + 2, 777L, 400L, null, 100L, FEB_AT);
+
+        long mar = TsidUtil.minIdAt(MAR_AT);
+        insertArchive(mar, 9501L, PointType.EARN, 200L, "SEG_E3", 0L, MAR_AT);
+        insertArchive(mar + 1, 9501L, PointType.USE_CANCEL, 100L, "SEG_ORDER", 0L, MAR_AT);
+        insertArchiveDetail(mar + 10, mar + 1, 778L, 100L, 777L, 0L, MAR_AT);
+
+        insertArchive(TsidUtil.minIdAt(AUG_AT), 9501L, PointType.EARN, 50L, "SEG_KEEP", 0L, AUG_AT);
+    }
+
+    private void insertArchive(long id, Long userId, PointType type, long amount, String refId, long refunded, LocalDateTime at) {
+        Timestamp createdAt = Timestamp.valueOf(at);
+        jdbcTemplate.update("INSERT INTO point_history_archive " +
+                        "(point_history_id, user_id, type, amount, ref_id, refunded_amount, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                id, userId, type.name(), amount, refId, refunded, createdAt, createdAt);
+    }
+
+    private void insertArchiveDetail(long id, long historyId, long itemId, long amount, Long restoredFrom, long refunded, LocalDateTime at) {
+        Timestamp createdAt = Timestamp.valueOf(at);
+        jdbcTemplate.update("INSERT INTO point_history_detail_archive " +
+                        "(point_history_detail_id, point_history_id, point_item_id, amount, restored_from_item_id, refunded_amount, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                id, historyId, itemId, amount, restoredFrom, refunded, createdAt, createdAt);
+    }
+
+    private JobExecution runJob() throws Exception {
+        return jobLauncher.run(pointHistoryArchiveJob, new JobParametersBuilder()
+                .addString("targetDate", "2022-06-01")
+                .addLong("time", System.nanoTime())
+                .toJobParameters());
+    }
+
+    private static StepExecution segmentStep(JobExecution execution) {
+        return execution.getStepExecutions().stream()
+                .filter(step -> step.getStepName().equals("pointHistorySegmentStep"))
+                .findFirst()
+                .orElseThrow();
+    }
+}
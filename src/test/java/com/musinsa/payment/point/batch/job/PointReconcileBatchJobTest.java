@@ -0,0 +1,71 @@
+package com.musinsa.payment.point.batch.job;
+
+import com.musinsa.payment.point.application.point.service.PointAdminSearchService;
+import com.musinsa.payment.point.domain.point.enums.PointStatus;
+import com.musinsa.payment.point.domain.point.repository.PointItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파생 테이블 정리/재집계 배치 검증
+ * - 만료 자동 실행(expire.schedule-enabled)은 기본 비활성이므로, 재집계는 만료 배치 없이 단독으로 동작해야 함.
+ */
+@SpringBootTest
+class PointReconcileBatchJobTest {
+
+    private static final Long USER_ID = 9501L;
+    private static final LocalDate PAST_DAY = LocalDate.of(2021, 3, 1);
+
+    @Autowired private JobLauncher jobLauncher;
+    @Autowired @Qualifier("pointReconcileJob") private Job pointReconcileJob;
+
+    @Autowired private PointAdminSearchService pointAdminSearchService;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM point_expiry_bucket WHERE user_id = ?", USER_ID);
+    }
+
+    @Test
+    @DisplayName("재집계 배치는 만료 배치와 별개로 소진된 지난 버킷을 지우고 잔여 포인트 카운터를 보정한다")
+    void reconcile_job_runs_without_expire_job() throws Exception {
+        // given: 소진된 지난 버킷 / 잔액이 남은 지난 버킷, 어긋난 카운터
+        jdbcTemplate.update("INSERT INTO point_expiry_bucket (user_id, expire_date, is_manual, amount) VALUES (?, ?, false, 0)",
+                USER_ID, Date.valueOf(PAST_DAY));
+        jdbcTemplate.update("INSERT INTO point_expiry_bucket (user_id, expire_date, is_manual, amount) VALUES (?, ?, true, 100)",
+                USER_ID, Date.valueOf(PAST_DAY));
+        jdbcTemplate.update("INSERT INTO point_liability_counter (stripe, amount) VALUES (5, 777) " +
+                "ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount)");
+
+        // when
+        JobExecution jobExecution = jobLauncher.run(pointReconcileJob, new JobParametersBuilder()
+                .addString("targetDate", LocalDate.now().toString())
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters());
+
+        // then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jobExecution.getStepExecutions()).hasSize(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_expiry_bucket WHERE user_id = ?", Long.class, USER_ID)).isEqualTo(1L);
+        assertThat(pointAdminSearchService.getTotalRemain())
+                .isEqualTo(pointItemRepository.sumTotalRemainAmountByStatus(PointStatus.AVAILABLE));
+    }
+}
@@ -0,0 +1,136 @@
+package com.musinsa.payment.point.batch.job;
+
+import com.musinsa.payment.point.application.point.service.PointRefundBackfillGate;
+import com.musinsa.payment.point.application.point.service.PointService;
+import com.musinsa.payment.point.domain.point.entity.PointItem;
+import com.musinsa.payment.point.domain.point.repository.*;
+import com.musinsa.payment.point.global.error.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 환불 누적 금액 백필 검증
+ * - refunded_amount 도입 전 데이터는 부분 취소 이력이 있어도 누적이 0이므로, 누적을 0으로 되돌려 재현함.
+ */
+@SpringBootTest(properties = "musinsa.point.refund-backfill.chunk-rows=2") // 여러 회차(트랜잭션)로 나누어 처리하도록
+class PointRefundBackfillBatchJobTest {
+
+    private static final Long USER_ID = 9601L;
+
+    @Autowired private JobLauncher jobLauncher;
+    @Autowired @Qualifier("pointRefundBackfillJob") private Job pointRefundBackfillJob;
+
+    @Autowired private PointService pointService;
+    @Autowired private PointRefundBackfillGate pointRefundBackfillGate;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private UserPointWalletRepository userPointWalletRepository;
+    @Autowired private PointItemRepository pointItemRepository;
+    @Autowired private PointHistoryRepository pointHistoryRepository;
+    @Autowired private PointIdempotencyKeyRepository pointIdempotencyKeyRepository;
+
+    @AfterEach
+    void tearDown() {
+        pointIdempotencyKeyRepository.deleteAll();
+        pointHistoryRepository.deleteAll();
+        pointItemRepository.deleteAll();
+        userPointWalletRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("백필은 이전 부분 취소 금액을 원본 USE 이력/상세에 기록하여, 이미 환불된 금액이 다시 환불되지 않게 한다")
+    void backfill_restores_refunded_amount() throws Exception {
+        // given: 1000 + 500 적립, 1200 사용 후 300 부분 취소, 환불 누적을 도입 전 상태(0)로 되돌림
+        pointService.earn(USER_ID, 1000L, false, "EARN_RB1");
+        pointService.earn(USER_ID, 500L, false, "EARN_RB2");
+        pointService.use(USER_ID, 1200L, "ORDER_RB");
+        pointService.cancelUse(USER_ID, "ORDER_RB", 300L);
+        Long useId = jdbcTemplate.queryForObject(
+                "SELECT point_history_id FROM point_history WHERE user_id = ? AND ref_id = 'ORDER_RB' AND type = 'USE'", Long.class, USER_ID);
+        jdbcTemplate.update("UPDATE point_history SET refunded_amount = 0 WHERE point_history_id = ?", useId);
+        jdbcTemplate.update("UPDATE point_history_detail SET refunded_amount = 0 WHERE point_history_id = ?", useId);
+
+        // when
+        JobExecution jobExecution = jobLauncher.run(pointRefundBackfillJob, new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters());
+
+        // then 1: 기동 시 백필이 끝나 취소 차단이 열려 있고, 누적이 원본 상세별로 복구됨
+        assertThat(pointRefundBackfillGate.isOpen()).isTrue();
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT refunded_amount FROM point_history WHERE point_history_id = ?", Long.class, useId)).isEqualTo(300L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(refunded_amount) FROM point_history_detail WHERE point_history_id = ?", Long.class, useId)).isEqualTo(300L);
+
+        // then 2: 남은 900까지만 취소 가능
+        assertThatThrownBy(() -> pointService.cancelUse(USER_ID, "ORDER_RB", 901L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("취소 가능한 금액을 초과했습니다.");
+        pointService.cancelUse(USER_ID, "ORDER_RB", 900L);
+        assertThat(userPointWalletRepository.findByUserId(USER_ID).get().getBalance()).isEqualTo(1500L);
+
+        // then 3: 이미 기록된 이력은 다시 실행해도 바뀌지 않음 (멱등)
+        jobLauncher.run(pointRefundBackfillJob, new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis() + 1)
+                .toJobParameters());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT refunded_amount FROM point_history WHERE point_history_id = ?", Long.class, useId)).isEqualTo(1200L);
+    }
+
+    @Test
+    @DisplayName("만료된 Item에서만 부분 취소된 주문(RESTORE 이력만 있음)도 백필되어, 재적립된 금액이 다시 환불되지 않는다")
+    void backfill_counts_restore_of_expired_items() throws Exception {
+        // given: 1000 + 500 적립, 1200 사용 후 1000원 Item이 만료된 상태에서 300 부분 취소 -> RESTORE 이력만 생김
+        pointService.earn(USER_ID, 1000L, false, "EARN_RB3");
+        pointService.earn(USER_ID, 500L, false, "EARN_RB4");
+        pointService.use(USER_ID, 1200L, "ORDER_RB_EXP");
+        PointItem firstItem = pointItemRepository.findByUserId(USER_ID).stream()
+                .filter(item -> item.getOriginalAmount() == 1000L)
+                .findFirst().orElseThrow();
+        firstItem.setExpired();
+        pointItemRepository.save(firstItem);
+        pointService.cancelUse(USER_ID, "ORDER_RB_EXP", 300L);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_history WHERE user_id = ? AND ref_id = 'ORDER_RB_EXP' AND type = 'USE_CANCEL'",
+                Long.class, USER_ID)).isZero();
+        Long useId = jdbcTemplate.queryForObject(
+                "SELECT point_history_id FROM point_history WHERE user_id = ? AND ref_id = 'ORDER_RB_EXP' AND type = 'USE'", Long.class, USER_ID);
+        jdbcTemplate.update("UPDATE point_history SET refunded_amount = 0 WHERE point_history_id = ?", useId);
+        jdbcTemplate.update("UPDATE point_history_detail SET refunded_amount = 0 WHERE point_history_id = ?", useId);
+
+        // when
+        JobExecution jobExecution = jobLauncher.run(pointRefundBackfillJob, new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters());
+
+        // then 1: RESTORE 금액이 만료된 원본 Item의 상세에 기록됨
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT refunded_amount FROM point_history WHERE point_history_id = ?", Long.class, useId)).isEqualTo(300L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT refunded_amount FROM point_history_detail WHERE point_history_id = ? AND point_item_id = ?",
+                Long.class, useId, firstItem.getId())).isEqualTo(300L);
+
+        // then 2: 남은 900까지만 취소 가능 (이중 환불 없음)
+        assertThatThrownBy(() -> pointService.cancelUse(USER_ID, "ORDER_RB_EXP", 901L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("취소 가능한 금액을 초과했습니다.");
+        pointService.cancelUse(USER_ID, "ORDER_RB_EXP", 900L);
+        assertThat(userPointWalletRepository.findByUserId(USER_ID).get().getBalance()).isEqualTo(1500L);
+    }
+}